@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.io.encoding;
+
+/**
+ * A compression applied to the bytes of a gedcom file, on top of its character {@link Encoding}. Compressed files are recognized
+ * by the magic bytes they begin with, so they can be read without being told how they were compressed.
+ * 
+ * @author frizbog
+ */
+public enum Compression {
+
+    /**
+     * No compression - the bytes are those of the gedcom file itself
+     */
+    NONE,
+    /**
+     * Gzip compression, as used for <code>.ged.gz</code> files. The file begins with the bytes 0x1F 0x8B.
+     */
+    GZIP,
+    /**
+     * A zip archive holding the gedcom file, optionally alongside the multimedia files it refers to (as in a GEDZIP file). The
+     * file begins with the bytes "PK" 0x03 0x04. When read, the gedcom is the first entry in the archive whose name ends in
+     * <code>.ged</code>; when written, the gedcom is the entry named {@link #GEDCOM_ENTRY_NAME}.
+     */
+    ZIP;
+
+    /**
+     * The name of the entry in a {@link #ZIP} archive that a gedcom is written to
+     */
+    public static final String GEDCOM_ENTRY_NAME = "gedcom.ged";
+
+    /**
+     * The number of bytes at the start of a file that {@link #detect(byte[], int)} needs to recognize every compression
+     */
+    public static final int MAGIC_LENGTH = 4;
+
+    /**
+     * Work out how a file was compressed from the bytes it begins with
+     * 
+     * @param firstBytes
+     *            the bytes at the start of the file
+     * @param length
+     *            how many of the bytes in <code>firstBytes</code> were read
+     * @return the compression, or {@link #NONE} if the bytes do not begin with the magic bytes of any supported compression
+     */
+    public static Compression detect(byte[] firstBytes, int length) {
+        if (length >= 2 && (firstBytes[0] & 0xFF) == 0x1F && (firstBytes[1] & 0xFF) == 0x8B) {
+            return GZIP;
+        }
+        if (length >= 4 && firstBytes[0] == 'P' && firstBytes[1] == 'K' && firstBytes[2] == 0x03 && firstBytes[3] == 0x04) {
+            return ZIP;
+        }
+        return NONE;
+    }
+}
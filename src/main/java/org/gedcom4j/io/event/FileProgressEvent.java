@@ -38,7 +38,7 @@ public class FileProgressEvent extends EventObject {
     /**
      * Serial version uid
      */
-    private static final long serialVersionUID = 996714620347714206L;
+    private static final long serialVersionUID = -4611502315742713215L;
 
     /**
      * Is the file completely processed?
@@ -48,12 +48,12 @@ public class FileProgressEvent extends EventObject {
     /**
      * How many lines have been processed
      */
-    private final int linesProcessed;
+    private final long linesProcessed;
 
     /**
      * The number of bytes read or written
      */
-    private final int bytesProcessed;
+    private final long bytesProcessed;
 
     /**
      * Constructor
@@ -67,7 +67,7 @@ public class FileProgressEvent extends EventObject {
      * @param complete
      *            is the file complete
      */
-    public FileProgressEvent(Object source, int linesProcessed, int bytesProcessed, boolean complete) {
+    public FileProgressEvent(Object source, long linesProcessed, long bytesProcessed, boolean complete) {
         super(source);
         this.linesProcessed = linesProcessed;
         this.bytesProcessed = bytesProcessed;
@@ -79,7 +79,7 @@ public class FileProgressEvent extends EventObject {
      * 
      * @return the bytesProcessed
      */
-    public int getBytesProcessed() {
+    public long getBytesProcessed() {
         return bytesProcessed;
     }
 
@@ -88,7 +88,7 @@ public class FileProgressEvent extends EventObject {
      * 
      * @return the number of lines processed
      */
-    public int getLinesProcessed() {
+    public long getLinesProcessed() {
         return linesProcessed;
     }
 
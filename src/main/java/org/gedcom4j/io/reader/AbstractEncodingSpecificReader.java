@@ -47,12 +47,12 @@ abstract class AbstractEncodingSpecificReader {
     /**
      * The number of lines read from the input file or stream
      */
-    protected int linesRead = 0;
+    protected long linesRead = 0;
 
     /**
      * The number of bytes read from the input file or stream
      */
-    protected int bytesRead = 0;
+    protected long bytesRead = 0;
 
     /**
      * The {@link GedcomParser} we're reading files for
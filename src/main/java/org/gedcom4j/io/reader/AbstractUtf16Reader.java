@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.io.reader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.parser.GedcomParser;
+
+/**
+ * A base class for readers of UTF-16 data, in either byte order. Bytes are read from the stream in large blocks and decoded in bulk
+ * into a reusable character buffer, which is then split into lines.
+ * 
+ * @author frizbog
+ */
+abstract class AbstractUtf16Reader extends AbstractEncodingSpecificReader {
+
+    /**
+     * The size of the blocks of bytes read from the input stream
+     */
+    private static final int READ_BUFFER_SIZE = 16384;
+
+    /**
+     * The Unicode byte order marker character
+     */
+    private static final char BYTE_ORDER_MARKER = (char) 0xFEFF;
+
+    /**
+     * The bytes read from the stream but not yet decoded
+     */
+    private final ByteBuffer byteBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+
+    /**
+     * The decoded characters not yet split into lines. Half the size of the byte buffer, so a full byte buffer always decodes
+     * completely.
+     */
+    private final CharBuffer charBuffer = CharBuffer.allocate(READ_BUFFER_SIZE / 2);
+
+    /**
+     * The decoder for the specific byte order
+     */
+    private final CharsetDecoder decoder;
+
+    /**
+     * Are we at the end of file yet?
+     */
+    private boolean eof = false;
+
+    /**
+     * The line buffer for the current line
+     */
+    @SuppressWarnings("PMD.AvoidStringBufferField")
+    private final StringBuilder lineBuffer = new StringBuilder();
+
+    /**
+     * Constructor
+     * 
+     * @param parser
+     *            the {@link GedcomParser} which is using this object to read files
+     * @param byteStream
+     *            the stream of data to be read
+     * @param charset
+     *            the UTF-16 charset for the byte order of the data
+     */
+    AbstractUtf16Reader(GedcomParser parser, InputStream byteStream, Charset charset) {
+        super(parser, byteStream);
+        decoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(
+                CodingErrorAction.REPLACE);
+        // Start out with nothing decoded
+        charBuffer.flip();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String nextLine() throws IOException, GedcomParserException {
+        while (charBuffer.hasRemaining() || fill()) {
+            char[] chars = charBuffer.array();
+            int pos = charBuffer.position();
+            int limit = charBuffer.limit();
+
+            // Skip leading whitespace, and any byte order marker, if we're at the start of a line
+            if (lineBuffer.length() == 0) {
+                while (pos < limit && (chars[pos] == BYTE_ORDER_MARKER || Character.isWhitespace(chars[pos]))) {
+                    pos++;
+                }
+            }
+
+            // Find the end of the line, if it's in what has been decoded so far
+            int start = pos;
+            while (pos < limit && chars[pos] != '\r' && chars[pos] != '\n') {
+                pos++;
+            }
+            lineBuffer.append(chars, start, pos - start);
+            if (pos < limit && lineBuffer.length() > 0) {
+                // Found a line terminator after some data - consume it and we're done
+                charBuffer.position(pos + 1);
+                String result = lineBuffer.toString();
+                lineBuffer.setLength(0);
+                return result;
+            }
+            charBuffer.position(pos);
+        }
+
+        // Hit EOF - return the final line buffer (last line), if there is one
+        if (lineBuffer.length() > 0) {
+            String result = lineBuffer.toString();
+            lineBuffer.setLength(0);
+            return result;
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    void cleanUp() throws IOException {
+        // do nothing
+    }
+
+    /**
+     * Read the next block of bytes from the stream and decode it into the character buffer
+     * 
+     * @return true if more characters were decoded, false if the end of the data has been reached. Any incomplete character left
+     *         over at the end of the data is discarded.
+     * @throws IOException
+     *             if the data cannot be read
+     */
+    private boolean fill() throws IOException {
+        charBuffer.clear();
+        while (!eof && charBuffer.position() == 0) {
+            int r = byteStream.read(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), byteBuffer.remaining());
+            if (r < 0) {
+                eof = true;
+            } else {
+                bytesRead += r;
+                byteBuffer.position(byteBuffer.position() + r);
+                byteBuffer.flip();
+                decoder.decode(byteBuffer, charBuffer, false);
+                byteBuffer.compact();
+            }
+        }
+        charBuffer.flip();
+        return charBuffer.hasRemaining();
+    }
+}
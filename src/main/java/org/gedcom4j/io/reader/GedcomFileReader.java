@@ -30,11 +30,18 @@ import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.channels.FileChannel;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import org.gedcom4j.exception.GedcomParserException;
 import org.gedcom4j.exception.ParserCancelledException;
 import org.gedcom4j.exception.UnsupportedGedcomCharsetException;
+import org.gedcom4j.io.encoding.Compression;
 import org.gedcom4j.io.event.FileProgressEvent;
 import org.gedcom4j.parser.GedcomParser;
 
@@ -42,12 +49,19 @@ import org.gedcom4j.parser.GedcomParser;
  * An encoding-agnostic class for reading the GEDCOM files and handling ASCII, ANSEL, and UNICODE coding as needed. It's basic job
  * is to turn the bytes from the file into a buffer (a {@link java.util.List} of Strings) that the
  * {@link org.gedcom4j.parser.GedcomParser} can work with. This class is needed because the built-in character encodings in Java
- * don't support ANSEL encoding, which is the default encoding for gedcom files in v5.5 standard.
+ * don't support ANSEL encoding, which is the default encoding for gedcom files in v5.5 standard. Files that are gzipped, or held
+ * in a zip archive, are recognized by their first bytes and decompressed as they are read (see {@link Compression}), before the
+ * encoding is detected.
  * 
  * @author frizbog1
  */
 public final class GedcomFileReader {
 
+    /**
+     * The size of the buffers used when decompressing a compressed file. 64K.
+     */
+    private static final int DECOMPRESSION_BUFFER_SIZE = 65536;
+
     /**
      * The size of the first chunk of the GEDCOM to just load into memory for easy review. 16K.
      */
@@ -64,9 +78,14 @@ public final class GedcomFileReader {
     final byte[] firstChunk = new byte[FIRST_CHUNK_SIZE];
 
     /**
-     * The buffered input stream of bytes to read
+     * The stream of bytes to read. Must support mark and reset.
+     */
+    private final InputStream byteStream;
+
+    /**
+     * The compression of the file being read
      */
-    private final BufferedInputStream byteStream;
+    private final Compression compression;
 
     /**
      * The encoding-specific reader helper class to actually read the bytes
@@ -81,7 +100,13 @@ public final class GedcomFileReader {
     /**
      * Number of lines processed
      */
-    private int linesProcessed = 0;
+    private long linesProcessed = 0;
+
+    /**
+     * Whether this reader is reading a fragment of a file (see {@link #forFragment(InputStream)}) rather than a whole file, in
+     * which case no progress notifications are sent
+     */
+    private final boolean fragment;
 
     /**
      * Constructor
@@ -98,12 +123,124 @@ public final class GedcomFileReader {
      */
     public GedcomFileReader(GedcomParser parser, BufferedInputStream bufferedInputStream) throws IOException,
             UnsupportedGedcomCharsetException {
+        this(parser, (InputStream) bufferedInputStream);
+    }
+
+    /**
+     * Constructor for reading directly from a file channel. The file is memory-mapped (in chunks, if it is too large to map all at
+     * once) and the bytes are read from the mapped regions rather than copied through a stream buffer.
+     * 
+     * @param parser
+     *            the {@link GedcomParser} which is using this object to read files
+     * 
+     * @param channel
+     *            the channel over the file to read. Reading starts at the channel's current position. The channel is not closed
+     *            by this class.
+     * @throws IOException
+     *             if there is a problem reading the data
+     * @throws UnsupportedGedcomCharsetException
+     *             if the file is using an unsupported character encoding
+     */
+    public GedcomFileReader(GedcomParser parser, FileChannel channel) throws IOException, UnsupportedGedcomCharsetException {
+        this(parser, new MappedFileInputStream(channel));
+    }
+
+    /**
+     * Constructor
+     * 
+     * @param parser
+     *            the {@link GedcomParser} which is using this object to read files
+     * 
+     * @param markableInputStream
+     *            the input stream of bytes, which must support mark and reset
+     * @throws IOException
+     *             if there is a problem reading the data
+     * @throws UnsupportedGedcomCharsetException
+     *             if the file is using an unsupported character encoding
+     */
+    private GedcomFileReader(GedcomParser parser, InputStream markableInputStream) throws IOException,
+            UnsupportedGedcomCharsetException {
         this.parser = parser;
-        byteStream = bufferedInputStream;
+        compression = detectCompression(markableInputStream);
+        byteStream = decompress(markableInputStream, compression);
+        fragment = false;
         saveFirstChunk();
         encodingSpecificReader = getEncodingSpecificReader();
     }
 
+    /**
+     * Constructor for reading a fragment of a file, using the same encoding as the reader for the whole file
+     * 
+     * @param wholeFileReader
+     *            the reader for the whole file, whose encoding is to be used
+     * @param fragmentStream
+     *            the bytes of the fragment
+     * @throws IOException
+     *             if there is a problem reading the data
+     */
+    private GedcomFileReader(GedcomFileReader wholeFileReader, InputStream fragmentStream) throws IOException {
+        parser = wholeFileReader.parser;
+        byteStream = fragmentStream;
+        compression = Compression.NONE;
+        fragment = true;
+        AbstractEncodingSpecificReader r = wholeFileReader.encodingSpecificReader;
+        if (r instanceof AnselReader) {
+            encodingSpecificReader = new AnselReader(parser, byteStream);
+        } else if (r instanceof AsciiReader) {
+            encodingSpecificReader = new AsciiReader(parser, byteStream);
+        } else if (r instanceof UnicodeLittleEndianReader) {
+            encodingSpecificReader = new UnicodeLittleEndianReader(parser, byteStream);
+        } else if (r instanceof UnicodeBigEndianReader) {
+            encodingSpecificReader = new UnicodeBigEndianReader(parser, byteStream);
+        } else {
+            encodingSpecificReader = new Utf8Reader(parser, byteStream);
+        }
+    }
+
+    /**
+     * Make a reader for a fragment of the same file as this reader - for example, a single record read back from its offset in
+     * the file. The fragment is read with the encoding this reader detected for the whole file, without trying to detect it
+     * again, and no progress notifications are sent while it is read.
+     * 
+     * @param fragmentStream
+     *            the bytes of the fragment, which should start at the beginning of a line
+     * @return a reader for the fragment
+     * @throws IOException
+     *             if there is a problem reading the data
+     */
+    public GedcomFileReader forFragment(InputStream fragmentStream) throws IOException {
+        return new GedcomFileReader(this, fragmentStream);
+    }
+
+    /**
+     * Get the number of bytes in each code unit of the encoding being read - 2 for UTF-16, and 1 for the others (including UTF-8,
+     * where some characters take more than one code unit)
+     * 
+     * @return the number of bytes in each code unit of the encoding
+     */
+    public int getCodeUnitSize() {
+        return encodingSpecificReader instanceof AbstractUtf16Reader ? 2 : 1;
+    }
+
+    /**
+     * Get the compression of the file being read. Compressed files are decompressed as they are read, so the encoding is detected,
+     * and the lines are read, from the decompressed bytes.
+     * 
+     * @return the compression of the file being read - always {@link Compression#NONE} for a fragment
+     */
+    public Compression getCompression() {
+        return compression;
+    }
+
+    /**
+     * Is the encoding being read a little-endian one? Only meaningful when {@link #getCodeUnitSize()} is more than one.
+     * 
+     * @return true if the encoding being read is little-endian
+     */
+    public boolean isLittleEndian() {
+        return encodingSpecificReader instanceof UnicodeLittleEndianReader;
+    }
+
     /**
      * Get the next line of the file.
      * 
@@ -118,7 +255,12 @@ public final class GedcomFileReader {
             throw new ParserCancelledException("File load is cancelled");
         }
         String result = encodingSpecificReader.nextLine();
-        linesProcessed++;
+        if (result != null) {
+            linesProcessed++;
+        }
+        if (fragment) {
+            return result;
+        }
         if (result == null) {
             parser.notifyFileObservers(new FileProgressEvent(this, linesProcessed, encodingSpecificReader.bytesRead, true));
         } else if (linesProcessed % parser.getReadNotificationRate() == 0) {
@@ -143,6 +285,61 @@ public final class GedcomFileReader {
         return result;
     }
 
+    /**
+     * Wrap a stream of bytes so that they are decompressed as they are read
+     * 
+     * @param markableInputStream
+     *            the stream of (possibly compressed) bytes
+     * @param compression
+     *            the compression of the bytes
+     * @return a stream of the decompressed bytes, which supports mark and reset. If the bytes are not compressed, this is the
+     *         stream that was passed in.
+     * @throws IOException
+     *             if the bytes cannot be read, or are a zip archive that does not contain a gedcom file
+     */
+    private static InputStream decompress(InputStream markableInputStream, Compression compression) throws IOException {
+        if (compression == Compression.GZIP) {
+            return new BufferedInputStream(new GZIPInputStream(markableInputStream, DECOMPRESSION_BUFFER_SIZE),
+                    DECOMPRESSION_BUFFER_SIZE);
+        }
+        if (compression == Compression.ZIP) {
+            ZipInputStream zip = new ZipInputStream(markableInputStream);
+            ZipEntry entry = zip.getNextEntry();
+            while (entry != null && (entry.isDirectory() || !entry.getName().toLowerCase(Locale.US).endsWith(".ged"))) {
+                entry = zip.getNextEntry();
+            }
+            if (entry == null) {
+                throw new IOException("Zip archive does not contain a gedcom file - no entry has a name ending in .ged");
+            }
+            return new BufferedInputStream(zip, DECOMPRESSION_BUFFER_SIZE);
+        }
+        return markableInputStream;
+    }
+
+    /**
+     * Work out whether a stream of bytes is compressed from the magic bytes it begins with, without consuming them
+     * 
+     * @param markableInputStream
+     *            the stream of bytes, which must support mark and reset
+     * @return the compression of the bytes
+     * @throws IOException
+     *             if the bytes cannot be read
+     */
+    private static Compression detectCompression(InputStream markableInputStream) throws IOException {
+        byte[] magic = new byte[Compression.MAGIC_LENGTH];
+        markableInputStream.mark(magic.length);
+        int read = 0;
+        int r = 0;
+        while (read < magic.length && r >= 0) {
+            r = markableInputStream.read(magic, read, magic.length - read);
+            if (r > 0) {
+                read += r;
+            }
+        }
+        markableInputStream.reset();
+        return Compression.detect(magic, read);
+    }
+
     /**
      * Tries to determined from examining the first 1000 lines/2k of the file if the file is ASCII, ANSEL, or UTF-8 encoded using a
      * variety of means.
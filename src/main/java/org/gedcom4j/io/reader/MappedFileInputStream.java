@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.io.reader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+/**
+ * An {@link InputStream} over a {@link FileChannel} that reads its bytes out of memory-mapped regions of the file rather than
+ * copying them through a stream buffer. Files larger than a single mapping can address are mapped one chunk at a time as reading
+ * progresses. Mark and reset are supported over the entire file, so this can be used in place of a
+ * {@link java.io.BufferedInputStream} for encoding detection in {@link GedcomFileReader}.
+ * 
+ * <p>
+ * This class is not thread safe. The channel is not closed by this stream - that is the responsibility of whoever opened it.
+ * </p>
+ * 
+ * @author frizbog
+ */
+final class MappedFileInputStream extends InputStream {
+
+    /**
+     * The default maximum size of each mapped region of the file - 1GB
+     */
+    static final int DEFAULT_CHUNK_SIZE = 1 << 30;
+
+    /**
+     * The channel being read
+     */
+    private final FileChannel channel;
+
+    /**
+     * The size of the file being read
+     */
+    private final long fileSize;
+
+    /**
+     * The maximum size of each mapped region of the file
+     */
+    private final int chunkSize;
+
+    /**
+     * The currently mapped region of the file
+     */
+    private MappedByteBuffer chunk;
+
+    /**
+     * The offset in the file at which the current mapped region begins
+     */
+    private long chunkStart;
+
+    /**
+     * The file offset that was marked, for returning to on a reset
+     */
+    private long markedPosition = 0;
+
+    /**
+     * Constructor
+     * 
+     * @param channel
+     *            the channel to read from. Reading starts at the channel's current position.
+     * @throws IOException
+     *             if the file cannot be mapped
+     */
+    MappedFileInputStream(FileChannel channel) throws IOException {
+        this(channel, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructor
+     * 
+     * @param channel
+     *            the channel to read from. Reading starts at the channel's current position.
+     * @param chunkSize
+     *            the maximum size of each mapped region of the file. Must be at least 1.
+     * @throws IOException
+     *             if the file cannot be mapped
+     */
+    MappedFileInputStream(FileChannel channel, int chunkSize) throws IOException {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least 1");
+        }
+        this.channel = channel;
+        this.chunkSize = chunkSize;
+        fileSize = channel.size();
+        mapChunkAt(channel.position());
+        markedPosition = chunkStart;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int available() throws IOException {
+        return (int) Math.min(Integer.MAX_VALUE, fileSize - getPosition());
+    }
+
+    /**
+     * Get the offset in the file of the next byte to be read
+     * 
+     * @return the offset in the file of the next byte to be read
+     */
+    long getPosition() {
+        return chunkStart + chunk.position();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void mark(int readlimit) {
+        // The whole file is always available, so the read limit doesn't matter
+        markedPosition = getPosition();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read() throws IOException {
+        if (!chunk.hasRemaining() && !nextChunk()) {
+            return -1;
+        }
+        return chunk.get() & 0xFF;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len == 0) {
+            return 0;
+        }
+        int total = 0;
+        while (total < len) {
+            if (!chunk.hasRemaining() && !nextChunk()) {
+                break;
+            }
+            int n = Math.min(len - total, chunk.remaining());
+            chunk.get(b, off + total, n);
+            total += n;
+        }
+        return total == 0 ? -1 : total;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void reset() throws IOException {
+        seek(markedPosition);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long skip(long n) throws IOException {
+        if (n <= 0) {
+            return 0;
+        }
+        long pos = getPosition();
+        long skipped = Math.min(n, fileSize - pos);
+        seek(pos + skipped);
+        return skipped;
+    }
+
+    /**
+     * Map the region of the file beginning at the supplied offset
+     * 
+     * @param offset
+     *            the offset in the file where the mapped region should start
+     * @throws IOException
+     *             if the file cannot be mapped
+     */
+    private void mapChunkAt(long offset) throws IOException {
+        long start = Math.min(offset, fileSize);
+        long length = Math.min(chunkSize, fileSize - start);
+        chunk = channel.map(MapMode.READ_ONLY, start, length);
+        chunkStart = start;
+    }
+
+    /**
+     * Map the region of the file following the one currently mapped
+     * 
+     * @return true if there was more of the file to map, false if the end of the file has been reached
+     * @throws IOException
+     *             if the file cannot be mapped
+     */
+    private boolean nextChunk() throws IOException {
+        long next = chunkStart + chunk.limit();
+        if (next >= fileSize) {
+            return false;
+        }
+        mapChunkAt(next);
+        return true;
+    }
+
+    /**
+     * Move to the supplied offset in the file, remapping if it's outside the region currently mapped
+     * 
+     * @param offset
+     *            the offset in the file to move to
+     * @throws IOException
+     *             if the file cannot be mapped
+     */
+    private void seek(long offset) throws IOException {
+        if (offset >= chunkStart && offset <= chunkStart + chunk.limit()) {
+            chunk.position((int) (offset - chunkStart));
+        } else {
+            mapChunkAt(offset);
+        }
+    }
+
+}
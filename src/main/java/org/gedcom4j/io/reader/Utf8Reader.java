@@ -26,41 +26,82 @@
  */
 package org.gedcom4j.io.reader;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 import org.gedcom4j.exception.GedcomParserException;
 import org.gedcom4j.parser.GedcomParser;
 
 /**
  * A reader that loads from an input stream and gives back a collection of strings representing the data therein. This
- * implementation handles UTF-8 data
+ * implementation handles UTF-8 data.
+ * 
+ * <p>
+ * Lines are found by scanning the raw bytes, which is safe because the carriage return and line feed bytes never occur inside a
+ * multi-byte UTF-8 sequence. Leading whitespace and byte order markers are skipped on the bytes too, so each line costs exactly one
+ * String, and the UTF-8 decoder is only involved for lines that actually contain non-ASCII bytes.
+ * </p>
  * 
  * @author frizbog
  */
 final class Utf8Reader extends AbstractEncodingSpecificReader {
 
+    /**
+     * The size of the blocks of bytes read from the input stream
+     */
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    /**
+     * The Unicode byte order marker character
+     */
+    private static final char BYTE_ORDER_MARKER = (char) 0xFEFF;
+
     /**
      * Was a byte order marker read when inspecting the file to detect encoding?
      */
     private boolean byteOrderMarkerRead = false;
 
     /**
-     * Input stream reader for internal use over the byte stream
+     * The block of bytes most recently read from the input stream
+     */
+    private final byte[] readBuffer = new byte[READ_BUFFER_SIZE];
+
+    /**
+     * The index of the next unconsumed byte in {@link #readBuffer}
+     */
+    private int readBufferIdx = 0;
+
+    /**
+     * The number of valid bytes in {@link #readBuffer}
      */
-    private final InputStreamReader inputStreamReader;
+    private int readBufferLen = 0;
 
     /**
-     * Buffered reader over the input stream reader, for internal use
+     * The bytes of the line currently being assembled. Grows as needed for long lines.
      */
-    private final BufferedReader bufferedReader;
+    private byte[] lineBytes = new byte[256];
 
     /**
-     * The progress tracking input stream
+     * The number of bytes in {@link #lineBytes} that belong to the current line
      */
-    private ProgressTrackingInputStream inputStream;
+    private int lineLen = 0;
+
+    /**
+     * Does the current line contain any bytes outside the ASCII range?
+     */
+    private boolean lineHasNonAscii = false;
+
+    /**
+     * Are we at the start of a raw line (i.e., at the start of the data or immediately after a line terminator)?
+     */
+    private boolean atRawLineStart = true;
+
+    /**
+     * Are we at the end of the data yet?
+     */
+    private boolean eof = false;
 
     /**
      * Constructor
@@ -75,21 +116,6 @@ final class Utf8Reader extends AbstractEncodingSpecificReader {
      */
     Utf8Reader(GedcomParser parser, InputStream byteStream) throws IOException {
         super(parser, byteStream);
-        try {
-            inputStream = new ProgressTrackingInputStream(byteStream);
-            inputStreamReader = new InputStreamReader(inputStream, "UTF8");
-
-            if (byteOrderMarkerRead) {
-                // discard the byte order marker if one was detected
-                inputStreamReader.read();
-                bytesRead = inputStream.getBytesRead();
-            }
-
-            bufferedReader = new BufferedReader(inputStreamReader);
-        } catch (IOException e) {
-            closeReaders();
-            throw e;
-        }
     }
 
     /**
@@ -97,26 +123,22 @@ final class Utf8Reader extends AbstractEncodingSpecificReader {
      */
     @Override
     public String nextLine() throws IOException, GedcomParserException {
-        String result = null;
-        String s = bufferedReader.readLine();
-        bytesRead = inputStream.getBytesRead();
-
-        // Strip off Byte Order Mark if needed
-        if (s != null && s.length() > 0 && s.charAt(0) == (char) 0xFEFF) {
-            s = s.substring(1);
-        }
-
-        while (s != null) {
-            s = leftTrim(s);
-            if (s.length() != 0) {
-                result = s;
+        while (!eof || lineLen > 0) {
+            boolean lineComplete = scanLine();
+            if (lineLen == 0) {
+                continue;
+            }
+            String result = lineToString();
+            lineLen = 0;
+            lineHasNonAscii = false;
+            if (result.length() > 0) {
+                return result;
+            }
+            if (!lineComplete) {
                 break;
             }
-            s = bufferedReader.readLine();
-            bytesRead = inputStream.getBytesRead();
         }
-        bytesRead = inputStream.getBytesRead();
-        return result;
+        return null;
     }
 
     /**
@@ -134,48 +156,139 @@ final class Utf8Reader extends AbstractEncodingSpecificReader {
      */
     @Override
     void cleanUp() throws IOException {
-        closeReaders();
+        // do nothing
     }
 
     /**
-     * Close the readers created in this class. Private so it can't be overridden (like {@link #cleanUp()} can be), which makes it
-     * safe to call from the constructor.
+     * Refill the read buffer from the input stream
      * 
+     * @return true if more bytes were read, false if the end of the data has been reached
      * @throws IOException
-     *             if the readers can't be closed
+     *             if the data cannot be read
      */
-    private void closeReaders() throws IOException {
-        if (bufferedReader != null) {
-            bufferedReader.close();
+    private boolean fill() throws IOException {
+        int r = byteStream.read(readBuffer, 0, readBuffer.length);
+        while (r == 0) {
+            r = byteStream.read(readBuffer, 0, readBuffer.length);
         }
-        if (inputStreamReader != null) {
-            inputStreamReader.close();
+        if (r < 0) {
+            eof = true;
+            readBufferLen = 0;
+            readBufferIdx = 0;
+            return false;
         }
+        readBufferLen = r;
+        readBufferIdx = 0;
+        return true;
     }
 
     /**
-     * Trim all whitespace off the left side (only) of the supplied string.
+     * Is the next thing in the data a UTF-8 byte order marker (the bytes EF BB BF)? Only a byte order marker at the very beginning
+     * of the data (which may have been detected by {@link GedcomFileReader}) or at the start of a raw line is treated as one.
      * 
-     * @param line
-     *            the string to trim left leading whitespace from
-     * @return the line passed in with the leading whitespace removed. If the original string passed in was null, null is returned
-     *         here.
-     */
-    private String leftTrim(String line) {
-        if (line == null) {
-            return null;
+     * @return true if the next three bytes are a byte order marker
+     */
+    private boolean byteOrderMarkerNext() {
+        return (byteOrderMarkerRead || atRawLineStart) && readBufferLen - readBufferIdx >= 3
+                && (readBuffer[readBufferIdx] & 0xFF) == 0xEF && (readBuffer[readBufferIdx + 1] & 0xFF) == 0xBB
+                && (readBuffer[readBufferIdx + 2] & 0xFF) == 0xBF;
+    }
+
+    /**
+     * Convert the bytes of the current line to a String, left-trimmed. Pure ASCII lines are converted without going through the
+     * UTF-8 decoder.
+     * 
+     * @return the current line as a String, with any leading whitespace removed. Could be empty if the line consisted entirely of
+     *         non-ASCII whitespace.
+     */
+    private String lineToString() {
+        if (!lineHasNonAscii) {
+            // Every byte is ASCII, which is identical in ISO-8859-1 - the cheapest conversion the JDK offers
+            return new String(lineBytes, 0, lineLen, StandardCharsets.ISO_8859_1);
         }
-        if (line.length() == 0) {
-            return "";
+        String s = new String(lineBytes, 0, lineLen, StandardCharsets.UTF_8);
+        if (s.charAt(0) != BYTE_ORDER_MARKER && !Character.isWhitespace(s.charAt(0))) {
+            return s;
         }
-        if (!Character.isWhitespace(line.charAt(0))) {
-            return line;
+        // Leading whitespace (or a byte order marker) outside the ASCII range, which couldn't be skipped at the byte level
+        int start = s.charAt(0) == BYTE_ORDER_MARKER ? 1 : 0;
+        while (start < s.length() && Character.isWhitespace(s.charAt(start))) {
+            start++;
         }
-        for (int i = 0; i < line.length(); i++) {
-            if (!Character.isWhitespace(line.charAt(i))) {
-                return line.substring(i);
+        return s.substring(start);
+    }
+
+    /**
+     * Scan bytes from the data into {@link #lineBytes} until a line terminator or the end of the data is found. Leading ASCII
+     * whitespace and byte order markers are skipped.
+     * 
+     * @return true if a line terminator was found, false if the end of the data was reached
+     * @throws IOException
+     *             if the data cannot be read
+     */
+    private boolean scanLine() throws IOException {
+        while (true) {
+            if (readBufferIdx >= readBufferLen && !fill()) {
+                return false;
+            }
+            if (lineLen == 0 && byteOrderMarkerNext()) {
+                readBufferIdx += 3;
+                bytesRead += 3;
+                byteOrderMarkerRead = false;
+                continue;
             }
+            byteOrderMarkerRead = false;
+            int start = readBufferIdx;
+            int i = start;
+            boolean foundTerminator = false;
+            while (i < readBufferLen) {
+                byte b = readBuffer[i];
+                if (b == 0x0D || b == 0x0A) {
+                    foundTerminator = true;
+                    break;
+                }
+                if (lineLen == 0 && i == start && Character.isWhitespace(b)) {
+                    // Leading whitespace - skip it
+                    start++;
+                    atRawLineStart = false;
+                } else if (b < 0) {
+                    lineHasNonAscii = true;
+                }
+                i++;
+            }
+            appendToLine(start, i);
+            bytesRead += i - readBufferIdx;
+            readBufferIdx = i;
+            if (foundTerminator) {
+                readBufferIdx++;
+                bytesRead++;
+                atRawLineStart = true;
+                if (lineLen > 0) {
+                    return true;
+                }
+            } else if (i > start) {
+                atRawLineStart = false;
+            }
+        }
+    }
+
+    /**
+     * Append a range of bytes from the read buffer onto the current line
+     * 
+     * @param from
+     *            the index in {@link #readBuffer} of the first byte to append
+     * @param to
+     *            the index in {@link #readBuffer} just past the last byte to append
+     */
+    private void appendToLine(int from, int to) {
+        int len = to - from;
+        if (len <= 0) {
+            return;
+        }
+        if (lineLen + len > lineBytes.length) {
+            lineBytes = Arrays.copyOf(lineBytes, Math.max(lineBytes.length * 2, lineLen + len));
         }
-        return "";
+        System.arraycopy(readBuffer, from, lineBytes, lineLen, len);
+        lineLen += len;
     }
 }
@@ -28,6 +28,7 @@ package org.gedcom4j.io.writer;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.List;
 
 import org.gedcom4j.exception.WriterCancelledException;
@@ -41,6 +42,12 @@ import org.gedcom4j.writer.GedcomWriter;
  */
 abstract class AbstractEncodingSpecificWriter {
 
+    /**
+     * The bytes of the line being encoded (including its terminator), which are written to the output stream as one block once the
+     * line is complete. Reused from line to line, and grown as needed for long lines.
+     */
+    protected ByteBuffer lineBuffer = ByteBuffer.allocate(256);
+
     /**
      * The lines of GEDCOM data to write
      */
@@ -59,12 +66,17 @@ abstract class AbstractEncodingSpecificWriter {
     /**
      * The number of bytes written
      */
-    protected int bytesWritten;
+    protected long bytesWritten;
 
     /**
      * When we've exceeded this many line written, notify the listeners and update this value based on the rate
      */
-    protected int notifyAfterThisManyLines = 0;
+    protected long notifyAfterThisManyLines = 0;
+
+    /**
+     * The number of lines written
+     */
+    protected long lineCount;
 
     /**
      * Constructor
@@ -87,16 +99,116 @@ abstract class AbstractEncodingSpecificWriter {
      *             if the write operation was cancelled
      */
     public void write(OutputStream out) throws IOException, WriterCancelledException {
-        int lineCount = 0;
         for (String line : gedcomLines) {
-            if (lineCount >= notifyAfterThisManyLines) {
-                writer.notifyFileObservers(new FileProgressEvent(this, lineCount, bytesWritten, false));
+            writeNextLine(out, line);
+        }
+        finish(out);
+    }
+
+    /**
+     * Finish writing - called once after the last line has been written, whether the lines came from {@link #gedcomLines} or were
+     * streamed one at a time through {@link #writeNextLine(OutputStream, String)}. Flushes the output stream.
+     * 
+     * @param out
+     *            the output stream
+     * @throws IOException
+     *             if the data can't be written to the stream
+     */
+    void finish(OutputStream out) throws IOException {
+        out.flush();
+        writer.notifyFileObservers(new FileProgressEvent(this, lineCount, bytesWritten, true));
+    }
+
+    /**
+     * Make sure everything written so far has been passed on to the output stream, rather than being held on to by the encoder.
+     * Lines are passed on as soon as they are encoded, so this does nothing unless overridden.
+     * 
+     * @throws IOException
+     *             if the data can't be written to the stream
+     */
+    void flushEncoder() throws IOException {
+        // Lines are passed on as soon as they are encoded
+    }
+
+    /**
+     * Write a block of lines that were encoded earlier, by a writer of the same kind with the same line terminator, notifying the
+     * listeners of progress
+     * 
+     * @param out
+     *            the output stream
+     * @param encoded
+     *            the encoded bytes of the lines, including their terminators
+     * @param lines
+     *            the number of lines in the block
+     * @throws IOException
+     *             if the data can't be written to the stream
+     * @throws WriterCancelledException
+     *             if the write operation was cancelled
+     */
+    void writeEncoded(OutputStream out, byte[] encoded, int lines) throws IOException, WriterCancelledException {
+        if (lineCount + lines > notifyAfterThisManyLines) {
+            writer.notifyFileObservers(new FileProgressEvent(this, lineCount, bytesWritten, false));
+            while (notifyAfterThisManyLines < lineCount + lines) {
                 notifyAfterThisManyLines += writer.getFileNotificationRate();
             }
-            writeLine(out, line);
-            lineCount++;
         }
-        writer.notifyFileObservers(new FileProgressEvent(this, lineCount, bytesWritten, true));
+        out.write(encoded);
+        bytesWritten += encoded.length;
+        lineCount += lines;
+        if (writer.isCancelled()) {
+            throw new WriterCancelledException("Construction and writing of GEDCOM cancelled");
+        }
+    }
+
+    /**
+     * Write the next line of the file, encoding as needed and notifying the listeners of progress
+     * 
+     * @param out
+     *            the output stream
+     * @param line
+     *            the line of text to write
+     * @throws IOException
+     *             if the data can't be written to the stream
+     * @throws WriterCancelledException
+     *             if the write operation was cancelled
+     */
+    void writeNextLine(OutputStream out, CharSequence line) throws IOException, WriterCancelledException {
+        if (lineCount >= notifyAfterThisManyLines) {
+            writer.notifyFileObservers(new FileProgressEvent(this, lineCount, bytesWritten, false));
+            notifyAfterThisManyLines += writer.getFileNotificationRate();
+        }
+        writeLine(out, line);
+        lineCount++;
+    }
+
+    /**
+     * Make sure there is room for at least the specified number of bytes in {@link #lineBuffer}, growing it if needed
+     * 
+     * @param bytesNeeded
+     *            the number of bytes about to be put in the buffer
+     */
+    protected void ensureRoomInLineBuffer(int bytesNeeded) {
+        if (lineBuffer.remaining() < bytesNeeded) {
+            ByteBuffer bigger = ByteBuffer.allocate(Math.max(lineBuffer.capacity() * 2, lineBuffer.position() + bytesNeeded));
+            bigger.order(lineBuffer.order());
+            lineBuffer.flip();
+            bigger.put(lineBuffer);
+            lineBuffer = bigger;
+        }
+    }
+
+    /**
+     * Write the encoded bytes in {@link #lineBuffer} to the output stream as a single block, and empty the buffer
+     * 
+     * @param out
+     *            the output stream we're writing to
+     * @throws IOException
+     *             if the data can't be written to the stream
+     */
+    protected void writeLineBuffer(OutputStream out) throws IOException {
+        out.write(lineBuffer.array(), 0, lineBuffer.position());
+        bytesWritten += lineBuffer.position();
+        lineBuffer.clear();
     }
 
     /**
@@ -111,7 +223,7 @@ abstract class AbstractEncodingSpecificWriter {
      * @throws WriterCancelledException
      *             if the write operation was cancelled
      */
-    protected abstract void writeLine(OutputStream out, String line) throws IOException, WriterCancelledException;
+    protected abstract void writeLine(OutputStream out, CharSequence line) throws IOException, WriterCancelledException;
 
     /**
      * Write out the appropriate line terminator based on the encoding and terminator selection for this instance
@@ -54,28 +54,26 @@ public abstract class AbstractSingleByteWriter extends AbstractEncodingSpecificW
      */
     @Override
     protected void writeLineTerminator(OutputStream out) throws IOException, WriterCancelledException {
+        ensureRoomInLineBuffer(2);
         switch (terminator) {
             case CR_ONLY:
-                out.write((byte) 0x0D);
-                bytesWritten++;
+                lineBuffer.put((byte) 0x0D);
                 break;
             case LF_ONLY:
-                out.write((byte) 0x0A);
-                bytesWritten++;
+                lineBuffer.put((byte) 0x0A);
                 break;
             case LFCR:
-                out.write((byte) 0x0A);
-                out.write((byte) 0x0D);
-                bytesWritten += 2;
+                lineBuffer.put((byte) 0x0A);
+                lineBuffer.put((byte) 0x0D);
                 break;
             case CRLF:
-                out.write((byte) 0x0D);
-                out.write((byte) 0x0A);
-                bytesWritten += 2;
+                lineBuffer.put((byte) 0x0D);
+                lineBuffer.put((byte) 0x0A);
                 break;
             default:
                 throw new IllegalStateException("Terminator selection of " + terminator + " is an unrecognized value");
         }
+        writeLineBuffer(out);
         if (writer.isCancelled()) {
             throw new WriterCancelledException("Construction and writing of GEDCOM cancelled");
         }
@@ -59,13 +59,10 @@ class AnselWriter extends AbstractSingleByteWriter {
      * {@inheritDoc}
      */
     @Override
-    protected void writeLine(OutputStream out, String line) throws IOException, WriterCancelledException {
-        String anselLine = anselHandler.toAnsel(line);
-        for (int i = 0; i < anselLine.length(); i++) {
-            char c = anselLine.charAt(i);
-            out.write(c);
-            bytesWritten++;
-        }
+    protected void writeLine(OutputStream out, CharSequence line) throws IOException, WriterCancelledException {
+        // Each character can turn into at most three ANSEL bytes
+        ensureRoomInLineBuffer(line.length() * 3);
+        anselHandler.toAnsel(line, lineBuffer);
         writeLineTerminator(out);
     }
 
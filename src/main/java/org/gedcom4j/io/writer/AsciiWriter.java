@@ -58,14 +58,14 @@ class AsciiWriter extends AbstractSingleByteWriter {
      * {@inheritDoc}
      */
     @Override
-    protected void writeLine(OutputStream out, String line) throws IOException, WriterCancelledException {
+    protected void writeLine(OutputStream out, CharSequence line) throws IOException, WriterCancelledException {
+        ensureRoomInLineBuffer(line.length());
         for (int i = 0; i < line.length(); i++) {
             char c = line.charAt(i);
             if (c < 0 || c > 0x7f) {
                 c = "?".charAt(0);
             }
-            out.write(c);
-            bytesWritten++;
+            lineBuffer.put((byte) c);
         }
         writeLineTerminator(out);
     }
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.io.writer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * An {@link OutputStream} Decorator that can keep a copy of the bytes written to the stream, between calls to
+ * {@link #startCapture()} and {@link #finishCapture()}
+ * 
+ * @author frizbog
+ */
+class CapturingOutputStream extends OutputStream {
+
+    /**
+     * The copy of the bytes written since capturing started, or null if not capturing
+     */
+    private ByteArrayOutputStream captured;
+
+    /**
+     * The output stream being decorated
+     */
+    private final OutputStream out;
+
+    /**
+     * Constructor
+     * 
+     * @param out
+     *            the output stream to be decorated
+     */
+    CapturingOutputStream(OutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(byte[] b) throws IOException {
+        write(b, 0, b.length);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        if (captured != null) {
+            captured.write(b, off, len);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        if (captured != null) {
+            captured.write(b);
+        }
+    }
+
+    /**
+     * Stop keeping a copy of the bytes written
+     * 
+     * @return the bytes written since {@link #startCapture()} was called
+     */
+    byte[] finishCapture() {
+        if (captured == null) {
+            throw new IllegalStateException("Not capturing - call startCapture() first");
+        }
+        byte[] result = captured.toByteArray();
+        captured = null;
+        return result;
+    }
+
+    /**
+     * Start keeping a copy of the bytes written
+     */
+    void startCapture() {
+        captured = new ByteArrayOutputStream();
+    }
+
+}
@@ -26,6 +26,7 @@
  */
 package org.gedcom4j.io.writer;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.List;
@@ -41,6 +42,16 @@ import org.gedcom4j.writer.GedcomWriter;
  * and also limits the encodings to the three choices mentioned.
  * </p>
  * <p>
+ * Alternatively, lines can be streamed through this class one at a time without ever being buffered, by calling
+ * {@link #open(OutputStream, String)} with the character set named in the header, then {@link #writeLine(CharSequence)} for each
+ * line, then {@link #finish()}. While streaming, the encoded bytes of some of the lines can be kept (see {@link #startCapture()} and
+ * {@link #finishCapture()}) and written again later with {@link #writeEncoded(byte[], int)}, without encoding them again.
+ * </p>
+ * <p>
+ * Encoded data is written to the output stream in blocks of {@value #OUTPUT_BUFFER_SIZE} bytes, so the stream does not need to be
+ * buffered by the caller.
+ * </p>
+ * <p>
  * Note that GEDCOM standard does not allow for BOM's or other preambles for encodings, so none is created by this class.
  * </p>
  * 
@@ -49,6 +60,11 @@ import org.gedcom4j.writer.GedcomWriter;
  */
 public class GedcomFileWriter {
 
+    /**
+     * The size of the blocks that encoded data is written to the output stream in
+     */
+    static final int OUTPUT_BUFFER_SIZE = 65536;
+
     /**
      * The {@link GedcomWriter} this object is assisting
      */
@@ -64,6 +80,11 @@ public class GedcomFileWriter {
      */
     private final List<String> gedcomLines;
 
+    /**
+     * The output stream that lines are being streamed to, if any
+     */
+    private CapturingOutputStream streamingTo;
+
     /**
      * The line terminator character to use - defaults to JVM settings but can be overridden
      */
@@ -74,6 +95,16 @@ public class GedcomFileWriter {
      */
     private boolean useLittleEndianForUnicode = true;
 
+    /**
+     * Constructor, for streaming lines one at a time rather than writing a buffer of lines
+     * 
+     * @param writer
+     *            The {@link GedcomWriter} this object is assisting
+     */
+    public GedcomFileWriter(GedcomWriter writer) {
+        this(writer, null);
+    }
+
     /**
      * Constructor
      * 
@@ -87,6 +118,36 @@ public class GedcomFileWriter {
         this.gedcomLines = gedcomLines;
     }
 
+    /**
+     * Finish streaming lines, flushing anything the encoder is holding on to and notifying the listeners of completion. The output
+     * stream is left open.
+     * 
+     * @throws IOException
+     *             if the data can't be written to the stream
+     */
+    public void finish() throws IOException {
+        if (streamingTo == null) {
+            throw new IllegalStateException("Not streaming - call open() first");
+        }
+        encodingSpecificWriter.finish(streamingTo);
+        streamingTo = null;
+    }
+
+    /**
+     * Stop keeping the encoded bytes of the lines being streamed
+     * 
+     * @return the encoded bytes of the lines streamed since {@link #startCapture()} was called, including their terminators
+     * @throws IOException
+     *             if the data can't be written to the stream
+     */
+    public byte[] finishCapture() throws IOException {
+        if (streamingTo == null) {
+            throw new IllegalStateException("Not streaming - call open() first");
+        }
+        encodingSpecificWriter.flushEncoder();
+        return streamingTo.finishCapture();
+    }
+
     /**
      * Get the terminator
      * 
@@ -105,6 +166,22 @@ public class GedcomFileWriter {
         return useLittleEndianForUnicode;
     }
 
+    /**
+     * Start streaming lines to an output stream. The encoding is chosen up front from the character set name, rather than by
+     * scanning the lines for the <code>1 CHAR</code> line.
+     * 
+     * @param out
+     *            the output stream
+     * @param characterSetName
+     *            the name of the character set, as it appears in the header's CHAR line - ANSEL, ASCII, UTF-8 or UNICODE. Anything
+     *            else (including null) is treated as ANSEL, as when writing a buffer of lines.
+     */
+    public void open(OutputStream out, String characterSetName) {
+        encodingSpecificWriter = newEncodingSpecificWriter(characterSetName);
+        encodingSpecificWriter.terminator = terminator;
+        streamingTo = new CapturingOutputStream(new BufferedOutputStream(out, OUTPUT_BUFFER_SIZE));
+    }
+
     /**
      * Set the terminator
      * 
@@ -125,6 +202,20 @@ public class GedcomFileWriter {
         this.useLittleEndianForUnicode = useLittleEndianForUnicode;
     }
 
+    /**
+     * Start keeping the encoded bytes of the lines being streamed, until {@link #finishCapture()} is called
+     * 
+     * @throws IOException
+     *             if the data can't be written to the stream
+     */
+    public void startCapture() throws IOException {
+        if (streamingTo == null) {
+            throw new IllegalStateException("Not streaming - call open() first");
+        }
+        encodingSpecificWriter.flushEncoder();
+        streamingTo.startCapture();
+    }
+
     /**
      * Write the gedcom lines to an output stream, encoding as needed
      * 
@@ -137,30 +228,96 @@ public class GedcomFileWriter {
      */
     public void write(OutputStream out) throws IOException, WriterCancelledException {
 
-        encodingSpecificWriter = new AnselWriter(writer);
-
+        String characterSetName = null;
         for (String line : gedcomLines) {
-            if ("1 CHAR ASCII".equals(line)) {
-                encodingSpecificWriter = new AsciiWriter(writer);
-                break;
-            }
-            if ("1 CHAR UTF-8".equals(line)) {
-                encodingSpecificWriter = new Utf8Writer(writer);
-                break;
-            }
-            if ("1 CHAR UNICODE".equals(line)) {
-                if (useLittleEndianForUnicode) {
-                    encodingSpecificWriter = new UnicodeLittleEndianWriter(writer);
-                } else {
-                    encodingSpecificWriter = new UnicodeBigEndianWriter(writer);
-                }
+            if ("1 CHAR ASCII".equals(line) || "1 CHAR UTF-8".equals(line) || "1 CHAR UNICODE".equals(line)) {
+                characterSetName = line.substring("1 CHAR ".length());
                 break;
             }
         }
+        encodingSpecificWriter = newEncodingSpecificWriter(characterSetName);
 
         encodingSpecificWriter.gedcomLines = gedcomLines;
         encodingSpecificWriter.terminator = terminator;
-        encodingSpecificWriter.write(out);
+        OutputStream buffered = new BufferedOutputStream(out, OUTPUT_BUFFER_SIZE);
+        try {
+            encodingSpecificWriter.write(buffered);
+        } catch (WriterCancelledException e) {
+            buffered.flush();
+            throw e;
+        }
+    }
+
+    /**
+     * Write a block of lines when streaming, that were captured earlier (see {@link #finishCapture()}) by a writer streaming with
+     * the same character set, byte order and line terminator
+     * 
+     * @param encoded
+     *            the encoded bytes of the lines, including their terminators
+     * @param lines
+     *            the number of lines in the block
+     * @throws IOException
+     *             if the data can't be written to the stream
+     * @throws WriterCancelledException
+     *             if the write operation was cancelled
+     */
+    public void writeEncoded(byte[] encoded, int lines) throws IOException, WriterCancelledException {
+        if (streamingTo == null) {
+            throw new IllegalStateException("Not streaming - call open() first");
+        }
+        try {
+            encodingSpecificWriter.writeEncoded(streamingTo, encoded, lines);
+        } catch (WriterCancelledException e) {
+            streamingTo.flush();
+            throw e;
+        }
+    }
+
+    /**
+     * Write the next line when streaming, encoding it as needed. The characters of the line are encoded straight from the
+     * {@link CharSequence}, so it can be a reusable buffer rather than a {@link String}.
+     * 
+     * @param line
+     *            the line of text to write
+     * @throws IOException
+     *             if the data can't be written to the stream
+     * @throws WriterCancelledException
+     *             if the write operation was cancelled
+     */
+    public void writeLine(CharSequence line) throws IOException, WriterCancelledException {
+        if (streamingTo == null) {
+            throw new IllegalStateException("Not streaming - call open() first");
+        }
+        try {
+            encodingSpecificWriter.writeNextLine(streamingTo, line);
+        } catch (WriterCancelledException e) {
+            streamingTo.flush();
+            throw e;
+        }
+    }
+
+    /**
+     * Create the encoding-specific writer for the named character set
+     * 
+     * @param characterSetName
+     *            the name of the character set, as it appears in the header's CHAR line. Anything unrecognized (including null) is
+     *            treated as ANSEL.
+     * @return the encoding-specific writer
+     */
+    private AbstractEncodingSpecificWriter newEncodingSpecificWriter(String characterSetName) {
+        if ("ASCII".equals(characterSetName)) {
+            return new AsciiWriter(writer);
+        }
+        if ("UTF-8".equals(characterSetName)) {
+            return new Utf8Writer(writer);
+        }
+        if ("UNICODE".equals(characterSetName)) {
+            if (useLittleEndianForUnicode) {
+                return new UnicodeLittleEndianWriter(writer);
+            }
+            return new UnicodeBigEndianWriter(writer);
+        }
+        return new AnselWriter(writer);
     }
 
 }
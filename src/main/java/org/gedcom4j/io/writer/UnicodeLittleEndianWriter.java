@@ -28,6 +28,7 @@ package org.gedcom4j.io.writer;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteOrder;
 
 import org.gedcom4j.exception.WriterCancelledException;
 import org.gedcom4j.writer.GedcomWriter;
@@ -46,18 +47,17 @@ class UnicodeLittleEndianWriter extends AbstractEncodingSpecificWriter {
      */
     UnicodeLittleEndianWriter(GedcomWriter writer) {
         super(writer);
+        lineBuffer.order(ByteOrder.LITTLE_ENDIAN);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    protected void writeLine(OutputStream out, String line) throws IOException, WriterCancelledException {
+    protected void writeLine(OutputStream out, CharSequence line) throws IOException, WriterCancelledException {
+        ensureRoomInLineBuffer(line.length() * 2);
         for (int i = 0; i < line.length(); i++) {
-            char c = line.charAt(i);
-            out.write(c & 0x00FF);
-            out.write(c >> 8);
-            bytesWritten += 2;
+            lineBuffer.putChar(line.charAt(i));
         }
         writeLineTerminator(out);
     }
@@ -67,34 +67,26 @@ class UnicodeLittleEndianWriter extends AbstractEncodingSpecificWriter {
      */
     @Override
     protected void writeLineTerminator(OutputStream out) throws IOException, WriterCancelledException {
+        ensureRoomInLineBuffer(4);
         switch (terminator) {
             case CR_ONLY:
-                out.write((byte) 0x0D);
-                out.write((byte) 0x00);
-                bytesWritten += 2;
+                lineBuffer.putChar('\r');
                 break;
             case LF_ONLY:
-                out.write((byte) 0x0A);
-                out.write((byte) 0x00);
-                bytesWritten += 2;
+                lineBuffer.putChar('\n');
                 break;
             case LFCR:
-                out.write((byte) 0x0A);
-                out.write((byte) 0x00);
-                out.write((byte) 0x0D);
-                out.write((byte) 0x00);
-                bytesWritten += 4;
+                lineBuffer.putChar('\n');
+                lineBuffer.putChar('\r');
                 break;
             case CRLF:
-                out.write((byte) 0x0D);
-                out.write((byte) 0x00);
-                out.write((byte) 0x0A);
-                out.write((byte) 0x00);
-                bytesWritten += 4;
+                lineBuffer.putChar('\r');
+                lineBuffer.putChar('\n');
                 break;
             default:
                 throw new IllegalStateException("Terminator selection of " + terminator + " is an unrecognized value");
         }
+        writeLineBuffer(out);
         if (writer.isCancelled()) {
             throw new WriterCancelledException("Construction and writing of GEDCOM cancelled");
         }
@@ -43,9 +43,25 @@ import org.gedcom4j.writer.GedcomWriter;
 class Utf8Writer extends AbstractEncodingSpecificWriter {
 
     /**
-     * The number of lines written
+     * Working space for copying the characters of lines that aren't strings, so they can be given to the encoder. Reused from line
+     * to line, and grown as needed for long lines.
      */
-    private int lineCount;
+    private char[] chars = new char[256];
+
+    /**
+     * The string to write at the end of each line
+     */
+    private String lineTerminatorString;
+
+    /**
+     * The byte-counting stream that the encoded data is written to
+     */
+    private ProgressTrackingOutputStream outputStream;
+
+    /**
+     * The encoder, created when the first line is written
+     */
+    private OutputStreamWriter osw;
 
     /**
      * Constructor
@@ -61,45 +77,70 @@ class Utf8Writer extends AbstractEncodingSpecificWriter {
      * {@inheritDoc}
      */
     @Override
-    public void write(OutputStream out) throws IOException, WriterCancelledException {
-        String lineTerminatorString = null;
-        switch (terminator) {
-            case CR_ONLY:
-                lineTerminatorString = "\r";
-                break;
-            case LF_ONLY:
-                lineTerminatorString = "\n";
-                break;
-            case LFCR:
-                lineTerminatorString = "\n\r";
-                break;
-            case CRLF:
-                lineTerminatorString = "\r\n";
-                break;
-            default:
-                throw new IllegalStateException("Terminator selection of " + terminator + " is an unrecognized value");
+    void finish(OutputStream out) throws IOException {
+        if (osw == null) {
+            open(out);
         }
+        osw.close();
+        bytesWritten = outputStream.bytesWritten;
+        out.flush();
+        writer.notifyFileObservers(new FileProgressEvent(this, lineCount, bytesWritten, true));
+    }
 
-        // Go ahead and use Java's built in UTF-8 encoder here
-        ProgressTrackingOutputStream outputStream = new ProgressTrackingOutputStream(out);
-        try (OutputStreamWriter osw = new OutputStreamWriter(outputStream, Charset.forName("UTF-8"))) {
-            for (String line : gedcomLines) {
-                osw.write(line);
-                bytesWritten = outputStream.bytesWritten;
-                osw.write(lineTerminatorString);
-                bytesWritten = outputStream.bytesWritten;
-                lineCount++;
-                if (lineCount >= notifyAfterThisManyLines) {
-                    writer.notifyFileObservers(new FileProgressEvent(this, lineCount, bytesWritten, false));
-                    notifyAfterThisManyLines += writer.getFileNotificationRate();
-                }
-
-                if (writer.isCancelled()) {
-                    throw new WriterCancelledException("Construction and writing of GEDCOM cancelled");
-                }
-            }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    void flushEncoder() throws IOException {
+        if (osw != null) {
             osw.flush();
-            bytesWritten = outputStream.bytesWritten;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    void writeEncoded(OutputStream out, byte[] encoded, int lines) throws IOException, WriterCancelledException {
+        if (osw == null) {
+            open(out);
+        }
+        osw.flush();
+        super.writeEncoded(outputStream, encoded, lines);
+        bytesWritten = outputStream.bytesWritten;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    void writeNextLine(OutputStream out, CharSequence line) throws IOException, WriterCancelledException {
+        if (osw == null) {
+            open(out);
+        }
+        if (line instanceof String) {
+            osw.write((String) line);
+        } else {
+            int length = line.length();
+            if (chars.length < length) {
+                chars = new char[Math.max(length, chars.length * 2)];
+            }
+            for (int i = 0; i < length; i++) {
+                chars[i] = line.charAt(i);
+            }
+            osw.write(chars, 0, length);
+        }
+        bytesWritten = outputStream.bytesWritten;
+        osw.write(lineTerminatorString);
+        bytesWritten = outputStream.bytesWritten;
+        lineCount++;
+        if (lineCount >= notifyAfterThisManyLines) {
+            writer.notifyFileObservers(new FileProgressEvent(this, lineCount, bytesWritten, false));
+            notifyAfterThisManyLines += writer.getFileNotificationRate();
+        }
+
+        if (writer.isCancelled()) {
+            throw new WriterCancelledException("Construction and writing of GEDCOM cancelled");
         }
     }
 
@@ -110,7 +151,7 @@ class Utf8Writer extends AbstractEncodingSpecificWriter {
      * {@inheritDoc}
      */
     @Override
-    protected void writeLine(OutputStream out, String line) throws IOException {
+    protected void writeLine(OutputStream out, CharSequence line) throws IOException {
         // Not used
         throw new UnsupportedOperationException(this.getClass().getName() + " does not use the abstract writeLine method");
     }
@@ -128,4 +169,33 @@ class Utf8Writer extends AbstractEncodingSpecificWriter {
                 + " does not use the abstract writeLineTerminator method");
     }
 
+    /**
+     * Set up the encoder and line terminator for writing to the output stream
+     * 
+     * @param out
+     *            the output stream
+     */
+    private void open(OutputStream out) {
+        switch (terminator) {
+            case CR_ONLY:
+                lineTerminatorString = "\r";
+                break;
+            case LF_ONLY:
+                lineTerminatorString = "\n";
+                break;
+            case LFCR:
+                lineTerminatorString = "\n\r";
+                break;
+            case CRLF:
+                lineTerminatorString = "\r\n";
+                break;
+            default:
+                throw new IllegalStateException("Terminator selection of " + terminator + " is an unrecognized value");
+        }
+
+        // Go ahead and use Java's built in UTF-8 encoder here
+        outputStream = new ProgressTrackingOutputStream(out);
+        osw = new OutputStreamWriter(outputStream, Charset.forName("UTF-8"));
+    }
+
 }
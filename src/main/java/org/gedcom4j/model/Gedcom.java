@@ -100,7 +100,7 @@ public class Gedcom extends AbstractElement {
      * A map of all the families in the GEDCOM file. The map is keyed on family cross-reference numbers, and the families themselves
      * are in the value set.
      */
-    private final Map<String, Family> families = new HashMap<>();
+    private final Map<String, Family> families;
 
     /**
      * Header information about the GEDCOM
@@ -111,31 +111,31 @@ public class Gedcom extends AbstractElement {
      * A map of all the individuals in the GEDCOM file. The map is keyed on the individual cross-reference numbers and the
      * individuals themselves are in the value set.
      */
-    private final Map<String, Individual> individuals = new HashMap<>(0);
+    private final Map<String, Individual> individuals;
 
     /**
      * A map of all the multimedia items in the GEDCOM file. The map is keyed by the multimedia cross-reference numbers, and the
      * multimedia items themselves (well, the metadata about them for 5.5.1) are in the value set. Remember, GEDCOM 5.5.1 multimedia
      * is not embedded in the GEDCOM, but the GEDCOM contains metadata about the multimedia.
      */
-    private final Map<String, Multimedia> multimedia = new HashMap<>(0);
+    private final Map<String, Multimedia> multimedia;
 
     /**
      * A map of notes. The map is keyed with cross-reference numbers and the notes themselves are the values.
      */
-    private final Map<String, NoteRecord> notes = new HashMap<>(0);
+    private final Map<String, NoteRecord> notes;
 
     /**
      * A map of all the source repositories in the GEDCOM file. The map is keyed on the repository cross-reference numbers, and the
      * repositories themselves are in the value set.
      */
-    private final Map<String, Repository> repositories = new HashMap<>(0);
+    private final Map<String, Repository> repositories;
 
     /**
      * A map of all the sources in the GEDCOM file. The map is keyed on source cross-reference numbers, and the sources themselves
      * are in the value set.
      */
-    private final Map<String, Source> sources = new HashMap<>(0);
+    private final Map<String, Source> sources;
 
     /**
      * Information about the GEDCOM submission. There is only one and it is required, so the xref ID has a default.
@@ -146,7 +146,7 @@ public class Gedcom extends AbstractElement {
      * A map of the submitters in the GEDCOM file. The map is keyed on submitter cross-reference numbers, and the submitters
      * themselves are in the value set
      */
-    private final Map<String, Submitter> submitters = new HashMap<>(0);
+    private final Map<String, Submitter> submitters;
 
     /**
      * The trailer of the file
@@ -155,7 +155,9 @@ public class Gedcom extends AbstractElement {
 
     /** Default constructor */
     public Gedcom() {
-        // Default constructor does nothing
+        this(new HashMap<String, Family>(), new HashMap<String, Individual>(0), new HashMap<String, Multimedia>(0),
+                new HashMap<String, NoteRecord>(0), new HashMap<String, Repository>(0), new HashMap<String, Source>(0),
+                new HashMap<String, Submitter>(0));
     }
 
     /**
@@ -166,6 +168,13 @@ public class Gedcom extends AbstractElement {
      */
     public Gedcom(Gedcom other) {
         super(other);
+        families = new HashMap<>();
+        individuals = new HashMap<>(0);
+        multimedia = new HashMap<>(0);
+        notes = new HashMap<>(0);
+        repositories = new HashMap<>(0);
+        sources = new HashMap<>(0);
+        submitters = new HashMap<>(0);
         for (Family f : other.families.values()) {
             families.put(f.getXref(), new Family(f));
         }
@@ -196,6 +205,38 @@ public class Gedcom extends AbstractElement {
         // All trailers are the same, and it's already initialized
     }
 
+    /**
+     * Constructor for a Gedcom whose record maps are supplied, rather than being ordinary hash maps - for example, maps that load
+     * each record from a file the first time it is asked for. Each map should be keyed on the cross-reference numbers of the records
+     * in it.
+     * 
+     * @param families
+     *            the map of families
+     * @param individuals
+     *            the map of individuals
+     * @param multimedia
+     *            the map of multimedia items
+     * @param notes
+     *            the map of notes
+     * @param repositories
+     *            the map of repositories
+     * @param sources
+     *            the map of sources
+     * @param submitters
+     *            the map of submitters
+     */
+    public Gedcom(Map<String, Family> families, Map<String, Individual> individuals, Map<String, Multimedia> multimedia,
+            Map<String, NoteRecord> notes, Map<String, Repository> repositories, Map<String, Source> sources,
+            Map<String, Submitter> submitters) {
+        this.families = families;
+        this.individuals = individuals;
+        this.multimedia = multimedia;
+        this.notes = notes;
+        this.repositories = repositories;
+        this.sources = sources;
+        this.submitters = submitters;
+    }
+
     /**
      * {@inheritDoc}
      */
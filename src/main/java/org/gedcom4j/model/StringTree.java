@@ -72,7 +72,7 @@ public class StringTree implements ModelElement {
     /**
      * The line number of the GEDCOM from which this element was derived
      */
-    private int lineNum;
+    private long lineNum;
 
     /**
      * <p>
@@ -215,7 +215,7 @@ public class StringTree implements ModelElement {
      *
      * @return the line num
      */
-    public int getLineNum() {
+    public long getLineNum() {
         return lineNum;
     }
 
@@ -265,7 +265,7 @@ public class StringTree implements ModelElement {
         result = prime * result + (children == null ? 0 : children.hashCode());
         result = prime * result + (xref == null ? 0 : xref.hashCode());
         result = prime * result + level;
-        result = prime * result + lineNum;
+        result = prime * result + (int) (lineNum ^ lineNum >>> 32);
         result = prime * result + (tag == null ? 0 : tag.hashCode());
         result = prime * result + (value == null ? 0 : value.hashCode());
         // Note that parent is not included, to provent infinite recursion
@@ -288,7 +288,7 @@ public class StringTree implements ModelElement {
      * @param lineNum
      *            the new line num
      */
-    public void setLineNum(int lineNum) {
+    public void setLineNum(long lineNum) {
         this.lineNum = lineNum;
     }
 
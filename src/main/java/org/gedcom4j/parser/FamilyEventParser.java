@@ -45,6 +45,13 @@ import org.gedcom4j.model.enumerations.FamilyEventType;
  */
 class FamilyEventParser extends AbstractEventParser<FamilyEvent> {
 
+    /**
+     * The tags of the child nodes this parser handles, in the order they used to be tested in
+     */
+    private static final TagTable<Tag> CHILD_TAGS = TagTable.of(Tag.TYPE, Tag.DATE, Tag.PLACE, Tag.OBJECT_MULTIMEDIA, Tag.NOTE,
+            Tag.SOURCE, Tag.RESTRICTION, Tag.RELIGION, Tag.AGE, Tag.CAUSE, Tag.ADDRESS, Tag.AGENCY, Tag.PHONE, Tag.WEB_ADDRESS,
+            Tag.FAX, Tag.EMAIL, Tag.HUSBAND, Tag.WIFE, Tag.CONCATENATION, Tag.CONTINUATION);
+
     /**
      * Constructor
      * 
@@ -66,88 +73,119 @@ class FamilyEventParser extends AbstractEventParser<FamilyEvent> {
         parseYNull();
         if (stringTree.getChildren() != null) {
             for (StringTree ch : stringTree.getChildren()) {
-                if (Tag.TYPE.equalsText(ch.getTag())) {
-                    loadInto.setSubType(parseStringWithCustomFacts(ch));
-                } else if (Tag.DATE.equalsText(ch.getTag())) {
-                    loadInto.setDate(parseStringWithCustomFacts(ch));
-                } else if (Tag.PLACE.equalsText(ch.getTag())) {
-                    Place place = new Place();
-                    loadInto.setPlace(place);
-                    new PlaceParser(gedcomParser, ch, place).parse();
-                } else if (Tag.OBJECT_MULTIMEDIA.equalsText(ch.getTag())) {
-                    List<MultimediaReference> multimedia = loadInto.getMultimedia(true);
-                    new MultimediaLinkParser(gedcomParser, ch, multimedia).parse();
-                } else if (Tag.NOTE.equalsText(ch.getTag())) {
-                    List<NoteStructure> notes = loadInto.getNoteStructures(true);
-                    new NoteStructureListParser(gedcomParser, ch, notes).parse();
-                } else if (Tag.SOURCE.equalsText(ch.getTag())) {
-                    List<AbstractCitation> citations = loadInto.getCitations(true);
-                    new CitationListParser(gedcomParser, ch, citations).parse();
-                } else if (Tag.RESTRICTION.equalsText(ch.getTag())) {
-                    loadInto.setRestrictionNotice(parseStringWithCustomFacts(ch));
-                    if (g55()) {
-                        addWarning("GEDCOM version is 5.5 but restriction notice was specified for family event on line " + ch
-                                .getLineNum() + ", which is a GEDCOM 5.5.1 feature."
-                                + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
-                    }
-                } else if (Tag.RELIGION.equalsText(ch.getTag())) {
-                    loadInto.setReligiousAffiliation(parseStringWithCustomFacts(ch));
-                    if (g55()) {
-                        addWarning("GEDCOM version is 5.5 but religious affiliation was specified for family event on line " + ch
-                                .getLineNum() + ", which is a GEDCOM 5.5.1 feature."
-                                + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
-                    }
-                } else if (Tag.AGE.equalsText(ch.getTag())) {
-                    loadInto.setAge(parseStringWithCustomFacts(ch));
-                } else if (Tag.CAUSE.equalsText(ch.getTag())) {
-                    loadInto.setCause(parseStringWithCustomFacts(ch));
-                } else if (Tag.ADDRESS.equalsText(ch.getTag())) {
-                    Address address = new Address();
-                    loadInto.setAddress(address);
-                    new AddressParser(gedcomParser, ch, address).parse();
-                } else if (Tag.AGENCY.equalsText(ch.getTag())) {
-                    loadInto.setRespAgency(parseStringWithCustomFacts(ch));
-                } else if (Tag.PHONE.equalsText(ch.getTag())) {
-                    loadInto.getPhoneNumbers(true).add(parseStringWithCustomFacts(ch));
-                } else if (Tag.WEB_ADDRESS.equalsText(ch.getTag())) {
-                    loadInto.getWwwUrls(true).add(parseStringWithCustomFacts(ch));
-                    if (g55()) {
-                        addWarning("GEDCOM version is 5.5 but WWW URL was specified for " + loadInto.getType()
-                                + " family event on line " + ch.getLineNum() + ", which is a GEDCOM 5.5.1 feature."
-                                + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
+                Tag tag = CHILD_TAGS.get(ch.getTag());
+                if (tag == null) {
+                    unknownTag(ch, loadInto);
+                    continue;
+                }
+                switch (tag) {
+                    case TYPE:
+                        loadInto.setSubType(parseStringWithCustomFacts(ch));
+                        break;
+                    case DATE:
+                        loadInto.setDate(parseStringWithCustomFacts(ch));
+                        break;
+                    case PLACE: {
+                        Place place = new Place();
+                        loadInto.setPlace(place);
+                        new PlaceParser(gedcomParser, ch, place).parse();
+                        break;
                     }
-                } else if (Tag.FAX.equalsText(ch.getTag())) {
-                    loadInto.getFaxNumbers(true).add(parseStringWithCustomFacts(ch));
-                    if (g55()) {
-                        addWarning("GEDCOM version is 5.5 but fax number was specified for " + loadInto.getType()
-                                + " family event on line " + ch.getLineNum() + ", which is a GEDCOM 5.5.1 feature."
-                                + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
+                    case OBJECT_MULTIMEDIA: {
+                        List<MultimediaReference> multimedia = loadInto.getMultimedia(true);
+                        new MultimediaLinkParser(gedcomParser, ch, multimedia).parse();
+                        break;
                     }
-                } else if (Tag.EMAIL.equalsText(ch.getTag())) {
-                    loadInto.getEmails(true).add(parseStringWithCustomFacts(ch));
-                    if (g55()) {
-                        addWarning("GEDCOM version is 5.5 but email was specified for " + loadInto.getType()
-                                + " family event on line " + ch.getLineNum() + ", which is a GEDCOM 5.5.1 feature."
-                                + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
+                    case NOTE: {
+                        List<NoteStructure> notes = loadInto.getNoteStructures(true);
+                        new NoteStructureListParser(gedcomParser, ch, notes).parse();
+                        break;
                     }
-                } else if (Tag.HUSBAND.equalsText(ch.getTag())) {
-                    loadInto.setHusbandAge(parseStringWithCustomFacts(ch.getChildren().get(0)));
-                } else if (Tag.WIFE.equalsText(ch.getTag())) {
-                    loadInto.setWifeAge(parseStringWithCustomFacts(ch.getChildren().get(0)));
-                } else if (Tag.CONCATENATION.equalsText(ch.getTag())) {
-                    if (loadInto.getDescription() == null) {
-                        loadInto.setDescription(parseStringWithCustomFacts(ch));
-                    } else {
-                        loadInto.getDescription().setValue(loadInto.getDescription().getValue() + ch.getValue());
+                    case SOURCE: {
+                        List<AbstractCitation> citations = loadInto.getCitations(true);
+                        new CitationListParser(gedcomParser, ch, citations).parse();
+                        break;
                     }
-                } else if (Tag.CONTINUATION.equalsText(ch.getTag())) {
-                    if (loadInto.getDescription() == null) {
-                        loadInto.setDescription(new StringWithCustomFacts(ch.getValue() == null ? "" : ch.getValue()));
-                    } else {
-                        loadInto.getDescription().setValue(loadInto.getDescription().getValue() + "\n" + ch.getValue());
+                    case RESTRICTION:
+                        loadInto.setRestrictionNotice(parseStringWithCustomFacts(ch));
+                        if (g55()) {
+                            addWarning("GEDCOM version is 5.5 but restriction notice was specified for family event on line " + ch
+                                    .getLineNum() + ", which is a GEDCOM 5.5.1 feature."
+                                    + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
+                        }
+                        break;
+                    case RELIGION:
+                        loadInto.setReligiousAffiliation(parseStringWithCustomFacts(ch));
+                        if (g55()) {
+                            addWarning("GEDCOM version is 5.5 but religious affiliation was specified for family event on line "
+                                    + ch.getLineNum() + ", which is a GEDCOM 5.5.1 feature."
+                                    + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
+                        }
+                        break;
+                    case AGE:
+                        loadInto.setAge(parseStringWithCustomFacts(ch));
+                        break;
+                    case CAUSE:
+                        loadInto.setCause(parseStringWithCustomFacts(ch));
+                        break;
+                    case ADDRESS: {
+                        Address address = new Address();
+                        loadInto.setAddress(address);
+                        new AddressParser(gedcomParser, ch, address).parse();
+                        break;
                     }
-                } else {
-                    unknownTag(ch, loadInto);
+                    case AGENCY:
+                        loadInto.setRespAgency(parseStringWithCustomFacts(ch));
+                        break;
+                    case PHONE:
+                        loadInto.getPhoneNumbers(true).add(parseStringWithCustomFacts(ch));
+                        break;
+                    case WEB_ADDRESS:
+                        loadInto.getWwwUrls(true).add(parseStringWithCustomFacts(ch));
+                        if (g55()) {
+                            addWarning("GEDCOM version is 5.5 but WWW URL was specified for " + loadInto.getType()
+                                    + " family event on line " + ch.getLineNum() + ", which is a GEDCOM 5.5.1 feature."
+                                    + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
+                        }
+                        break;
+                    case FAX:
+                        loadInto.getFaxNumbers(true).add(parseStringWithCustomFacts(ch));
+                        if (g55()) {
+                            addWarning("GEDCOM version is 5.5 but fax number was specified for " + loadInto.getType()
+                                    + " family event on line " + ch.getLineNum() + ", which is a GEDCOM 5.5.1 feature."
+                                    + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
+                        }
+                        break;
+                    case EMAIL:
+                        loadInto.getEmails(true).add(parseStringWithCustomFacts(ch));
+                        if (g55()) {
+                            addWarning("GEDCOM version is 5.5 but email was specified for " + loadInto.getType()
+                                    + " family event on line " + ch.getLineNum() + ", which is a GEDCOM 5.5.1 feature."
+                                    + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
+                        }
+                        break;
+                    case HUSBAND:
+                        loadInto.setHusbandAge(parseStringWithCustomFacts(ch.getChildren().get(0)));
+                        break;
+                    case WIFE:
+                        loadInto.setWifeAge(parseStringWithCustomFacts(ch.getChildren().get(0)));
+                        break;
+                    case CONCATENATION:
+                        if (loadInto.getDescription() == null) {
+                            loadInto.setDescription(parseStringWithCustomFacts(ch));
+                        } else {
+                            loadInto.getDescription().setValue(loadInto.getDescription().getValue() + ch.getValue());
+                        }
+                        break;
+                    case CONTINUATION:
+                        if (loadInto.getDescription() == null) {
+                            loadInto.setDescription(new StringWithCustomFacts(ch.getValue() == null ? "" : ch.getValue()));
+                        } else {
+                            loadInto.getDescription().setValue(loadInto.getDescription().getValue() + "\n" + ch.getValue());
+                        }
+                        break;
+                    default:
+                        unknownTag(ch, loadInto);
                 }
             }
         }
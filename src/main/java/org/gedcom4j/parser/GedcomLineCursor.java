@@ -0,0 +1,543 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.util.List;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.io.reader.GedcomFileReader;
+
+/**
+ * <p>
+ * A forward-only, pull-style cursor over the lines of a GEDCOM file, for tools that need to scan a file quickly (counting records,
+ * extracting a few values, etc.) without building a {@link org.gedcom4j.model.Gedcom} structure or even a
+ * {@link org.gedcom4j.model.StringTree}.
+ * </p>
+ * <p>
+ * General usage is as follows:
+ * </p>
+ * 
+ * <pre>
+ * GedcomLineCursor cursor = new GedcomLineCursor(bufferedInputStream);
+ * while (cursor.next()) {
+ *     if (cursor.level() == 0 &amp;&amp; "INDI".equals(cursor.tag())) {
+ *         individualCount++;
+ *         cursor.skipChildren();
+ *     }
+ * }
+ * </pre>
+ * <p>
+ * Lines are decoded by the same {@link GedcomFileReader} that {@link GedcomParser} uses, so encoding detection works the same way.
+ * Unlike {@link StringTreeBuilder}, the cursor does not make any objects for the pieces of the line: it keeps the current line and
+ * the positions of its pieces in one reusable state. Tags are pooled, so {@link #tag()} returns the same instance each time a tag
+ * is seen. {@link #valueAsCharSequence()} is a reusable view over the current line's value, and is only valid until the cursor
+ * moves. {@link #xref()} and {@link #value()} make new strings when called, so only call them for lines that are of interest.
+ * </p>
+ * <p>
+ * The reader reports its warnings and file progress to a {@link GedcomParser}, and stops if that parser is cancelled. Pass one to
+ * the constructor to receive its file progress events, or use {@link #getWarnings()} and {@link #cancel()} on the cursor.
+ * </p>
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ * 
+ * @author frizbog
+ */
+public final class GedcomLineCursor {
+
+    /**
+     * A reusable view of the value portion of the current line
+     */
+    private final class ValueView implements CharSequence {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length()) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of range for value of length " + length());
+            }
+            return line.charAt(valueStart + index);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int length() {
+            return valueStart < 0 ? 0 : line.length() - valueStart;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return toString().subSequence(start, end);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return valueStart < 0 ? "" : line.substring(valueStart);
+        }
+    }
+
+    /**
+     * The number of slots in the tag pool. Must be a power of two.
+     */
+    private static final int TAG_POOL_SIZE = 256;
+
+    /**
+     * The parser that the {@link GedcomFileReader} reports progress, warnings, and cancellation through
+     */
+    private final GedcomParser parser;
+
+    /**
+     * The reader we're getting lines from
+     */
+    private final GedcomFileReader reader;
+
+    /**
+     * Pooled tag strings, indexed by a hash of their characters
+     */
+    private final String[] tagPool = new String[TAG_POOL_SIZE];
+
+    /**
+     * The reusable view of the current line's value
+     */
+    private final ValueView valueView = new ValueView();
+
+    /**
+     * The current line, or null if not positioned on a line
+     */
+    private String line;
+
+    /**
+     * The 1-based number of the current line
+     */
+    private long lineNumber;
+
+    /**
+     * The level of the current line
+     */
+    private int level;
+
+    /**
+     * The index in the line where the xref begins, or -1 if there is no xref
+     */
+    private int xrefStart;
+
+    /**
+     * The index in the line just past the end of the xref
+     */
+    private int xrefEnd;
+
+    /**
+     * The tag of the current line
+     */
+    private String tag;
+
+    /**
+     * The index in the line where the value begins, or -1 if there is no value
+     */
+    private int valueStart;
+
+    /**
+     * The number of lines read from the file so far, which can be ahead of {@link #lineNumber} after {@link #skipChildren()}
+     */
+    private long linesRead;
+
+    /**
+     * A line already read (by {@link #skipChildren()}) that the next call to {@link #next()} should move to, rather than reading a
+     * new one. Null if there is no such line.
+     */
+    private String pendingLine;
+
+    /**
+     * Indicates whether non-compliant GEDCOM files with actual line breaks in text values (rather than CONT tags) should be scanned
+     * rather than fail with an exception. If false, such lines are presented as CONT lines one level below the line before them.
+     */
+    private boolean strictLineBreaks = true;
+
+    /**
+     * Constructor
+     * 
+     * @param bytes
+     *            the input stream over the bytes of the file
+     * @throws IOException
+     *             if there is a problem reading the data
+     * @throws GedcomParserException
+     *             if the character encoding of the data cannot be determined
+     */
+    public GedcomLineCursor(BufferedInputStream bytes) throws IOException, GedcomParserException {
+        this(new GedcomParser(), bytes);
+    }
+
+    /**
+     * Constructor for reading from a memory-mapped file
+     * 
+     * @param channel
+     *            the channel over the file to scan. Reading begins at the channel's current position. The channel is not closed
+     *            by this class.
+     * @throws IOException
+     *             if there is a problem reading the data
+     * @throws GedcomParserException
+     *             if the character encoding of the data cannot be determined
+     */
+    public GedcomLineCursor(FileChannel channel) throws IOException, GedcomParserException {
+        this(new GedcomParser(), channel);
+    }
+
+    /**
+     * Constructor
+     * 
+     * @param parser
+     *            the parser to report warnings and file progress to, and to check for cancellation. Required.
+     * @param bytes
+     *            the input stream over the bytes of the file
+     * @throws IOException
+     *             if there is a problem reading the data
+     * @throws GedcomParserException
+     *             if the character encoding of the data cannot be determined
+     */
+    public GedcomLineCursor(GedcomParser parser, BufferedInputStream bytes) throws IOException, GedcomParserException {
+        if (parser == null) {
+            throw new IllegalArgumentException("parser is a required argument");
+        }
+        this.parser = parser;
+        reader = new GedcomFileReader(parser, bytes);
+    }
+
+    /**
+     * Constructor for reading from a memory-mapped file
+     * 
+     * @param parser
+     *            the parser to report warnings and file progress to, and to check for cancellation. Required.
+     * @param channel
+     *            the channel over the file to scan. Reading begins at the channel's current position. The channel is not closed
+     *            by this class.
+     * @throws IOException
+     *             if there is a problem reading the data
+     * @throws GedcomParserException
+     *             if the character encoding of the data cannot be determined
+     */
+    public GedcomLineCursor(GedcomParser parser, FileChannel channel) throws IOException, GedcomParserException {
+        if (parser == null) {
+            throw new IllegalArgumentException("parser is a required argument");
+        }
+        this.parser = parser;
+        reader = new GedcomFileReader(parser, channel);
+    }
+
+    /**
+     * Cancel the scan - the next call to {@link #next()} or {@link #skipChildren()} throws a
+     * {@link org.gedcom4j.exception.ParserCancelledException}.
+     */
+    public void cancel() {
+        parser.cancel();
+    }
+
+    /**
+     * Get the warnings from reading the file so far - for example, about lines too long to be read in one piece
+     * 
+     * @return the warnings from reading the file so far
+     */
+    public List<String> getWarnings() {
+        return parser.getWarnings();
+    }
+
+    /**
+     * Is the cursor treating lines that don't begin with a level number as an error?
+     * 
+     * @return true if lines that don't begin with a level number cause an exception
+     */
+    public boolean isStrictLineBreaks() {
+        return strictLineBreaks;
+    }
+
+    /**
+     * Get the level of the current line
+     * 
+     * @return the level of the current line
+     */
+    public int level() {
+        return level;
+    }
+
+    /**
+     * Get the 1-based line number of the current line
+     * 
+     * @return the line number of the current line, or zero if {@link #next()} has not been called yet
+     */
+    public long lineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Move to the next line
+     * 
+     * @return true if the cursor moved to a line, or false if there are no more lines
+     * @throws IOException
+     *             if there is a problem reading the data
+     * @throws GedcomParserException
+     *             if the line is not well-formed GEDCOM
+     */
+    public boolean next() throws IOException, GedcomParserException {
+        int previousLevel = level;
+        if (pendingLine == null) {
+            line = readLine();
+        } else {
+            line = pendingLine;
+            pendingLine = null;
+        }
+        if (line == null) {
+            xrefStart = -1;
+            valueStart = -1;
+            tag = null;
+            return false;
+        }
+        lineNumber = linesRead;
+        int start = levelEnd(line);
+        if (start < 0) {
+            if (strictLineBreaks) {
+                throw new GedcomParserException("Line " + lineNumber
+                        + " does not begin with a 1 or 2 digit number for the level followed by a space: " + line);
+            }
+            // Present it as a continuation of the previous line, as StringTreeBuilder does
+            level = previousLevel + 1;
+            xrefStart = -1;
+            tag = Tag.CONTINUATION.tagText;
+            valueStart = 0;
+            return true;
+        }
+        level = parseLevel(line);
+        parsePieces(start);
+        return true;
+    }
+
+    /**
+     * Set whether the cursor treats lines that don't begin with a level number as an error
+     * 
+     * @param strictLineBreaks
+     *            true if lines that don't begin with a level number should cause an exception, false if they should be presented
+     *            as CONT lines one level below the previous line
+     */
+    public void setStrictLineBreaks(boolean strictLineBreaks) {
+        this.strictLineBreaks = strictLineBreaks;
+    }
+
+    /**
+     * Skip over all the lines subordinate to the current one, without breaking them into pieces. After this call, the next call to
+     * {@link #next()} moves to the next line at the same level or higher (lower level number) than the current line.
+     * 
+     * @throws IOException
+     *             if there is a problem reading the data
+     * @throws GedcomParserException
+     *             if the data cannot be decoded
+     */
+    public void skipChildren() throws IOException, GedcomParserException {
+        if (line == null || pendingLine != null) {
+            return;
+        }
+        String l = readLine();
+        while (l != null) {
+            if (levelEnd(l) >= 0 && parseLevel(l) <= level) {
+                pendingLine = l;
+                return;
+            }
+            l = readLine();
+        }
+    }
+
+    /**
+     * Get the tag of the current line
+     * 
+     * @return the tag of the current line. The same tag is always represented by the same string instance.
+     */
+    public String tag() {
+        return tag;
+    }
+
+    /**
+     * Get the value of the current line - that is, everything after the tag and the space that follows it - as a new string
+     * 
+     * @return the value of the current line, or null if the line has no value
+     */
+    public String value() {
+        return valueStart < 0 ? null : line.substring(valueStart);
+    }
+
+    /**
+     * Get the value of the current line - that is, everything after the tag and the space that follows it - without making a new
+     * string. The returned object is reused, and reflects the new current line each time the cursor moves.
+     * 
+     * @return the value of the current line. If the line has no value, the sequence is empty.
+     */
+    public CharSequence valueAsCharSequence() {
+        return valueView;
+    }
+
+    /**
+     * Get the xref of the current line as a new string
+     * 
+     * @return the xref of the current line (including the @ signs), or null if the line has no xref
+     */
+    public String xref() {
+        return xrefStart < 0 ? null : line.substring(xrefStart, xrefEnd);
+    }
+
+    /**
+     * Is the character an ASCII digit?
+     * 
+     * @param c
+     *            the character
+     * @return true if the character is 0-9
+     */
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Get the index just past the level number at the beginning of a line
+     * 
+     * @param l
+     *            the line
+     * @return the index of the character after the space that follows the level number, or -1 if the line does not begin with a
+     *         1-2 digit level number followed by a space
+     */
+    private static int levelEnd(String l) {
+        int len = l.length();
+        if (len < 2 || !isDigit(l.charAt(0))) {
+            return -1;
+        }
+        if (l.charAt(1) == ' ') {
+            return 2;
+        }
+        if (len >= 3 && isDigit(l.charAt(1)) && l.charAt(2) == ' ') {
+            return 3;
+        }
+        return -1;
+    }
+
+    /**
+     * Parse the level number at the start of a line, which has already been checked with {@link #levelEnd(String)}
+     * 
+     * @param l
+     *            the line
+     * @return the level number
+     */
+    private static int parseLevel(String l) {
+        int result = l.charAt(0) - '0';
+        if (l.charAt(1) != ' ') {
+            result = result * 10 + l.charAt(1) - '0';
+        }
+        return result;
+    }
+
+    /**
+     * Find the xref, tag, and value of the current line
+     * 
+     * @param start
+     *            the index in the line just after the level number and its following space
+     * @throws GedcomParserException
+     *             if the xref is not terminated with an @ sign, or there is no tag
+     */
+    private void parsePieces(int start) throws GedcomParserException {
+        int len = line.length();
+        int idx = start;
+        xrefStart = -1;
+        if (idx < len && line.charAt(idx) == '@') {
+            while (idx < len && line.charAt(idx) != ' ') {
+                idx++;
+            }
+            if (line.charAt(idx - 1) != '@') {
+                throw new GedcomParserException("XRef ID begins with @ sign but is not terminated with one on line " + lineNumber);
+            }
+            xrefStart = start;
+            xrefEnd = idx;
+            idx++;
+        }
+
+        int tagStart = idx;
+        int hash = 0;
+        while (idx < len && line.charAt(idx) != ' ') {
+            hash = 31 * hash + line.charAt(idx++);
+        }
+        if (idx <= tagStart) {
+            throw new GedcomParserException("All GEDCOM lines are required to have a tag value, but no tag could be found on line "
+                    + lineNumber);
+        }
+        tag = pooledTag(tagStart, idx, hash);
+        valueStart = idx < len ? idx + 1 : -1;
+    }
+
+    /**
+     * Get the pooled string for a tag in the current line, adding it to the pool if needed
+     * 
+     * @param start
+     *            the index in the line where the tag starts
+     * @param end
+     *            the index in the line just past the end of the tag
+     * @param hash
+     *            the hash of the characters in the tag
+     * @return the pooled string for the tag
+     */
+    private String pooledTag(int start, int end, int hash) {
+        int slot = (hash ^ hash >>> 16) & TAG_POOL_SIZE - 1;
+        String pooled = tagPool[slot];
+        int len = end - start;
+        if (pooled != null && pooled.length() == len && line.regionMatches(start, pooled, 0, len)) {
+            return pooled;
+        }
+        pooled = line.substring(start, end).intern();
+        tagPool[slot] = pooled;
+        return pooled;
+    }
+
+    /**
+     * Read the next line from the file
+     * 
+     * @return the line, or null if there are no more lines
+     * @throws IOException
+     *             if there is a problem reading the data
+     * @throws GedcomParserException
+     *             if the data cannot be decoded
+     */
+    private String readLine() throws IOException, GedcomParserException {
+        String result = reader.nextLine();
+        if (result != null) {
+            linesRead++;
+        }
+        return result;
+    }
+}
@@ -30,8 +30,12 @@ import java.io.BufferedInputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.lang.ref.WeakReference;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.gedcom4j.exception.GedcomParserException;
@@ -39,6 +43,7 @@ import org.gedcom4j.exception.ParserCancelledException;
 import org.gedcom4j.io.event.FileProgressEvent;
 import org.gedcom4j.io.event.FileProgressListener;
 import org.gedcom4j.io.reader.GedcomFileReader;
+import org.gedcom4j.model.CustomFact;
 import org.gedcom4j.model.Family;
 import org.gedcom4j.model.Gedcom;
 import org.gedcom4j.model.Header;
@@ -68,6 +73,21 @@ import org.gedcom4j.parser.event.ParseProgressListener;
  * <li>Access the parser's <code>gedcom</code> property to access the parsed data</li>
  * </ol>
  * <p>
+ * Alternatively, to process files too large to hold in memory, register a {@link GedcomRecordHandler} with
+ * {@link #setRecordHandler(GedcomRecordHandler)} before loading. Each root-level record is then handed to the handler as soon as
+ * it is parsed and discarded afterwards, rather than being accumulated in the parser's <code>gedcom</code> property.
+ * </p>
+ * <p>
+ * To make use of multiple cores when loading large files, call {@link #setParallelism(int)} with the number of threads to parse
+ * root-level records on. The results are the same as for a sequential load.
+ * </p>
+ * <p>
+ * Files that are gzipped (such as <code>.ged.gz</code> files), or held in a zip archive alongside their multimedia files (such as
+ * GEDZIP files), can be loaded with any of the <code>load()</code> methods just like uncompressed files. The compression is
+ * recognized from the first bytes of the file, and the data is decompressed as it is read, without any temporary files. See
+ * {@link org.gedcom4j.io.encoding.Compression}.
+ * </p>
+ * <p>
  * It is <b>highly recommended</b> that after calling the <code>GedcomParser.load()</code> method, the user check the
  * {@link GedcomParser#errors} and {@link GedcomParser#warnings} collections to see if anything problematic was encountered in the
  * data while parsing. Most commonly, the <code>warnings</code> collection will have information about tags from GEDCOM 5.5.1 that
@@ -101,6 +121,12 @@ import org.gedcom4j.parser.event.ParseProgressListener;
 @SuppressWarnings({ "PMD.TooManyMethods", "PMD.GodClass" })
 public class GedcomParser extends AbstractParser<Gedcom> {
 
+    /**
+     * The tags of the root-level records this parser handles, in the order they used to be tested in
+     */
+    private static final TagTable<Tag> ROOT_TAGS = TagTable.of(Tag.HEADER, Tag.SUBMITTER, Tag.INDIVIDUAL, Tag.SUBMISSION, Tag.NOTE,
+            Tag.FAMILY, Tag.TRAILER, Tag.SOURCE, Tag.REPOSITORY, Tag.OBJECT_MULTIMEDIA);
+
     /**
      * The things that went wrong while parsing the gedcom file
      */
@@ -166,13 +192,40 @@ public class GedcomParser extends AbstractParser<Gedcom> {
     /**
      * The 1-based line number that we've most recently read, so starts at zero (when we haven't read any lines yet)
      */
-    private int lineNum;
+    private long lineNum;
 
     /**
      * Are we currently parsing somewhere inside a custom tag?
      */
     private boolean insideCustomTag;
 
+    /**
+     * The handler that root-level records are streamed to as they are parsed, if any. If null, records are accumulated in
+     * {@link #gedcom}.
+     */
+    private GedcomRecordHandler recordHandler;
+
+    /**
+     * The number of threads to parse root-level records on. 1 means records are parsed on the thread that reads the file.
+     */
+    private int parallelism = 1;
+
+    /**
+     * The helper for parsing root-level records in parallel, during a load where that is happening. Null otherwise.
+     */
+    private ParallelRecordLoader parallelLoader;
+
+    /**
+     * The pool of canonical string values that values read from the file are deduplicated through, for the whole parse session
+     */
+    private StringCanonicalizer stringCanonicalizer = new StringCanonicalizer();
+
+    /**
+     * Whether {@link #stringCanonicalizer} was supplied by the caller to be shared across parses, rather than made fresh for each
+     * load
+     */
+    private boolean stringCanonicalizerShared;
+
     /**
      * Default constructor
      */
@@ -217,6 +270,16 @@ public class GedcomParser extends AbstractParser<Gedcom> {
         return gedcom;
     }
 
+    /**
+     * Get the number of threads that root-level records are parsed on
+     * 
+     * @return the number of threads that root-level records are parsed on. 1 means records are parsed on the thread that reads the
+     *         file.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
     /**
      * Get the parse notification rate (the number of items that get parsed between each notification, if listening)
      * 
@@ -244,6 +307,26 @@ public class GedcomParser extends AbstractParser<Gedcom> {
         return readNotificationRate;
     }
 
+    /**
+     * Get the handler that root-level records are streamed to as they are parsed
+     * 
+     * @return the record handler, or null if records are accumulated in the {@link Gedcom} structure
+     */
+    public GedcomRecordHandler getRecordHandler() {
+        return recordHandler;
+    }
+
+    /**
+     * Get the pool of canonical string values that values read from the file are deduplicated through. Unless one has been
+     * supplied with {@link #setStringCanonicalizer(StringCanonicalizer)}, each load gets a fresh pool, which stays available
+     * afterwards so its statistics can be examined.
+     * 
+     * @return the string canonicalizer
+     */
+    public StringCanonicalizer getStringCanonicalizer() {
+        return stringCanonicalizer;
+    }
+
     /**
      * Get the warnings
      * 
@@ -300,38 +383,42 @@ public class GedcomParser extends AbstractParser<Gedcom> {
      *             if there is an error with parsing the data from the stream
      */
     public void load(BufferedInputStream bytes) throws IOException, GedcomParserException {
-        // Reset counters and stuff
-        gedcom = new Gedcom();
-        lineNum = 0;
-        errors.clear();
-        warnings.clear();
-        cancelled = false;
-
-        if (cancelled) {
-            throw new ParserCancelledException("File load/parse cancelled");
-        }
-        GedcomFileReader gfr = new GedcomFileReader(this, bytes);
-        stringTreeBuilder = new StringTreeBuilder(this);
-        String line = gfr.nextLine();
-        while (line != null) {
-
-            if (line.charAt(0) == '0') {
-                // We've hit the start of the next root node
-                parseAndLoadPreviousStringTree();
-            }
+        resetForLoad();
+        readAndParse(new GedcomFileReader(this, bytes));
+    }
 
-            lineNum++;
-            stringTreeBuilder.appendLine(line);
-            line = gfr.nextLine();
-            if (cancelled) {
-                throw new ParserCancelledException("File load/parse is cancelled");
-            }
-            if (lineNum % parseNotificationRate == 0) {
-                notifyParseObservers(new ParseProgressEvent(this, gedcom, false, lineNum));
-            }
+    /**
+     * Read data from a {@link FileChannel} and construct a {@link StringTree} object from its contents. The file is memory-mapped
+     * rather than read through a stream, which is considerably faster for large files. Reading begins at the channel's current
+     * position. The channel is not closed by this method.
+     * 
+     * @param channel
+     *            the channel over the file to load
+     * @throws IOException
+     *             if there is a problem reading the data from the channel
+     * @throws GedcomParserException
+     *             if there is an error with parsing the data from the channel
+     */
+    public void load(FileChannel channel) throws IOException, GedcomParserException {
+        resetForLoad();
+        readAndParse(new GedcomFileReader(this, channel));
+    }
 
+    /**
+     * Load a gedcom file at the supplied path. The file is memory-mapped rather than read through a stream, which is considerably
+     * faster for large files.
+     * 
+     * @param path
+     *            the path of the file to load
+     * @throws IOException
+     *             if the file cannot be read
+     * @throws GedcomParserException
+     *             if the file cannot be parsed
+     */
+    public void load(Path path) throws IOException, GedcomParserException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            load(channel);
         }
-        parseAndLoadPreviousStringTree();
     }
 
     /**
@@ -351,6 +438,59 @@ public class GedcomParser extends AbstractParser<Gedcom> {
         }
     }
 
+    /**
+     * Load a gedcom file at the supplied path lazily, holding records strongly once they are loaded. See
+     * {@link #loadLazily(Path, boolean)}.
+     * 
+     * @param path
+     *            the path of the file to load
+     * @throws IOException
+     *             if the file cannot be read
+     * @throws GedcomParserException
+     *             if the file cannot be parsed
+     */
+    public void loadLazily(Path path) throws IOException, GedcomParserException {
+        loadLazily(path, false);
+    }
+
+    /**
+     * <p>
+     * Load a gedcom file at the supplied path lazily. The file is memory-mapped, and one quick pass is made over its bytes to find
+     * where each root-level record is. The header, submission and trailer (and any custom root-level records) are parsed straight
+     * away, but individuals, families, sources, notes, repositories, multimedia and submitters are only parsed from the file when
+     * they are asked for from their maps in the {@link Gedcom} - so loading takes a fraction of the time and memory of a full load,
+     * and looking at a few records only costs as much as parsing those records.
+     * </p>
+     * <p>
+     * A few things work differently from a full load:
+     * </p>
+     * <ul>
+     * <li>When a record is parsed, the records it refers to are not. Their objects are filled in when they are asked for from
+     * their own maps, so navigate from one record to another through the maps rather than holding on to the objects you find in
+     * other records.</li>
+     * <li>Problems with lazily loaded records are added to {@link #getErrors()} and {@link #getWarnings()} when the records are
+     * parsed, rather than during this method.</li>
+     * <li>Iterating over the values or entries of a map, or comparing or copying the {@link Gedcom}, parses every record in the
+     * maps involved.</li>
+     * <li>The record handler and parallelism settings are not used.</li>
+     * <li>Compressed files cannot be loaded lazily.</li>
+     * </ul>
+     * 
+     * @param path
+     *            the path of the file to load
+     * @param softlyCached
+     *            if true, records are only held softly by their maps once they are parsed, so those that nothing else refers to
+     *            can be garbage collected, and are parsed again the next time they are asked for. Changes made to such records
+     *            can be lost, so they should be treated as read-only. If false, records stay in memory once they are parsed.
+     * @throws IOException
+     *             if the file cannot be read, or is compressed
+     * @throws GedcomParserException
+     *             if the file cannot be parsed
+     */
+    public void loadLazily(Path path, boolean softlyCached) throws IOException, GedcomParserException {
+        loadLazily(path, softlyCached, LazyRecordLoader.DEFAULT_CHUNK_SIZE);
+    }
+
     /**
      * Notify all listeners about the change
      * 
@@ -403,6 +543,23 @@ public class GedcomParser extends AbstractParser<Gedcom> {
         this.ignoreCustomTags = ignoreCustomTags;
     }
 
+    /**
+     * Set the number of threads that root-level records are parsed on. When this is more than 1, one thread reads the file and
+     * splits it into root-level records, and a pool of this many threads parses them. The resulting {@link Gedcom}, errors, and
+     * warnings are the same as for a sequential load. This setting is ignored when a {@link GedcomRecordHandler} is set, since
+     * records are handed to the handler one at a time in file order.
+     * 
+     * @param parallelism
+     *            the number of threads to parse root-level records on. Must be at least 1. 1 (the default) means records are
+     *            parsed on the thread that reads the file.
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.parallelism = parallelism;
+    }
+
     /**
      * Set the parse notification rate (the number of items that get parsed between each notification, if listening)
      * 
@@ -430,6 +587,31 @@ public class GedcomParser extends AbstractParser<Gedcom> {
         this.readNotificationRate = readNotificationRate;
     }
 
+    /**
+     * Set the handler that root-level records are streamed to as they are parsed. When a handler is set, each record is handed to
+     * it and then discarded, so the {@link Gedcom} structure from {@link #getGedcom()} will only have a header (and submission,
+     * if any) after loading.
+     * 
+     * @param recordHandler
+     *            the record handler. Pass null to go back to accumulating records in the {@link Gedcom} structure.
+     */
+    public void setRecordHandler(GedcomRecordHandler recordHandler) {
+        this.recordHandler = recordHandler;
+    }
+
+    /**
+     * Supply a pool of canonical string values to deduplicate values read from the file through. The pool is kept across loads,
+     * and can be shared with other parsers (including ones loading at the same time), so that values repeated across files are
+     * only kept once.
+     * 
+     * @param stringCanonicalizer
+     *            the string canonicalizer to use. Pass null to go back to using a fresh pool for each load.
+     */
+    public void setStringCanonicalizer(StringCanonicalizer stringCanonicalizer) {
+        stringCanonicalizerShared = stringCanonicalizer != null;
+        this.stringCanonicalizer = stringCanonicalizerShared ? stringCanonicalizer : new StringCanonicalizer();
+    }
+
     /**
      * Set the strictCustomTags
      * 
@@ -488,12 +670,44 @@ public class GedcomParser extends AbstractParser<Gedcom> {
         parseObservers.add(new WeakReference<>(observer));
     }
 
+    /**
+     * Add an error found while parsing. During a parallel load, the error is kept with the record being parsed until all the
+     * records before it are complete, so the errors end up in file order.
+     * 
+     * @param error
+     *            the text of the error
+     */
+    void addParseError(String error) {
+        ParallelRecordLoader loader = parallelLoader;
+        if (loader == null) {
+            errors.add(error);
+        } else {
+            loader.getCurrentContext().errors.add(error);
+        }
+    }
+
+    /**
+     * Add a warning found while parsing. During a parallel load, the warning is kept with the record being parsed until all the
+     * records before it are complete, so the warnings end up in file order.
+     * 
+     * @param warning
+     *            the text of the warning
+     */
+    void addParseWarning(String warning) {
+        ParallelRecordLoader loader = parallelLoader;
+        if (loader == null) {
+            warnings.add(warning);
+        } else {
+            loader.getCurrentContext().warnings.add(warning);
+        }
+    }
+
     /**
      * Get the line number we're reading
      * 
      * @return the line number we're reading
      */
-    int getLineNum() {
+    long getLineNum() {
         return lineNum;
     }
 
@@ -503,7 +717,115 @@ public class GedcomParser extends AbstractParser<Gedcom> {
      * @return the insideCustomTag
      */
     boolean isInsideCustomTag() {
-        return insideCustomTag;
+        ParallelRecordLoader loader = parallelLoader;
+        return loader == null ? insideCustomTag : loader.getCurrentContext().insideCustomTag;
+    }
+
+    /**
+     * Load a gedcom file lazily, mapping it in chunks of the supplied size
+     * 
+     * @param path
+     *            the path of the file to load
+     * @param softlyCached
+     *            whether records are only held softly by their maps once they are parsed
+     * @param chunkSize
+     *            the size of the chunks to map the file in. Must be even.
+     * @throws IOException
+     *             if the file cannot be read
+     * @throws GedcomParserException
+     *             if the file cannot be parsed
+     */
+    void loadLazily(Path path, boolean softlyCached, int chunkSize) throws IOException, GedcomParserException {
+        resetForLoad();
+        LazyRecordLoader loader;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            loader = new LazyRecordLoader(this, channel, softlyCached, chunkSize);
+        }
+        gedcom = loader.newGedcom();
+        lineNum = loader.index();
+    }
+
+    /**
+     * Load a single root-level item. During a parallel load, this is called on several threads at once.
+     * 
+     * @param rootLevelItem
+     *            the string tree for the root level item
+     * @throws GedcomParserException
+     *             if the data cannot be parsed because it's not in the format expected
+     */
+    void loadRootItem(StringTree rootLevelItem) throws GedcomParserException {
+        Tag tag = ROOT_TAGS.get(rootLevelItem.getTag());
+        if (tag == null) {
+            unknownTag(rootLevelItem, gedcom);
+            return;
+        }
+        switch (tag) {
+            case HEADER: {
+                Header header = gedcom.getHeader();
+                if (header == null) {
+                    header = new Header();
+                    gedcom.setHeader(header);
+                }
+                new HeaderParser(this, rootLevelItem, header).parse();
+                break;
+            }
+            case SUBMITTER: {
+                Submitter submitter = getSubmitter(rootLevelItem.getXref());
+                new SubmitterParser(this, rootLevelItem, submitter).parse();
+                break;
+            }
+            case INDIVIDUAL: {
+                Individual i = getIndividual(rootLevelItem.getXref());
+                new IndividualParser(this, rootLevelItem, i).parse();
+                break;
+            }
+            case SUBMISSION: {
+                Submission s = new Submission(rootLevelItem.getXref());
+                gedcom.setSubmission(s);
+                if (gedcom.getHeader() == null) {
+                    gedcom.setHeader(new Header());
+                }
+                if (gedcom.getHeader().getSubmissionReference() == null) {
+                    /*
+                     * The GEDCOM spec puts a cross reference to the root-level SUBN element in the HEAD structure. Now that we have a
+                     * submission object, represent that cross reference in the header object
+                     */
+                    gedcom.getHeader().setSubmissionReference(new SubmissionReference(s));
+                }
+                new SubmissionParser(this, rootLevelItem, s).parse();
+                break;
+            }
+            case NOTE: {
+                NoteRecord nr = getNoteRecord(rootLevelItem.getXref());
+                new NoteRecordParser(this, rootLevelItem, nr).parse();
+                break;
+            }
+            case FAMILY: {
+                Family f = getFamily(rootLevelItem.getXref());
+                new FamilyParser(this, rootLevelItem, f).parse();
+                break;
+            }
+            case TRAILER:
+                gedcom.setTrailer(new Trailer());
+                break;
+            case SOURCE: {
+                Source s = getSource(rootLevelItem.getXref());
+                new SourceParser(this, rootLevelItem, s).parse();
+                break;
+            }
+            case REPOSITORY: {
+                Repository r = getRepository(rootLevelItem.getXref());
+                new RepositoryParser(this, rootLevelItem, r).parse();
+                break;
+            }
+            case OBJECT_MULTIMEDIA: {
+                Multimedia multimedia = getMultimedia(rootLevelItem.getXref());
+                new MultimediaParser(this, rootLevelItem, multimedia).parse();
+                break;
+            }
+            default:
+                unknownTag(rootLevelItem, gedcom);
+        }
     }
 
     /**
@@ -524,64 +846,78 @@ public class GedcomParser extends AbstractParser<Gedcom> {
      *            the insideCustomTag to set
      */
     void setInsideCustomTag(boolean insideCustomTag) {
-        this.insideCustomTag = insideCustomTag;
+        ParallelRecordLoader loader = parallelLoader;
+        if (loader == null) {
+            this.insideCustomTag = insideCustomTag;
+        } else {
+            loader.getCurrentContext().insideCustomTag = insideCustomTag;
+        }
+    }
+
+    /**
+     * Note that a record was looked up by xref (and created, if it didn't exist yet). During a parallel load this is used to put
+     * the maps of records in the same order that a sequential load would; otherwise it does nothing.
+     * 
+     * @param map
+     *            the map of records in the {@link Gedcom} that the xref was looked up in
+     * @param xref
+     *            the xref that was looked up
+     */
+    void xrefUsed(Map<String, ?> map, String xref) {
+        ParallelRecordLoader loader = parallelLoader;
+        if (loader != null) {
+            ParallelRecordLoader.RecordContext context = loader.getCurrentContext();
+            context.xrefMapsUsed.add(map);
+            context.xrefsUsed.add(xref);
+        }
     }
 
     /**
-     * Load a single root-level item
+     * Hand a root-level item that has just been loaded to the {@link #recordHandler}, then discard it and any placeholder records
+     * it created for its cross-references, so nothing accumulates in the {@link Gedcom} structure
      * 
      * @param rootLevelItem
-     *            the string tree for the root level item
-     * @throws GedcomParserException
-     *             if the data cannot be parsed because it's not in the format expected
+     *            the string tree for the root level item that was just loaded
      */
-    private void loadRootItem(StringTree rootLevelItem) throws GedcomParserException {
-        if (Tag.HEADER.equalsText(rootLevelItem.getTag())) {
-            Header header = gedcom.getHeader();
-            if (header == null) {
-                header = new Header();
-                gedcom.setHeader(header);
+    private void handOffRootItem(StringTree rootLevelItem) {
+        String tag = rootLevelItem.getTag();
+        String xref = rootLevelItem.getXref();
+        if (Tag.HEADER.equalsText(tag)) {
+            recordHandler.onHeader(gedcom.getHeader());
+        } else if (Tag.SUBMITTER.equalsText(tag)) {
+            recordHandler.onSubmitter(gedcom.getSubmitters().get(xref));
+        } else if (Tag.INDIVIDUAL.equalsText(tag)) {
+            recordHandler.onIndividual(gedcom.getIndividuals().get(xref));
+        } else if (Tag.SUBMISSION.equalsText(tag)) {
+            recordHandler.onSubmission(gedcom.getSubmission());
+        } else if (Tag.NOTE.equalsText(tag)) {
+            recordHandler.onNote(gedcom.getNotes().get(xref));
+        } else if (Tag.FAMILY.equalsText(tag)) {
+            recordHandler.onFamily(gedcom.getFamilies().get(xref));
+        } else if (Tag.TRAILER.equalsText(tag)) {
+            recordHandler.onTrailer(gedcom.getTrailer());
+        } else if (Tag.SOURCE.equalsText(tag)) {
+            recordHandler.onSource(gedcom.getSources().get(xref));
+        } else if (Tag.REPOSITORY.equalsText(tag)) {
+            recordHandler.onRepository(gedcom.getRepositories().get(xref));
+        } else if (Tag.OBJECT_MULTIMEDIA.equalsText(tag)) {
+            recordHandler.onMultimedia(gedcom.getMultimedia().get(xref));
+        } else if (gedcom.getCustomFacts() != null) {
+            for (CustomFact cf : gedcom.getCustomFacts()) {
+                recordHandler.onCustomFact(cf);
             }
-            new HeaderParser(this, rootLevelItem, header).parse();
-        } else if (Tag.SUBMITTER.equalsText(rootLevelItem.getTag())) {
-            Submitter submitter = getSubmitter(rootLevelItem.getXref());
-            new SubmitterParser(this, rootLevelItem, submitter).parse();
-        } else if (Tag.INDIVIDUAL.equalsText(rootLevelItem.getTag())) {
-            Individual i = getIndividual(rootLevelItem.getXref());
-            new IndividualParser(this, rootLevelItem, i).parse();
-        } else if (Tag.SUBMISSION.equalsText(rootLevelItem.getTag())) {
-            Submission s = new Submission(rootLevelItem.getXref());
-            gedcom.setSubmission(s);
-            if (gedcom.getHeader() == null) {
-                gedcom.setHeader(new Header());
-            }
-            if (gedcom.getHeader().getSubmissionReference() == null) {
-                /*
-                 * The GEDCOM spec puts a cross reference to the root-level SUBN element in the HEAD structure. Now that we have a
-                 * submission object, represent that cross reference in the header object
-                 */
-                gedcom.getHeader().setSubmissionReference(new SubmissionReference(s));
-            }
-            new SubmissionParser(this, rootLevelItem, s).parse();
-        } else if (Tag.NOTE.equalsText(rootLevelItem.getTag())) {
-            NoteRecord nr = getNoteRecord(rootLevelItem.getXref());
-            new NoteRecordParser(this, rootLevelItem, nr).parse();
-        } else if (Tag.FAMILY.equalsText(rootLevelItem.getTag())) {
-            Family f = getFamily(rootLevelItem.getXref());
-            new FamilyParser(this, rootLevelItem, f).parse();
-        } else if (Tag.TRAILER.equalsText(rootLevelItem.getTag())) {
-            gedcom.setTrailer(new Trailer());
-        } else if (Tag.SOURCE.equalsText(rootLevelItem.getTag())) {
-            Source s = getSource(rootLevelItem.getXref());
-            new SourceParser(this, rootLevelItem, s).parse();
-        } else if (Tag.REPOSITORY.equalsText(rootLevelItem.getTag())) {
-            Repository r = getRepository(rootLevelItem.getXref());
-            new RepositoryParser(this, rootLevelItem, r).parse();
-        } else if (Tag.OBJECT_MULTIMEDIA.equalsText(rootLevelItem.getTag())) {
-            Multimedia multimedia = getMultimedia(rootLevelItem.getXref());
-            new MultimediaParser(this, rootLevelItem, multimedia).parse();
-        } else {
-            unknownTag(rootLevelItem, gedcom);
+        }
+
+        gedcom.getFamilies().clear();
+        gedcom.getIndividuals().clear();
+        gedcom.getMultimedia().clear();
+        gedcom.getNotes().clear();
+        gedcom.getRepositories().clear();
+        gedcom.getSources().clear();
+        gedcom.getSubmitters().clear();
+        gedcom.setTrailer(null);
+        if (gedcom.getCustomFacts() != null) {
+            gedcom.getCustomFacts().clear();
         }
     }
 
@@ -623,10 +959,79 @@ public class GedcomParser extends AbstractParser<Gedcom> {
                 throw new GedcomParserException("Expected a root level item in the buffer, but found " + rootLevelItem.getLevel()
                         + " " + rootLevelItem.getTag() + " from line " + lineNum);
             }
-            loadRootItem(rootLevelItem);
+            if (parallelLoader != null) {
+                parallelLoader.recordComplete(rootLevelItem);
+            } else {
+                loadRootItem(rootLevelItem);
+                if (recordHandler != null) {
+                    handOffRootItem(rootLevelItem);
+                }
+            }
             // And discard it, now that it's loaded
             stringTreeBuilder = new StringTreeBuilder(this);
         }
     }
 
+    /**
+     * Read all the lines from the supplied reader, assembling them into string trees and loading each root-level item into the
+     * object model as it is completed
+     * 
+     * @param gfr
+     *            the reader to get lines from
+     * @throws IOException
+     *             if there is a problem reading the data from the reader
+     * @throws GedcomParserException
+     *             if there is an error with parsing the data
+     */
+    private void readAndParse(GedcomFileReader gfr) throws IOException, GedcomParserException {
+        stringTreeBuilder = new StringTreeBuilder(this);
+        if (parallelism > 1 && recordHandler == null) {
+            parallelLoader = new ParallelRecordLoader(this, parallelism);
+        }
+        try {
+            String line = gfr.nextLine();
+            while (line != null) {
+
+                if (line.charAt(0) == '0') {
+                    // We've hit the start of the next root node
+                    parseAndLoadPreviousStringTree();
+                }
+
+                lineNum++;
+                stringTreeBuilder.appendLine(line);
+                line = gfr.nextLine();
+                if (cancelled) {
+                    throw new ParserCancelledException("File load/parse is cancelled");
+                }
+                if (lineNum % parseNotificationRate == 0) {
+                    notifyParseObservers(new ParseProgressEvent(this, gedcom, false, lineNum));
+                }
+
+            }
+            parseAndLoadPreviousStringTree();
+            if (parallelLoader != null) {
+                parallelLoader.finish();
+            }
+        } finally {
+            if (parallelLoader != null) {
+                parallelLoader.shutdown();
+                parallelLoader = null;
+            }
+        }
+    }
+
+    /**
+     * Reset counters and collections in preparation for a new load
+     */
+    private void resetForLoad() {
+        gedcom = new Gedcom();
+        lineNum = 0;
+        errors.clear();
+        warnings.clear();
+        cancelled = false;
+        if (!stringCanonicalizerShared) {
+            stringCanonicalizer = new StringCanonicalizer();
+        }
+    }
+
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import org.gedcom4j.model.CustomFact;
+import org.gedcom4j.model.Family;
+import org.gedcom4j.model.Header;
+import org.gedcom4j.model.Individual;
+import org.gedcom4j.model.Multimedia;
+import org.gedcom4j.model.NoteRecord;
+import org.gedcom4j.model.Repository;
+import org.gedcom4j.model.Source;
+import org.gedcom4j.model.Submission;
+import org.gedcom4j.model.Submitter;
+import org.gedcom4j.model.Trailer;
+
+/**
+ * <p>
+ * Interface for receiving root-level records one at a time as they are parsed, rather than having the whole file loaded into a
+ * {@link org.gedcom4j.model.Gedcom} structure. Register an implementation with
+ * {@link GedcomParser#setRecordHandler(GedcomRecordHandler)} before calling one of the <code>GedcomParser.load()</code> methods.
+ * </p>
+ * <p>
+ * Each record is fully parsed (including all its child structures) before it is handed over, and the parser keeps no reference
+ * to it afterwards, so memory use stays flat no matter how large the file is. Because records are not retained, cross-references
+ * inside a record (for example, the families an individual is a child in) point to placeholder objects that only have their xref
+ * populated - they are not the fully-parsed records with the same xrefs. The header is the exception: it is retained by the parser
+ * for the duration of the load, since the rest of the parse depends on it.
+ * </p>
+ * <p>
+ * Records are handed over in the order they appear in the file. {@link GedcomRecordHandlerAdapter} provides empty implementations
+ * of all the methods, for when only some kinds of records are of interest.
+ * </p>
+ * 
+ * @author frizbog
+ */
+public interface GedcomRecordHandler {
+
+    /**
+     * A root-level custom fact (i.e., a non-standard tag at level 0) has been parsed
+     * 
+     * @param customFact
+     *            the custom fact
+     */
+    void onCustomFact(CustomFact customFact);
+
+    /**
+     * A family record has been parsed
+     * 
+     * @param family
+     *            the family
+     */
+    void onFamily(Family family);
+
+    /**
+     * The header has been parsed
+     * 
+     * @param header
+     *            the header
+     */
+    void onHeader(Header header);
+
+    /**
+     * An individual record has been parsed
+     * 
+     * @param individual
+     *            the individual
+     */
+    void onIndividual(Individual individual);
+
+    /**
+     * A multimedia record has been parsed
+     * 
+     * @param multimedia
+     *            the multimedia record
+     */
+    void onMultimedia(Multimedia multimedia);
+
+    /**
+     * A note record has been parsed
+     * 
+     * @param note
+     *            the note record
+     */
+    void onNote(NoteRecord note);
+
+    /**
+     * A repository record has been parsed
+     * 
+     * @param repository
+     *            the repository
+     */
+    void onRepository(Repository repository);
+
+    /**
+     * A source record has been parsed
+     * 
+     * @param source
+     *            the source
+     */
+    void onSource(Source source);
+
+    /**
+     * The submission record has been parsed
+     * 
+     * @param submission
+     *            the submission
+     */
+    void onSubmission(Submission submission);
+
+    /**
+     * A submitter record has been parsed
+     * 
+     * @param submitter
+     *            the submitter
+     */
+    void onSubmitter(Submitter submitter);
+
+    /**
+     * The trailer has been reached
+     * 
+     * @param trailer
+     *            the trailer
+     */
+    void onTrailer(Trailer trailer);
+}
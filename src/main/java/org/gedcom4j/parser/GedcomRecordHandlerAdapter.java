@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import org.gedcom4j.model.CustomFact;
+import org.gedcom4j.model.Family;
+import org.gedcom4j.model.Header;
+import org.gedcom4j.model.Individual;
+import org.gedcom4j.model.Multimedia;
+import org.gedcom4j.model.NoteRecord;
+import org.gedcom4j.model.Repository;
+import org.gedcom4j.model.Source;
+import org.gedcom4j.model.Submission;
+import org.gedcom4j.model.Submitter;
+import org.gedcom4j.model.Trailer;
+
+/**
+ * An implementation of {@link GedcomRecordHandler} that does nothing with any of the records. Extend this class and override the
+ * methods for the kinds of records of interest.
+ * 
+ * @author frizbog
+ */
+public class GedcomRecordHandlerAdapter implements GedcomRecordHandler {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onCustomFact(CustomFact customFact) {
+        // Does nothing by default
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onFamily(Family family) {
+        // Does nothing by default
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onHeader(Header header) {
+        // Does nothing by default
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onIndividual(Individual individual) {
+        // Does nothing by default
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onMultimedia(Multimedia multimedia) {
+        // Does nothing by default
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onNote(NoteRecord note) {
+        // Does nothing by default
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onRepository(Repository repository) {
+        // Does nothing by default
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onSource(Source source) {
+        // Does nothing by default
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onSubmission(Submission submission) {
+        // Does nothing by default
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onSubmitter(Submitter submitter) {
+        // Does nothing by default
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onTrailer(Trailer trailer) {
+        // Does nothing by default
+    }
+}
@@ -55,6 +55,59 @@ import org.gedcom4j.model.enumerations.LdsIndividualOrdinanceType;
  */
 class IndividualParser extends AbstractParser<Individual> {
 
+    /**
+     * The kinds of child nodes an individual can have. Each individual event, attribute, and LDS ordinance tag is grouped under a
+     * single constant, since they are all parsed the same way.
+     */
+    private enum ChildTag {
+        NAME, SEX, ADDRESS, PHONE, WEB_ADDRESS, FAX, EMAIL, EVENT, ATTRIBUTE, LDS_ORDINANCE, NOTE, CHANGED_DATETIME,
+        RECORD_ID_NUMBER, REGISTRATION_FILE_NUMBER, OBJECT_MULTIMEDIA, RESTRICTION, SOURCE, ALIAS, FAMILY_WHERE_SPOUSE,
+        FAMILY_WHERE_CHILD, ASSOCIATION, ANCESTOR_INTEREST, DESCENDANT_INTEREST, ANCESTRAL_FILE_NUMBER, REFERENCE, SUBMITTER;
+    }
+
+    /**
+     * The tags of the child nodes this parser handles
+     */
+    private static final TagTable<ChildTag> CHILD_TAGS = new TagTable<>();
+
+    static {
+        /*
+         * Added in the order the tags used to be tested in, so any tag that could match more than one entry resolves the same way
+         */
+        CHILD_TAGS.add(Tag.NAME.tagText, ChildTag.NAME);
+        CHILD_TAGS.add(Tag.SEX.tagText, ChildTag.SEX);
+        CHILD_TAGS.add(Tag.ADDRESS.tagText, ChildTag.ADDRESS);
+        CHILD_TAGS.add(Tag.PHONE.tagText, ChildTag.PHONE);
+        CHILD_TAGS.add(Tag.WEB_ADDRESS.tagText, ChildTag.WEB_ADDRESS);
+        CHILD_TAGS.add(Tag.FAX.tagText, ChildTag.FAX);
+        CHILD_TAGS.add(Tag.EMAIL.tagText, ChildTag.EMAIL);
+        for (IndividualEventType t : IndividualEventType.values()) {
+            CHILD_TAGS.add(t.getTag(), ChildTag.EVENT);
+        }
+        for (IndividualAttributeType t : IndividualAttributeType.values()) {
+            CHILD_TAGS.add(t.getTag(), ChildTag.ATTRIBUTE);
+        }
+        for (LdsIndividualOrdinanceType t : LdsIndividualOrdinanceType.values()) {
+            CHILD_TAGS.add(t.getTag(), ChildTag.LDS_ORDINANCE);
+        }
+        CHILD_TAGS.add(Tag.NOTE.tagText, ChildTag.NOTE);
+        CHILD_TAGS.add(Tag.CHANGED_DATETIME.tagText, ChildTag.CHANGED_DATETIME);
+        CHILD_TAGS.add(Tag.RECORD_ID_NUMBER.tagText, ChildTag.RECORD_ID_NUMBER);
+        CHILD_TAGS.add(Tag.REGISTRATION_FILE_NUMBER.tagText, ChildTag.REGISTRATION_FILE_NUMBER);
+        CHILD_TAGS.add(Tag.OBJECT_MULTIMEDIA.tagText, ChildTag.OBJECT_MULTIMEDIA);
+        CHILD_TAGS.add(Tag.RESTRICTION.tagText, ChildTag.RESTRICTION);
+        CHILD_TAGS.add(Tag.SOURCE.tagText, ChildTag.SOURCE);
+        CHILD_TAGS.add(Tag.ALIAS.tagText, ChildTag.ALIAS);
+        CHILD_TAGS.add(Tag.FAMILY_WHERE_SPOUSE.tagText, ChildTag.FAMILY_WHERE_SPOUSE);
+        CHILD_TAGS.add(Tag.FAMILY_WHERE_CHILD.tagText, ChildTag.FAMILY_WHERE_CHILD);
+        CHILD_TAGS.add(Tag.ASSOCIATION.tagText, ChildTag.ASSOCIATION);
+        CHILD_TAGS.add(Tag.ANCESTOR_INTEREST.tagText, ChildTag.ANCESTOR_INTEREST);
+        CHILD_TAGS.add(Tag.DESCENDANT_INTEREST.tagText, ChildTag.DESCENDANT_INTEREST);
+        CHILD_TAGS.add(Tag.ANCESTRAL_FILE_NUMBER.tagText, ChildTag.ANCESTRAL_FILE_NUMBER);
+        CHILD_TAGS.add(Tag.REFERENCE.tagText, ChildTag.REFERENCE);
+        CHILD_TAGS.add(Tag.SUBMITTER.tagText, ChildTag.SUBMITTER);
+    }
+
     /**
      * Constructor
      * 
@@ -77,96 +130,140 @@ class IndividualParser extends AbstractParser<Individual> {
     void parse() {
         if (stringTree.getChildren() != null) {
             for (StringTree ch : stringTree.getChildren()) {
-                if (Tag.NAME.equalsText(ch.getTag())) {
-                    PersonalName pn = new PersonalName();
-                    loadInto.getNames(true).add(pn);
-                    new PersonalNameParser(gedcomParser, ch, pn).parse();
-                } else if (Tag.SEX.equalsText(ch.getTag())) {
-                    loadInto.setSex(parseStringWithCustomFacts(ch));
-                } else if (Tag.ADDRESS.equalsText(ch.getTag())) {
-                    Address address = new Address();
-                    loadInto.setAddress(address);
-                    new AddressParser(gedcomParser, ch, address).parse();
-                } else if (Tag.PHONE.equalsText(ch.getTag())) {
-                    loadInto.getPhoneNumbers(true).add(parseStringWithCustomFacts(ch));
-                } else if (Tag.WEB_ADDRESS.equalsText(ch.getTag())) {
-                    loadInto.getWwwUrls(true).add(parseStringWithCustomFacts(ch));
-                    if (g55()) {
-                        addWarning("GEDCOM version is 5.5 but WWW URL was specified for individual " + loadInto.getXref()
-                                + " on line " + ch.getLineNum() + ", which is a GEDCOM 5.5.1 feature."
-                                + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
+                ChildTag tag = CHILD_TAGS.get(ch.getTag());
+                if (tag == null) {
+                    unknownTag(ch, loadInto);
+                    continue;
+                }
+                switch (tag) {
+                    case NAME: {
+                        PersonalName pn = new PersonalName();
+                        loadInto.getNames(true).add(pn);
+                        new PersonalNameParser(gedcomParser, ch, pn).parse();
+                        break;
                     }
-                } else if (Tag.FAX.equalsText(ch.getTag())) {
-                    loadInto.getFaxNumbers(true).add(parseStringWithCustomFacts(ch));
-                    if (g55()) {
-                        addWarning("GEDCOM version is 5.5 but fax was specified for individual " + loadInto.getXref() + "on line "
-                                + ch.getLineNum() + ", which is a GEDCOM 5.5.1 feature."
-                                + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
+                    case SEX:
+                        loadInto.setSex(parseStringWithCustomFacts(ch));
+                        break;
+                    case ADDRESS: {
+                        Address address = new Address();
+                        loadInto.setAddress(address);
+                        new AddressParser(gedcomParser, ch, address).parse();
+                        break;
                     }
-                } else if (Tag.EMAIL.equalsText(ch.getTag())) {
-                    loadInto.getEmails(true).add(parseStringWithCustomFacts(ch));
-                    if (g55()) {
-                        addWarning("GEDCOM version is 5.5 but email was specified for individual " + loadInto.getXref()
-                                + " on line " + ch.getLineNum() + ", which is a GEDCOM 5.5.1 feature."
-                                + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
+                    case PHONE:
+                        loadInto.getPhoneNumbers(true).add(parseStringWithCustomFacts(ch));
+                        break;
+                    case WEB_ADDRESS:
+                        loadInto.getWwwUrls(true).add(parseStringWithCustomFacts(ch));
+                        if (g55()) {
+                            addWarning("GEDCOM version is 5.5 but WWW URL was specified for individual " + loadInto.getXref()
+                                    + " on line " + ch.getLineNum() + ", which is a GEDCOM 5.5.1 feature."
+                                    + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
+                        }
+                        break;
+                    case FAX:
+                        loadInto.getFaxNumbers(true).add(parseStringWithCustomFacts(ch));
+                        if (g55()) {
+                            addWarning("GEDCOM version is 5.5 but fax was specified for individual " + loadInto.getXref() + "on line "
+                                    + ch.getLineNum() + ", which is a GEDCOM 5.5.1 feature."
+                                    + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
+                        }
+                        break;
+                    case EMAIL:
+                        loadInto.getEmails(true).add(parseStringWithCustomFacts(ch));
+                        if (g55()) {
+                            addWarning("GEDCOM version is 5.5 but email was specified for individual " + loadInto.getXref()
+                                    + " on line " + ch.getLineNum() + ", which is a GEDCOM 5.5.1 feature."
+                                    + "  Data loaded but cannot be re-written unless GEDCOM version changes.");
+                        }
+                        break;
+                    case EVENT: {
+                        IndividualEvent event = new IndividualEvent();
+                        loadInto.getEvents(true).add(event);
+                        new IndividualEventParser(gedcomParser, ch, event).parse();
+                        break;
                     }
-                } else if (IndividualEventType.isValidTag(ch.getTag())) {
-                    IndividualEvent event = new IndividualEvent();
-                    loadInto.getEvents(true).add(event);
-                    new IndividualEventParser(gedcomParser, ch, event).parse();
-                } else if (IndividualAttributeType.isValidTag(ch.getTag())) {
-                    IndividualAttribute a = new IndividualAttribute();
-                    loadInto.getAttributes(true).add(a);
-                    new IndividualAttributeParser(gedcomParser, ch, a).parse();
-                } else if (LdsIndividualOrdinanceType.isValidTag(ch.getTag())) {
-                    LdsIndividualOrdinance ord = new LdsIndividualOrdinance();
-                    loadInto.getLdsIndividualOrdinances(true).add(ord);
-                    new LdsIndividualOrdinanceParser(gedcomParser, ch, ord).parse();
-                } else if (Tag.NOTE.equalsText(ch.getTag())) {
-                    List<NoteStructure> notes = loadInto.getNoteStructures(true);
-                    new NoteStructureListParser(gedcomParser, ch, notes).parse();
-                } else if (Tag.CHANGED_DATETIME.equalsText(ch.getTag())) {
-                    ChangeDate changeDate = new ChangeDate();
-                    loadInto.setChangeDate(changeDate);
-                    new ChangeDateParser(gedcomParser, ch, changeDate).parse();
-                } else if (Tag.RECORD_ID_NUMBER.equalsText(ch.getTag())) {
-                    loadInto.setRecIdNumber(parseStringWithCustomFacts(ch));
-                } else if (Tag.REGISTRATION_FILE_NUMBER.equalsText(ch.getTag())) {
-                    loadInto.setPermanentRecFileNumber(parseStringWithCustomFacts(ch));
-                } else if (Tag.OBJECT_MULTIMEDIA.equalsText(ch.getTag())) {
-                    List<MultimediaReference> multimedia = loadInto.getMultimedia(true);
-                    new MultimediaLinkParser(gedcomParser, ch, multimedia).parse();
-                } else if (Tag.RESTRICTION.equalsText(ch.getTag())) {
-                    loadInto.setRestrictionNotice(parseStringWithCustomFacts(ch));
-                } else if (Tag.SOURCE.equalsText(ch.getTag())) {
-                    List<AbstractCitation> citations = loadInto.getCitations(true);
-                    new CitationListParser(gedcomParser, ch, citations).parse();
-                } else if (Tag.ALIAS.equalsText(ch.getTag())) {
-                    loadInto.getAliases(true).add(parseStringWithCustomFacts(ch));
-                } else if (Tag.FAMILY_WHERE_SPOUSE.equalsText(ch.getTag())) {
-                    loadFamilyWhereSpouse(ch, loadInto.getFamiliesWhereSpouse(true));
-                } else if (Tag.FAMILY_WHERE_CHILD.equalsText(ch.getTag())) {
-                    FamilyChild fc = new FamilyChild();
-                    loadInto.getFamiliesWhereChild(true).add(fc);
-                    new FamilyChildParser(gedcomParser, ch, fc).parse();
-                } else if (Tag.ASSOCIATION.equalsText(ch.getTag())) {
-                    Association a = new Association();
-                    loadInto.getAssociations(true).add(a);
-                    new AssociationParser(gedcomParser, ch, a).parse();
-                } else if (Tag.ANCESTOR_INTEREST.equalsText(ch.getTag())) {
-                    loadInto.getAncestorInterest(true).add(getSubmitter(ch.getValue()));
-                } else if (Tag.DESCENDANT_INTEREST.equalsText(ch.getTag())) {
-                    loadInto.getDescendantInterest(true).add(getSubmitter(ch.getValue()));
-                } else if (Tag.ANCESTRAL_FILE_NUMBER.equalsText(ch.getTag())) {
-                    loadInto.setAncestralFileNumber(parseStringWithCustomFacts(ch));
-                } else if (Tag.REFERENCE.equalsText(ch.getTag())) {
-                    UserReference u = new UserReference();
-                    loadInto.getUserReferences(true).add(u);
-                    new UserReferenceParser(gedcomParser, ch, u).parse();
-                } else if (Tag.SUBMITTER.equalsText(ch.getTag())) {
-                    loadInto.getSubmitters(true).add(getSubmitter(ch.getValue()));
-                } else {
-                    unknownTag(ch, loadInto);
+                    case ATTRIBUTE: {
+                        IndividualAttribute a = new IndividualAttribute();
+                        loadInto.getAttributes(true).add(a);
+                        new IndividualAttributeParser(gedcomParser, ch, a).parse();
+                        break;
+                    }
+                    case LDS_ORDINANCE: {
+                        LdsIndividualOrdinance ord = new LdsIndividualOrdinance();
+                        loadInto.getLdsIndividualOrdinances(true).add(ord);
+                        new LdsIndividualOrdinanceParser(gedcomParser, ch, ord).parse();
+                        break;
+                    }
+                    case NOTE: {
+                        List<NoteStructure> notes = loadInto.getNoteStructures(true);
+                        new NoteStructureListParser(gedcomParser, ch, notes).parse();
+                        break;
+                    }
+                    case CHANGED_DATETIME: {
+                        ChangeDate changeDate = new ChangeDate();
+                        loadInto.setChangeDate(changeDate);
+                        new ChangeDateParser(gedcomParser, ch, changeDate).parse();
+                        break;
+                    }
+                    case RECORD_ID_NUMBER:
+                        loadInto.setRecIdNumber(parseStringWithCustomFacts(ch));
+                        break;
+                    case REGISTRATION_FILE_NUMBER:
+                        loadInto.setPermanentRecFileNumber(parseStringWithCustomFacts(ch));
+                        break;
+                    case OBJECT_MULTIMEDIA: {
+                        List<MultimediaReference> multimedia = loadInto.getMultimedia(true);
+                        new MultimediaLinkParser(gedcomParser, ch, multimedia).parse();
+                        break;
+                    }
+                    case RESTRICTION:
+                        loadInto.setRestrictionNotice(parseStringWithCustomFacts(ch));
+                        break;
+                    case SOURCE: {
+                        List<AbstractCitation> citations = loadInto.getCitations(true);
+                        new CitationListParser(gedcomParser, ch, citations).parse();
+                        break;
+                    }
+                    case ALIAS:
+                        loadInto.getAliases(true).add(parseStringWithCustomFacts(ch));
+                        break;
+                    case FAMILY_WHERE_SPOUSE:
+                        loadFamilyWhereSpouse(ch, loadInto.getFamiliesWhereSpouse(true));
+                        break;
+                    case FAMILY_WHERE_CHILD: {
+                        FamilyChild fc = new FamilyChild();
+                        loadInto.getFamiliesWhereChild(true).add(fc);
+                        new FamilyChildParser(gedcomParser, ch, fc).parse();
+                        break;
+                    }
+                    case ASSOCIATION: {
+                        Association a = new Association();
+                        loadInto.getAssociations(true).add(a);
+                        new AssociationParser(gedcomParser, ch, a).parse();
+                        break;
+                    }
+                    case ANCESTOR_INTEREST:
+                        loadInto.getAncestorInterest(true).add(getSubmitter(ch.getValue()));
+                        break;
+                    case DESCENDANT_INTEREST:
+                        loadInto.getDescendantInterest(true).add(getSubmitter(ch.getValue()));
+                        break;
+                    case ANCESTRAL_FILE_NUMBER:
+                        loadInto.setAncestralFileNumber(parseStringWithCustomFacts(ch));
+                        break;
+                    case REFERENCE: {
+                        UserReference u = new UserReference();
+                        loadInto.getUserReferences(true).add(u);
+                        new UserReferenceParser(gedcomParser, ch, u).parse();
+                        break;
+                    }
+                    case SUBMITTER:
+                        loadInto.getSubmitters(true).add(getSubmitter(ch.getValue()));
+                        break;
+                    default:
+                        unknownTag(ch, loadInto);
                 }
             }
         }
@@ -0,0 +1,529 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.io.encoding.Compression;
+import org.gedcom4j.io.reader.GedcomFileReader;
+import org.gedcom4j.model.AbstractElement;
+import org.gedcom4j.model.Family;
+import org.gedcom4j.model.Gedcom;
+import org.gedcom4j.model.Individual;
+import org.gedcom4j.model.Multimedia;
+import org.gedcom4j.model.NoteRecord;
+import org.gedcom4j.model.Repository;
+import org.gedcom4j.model.Source;
+import org.gedcom4j.model.StringTree;
+import org.gedcom4j.model.Submitter;
+
+/**
+ * <p>
+ * Loads a GEDCOM file lazily, for {@link GedcomParser#loadLazily(java.nio.file.Path, boolean)}. The file is memory-mapped, and
+ * one pass is made over its raw bytes to find where each root-level record starts, without decoding anything except the first
+ * line of each record. Individuals, families, sources, notes, repositories, multimedia and submitters with xrefs are then only
+ * recorded in {@link LazyRecordMap}s by where they are in the file; everything else (the header, the submission, the trailer, and
+ * any custom root-level records) is parsed straight away.
+ * </p>
+ * <p>
+ * The mapping outlives the channel, so the file does not need to stay open, but it is not released until the loader (and so the
+ * {@link Gedcom} that uses it) is garbage collected.
+ * </p>
+ * 
+ * @author frizbog
+ */
+final class LazyRecordLoader {
+
+    /**
+     * The default size of the chunks the file is mapped in. 1GB.
+     */
+    static final int DEFAULT_CHUNK_SIZE = 1 << 30;
+
+    /**
+     * The size of the beginning of the file that is looked at to work out its encoding. 16K.
+     */
+    private static final int ENCODING_SAMPLE_SIZE = 16384;
+
+    /**
+     * What characters other than ASCII ones are replaced with in the first line of each record, which is the only part of the
+     * file that is decoded while looking for records
+     */
+    private static final char NOT_ASCII = '\uFFFD';
+
+    /**
+     * The root-level tags of the records that are loaded lazily
+     */
+    private static final TagTable<Tag> LAZY_TAGS = TagTable.of(Tag.INDIVIDUAL, Tag.FAMILY, Tag.SOURCE, Tag.NOTE, Tag.REPOSITORY,
+            Tag.OBJECT_MULTIMEDIA, Tag.SUBMITTER);
+
+    /**
+     * The parser the records are loaded for
+     */
+    private final GedcomParser parser;
+
+    /**
+     * The mapped chunks of the file
+     */
+    private final MappedByteBuffer[] chunks;
+
+    /**
+     * The size of each chunk of the file, except maybe the last one
+     */
+    private final int chunkSize;
+
+    /**
+     * The size of the file
+     */
+    private final long fileSize;
+
+    /**
+     * A reader for the beginning of the file, which knows its encoding, and which readers for single records are made from
+     */
+    private final GedcomFileReader wholeFileReader;
+
+    /**
+     * How many records are being parsed right now. While this is more than zero, records that are referred to are not parsed.
+     */
+    private int loading;
+
+    /**
+     * The families
+     */
+    private final LazyRecordMap<Family> families;
+
+    /**
+     * The individuals
+     */
+    private final LazyRecordMap<Individual> individuals;
+
+    /**
+     * The multimedia items
+     */
+    private final LazyRecordMap<Multimedia> multimedia;
+
+    /**
+     * The notes
+     */
+    private final LazyRecordMap<NoteRecord> notes;
+
+    /**
+     * The repositories
+     */
+    private final LazyRecordMap<Repository> repositories;
+
+    /**
+     * The sources
+     */
+    private final LazyRecordMap<Source> sources;
+
+    /**
+     * The submitters
+     */
+    private final LazyRecordMap<Submitter> submitters;
+
+    /**
+     * Constructor. Maps the file and works out its encoding, but does not look for the records yet.
+     * 
+     * @param parser
+     *            the parser the records are loaded for
+     * @param channel
+     *            the channel over the file. Not closed by this class.
+     * @param softlyCached
+     *            whether records loaded from the file are only held softly, so they can be garbage collected if nothing else
+     *            refers to them
+     * @param chunkSize
+     *            the size of the chunks to map the file in. Must be even.
+     * @throws IOException
+     *             if the file cannot be mapped or read
+     * @throws GedcomParserException
+     *             if the encoding of the file is not supported
+     */
+    LazyRecordLoader(GedcomParser parser, FileChannel channel, boolean softlyCached, int chunkSize) throws IOException,
+            GedcomParserException {
+        this.parser = parser;
+        this.chunkSize = chunkSize;
+        fileSize = channel.size();
+        chunks = new MappedByteBuffer[(int) ((fileSize + chunkSize - 1) / chunkSize)];
+        for (int i = 0; i < chunks.length; i++) {
+            long start = (long) i * chunkSize;
+            chunks[i] = channel.map(MapMode.READ_ONLY, start, Math.min(chunkSize, fileSize - start));
+        }
+        byte[] sample = read(0, (int) Math.min(ENCODING_SAMPLE_SIZE, fileSize));
+        if (Compression.detect(sample, sample.length) != Compression.NONE) {
+            throw new IOException("Compressed files cannot be loaded lazily, because records cannot be found in them without "
+                    + "decompressing the whole file - load the file normally instead");
+        }
+        wholeFileReader = new GedcomFileReader(parser, new BufferedInputStream(new ByteArrayInputStream(sample)));
+
+        families = new LazyRecordMap<>(this, Tag.FAMILY, softlyCached);
+        individuals = new LazyRecordMap<>(this, Tag.INDIVIDUAL, softlyCached);
+        multimedia = new LazyRecordMap<>(this, Tag.OBJECT_MULTIMEDIA, softlyCached);
+        notes = new LazyRecordMap<>(this, Tag.NOTE, softlyCached);
+        repositories = new LazyRecordMap<>(this, Tag.REPOSITORY, softlyCached);
+        sources = new LazyRecordMap<>(this, Tag.SOURCE, softlyCached);
+        submitters = new LazyRecordMap<>(this, Tag.SUBMITTER, softlyCached);
+    }
+
+    /**
+     * Make one pass over the file, recording where each lazily loaded record is, and parsing everything else
+     * 
+     * @return the number of lines in the file
+     * @throws GedcomParserException
+     *             if a record that is parsed straight away cannot be parsed
+     */
+    synchronized long index() throws GedcomParserException {
+        int unitSize = wholeFileReader.getCodeUnitSize();
+        boolean littleEndian = wholeFileReader.isLittleEndian();
+
+        long lineCount = 0;
+        boolean atLineStart = true;
+        long recordStart = 0;
+        long recordLine = 1;
+        String recordFirstLine = null;
+        StringBuilder firstLine = null;
+
+        // Skip over any UTF-8 byte order marker, since its bytes aren't characters in their own right
+        int first = 0;
+        if (unitSize == 1 && fileSize >= 3 && chunks[0].get(0) == (byte) 0xEF && chunks[0].get(1) == (byte) 0xBB
+                && chunks[0].get(2) == (byte) 0xBF) {
+            first = 3;
+        }
+
+        for (int c = 0; c < chunks.length; c++) {
+            ByteBuffer chunk = chunks[c];
+            int limit = chunk.limit() - unitSize + 1;
+            for (int i = c == 0 ? first : 0; i < limit; i += unitSize) {
+                int ch;
+                if (unitSize == 1) {
+                    ch = chunk.get(i) & 0xFF;
+                } else if (littleEndian) {
+                    ch = chunk.get(i) & 0xFF | (chunk.get(i + 1) & 0xFF) << 8;
+                } else {
+                    ch = (chunk.get(i) & 0xFF) << 8 | chunk.get(i + 1) & 0xFF;
+                }
+
+                if (ch == '\r' || ch == '\n') {
+                    atLineStart = true;
+                    if (firstLine != null) {
+                        recordFirstLine = firstLine.toString();
+                        firstLine = null;
+                    }
+                    continue;
+                }
+                if (atLineStart) {
+                    if (isLeadingJunk(ch)) {
+                        continue;
+                    }
+                    atLineStart = false;
+                    lineCount++;
+                    if (ch == '0') {
+                        // Start of a new root-level record, so the previous one (if any) is complete
+                        long position = (long) c * chunkSize + i;
+                        if (lineCount > 1) {
+                            recordFound(recordStart, position, recordLine, recordFirstLine);
+                        }
+                        recordStart = position;
+                        recordLine = lineCount;
+                        recordFirstLine = null;
+                        firstLine = new StringBuilder();
+                    }
+                }
+                if (firstLine != null) {
+                    firstLine.append(ch < 0x80 ? (char) ch : NOT_ASCII);
+                }
+            }
+        }
+        if (firstLine != null) {
+            recordFirstLine = firstLine.toString();
+        }
+        if (lineCount > 0) {
+            recordFound(recordStart, fileSize, recordLine, recordFirstLine);
+        }
+        return lineCount;
+    }
+
+    /**
+     * Is a record of some sort being parsed right now? If so, records it refers to are not to be parsed.
+     * 
+     * @return true if a record is being parsed right now
+     */
+    boolean isLoading() {
+        return loading > 0;
+    }
+
+    /**
+     * Parse a lazily loaded record from the file. Problems are added to the parser's errors, since they can't be thrown from a
+     * {@link java.util.Map#get(Object)} call.
+     * 
+     * @param recordType
+     *            the root-level tag of the record
+     * @param record
+     *            the object to load the record into
+     * @param offset
+     *            the offset of the record in the file
+     * @param length
+     *            the length of the record in the file, in bytes
+     * @param lineNum
+     *            the line number of the first line of the record
+     */
+    void load(Tag recordType, AbstractElement record, long offset, int length, long lineNum) {
+        loading++;
+        try {
+            StringTree tree = readTree(offset, length, lineNum);
+            if (tree.getChildren() == null || tree.getChildren().isEmpty()) {
+                return;
+            }
+            StringTree rootLevelItem = tree.getChildren().get(0);
+            switch (recordType) {
+                case INDIVIDUAL:
+                    new IndividualParser(parser, rootLevelItem, (Individual) record).parse();
+                    break;
+                case FAMILY:
+                    new FamilyParser(parser, rootLevelItem, (Family) record).parse();
+                    break;
+                case SOURCE:
+                    new SourceParser(parser, rootLevelItem, (Source) record).parse();
+                    break;
+                case NOTE:
+                    new NoteRecordParser(parser, rootLevelItem, (NoteRecord) record).parse();
+                    break;
+                case REPOSITORY:
+                    new RepositoryParser(parser, rootLevelItem, (Repository) record).parse();
+                    break;
+                case OBJECT_MULTIMEDIA:
+                    new MultimediaParser(parser, rootLevelItem, (Multimedia) record).parse();
+                    break;
+                case SUBMITTER:
+                    new SubmitterParser(parser, rootLevelItem, (Submitter) record).parse();
+                    break;
+                default:
+                    throw new IllegalArgumentException("Records with tag " + recordType + " are not loaded lazily");
+            }
+        } catch (GedcomParserException e) {
+            parser.addParseError("Unable to load record from line " + lineNum + ": " + e.getMessage());
+        } finally {
+            loading--;
+        }
+    }
+
+    /**
+     * Make a {@link Gedcom} whose record maps load their records through this loader
+     * 
+     * @return the {@link Gedcom}
+     */
+    Gedcom newGedcom() {
+        return new Gedcom(families, individuals, multimedia, notes, repositories, sources, submitters);
+    }
+
+    /**
+     * Make a new, empty, record object of the supplied type, the same way the parser does when it first meets an xref
+     * 
+     * @param recordType
+     *            the root-level tag of the record
+     * @param xref
+     *            the xref of the record
+     * @return the new record object
+     * @param <T>
+     *            the type of record
+     */
+    @SuppressWarnings("unchecked")
+    <T extends AbstractElement> T newRecord(Tag recordType, String xref) {
+        switch (recordType) {
+            case INDIVIDUAL: {
+                Individual i = new Individual();
+                i.setXref(xref);
+                return (T) i;
+            }
+            case FAMILY: {
+                Family f = new Family();
+                f.setXref(xref);
+                return (T) f;
+            }
+            case SOURCE:
+                return (T) new Source(xref);
+            case NOTE:
+                return (T) new NoteRecord(xref);
+            case REPOSITORY: {
+                Repository r = new Repository();
+                r.setXref(xref);
+                return (T) r;
+            }
+            case OBJECT_MULTIMEDIA: {
+                Multimedia m = new Multimedia();
+                m.setXref(xref);
+                return (T) m;
+            }
+            case SUBMITTER: {
+                Submitter s = new Submitter();
+                s.setName("UNSPECIFIED");
+                s.setXref(xref);
+                return (T) s;
+            }
+            default:
+                throw new IllegalArgumentException("Records with tag " + recordType + " are not loaded lazily");
+        }
+    }
+
+    /**
+     * Is the supplied character one that is skipped at the start of a line? Matches what the readers skip.
+     * 
+     * @param ch
+     *            the character
+     * @return true if the character is skipped at the start of a line
+     */
+    private boolean isLeadingJunk(int ch) {
+        return ch == 0xFEFF || Character.isWhitespace(ch);
+    }
+
+    /**
+     * Get the map for the records with the supplied root-level tag
+     * 
+     * @param recordType
+     *            the root-level tag
+     * @return the map for the records with that tag
+     */
+    private LazyRecordMap<?> mapFor(Tag recordType) {
+        switch (recordType) {
+            case INDIVIDUAL:
+                return individuals;
+            case FAMILY:
+                return families;
+            case SOURCE:
+                return sources;
+            case NOTE:
+                return notes;
+            case REPOSITORY:
+                return repositories;
+            case OBJECT_MULTIMEDIA:
+                return multimedia;
+            default:
+                return submitters;
+        }
+    }
+
+    /**
+     * Read some bytes from the file
+     * 
+     * @param offset
+     *            the offset to start at
+     * @param length
+     *            the number of bytes
+     * @return the bytes
+     */
+    private byte[] read(long offset, int length) {
+        byte[] result = new byte[length];
+        int done = 0;
+        while (done < length) {
+            long position = offset + done;
+            ByteBuffer chunk = chunks[(int) (position / chunkSize)].duplicate();
+            chunk.position((int) (position % chunkSize));
+            int n = Math.min(length - done, chunk.remaining());
+            chunk.get(result, done, n);
+            done += n;
+        }
+        return result;
+    }
+
+    /**
+     * Build the string tree for a fragment of the file
+     * 
+     * @param offset
+     *            the offset of the fragment in the file
+     * @param length
+     *            the length of the fragment, in bytes
+     * @param lineNum
+     *            the line number of the first line of the fragment
+     * @return the string tree, with a wrapper node around the root-level nodes in the fragment
+     * @throws GedcomParserException
+     *             if the fragment cannot be parsed
+     */
+    private StringTree readTree(long offset, int length, long lineNum) throws GedcomParserException {
+        try {
+            GedcomFileReader reader = wholeFileReader.forFragment(new ByteArrayInputStream(read(offset, length)));
+            StringTreeBuilder builder = new StringTreeBuilder(parser, lineNum - 1);
+            String line = reader.nextLine();
+            while (line != null) {
+                builder.appendLine(line);
+                line = reader.nextLine();
+            }
+            return builder.getTree();
+        } catch (IOException e) {
+            // Can't really happen, since the bytes are already in memory
+            throw new GedcomParserException("Unable to read record from line " + lineNum, e);
+        }
+    }
+
+    /**
+     * A complete root-level record has been found in the file. Record where it is, if it's one that's loaded lazily, or else
+     * parse it now.
+     * 
+     * @param start
+     *            the offset of the start of the record
+     * @param end
+     *            the offset of the end of the record
+     * @param lineNum
+     *            the line number of the first line of the record
+     * @param firstLine
+     *            the first line of the record, with anything other than ASCII characters replaced by {@link #NOT_ASCII}. Null if
+     *            the record doesn't begin with a root-level line (which can only happen at the start of the file).
+     * @throws GedcomParserException
+     *             if a record that is parsed straight away cannot be parsed
+     */
+    private void recordFound(long start, long end, long lineNum, String firstLine) throws GedcomParserException {
+        if (firstLine != null && firstLine.length() > 2) {
+            try {
+                LinePieces lp = new LinePieces(firstLine, lineNum);
+                Tag tag = LAZY_TAGS.get(lp.tag);
+                if (tag != null && lp.id != null && lp.id.indexOf(NOT_ASCII) < 0) {
+                    mapFor(tag).addLocation(lp.id, start, (int) (end - start), lineNum);
+                    return;
+                }
+            } catch (GedcomParserException e) {
+                // Not well formed - let it be parsed now, so the problem is reported the usual way
+            }
+        }
+        loading++;
+        try {
+            StringTree tree = readTree(start, (int) (end - start), lineNum);
+            if (tree.getChildren() != null) {
+                for (StringTree rootLevelItem : tree.getChildren()) {
+                    parser.loadRootItem(rootLevelItem);
+                }
+            }
+        } finally {
+            loading--;
+        }
+    }
+
+}
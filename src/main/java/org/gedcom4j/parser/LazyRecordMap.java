@@ -0,0 +1,397 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import java.lang.ref.SoftReference;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.gedcom4j.model.AbstractElement;
+
+/**
+ * <p>
+ * A map of root-level records of one type, keyed by xref, for a lazily loaded {@link org.gedcom4j.model.Gedcom}. The map only
+ * holds where each record is in the file until the record is asked for with {@link #get(Object)} (or by iterating over the
+ * entries or values), at which point the record is parsed from the file by the {@link LazyRecordLoader}.
+ * </p>
+ * <p>
+ * While a record is being parsed, references it makes to other records get the other records' objects without parsing them,
+ * so that loading one record doesn't load everything connected to it. Those objects are filled in when they are themselves
+ * asked for from their map. When the map is softly cached, parsed records are only softly reachable from the map, so ones that
+ * nothing else refers to can be garbage collected, and are parsed again the next time they are asked for.
+ * </p>
+ * <p>
+ * Looking up keys, checking the size, and iterating over the keys don't parse anything. All access is synchronized on the
+ * {@link LazyRecordLoader}, which is shared by all the maps of the same {@link org.gedcom4j.model.Gedcom}.
+ * </p>
+ * 
+ * @param <T>
+ *            the type of record in the map
+ * @author frizbog
+ */
+final class LazyRecordMap<T extends AbstractElement> extends AbstractMap<String, T> {
+
+    /**
+     * An entry in the map, for one xref
+     * 
+     * @param <T>
+     *            the type of record
+     */
+    static final class Slot<T> {
+        /**
+         * The offset in the file of the record, or -1 if the record was put in the map rather than being found in the file (in
+         * which case the record may still be found in the file later, in {@link #more})
+         */
+        final long offset;
+
+        /**
+         * The length of the record in the file, in bytes
+         */
+        final int length;
+
+        /**
+         * The line number of the first line of the record
+         */
+        final long lineNum;
+
+        /**
+         * Another record in the file with the same xref, if any, whose data is loaded into the same object after this one's
+         */
+        Slot<T> more;
+
+        /**
+         * The record, if it is held strongly
+         */
+        T record;
+
+        /**
+         * The record, if it is held softly
+         */
+        SoftReference<T> softRecord;
+
+        /**
+         * Whether the record's data has been loaded from the file
+         */
+        boolean loaded;
+
+        /**
+         * Constructor
+         * 
+         * @param offset
+         *            the offset in the file of the record, or -1 if the record is not in the file
+         * @param length
+         *            the length of the record in the file, in bytes
+         * @param lineNum
+         *            the line number of the first line of the record
+         */
+        Slot(long offset, int length, long lineNum) {
+            this.offset = offset;
+            this.length = length;
+            this.lineNum = lineNum;
+        }
+
+        /**
+         * Get the record object, if there is one
+         * 
+         * @return the record object, or null if it hasn't been made yet (or has been garbage collected)
+         */
+        T current() {
+            if (record != null) {
+                return record;
+            }
+            return softRecord == null ? null : softRecord.get();
+        }
+    }
+
+    /**
+     * The entries, by xref, in the order they appear in the file
+     */
+    private final Map<String, Slot<T>> slots = new LinkedHashMap<>();
+
+    /**
+     * The loader that parses records, and that access to the map is synchronized on
+     */
+    private final LazyRecordLoader loader;
+
+    /**
+     * The root-level tag of the records in this map
+     */
+    private final Tag recordType;
+
+    /**
+     * Whether records loaded from the file are only held softly
+     */
+    private final boolean softlyCached;
+
+    /**
+     * Constructor
+     * 
+     * @param loader
+     *            the loader that parses records
+     * @param recordType
+     *            the root-level tag of the records in this map
+     * @param softlyCached
+     *            whether records loaded from the file are only held softly
+     */
+    LazyRecordMap(LazyRecordLoader loader, Tag recordType, boolean softlyCached) {
+        this.loader = loader;
+        this.recordType = recordType;
+        this.softlyCached = softlyCached;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        synchronized (loader) {
+            slots.clear();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(Object key) {
+        synchronized (loader) {
+            return slots.containsKey(key);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Map.Entry<String, T>> entrySet() {
+        return new AbstractSet<Map.Entry<String, T>>() {
+            @Override
+            public Iterator<Map.Entry<String, T>> iterator() {
+                final Iterator<String> keys;
+                synchronized (loader) {
+                    // A copy, because loading records can add entries for records they refer to that aren't in the file
+                    keys = new ArrayList<>(slots.keySet()).iterator();
+                }
+                return new Iterator<Map.Entry<String, T>>() {
+                    /**
+                     * The key of the most recent entry
+                     */
+                    private String key;
+
+                    @Override
+                    public boolean hasNext() {
+                        return keys.hasNext();
+                    }
+
+                    @Override
+                    public Map.Entry<String, T> next() {
+                        key = keys.next();
+                        return new LazyEntry(key);
+                    }
+
+                    @Override
+                    public void remove() {
+                        keys.remove();
+                        LazyRecordMap.this.remove(key);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return LazyRecordMap.this.size();
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T get(Object key) {
+        synchronized (loader) {
+            Slot<T> slot = slots.get(key);
+            if (slot == null) {
+                return null;
+            }
+            T result = slot.current();
+            if (result == null) {
+                result = loader.newRecord(recordType, (String) key);
+                slot.loaded = false;
+                if (softlyCached) {
+                    slot.softRecord = new SoftReference<>(result);
+                } else {
+                    slot.record = result;
+                }
+            }
+            if (!slot.loaded && !loader.isLoading()) {
+                slot.loaded = true;
+                for (Slot<T> s = slot; s != null; s = s.more) {
+                    if (s.offset >= 0) {
+                        loader.load(recordType, result, s.offset, s.length, s.lineNum);
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T put(String key, T value) {
+        synchronized (loader) {
+            Slot<T> slot = slots.get(key);
+            T result = null;
+            if (slot == null) {
+                slot = new Slot<>(-1, 0, 0);
+                slots.put(key, slot);
+            } else {
+                result = slot.current();
+            }
+            /*
+             * Put records are held strongly, so they're never replaced by what's in the file. One put while a record is being parsed
+             * is for a reference to a record that hasn't been found in the file yet, so still gets loaded if it turns up later.
+             */
+            slot.record = value;
+            slot.softRecord = null;
+            slot.loaded = !loader.isLoading();
+            return result;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T remove(Object key) {
+        synchronized (loader) {
+            Slot<T> slot = slots.remove(key);
+            return slot == null ? null : slot.current();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        synchronized (loader) {
+            return slots.size();
+        }
+    }
+
+    /**
+     * Record where a record with the supplied xref is in the file
+     * 
+     * @param xref
+     *            the xref of the record
+     * @param offset
+     *            the offset of the record in the file
+     * @param length
+     *            the length of the record in the file, in bytes
+     * @param lineNum
+     *            the line number of the first line of the record
+     */
+    void addLocation(String xref, long offset, int length, long lineNum) {
+        synchronized (loader) {
+            Slot<T> slot = new Slot<>(offset, length, lineNum);
+            Slot<T> existing = slots.get(xref);
+            if (existing == null) {
+                slots.put(xref, slot);
+            } else {
+                // Same xref more than once in the file - load them all into the same object, in file order
+                while (existing.more != null) {
+                    existing = existing.more;
+                }
+                existing.more = slot;
+            }
+        }
+    }
+
+    /**
+     * An entry whose value is only loaded when it is asked for
+     */
+    private final class LazyEntry implements Map.Entry<String, T> {
+        /**
+         * The key
+         */
+        private final String key;
+
+        /**
+         * Constructor
+         * 
+         * @param key
+         *            the key
+         */
+        LazyEntry(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>) obj;
+            T value = getValue();
+            return key.equals(other.getKey()) && (value == null ? other.getValue() == null : value.equals(other.getValue()));
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public T getValue() {
+            return get(key);
+        }
+
+        @Override
+        public int hashCode() {
+            T value = getValue();
+            return key.hashCode() ^ (value == null ? 0 : value.hashCode());
+        }
+
+        @Override
+        public T setValue(T value) {
+            return put(key, value);
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+}
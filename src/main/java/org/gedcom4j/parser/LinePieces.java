@@ -66,7 +66,7 @@ class LinePieces {
     /**
      * The number of the line we are breaking into pieces
      */
-    private final int lineNum;
+    private final long lineNum;
 
     /**
      * Constructor that makes a {@link LinePieces} object from a line of text input from a GEDCOM file
@@ -78,7 +78,7 @@ class LinePieces {
      * @throws GedcomParserException
      *             if the line of text cannot be split into pieces
      */
-    LinePieces(String lineToParse, int lineNum) throws GedcomParserException {
+    LinePieces(String lineToParse, long lineNum) throws GedcomParserException {
         this.lineNum = lineNum;
         chars = lineToParse.toCharArray();
         processLevel();
@@ -0,0 +1,364 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.exception.ParserCancelledException;
+import org.gedcom4j.model.StringTree;
+
+/**
+ * <p>
+ * Helper for {@link GedcomParser} that parses root-level records on a {@link ForkJoinPool}, while the thread doing the reading
+ * carries on splitting the file into records. Records are handed to the pool in batches, and the results of each batch are
+ * collected in file order, so that the resulting {@link org.gedcom4j.model.Gedcom} and the parser's errors and warnings are the
+ * same as for a sequential load.
+ * </p>
+ * <p>
+ * Records of different types and xrefs are independent of one another, apart from looking up (or creating placeholders for) the
+ * records they refer to, which {@link AbstractParser} does under a lock on the relevant map. The following are parsed on the
+ * reading thread, after all the records before them are complete:
+ * </p>
+ * <ul>
+ * <li>The header and submission, which records parsed later depend on</li>
+ * <li>The trailer, and root-level custom tags, which are added to the {@link org.gedcom4j.model.Gedcom} directly</li>
+ * <li>Any record whose type and xref are the same as an earlier record, so that they are merged in order</li>
+ * </ul>
+ * <p>
+ * Each record keeps its own errors, warnings, custom-tag state, and the order in which it looked up xrefs, in a
+ * {@link RecordContext}. When loading finishes, the maps of records are rebuilt in the order that a sequential load would have
+ * first looked each xref up, so that they iterate in the same order too.
+ * </p>
+ * 
+ * @author frizbog
+ */
+final class ParallelRecordLoader {
+
+    /**
+     * A batch of records to be parsed together on one of the pool's threads
+     */
+    private final class Batch extends RecursiveAction {
+        /**
+         * Serial Version UID
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The root-level items to parse
+         */
+        private final List<StringTree> items = new ArrayList<>(BATCH_SIZE);
+
+        /**
+         * The contexts for each of the items
+         */
+        private final List<RecordContext> contexts = new ArrayList<>(BATCH_SIZE);
+
+        /**
+         * The exception that stopped the batch from being parsed, if any
+         */
+        private Exception failure;
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void compute() {
+            try {
+                for (int i = 0; i < items.size(); i++) {
+                    if (parser.isCancelled()) {
+                        throw new ParserCancelledException("File load/parse is cancelled");
+                    }
+                    currentContext.set(contexts.get(i));
+                    parser.loadRootItem(items.get(i));
+                }
+            } catch (GedcomParserException | RuntimeException e) {
+                failure = e;
+            } finally {
+                currentContext.remove();
+            }
+        }
+    }
+
+    /**
+     * The state that is kept for each root-level record while it is being parsed
+     */
+    static final class RecordContext {
+        /**
+         * The errors found in the record
+         */
+        final List<String> errors = new ArrayList<>(0);
+
+        /**
+         * The warnings found in the record
+         */
+        final List<String> warnings = new ArrayList<>(0);
+
+        /**
+         * Whether the parser is currently inside a custom tag in this record
+         */
+        boolean insideCustomTag;
+
+        /**
+         * The maps of records that xrefs were looked up in, in the order of lookup. Parallel to {@link #xrefsUsed}.
+         */
+        final List<Map<String, ?>> xrefMapsUsed = new ArrayList<>();
+
+        /**
+         * The xrefs that were looked up, in the order of lookup. Parallel to {@link #xrefMapsUsed}.
+         */
+        final List<String> xrefsUsed = new ArrayList<>();
+    }
+
+    /**
+     * The number of records parsed in each task given to the pool
+     */
+    private static final int BATCH_SIZE = 64;
+
+    /**
+     * The batches that have been given to the pool but whose results have not been collected yet, oldest first
+     */
+    private final Deque<Batch> outstanding = new ArrayDeque<>();
+
+    /**
+     * The context for the record being read or parsed on the current thread
+     */
+    private final ThreadLocal<RecordContext> currentContext = new ThreadLocal<>();
+
+    /**
+     * The type and xref of each record handed to the pool since the last time all outstanding batches were collected, for spotting
+     * duplicate records
+     */
+    private final Set<String> recordsInPool = new HashSet<>();
+
+    /**
+     * For each map of records in the {@link org.gedcom4j.model.Gedcom}, the xrefs in the order they were first looked up
+     */
+    private final Map<Map<String, ?>, Set<String>> firstLookups = new IdentityHashMap<>();
+
+    /**
+     * The most batches that can be outstanding before the reading thread waits for the oldest
+     */
+    private final int maxOutstandingBatches;
+
+    /**
+     * The parser we're helping
+     */
+    private final GedcomParser parser;
+
+    /**
+     * The pool that parses the records
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * The batch being filled
+     */
+    private Batch batch = new Batch();
+
+    /**
+     * Constructor. Should be called on the reading thread, before any lines are read.
+     * 
+     * @param parser
+     *            the parser we're helping
+     * @param parallelism
+     *            the number of threads to parse records on
+     */
+    ParallelRecordLoader(GedcomParser parser, int parallelism) {
+        this.parser = parser;
+        pool = new ForkJoinPool(parallelism);
+        maxOutstandingBatches = parallelism * 4;
+        currentContext.set(new RecordContext());
+    }
+
+    /**
+     * Wait for all the records to be parsed, and put the maps of records in the order a sequential load would have left them in.
+     * Called on the reading thread after the last record is complete.
+     * 
+     * @throws GedcomParserException
+     *             if any of the records could not be parsed
+     */
+    void finish() throws GedcomParserException {
+        collectAll();
+        collect(currentContext.get());
+        for (Map.Entry<Map<String, ?>, Set<String>> e : firstLookups.entrySet()) {
+            reorder(e.getKey(), e.getValue());
+        }
+    }
+
+    /**
+     * Get the context for the record being read or parsed on the current thread
+     * 
+     * @return the context for the record being read or parsed on the current thread
+     */
+    RecordContext getCurrentContext() {
+        return currentContext.get();
+    }
+
+    /**
+     * Parse a root-level item that has been completely read, either now or on the pool, and start a new context for the next
+     * record. Called on the reading thread.
+     * 
+     * @param rootLevelItem
+     *            the root-level item
+     * @throws GedcomParserException
+     *             if the item, or any record before it, could not be parsed
+     */
+    void recordComplete(StringTree rootLevelItem) throws GedcomParserException {
+        RecordContext context = currentContext.get();
+        String tag = rootLevelItem.getTag();
+        if (Tag.INDIVIDUAL.equalsText(tag) || Tag.FAMILY.equalsText(tag) || Tag.SOURCE.equalsText(tag) || Tag.NOTE.equalsText(tag)
+                || Tag.REPOSITORY.equalsText(tag) || Tag.OBJECT_MULTIMEDIA.equalsText(tag) || Tag.SUBMITTER.equalsText(tag)) {
+            if (!recordsInPool.add(tag + " " + rootLevelItem.getXref())) {
+                // Same record as one that might still be being parsed - let that one finish first
+                collectAll();
+                recordsInPool.add(tag + " " + rootLevelItem.getXref());
+            }
+            batch.items.add(rootLevelItem);
+            batch.contexts.add(context);
+            if (batch.items.size() == BATCH_SIZE) {
+                submitBatch();
+            }
+        } else {
+            collectAll();
+            parser.loadRootItem(rootLevelItem);
+            collect(context);
+        }
+        currentContext.set(new RecordContext());
+    }
+
+    /**
+     * Stop the pool. Called on the reading thread when loading is done, whether or not it succeeded.
+     */
+    void shutdown() {
+        pool.shutdownNow();
+        currentContext.remove();
+    }
+
+    /**
+     * Reorder a map of records by rebuilding it in the order its xrefs were first looked up
+     * 
+     * @param <V>
+     *            the type of record in the map
+     * @param map
+     *            the map to reorder
+     * @param order
+     *            the xrefs in the order they were first looked up
+     */
+    private static <V> void reorder(Map<String, V> map, Set<String> order) {
+        Map<String, V> unordered = new HashMap<>(map);
+        map.clear();
+        for (String xref : order) {
+            map.put(xref, unordered.remove(xref));
+        }
+        map.putAll(unordered);
+    }
+
+    /**
+     * Collect the results of a record that has been parsed
+     * 
+     * @param context
+     *            the context of the record
+     */
+    private void collect(RecordContext context) {
+        parser.getErrors().addAll(context.errors);
+        parser.getWarnings().addAll(context.warnings);
+        for (int i = 0; i < context.xrefsUsed.size(); i++) {
+            Map<String, ?> map = context.xrefMapsUsed.get(i);
+            Set<String> order = firstLookups.get(map);
+            if (order == null) {
+                order = new LinkedHashSet<>();
+                firstLookups.put(map, order);
+            }
+            order.add(context.xrefsUsed.get(i));
+        }
+    }
+
+    /**
+     * Give the batch being filled to the pool, and wait for all the outstanding batches to finish, collecting their results
+     * 
+     * @throws GedcomParserException
+     *             if any of the records could not be parsed
+     */
+    private void collectAll() throws GedcomParserException {
+        submitBatch();
+        while (!outstanding.isEmpty()) {
+            collectOldest();
+        }
+        recordsInPool.clear();
+    }
+
+    /**
+     * Wait for the oldest outstanding batch to finish, and collect its results
+     * 
+     * @throws GedcomParserException
+     *             if any of the records in the batch could not be parsed
+     */
+    private void collectOldest() throws GedcomParserException {
+        Batch b = outstanding.removeFirst();
+        b.join();
+        if (b.failure instanceof GedcomParserException) {
+            throw (GedcomParserException) b.failure;
+        }
+        if (b.failure != null) {
+            throw (RuntimeException) b.failure;
+        }
+        for (RecordContext context : b.contexts) {
+            collect(context);
+        }
+    }
+
+    /**
+     * Give the batch being filled to the pool (if it has anything in it), and start a new one. If too many batches are outstanding,
+     * wait for the oldest ones.
+     * 
+     * @throws GedcomParserException
+     *             if any of the records in a batch that was waited for could not be parsed
+     */
+    private void submitBatch() throws GedcomParserException {
+        if (batch.items.isEmpty()) {
+            return;
+        }
+        pool.execute(batch);
+        outstanding.addLast(batch);
+        batch = new Batch();
+        while (outstanding.size() > maxOutstandingBatches) {
+            collectOldest();
+        }
+    }
+}
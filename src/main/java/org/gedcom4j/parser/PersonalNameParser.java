@@ -40,6 +40,12 @@ import org.gedcom4j.model.StringTree;
  */
 class PersonalNameParser extends AbstractParser<PersonalName> {
 
+    /**
+     * The tags of the child nodes this parser handles, in the order they used to be tested in
+     */
+    private static final TagTable<Tag> CHILD_TAGS = TagTable.of(Tag.NAME_PREFIX, Tag.GIVEN_NAME, Tag.NICKNAME, Tag.SURNAME_PREFIX,
+            Tag.SURNAME, Tag.NAME_SUFFIX, Tag.SOURCE, Tag.NOTE, Tag.ROMANIZED, Tag.PHONETIC, Tag.TYPE);
+
     /**
      * Constructor
      * 
@@ -59,36 +65,57 @@ class PersonalNameParser extends AbstractParser<PersonalName> {
         loadInto.setBasic(stringTree.getValue());
         if (stringTree.getChildren() != null) {
             for (StringTree ch : stringTree.getChildren()) {
-                if (Tag.NAME_PREFIX.equalsText(ch.getTag())) {
-                    loadInto.setPrefix(parseStringWithCustomFacts(ch));
-                } else if (Tag.GIVEN_NAME.equalsText(ch.getTag())) {
-                    loadInto.setGivenName(parseStringWithCustomFacts(ch));
-                } else if (Tag.NICKNAME.equalsText(ch.getTag())) {
-                    loadInto.setNickname(parseStringWithCustomFacts(ch));
-                } else if (Tag.SURNAME_PREFIX.equalsText(ch.getTag())) {
-                    loadInto.setSurnamePrefix(parseStringWithCustomFacts(ch));
-                } else if (Tag.SURNAME.equalsText(ch.getTag())) {
-                    loadInto.setSurname(parseStringWithCustomFacts(ch));
-                } else if (Tag.NAME_SUFFIX.equalsText(ch.getTag())) {
-                    loadInto.setSuffix(parseStringWithCustomFacts(ch));
-                } else if (Tag.SOURCE.equalsText(ch.getTag())) {
-                    List<AbstractCitation> citations = loadInto.getCitations(true);
-                    new CitationListParser(gedcomParser, ch, citations).parse();
-                } else if (Tag.NOTE.equalsText(ch.getTag())) {
-                    List<NoteStructure> notes = loadInto.getNoteStructures(true);
-                    new NoteStructureListParser(gedcomParser, ch, notes).parse();
-                } else if (Tag.ROMANIZED.equalsText(ch.getTag())) {
-                    PersonalNameVariation pnv = new PersonalNameVariation();
-                    loadInto.getRomanized(true).add(pnv);
-                    loadPersonalNameVariation(ch, pnv);
-                } else if (Tag.PHONETIC.equalsText(ch.getTag())) {
-                    PersonalNameVariation pnv = new PersonalNameVariation();
-                    loadInto.getPhonetic(true).add(pnv);
-                    loadPersonalNameVariation(ch, pnv);
-                } else if (Tag.TYPE.equalsText(ch.getTag())) {
-                    loadInto.setType(parseStringWithCustomFacts(ch));
-                } else {
+                Tag tag = CHILD_TAGS.get(ch.getTag());
+                if (tag == null) {
                     unknownTag(ch, loadInto);
+                    continue;
+                }
+                switch (tag) {
+                    case NAME_PREFIX:
+                        loadInto.setPrefix(parseStringWithCustomFacts(ch));
+                        break;
+                    case GIVEN_NAME:
+                        loadInto.setGivenName(parseStringWithCustomFacts(ch));
+                        break;
+                    case NICKNAME:
+                        loadInto.setNickname(parseStringWithCustomFacts(ch));
+                        break;
+                    case SURNAME_PREFIX:
+                        loadInto.setSurnamePrefix(parseStringWithCustomFacts(ch));
+                        break;
+                    case SURNAME:
+                        loadInto.setSurname(parseStringWithCustomFacts(ch));
+                        break;
+                    case NAME_SUFFIX:
+                        loadInto.setSuffix(parseStringWithCustomFacts(ch));
+                        break;
+                    case SOURCE: {
+                        List<AbstractCitation> citations = loadInto.getCitations(true);
+                        new CitationListParser(gedcomParser, ch, citations).parse();
+                        break;
+                    }
+                    case NOTE: {
+                        List<NoteStructure> notes = loadInto.getNoteStructures(true);
+                        new NoteStructureListParser(gedcomParser, ch, notes).parse();
+                        break;
+                    }
+                    case ROMANIZED: {
+                        PersonalNameVariation pnv = new PersonalNameVariation();
+                        loadInto.getRomanized(true).add(pnv);
+                        loadPersonalNameVariation(ch, pnv);
+                        break;
+                    }
+                    case PHONETIC: {
+                        PersonalNameVariation pnv = new PersonalNameVariation();
+                        loadInto.getPhonetic(true).add(pnv);
+                        loadPersonalNameVariation(ch, pnv);
+                        break;
+                    }
+                    case TYPE:
+                        loadInto.setType(parseStringWithCustomFacts(ch));
+                        break;
+                    default:
+                        unknownTag(ch, loadInto);
                 }
             }
         }
@@ -48,6 +48,13 @@ import org.gedcom4j.model.UserReference;
  */
 class SourceParser extends AbstractParser<Source> {
 
+    /**
+     * The tags of the child nodes this parser handles, in the order they used to be tested in
+     */
+    private static final TagTable<Tag> CHILD_TAGS = TagTable.of(Tag.DATA_FOR_SOURCE, Tag.TITLE, Tag.PUBLICATION_FACTS, Tag.TEXT,
+            Tag.ABBREVIATION, Tag.AUTHORS, Tag.REPOSITORY, Tag.NOTE, Tag.OBJECT_MULTIMEDIA, Tag.REFERENCE, Tag.RECORD_ID_NUMBER,
+            Tag.CHANGED_DATETIME);
+
     /**
      * Constructor
      * 
@@ -66,47 +73,73 @@ class SourceParser extends AbstractParser<Source> {
     void parse() {
         if (stringTree.getChildren() != null) {
             for (StringTree ch : stringTree.getChildren()) {
-                if (Tag.DATA_FOR_SOURCE.equalsText(ch.getTag())) {
-                    loadInto.setData(new SourceData());
-                    loadSourceData(ch, loadInto.getData());
-                } else if (Tag.TITLE.equalsText(ch.getTag())) {
-                    MultiStringWithCustomFacts title = new MultiStringWithCustomFacts();
-                    loadInto.setTitle(title);
-                    loadMultiStringWithCustomFacts(ch, title);
-                } else if (Tag.PUBLICATION_FACTS.equalsText(ch.getTag())) {
-                    MultiStringWithCustomFacts publicationFacts = new MultiStringWithCustomFacts();
-                    loadInto.setPublicationFacts(publicationFacts);
-                    loadMultiStringWithCustomFacts(ch, publicationFacts);
-                } else if (Tag.TEXT.equalsText(ch.getTag())) {
-                    MultiStringWithCustomFacts srcText = new MultiStringWithCustomFacts();
-                    loadInto.setSourceText(srcText);
-                    loadMultiStringWithCustomFacts(ch, srcText);
-                } else if (Tag.ABBREVIATION.equalsText(ch.getTag())) {
-                    loadInto.setSourceFiledBy(parseStringWithCustomFacts(ch));
-                } else if (Tag.AUTHORS.equalsText(ch.getTag())) {
-                    MultiStringWithCustomFacts originatorsAuthors = new MultiStringWithCustomFacts();
-                    loadInto.setOriginatorsAuthors(originatorsAuthors);
-                    loadMultiStringWithCustomFacts(ch, originatorsAuthors);
-                } else if (Tag.REPOSITORY.equalsText(ch.getTag())) {
-                    loadInto.setRepositoryCitation(loadRepositoryCitation(ch));
-                } else if (Tag.NOTE.equalsText(ch.getTag())) {
-                    List<NoteStructure> notes = loadInto.getNoteStructures(true);
-                    new NoteStructureListParser(gedcomParser, ch, notes).parse();
-                } else if (Tag.OBJECT_MULTIMEDIA.equalsText(ch.getTag())) {
-                    List<MultimediaReference> multimedia = loadInto.getMultimedia(true);
-                    new MultimediaLinkParser(gedcomParser, ch, multimedia).parse();
-                } else if (Tag.REFERENCE.equalsText(ch.getTag())) {
-                    UserReference u = new UserReference();
-                    loadInto.getUserReferences(true).add(u);
-                    new UserReferenceParser(gedcomParser, ch, u).parse();
-                } else if (Tag.RECORD_ID_NUMBER.equalsText(ch.getTag())) {
-                    loadInto.setRecIdNumber(parseStringWithCustomFacts(ch));
-                } else if (Tag.CHANGED_DATETIME.equalsText(ch.getTag())) {
-                    ChangeDate changeDate = new ChangeDate();
-                    loadInto.setChangeDate(changeDate);
-                    new ChangeDateParser(gedcomParser, ch, changeDate).parse();
-                } else {
+                Tag tag = CHILD_TAGS.get(ch.getTag());
+                if (tag == null) {
                     unknownTag(ch, loadInto);
+                    continue;
+                }
+                switch (tag) {
+                    case DATA_FOR_SOURCE:
+                        loadInto.setData(new SourceData());
+                        loadSourceData(ch, loadInto.getData());
+                        break;
+                    case TITLE: {
+                        MultiStringWithCustomFacts title = new MultiStringWithCustomFacts();
+                        loadInto.setTitle(title);
+                        loadMultiStringWithCustomFacts(ch, title);
+                        break;
+                    }
+                    case PUBLICATION_FACTS: {
+                        MultiStringWithCustomFacts publicationFacts = new MultiStringWithCustomFacts();
+                        loadInto.setPublicationFacts(publicationFacts);
+                        loadMultiStringWithCustomFacts(ch, publicationFacts);
+                        break;
+                    }
+                    case TEXT: {
+                        MultiStringWithCustomFacts srcText = new MultiStringWithCustomFacts();
+                        loadInto.setSourceText(srcText);
+                        loadMultiStringWithCustomFacts(ch, srcText);
+                        break;
+                    }
+                    case ABBREVIATION:
+                        loadInto.setSourceFiledBy(parseStringWithCustomFacts(ch));
+                        break;
+                    case AUTHORS: {
+                        MultiStringWithCustomFacts originatorsAuthors = new MultiStringWithCustomFacts();
+                        loadInto.setOriginatorsAuthors(originatorsAuthors);
+                        loadMultiStringWithCustomFacts(ch, originatorsAuthors);
+                        break;
+                    }
+                    case REPOSITORY:
+                        loadInto.setRepositoryCitation(loadRepositoryCitation(ch));
+                        break;
+                    case NOTE: {
+                        List<NoteStructure> notes = loadInto.getNoteStructures(true);
+                        new NoteStructureListParser(gedcomParser, ch, notes).parse();
+                        break;
+                    }
+                    case OBJECT_MULTIMEDIA: {
+                        List<MultimediaReference> multimedia = loadInto.getMultimedia(true);
+                        new MultimediaLinkParser(gedcomParser, ch, multimedia).parse();
+                        break;
+                    }
+                    case REFERENCE: {
+                        UserReference u = new UserReference();
+                        loadInto.getUserReferences(true).add(u);
+                        new UserReferenceParser(gedcomParser, ch, u).parse();
+                        break;
+                    }
+                    case RECORD_ID_NUMBER:
+                        loadInto.setRecIdNumber(parseStringWithCustomFacts(ch));
+                        break;
+                    case CHANGED_DATETIME: {
+                        ChangeDate changeDate = new ChangeDate();
+                        loadInto.setChangeDate(changeDate);
+                        new ChangeDateParser(gedcomParser, ch, changeDate).parse();
+                        break;
+                    }
+                    default:
+                        unknownTag(ch, loadInto);
                 }
             }
         }
@@ -26,18 +26,32 @@
  */
 package org.gedcom4j.parser;
 
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
 
 /**
- * A class to handle canonical strings, to reduce memory consumption by repeated instances of frequently used string values. Unlike
- * string.intern(), this implementation does not put things in permgen (or does it)? It also has a max size, only canonicalizes
- * strings repeated more than a certain number of times.
+ * <p>
+ * A class to handle canonical strings, to reduce memory consumption by repeated instances of frequently used string values (place
+ * names, "Y", common given names, source titles, and so on). Unlike string.intern(), this implementation keeps its pool on the
+ * ordinary heap, has a maximum size, and keeps the strings that are used most often when it has to make room.
+ * </p>
+ * <p>
+ * A {@link GedcomParser} uses one of these for a whole parse session, so a value repeated across many records is only kept once.
+ * An instance can also be shared across several parses (and several parsers, even ones running at the same time) by passing it
+ * to {@link GedcomParser#setStringCanonicalizer(StringCanonicalizer)}.
+ * </p>
+ * <p>
+ * When the pool is full, an eviction pass removes every entry used fewer than the usage threshold number of times, and, if that
+ * isn't enough, the least-used entries after that, until the pool is down to three quarters of its maximum size. Each pass is a
+ * single scan of the pool, and there are always at least a quarter of the maximum size of new entries between passes, so the cost
+ * of eviction is spread thinly over the lookups.
+ * </p>
  * 
  * @author frizbog
- *
  */
-class StringCanonicalizer {
+public class StringCanonicalizer {
 
     /**
      * A canonicalized string
@@ -86,55 +100,99 @@ class StringCanonicalizer {
     }
 
     /**
-     * The string pool
+     * The default maximum number of items in the pool
      */
-    final ConcurrentMap<String, CanonicalizedString> stringPool = new ConcurrentHashMap<>(100);
+    public static final int DEFAULT_MAX_POOL_SIZE = 10000;
 
     /**
-     * The minimum number of usages that a canonicalized string has to have to remain in the pool during cleanup
+     * The default minimum number of usages that a canonicalized string has to have to be sure of remaining in the pool during
+     * cleanup
      */
-    private int poolUsageThreshold = 25;
+    public static final int DEFAULT_POOL_USAGE_THRESHOLD = 25;
 
     /**
-     * The max size of the string pool
+     * The string pool
      */
-    private int maxPoolSize = 1000;
+    final Map<String, CanonicalizedString> stringPool = new HashMap<>();
 
     /**
      * The number of eviction events that occurred
      */
     int numEvictions = 0;
 
+    /**
+     * The minimum number of usages that a canonicalized string has to have to be sure of remaining in the pool during cleanup
+     */
+    private final int poolUsageThreshold;
+
+    /**
+     * The max size of the string pool
+     */
+    private final int maxPoolSize;
+
     /**
      * The number of items evicted
      */
-    private int numEvictedCumulative = 0;
+    private long numEvictedCumulative = 0;
 
     /**
-     * A flag to indicate whether we've maxed out the pool to keep from thrashing
+     * The number of lookups that found the string already in the pool
      */
-    private boolean maxedOut = false;
+    private long hits = 0;
 
     /**
-     * Default constructor
+     * The number of lookups that did not find the string in the pool
      */
-    StringCanonicalizer() {
-        this(500, 25);
+    private long misses = 0;
+
+    /**
+     * Default constructor, using {@link #DEFAULT_MAX_POOL_SIZE} and {@link #DEFAULT_POOL_USAGE_THRESHOLD}
+     */
+    public StringCanonicalizer() {
+        this(DEFAULT_MAX_POOL_SIZE, DEFAULT_POOL_USAGE_THRESHOLD);
     }
 
     /**
      * Constructor that lets you specify the pool size and usage threshold
      * 
      * @param maxPoolSize
-     *            the maximum number of items in the pool
+     *            the maximum number of items in the pool. Must be at least 4.
      * @param poolUsageThreshold
-     *            the minimum number of uses to remain in the pool during an eviction
+     *            the minimum number of uses to be sure of remaining in the pool during an eviction
+     * @throws IllegalArgumentException
+     *             if the maximum pool size is less than 4
      */
-    private StringCanonicalizer(int maxPoolSize, int poolUsageThreshold) {
+    public StringCanonicalizer(int maxPoolSize, int poolUsageThreshold) {
+        if (maxPoolSize < 4) {
+            throw new IllegalArgumentException("Maximum pool size must be at least 4");
+        }
         this.maxPoolSize = maxPoolSize;
         this.poolUsageThreshold = poolUsageThreshold;
     }
 
+    /**
+     * Get the proportion of lookups that found the string already in the pool
+     * 
+     * @return the proportion of lookups that found the string already in the pool, from 0.0 to 1.0. Zero if there have been no
+     *         lookups.
+     */
+    public synchronized double getHitRate() {
+        long lookups = hits + misses;
+        if (lookups == 0) {
+            return 0;
+        }
+        return (double) hits / lookups;
+    }
+
+    /**
+     * Get the number of lookups that found the string already in the pool
+     * 
+     * @return the number of lookups that found the string already in the pool
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
     /**
      * Get the maximum number of items in the pool
      * 
@@ -144,12 +202,21 @@ class StringCanonicalizer {
         return maxPoolSize;
     }
 
+    /**
+     * Get the number of lookups that did not find the string in the pool
+     * 
+     * @return the number of lookups that did not find the string in the pool
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
     /**
      * Get the cumulative total count of items that have been evicted from the pool
      * 
      * @return the cumulative total count of items that have been evicted from the pool
      */
-    public int getNumEvictedCumulative() {
+    public synchronized long getNumEvictedCumulative() {
         return numEvictedCumulative;
     }
 
@@ -158,26 +225,59 @@ class StringCanonicalizer {
      * 
      * @return the number of times the pool has been evicted
      */
-    public int getNumEvictions() {
+    public synchronized int getNumEvictions() {
         return numEvictions;
     }
 
     /**
-     * Get the minimum usage to remain in the pool after eviction
+     * Get the minimum usage to be sure of remaining in the pool after eviction
      * 
-     * @return the minimum usage to remain in the pool after eviction
+     * @return the minimum usage to be sure of remaining in the pool after eviction
      */
     public int getPoolUsageThreshold() {
         return poolUsageThreshold;
     }
 
     /**
-     * Is the pool maxed out? Meaning - is it full, and evictions aren't helping?
+     * Get the number of items currently in the pool
      * 
-     * @return is the pool maxed out?
+     * @return the number of items currently in the pool
+     */
+    public synchronized int getSize() {
+        return stringPool.size();
+    }
+
+    /**
+     * Clear the string pool entirely, and reset the statistics
+     */
+    public synchronized void reset() {
+        stringPool.clear();
+        numEvictedCumulative = 0;
+        numEvictions = 0;
+        hits = 0;
+        misses = 0;
+    }
+
+    /**
+     * {@inheritDoc}
      */
-    public boolean isMaxedOut() {
-        return maxedOut;
+    @Override
+    public synchronized String toString() {
+        StringBuilder builder = new StringBuilder(100);
+        builder.append("StringCanonicalizer [size=");
+        builder.append(stringPool.size());
+        builder.append(", maxPoolSize=");
+        builder.append(maxPoolSize);
+        builder.append(", hits=");
+        builder.append(hits);
+        builder.append(", misses=");
+        builder.append(misses);
+        builder.append(", numEvictions=");
+        builder.append(numEvictions);
+        builder.append(", numEvictedCumulative=");
+        builder.append(numEvictedCumulative);
+        builder.append("]");
+        return builder.toString();
     }
 
     /**
@@ -187,28 +287,24 @@ class StringCanonicalizer {
      *            the string we want to get a canonical version of
      * @return either the string itself, or the canonicalized version, depending on the state of the string pool
      */
-    String getCanonicalVersion(String str) {
+    synchronized String getCanonicalVersion(String str) {
         if (str == null) {
             return str;
         }
         if (str.length() == 0) {
             return "".intern();
         }
-        CanonicalizedString canon;
-        canon = stringPool.get(str);
+        CanonicalizedString canon = stringPool.get(str);
         if (canon != null) {
+            hits++;
             canon.count++;
             return canon.value;
         }
+        misses++;
 
-        // Pool is too big - try and evict the lowest used entries
+        // Pool is too big - evict the lowest used entries
         if (stringPool.size() > maxPoolSize) {
             evictLowValueEntries();
-            // If evicting didn't help, return the original string and mark the pool as maxed out to prevent thrashing
-            if (stringPool.size() > maxPoolSize) {
-                maxedOut = true;
-                return str;
-            }
         }
         canon = new CanonicalizedString(str);
         stringPool.put(str, canon);
@@ -216,36 +312,43 @@ class StringCanonicalizer {
     }
 
     /**
-     * Clear the string pool entirely
-     */
-    void reset() {
-        stringPool.clear();
-        numEvictedCumulative = 0;
-        numEvictions = 0;
-        maxedOut = false;
-    }
-
-    /**
-     * Evict all items that have fewer than uses
+     * Evict all items that have fewer uses than the threshold, and then the least-used items that remain, until the pool is no
+     * more than three quarters full
      */
     private void evictLowValueEntries() {
-        if (maxedOut) {
-            return;
-        }
         numEvictions++;
         int before = stringPool.size();
+        int mustEvict = before - (maxPoolSize - maxPoolSize / 4);
+
+        /*
+         * Find the usage count below which everything goes. If evicting everything under the threshold wouldn't free up enough
+         * room, raise it to the count of the most-used entry that has to go.
+         */
+        long[] counts = new long[before];
+        int i = 0;
         for (CanonicalizedString canon : stringPool.values()) {
-            if (canon.count < poolUsageThreshold) {
-                stringPool.remove(canon.value);
-            }
+            counts[i++] = canon.count;
         }
-        int after = stringPool.size();
-        numEvictedCumulative += before - after;
-        if (before - after < 2) {
-            maxedOut = true;
+        Arrays.sort(counts);
+        long cutoff = Math.max(poolUsageThreshold, counts[mustEvict - 1]);
+        int belowCutoff = 0;
+        while (belowCutoff < before && counts[belowCutoff] < cutoff) {
+            belowCutoff++;
+        }
+        // If everything below the cutoff isn't enough, some of the entries used exactly the cutoff number of times go too
+        int evictAtCutoff = Math.max(0, mustEvict - belowCutoff);
+
+        Iterator<CanonicalizedString> it = stringPool.values().iterator();
+        while (it.hasNext()) {
+            CanonicalizedString canon = it.next();
+            if (canon.count < cutoff) {
+                it.remove();
+            } else if (canon.count == cutoff && evictAtCutoff > 0) {
+                it.remove();
+                evictAtCutoff--;
+            }
         }
-        // System.out.println((before - after) + " item(s) evicted from string pool - was " + before + ", now " +
-        // after);
+        numEvictedCumulative += before - stringPool.size();
     }
 
 }
@@ -101,7 +101,7 @@ class StringTreeBuilder {
     /**
      * The line number we're on - 1-based!!!!!!
      */
-    private int lineNum = 0;
+    private long lineNum = 0;
 
     /**
      * The line we're currently processing
@@ -109,9 +109,10 @@ class StringTreeBuilder {
     private String line;
 
     /**
-     * A canonicalizing string pool to reduce the number of repeated instances of strings, without using String.intern()
+     * A canonicalizing string pool to reduce the number of repeated instances of strings, without using String.intern(). Belongs
+     * to the parser, so it lasts for the whole parse session rather than just the record this builder is building.
      */
-    private final StringCanonicalizer canonizer = new StringCanonicalizer();
+    private final StringCanonicalizer canonizer;
 
     /**
      * Constructor
@@ -121,10 +122,24 @@ class StringTreeBuilder {
      * 
      */
     StringTreeBuilder(GedcomParser parser) {
+        this(parser, parser.getLineNum());
+    }
+
+    /**
+     * Constructor for building a tree from lines that are not being read in order by the parser - for example, a single record
+     * read back from its offset in the file
+     * 
+     * @param parser
+     *            the {@link GedcomParser} this object will be assisting with making a {@link StringTree} for
+     * @param lineNum
+     *            the number of the line before the first one that will be added
+     */
+    StringTreeBuilder(GedcomParser parser, long lineNum) {
         this.parser = parser;
+        canonizer = parser.getStringCanonicalizer();
         getTree().setLevel(-1);
         mostRecentlyAdded = null;
-        lineNum = parser.getLineNum();
+        this.lineNum = lineNum;
     }
 
     /**
@@ -183,7 +198,7 @@ class StringTreeBuilder {
             addTo = lastNodeAtLevel[treeForCurrentLine.getLevel() - 1];
         }
         if (addTo == null) {
-            parser.getErrors().add(treeForCurrentLine.getTag() + " tag at line " + treeForCurrentLine.getLineNum()
+            parser.addParseError(treeForCurrentLine.getTag() + " tag at line " + treeForCurrentLine.getLineNum()
                     + ": Unable to find suitable parent node at level " + (treeForCurrentLine.getLevel() - 1));
         } else {
             addTo.getChildren(true).add(treeForCurrentLine);
@@ -219,7 +234,7 @@ class StringTreeBuilder {
         // Doesn't begin with a level number followed by a space, and we don't have strictLineBreaks
         // required, so it's probably meant to be a continuation of the previous text value.
         if (mostRecentlyAdded == null) {
-            parser.getWarnings().add("Line " + lineNum + " did not begin with a level and tag, so it was discarded.");
+            parser.addParseWarning("Line " + lineNum + " did not begin with a level and tag, so it was discarded.");
         } else {
             // Try to add as a CONT line to previous node, as if the file had been properly escaped
             treeForCurrentLine.setLevel(mostRecentlyAdded.getLevel() + 1);
@@ -227,7 +242,7 @@ class StringTreeBuilder {
             treeForCurrentLine.setValue(line);
             treeForCurrentLine.setParent(mostRecentlyAdded);
             mostRecentlyAdded.getChildren(true).add(treeForCurrentLine);
-            parser.getWarnings().add("Line " + lineNum + " did not begin with a level and tag, so it was treated as a "
+            parser.addParseWarning("Line " + lineNum + " did not begin with a level and tag, so it was treated as a "
                     + "non-standard continuation of the previous line.");
         }
     }
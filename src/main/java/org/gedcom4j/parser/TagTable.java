@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * A lookup table from the text of a tag to a key (usually an enum constant) that a parser can <code>switch</code> on. This lets a
+ * parser decide how to handle each child node with a single hash lookup, rather than testing the tag against every tag it knows
+ * about in turn. Each parser builds its table once, in a static initializer, and shares it across all its instances.
+ * </p>
+ * <p>
+ * Tags should be added in the order they used to be tested in. If the same tag text is added more than once (for example, a tag
+ * that is listed explicitly and is also one of a set of event types), the first one added wins, just as the first matching test
+ * did.
+ * </p>
+ * 
+ * @param <K>
+ *            the type of key the tags map to
+ * @author frizbog
+ */
+final class TagTable<K> {
+
+    /**
+     * Make a table where each of the supplied tags is its own key
+     * 
+     * @param tags
+     *            the tags, in the order they are to be added
+     * @return the table
+     */
+    static TagTable<Tag> of(Tag... tags) {
+        TagTable<Tag> result = new TagTable<>();
+        for (Tag t : tags) {
+            result.add(t.tagText, t);
+        }
+        return result;
+    }
+
+    /**
+     * The keys, by tag text
+     */
+    private final Map<String, K> keys = new HashMap<>();
+
+    /**
+     * Add a tag to the table, unless there is already an entry for the same tag text
+     * 
+     * @param tagText
+     *            the text of the tag
+     * @param key
+     *            the key for the tag
+     * @return this object, so calls can be chained
+     */
+    TagTable<K> add(String tagText, K key) {
+        if (!keys.containsKey(tagText)) {
+            keys.put(tagText, key);
+        }
+        return this;
+    }
+
+    /**
+     * Get the key for a tag
+     * 
+     * @param tagText
+     *            the text of the tag
+     * @return the key for the tag, or null if the tag is not in the table
+     */
+    K get(String tagText) {
+        return keys.get(tagText);
+    }
+}
@@ -44,7 +44,7 @@ public class ParseProgressEvent extends EventObject {
     /**
      * Serial version uid
      */
-    private static final long serialVersionUID = 996714620347714206L;
+    private static final long serialVersionUID = 3178540923264811027L;
 
     /**
      * Is the parse completely processed?
@@ -54,7 +54,7 @@ public class ParseProgressEvent extends EventObject {
     /**
      * The number of lines processed
      */
-    private final int linesParsed;
+    private final long linesParsed;
 
     /**
      * Number of families processed
@@ -103,7 +103,7 @@ public class ParseProgressEvent extends EventObject {
      * @param linesParsed
      *            the number of lines parsed so far
      */
-    public ParseProgressEvent(Object source, Gedcom g, boolean complete, int linesParsed) {
+    public ParseProgressEvent(Object source, Gedcom g, boolean complete, long linesParsed) {
         super(source);
         familiesProcessed = g.getFamilies().size();
         individualsProcessed = g.getIndividuals().size();
@@ -139,7 +139,7 @@ public class ParseProgressEvent extends EventObject {
      * 
      * @return the linesParsed
      */
-    public int getLinesParsed() {
+    public long getLinesParsed() {
         return linesParsed;
     }
 
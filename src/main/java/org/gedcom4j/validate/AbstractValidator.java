@@ -43,6 +43,7 @@ import org.gedcom4j.model.AbstractAddressableElement;
 import org.gedcom4j.model.AbstractCitation;
 import org.gedcom4j.model.ChangeDate;
 import org.gedcom4j.model.CustomFact;
+import org.gedcom4j.model.Family;
 import org.gedcom4j.model.HasCitations;
 import org.gedcom4j.model.HasCustomFacts;
 import org.gedcom4j.model.HasNotes;
@@ -454,7 +455,8 @@ abstract class AbstractValidator implements Serializable {
     }
 
     /**
-     * Check a collection for initialization and fix it, as appropriate
+     * Check a collection for initialization and fix it, as appropriate. Skipped altogether if the validator is
+     * {@link Validator#isSkipInfoChecks() skipping INFO checks}, since this only ever makes {@link Severity#INFO} findings.
      * 
      * @param objectWithCollection
      *            the object with the collection
@@ -462,7 +464,7 @@ abstract class AbstractValidator implements Serializable {
      *            the name of the collection
      */
     protected void checkUninitializedCollection(ModelElement objectWithCollection, String collectionName) {
-        if (!Options.isCollectionInitializationEnabled()) {
+        if (!Options.isCollectionInitializationEnabled() || validator.isSkipInfoChecks()) {
             return;
         }
         if (get(objectWithCollection, collectionName) == null) {
@@ -546,6 +548,16 @@ abstract class AbstractValidator implements Serializable {
         }
     }
 
+    /**
+     * Get the information about the gedcom being validated that is shared between validators, such as parsed birth and death dates
+     * and the parents and children of each individual. Validators should get this once, at the start of {@link #validate()}.
+     * 
+     * @return the information about the gedcom being validated
+     */
+    protected ValidationContext getContext() {
+        return validator.getContext();
+    }
+
     /**
      * Gets the earliest event of a given type on an individual
      *
@@ -575,6 +587,26 @@ abstract class AbstractValidator implements Serializable {
         return result;
     }
 
+    /**
+     * Get the families that a supplementary validator should check. This is all the families in the gedcom, unless only the records
+     * near a change are being checked again by an {@link IncrementalValidator}.
+     * 
+     * @return the families to check. May contain nulls.
+     */
+    protected Iterable<Family> getFamiliesToCheck() {
+        return validator.getFamiliesToCheck();
+    }
+
+    /**
+     * Get the individuals that a supplementary validator should check. This is all the individuals in the gedcom, unless only the
+     * records near a change are being checked again by an {@link IncrementalValidator}.
+     * 
+     * @return the individuals to check. May contain nulls.
+     */
+    protected Iterable<Individual> getIndividualsToCheck() {
+        return validator.getIndividualsToCheck();
+    }
+
     /**
      * Gets the latest event of a given type on an individual
      *
@@ -637,6 +669,18 @@ abstract class AbstractValidator implements Serializable {
         }
     }
 
+    /**
+     * Does this validator only look at each record it checks and that record's immediate family (parents, spouses, children and
+     * siblings), getting the records to check from {@link #getIndividualsToCheck()} and {@link #getFamiliesToCheck()}? If so, an
+     * {@link IncrementalValidator} can run it again for just the records near a change. Validators that look further afield, such
+     * as through all of someone's ancestors, must return false (the default), and are only run by a full validation.
+     * 
+     * @return true if this validator only looks at the immediate family of each record it checks
+     */
+    protected boolean isLimitedToImmediateFamily() {
+        return false;
+    }
+
     /**
      * Is the string supplied non-null, and has something other than whitespace in it?
      * 
@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.validate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.gedcom4j.model.Gedcom;
+import org.gedcom4j.model.Individual;
+
+/**
+ * <p>
+ * The strongly connected components of the graph of parent-to-child links between the individuals in a {@link Gedcom}, as given
+ * by {@link ValidationContext#getParents(Individual)} and {@link ValidationContext#getChildren(Individual)}. Each individual who
+ * is not their own ancestor is a component on their own; people who are all each other's ancestors share a component, which is
+ * then <i>cyclic</i>.
+ * </p>
+ * <p>
+ * The components are found with an iterative version of Tarjan's algorithm, in time proportional to the number of individuals
+ * plus the number of links, and are kept in topological order - every component comes after all the components holding the
+ * ancestors of its members - so that information can be passed down the generations in one pass. Individuals are identified by
+ * their position in the {@link Gedcom}'s map of individuals. Individuals who are not in that map are left out.
+ * </p>
+ * 
+ * @author frizbog
+ */
+final class AncestryComponents {
+
+    /**
+     * The component each individual is in
+     */
+    private final int[] componentOf;
+
+    /**
+     * The members of each component, in ascending order, with the components in topological order
+     */
+    private final List<int[]> components = new ArrayList<>();
+
+    /**
+     * The individuals, in the order they appear in the gedcom
+     */
+    private final List<Individual> individuals;
+
+    /**
+     * The position of each individual in {@link #individuals}
+     */
+    private final Map<Individual, Integer> numbers = new IdentityHashMap<>();
+
+    /**
+     * Constructor. Finds the components.
+     * 
+     * @param gedcom
+     *            the gedcom
+     * @param context
+     *            the validation context, which knows the parents and children of each individual
+     */
+    AncestryComponents(Gedcom gedcom, ValidationContext context) {
+        individuals = new ArrayList<>(gedcom.getIndividuals().size());
+        for (Individual i : gedcom.getIndividuals().values()) {
+            if (i != null && !numbers.containsKey(i)) {
+                numbers.put(i, individuals.size());
+                individuals.add(i);
+            }
+        }
+        componentOf = new int[individuals.size()];
+        findComponents(context);
+    }
+
+    /**
+     * Get the component an individual is in
+     * 
+     * @param individual
+     *            the number of the individual
+     * @return the number of the component
+     */
+    int getComponent(int individual) {
+        return componentOf[individual];
+    }
+
+    /**
+     * Get the number of components
+     * 
+     * @return the number of components
+     */
+    int getComponentCount() {
+        return components.size();
+    }
+
+    /**
+     * Get an individual
+     * 
+     * @param individual
+     *            the number of the individual
+     * @return the individual
+     */
+    Individual getIndividual(int individual) {
+        return individuals.get(individual);
+    }
+
+    /**
+     * Get the number of individuals
+     * 
+     * @return the number of individuals
+     */
+    int getIndividualCount() {
+        return individuals.size();
+    }
+
+    /**
+     * Get the members of a component
+     * 
+     * @param component
+     *            the number of the component
+     * @return the numbers of the individuals in the component, in ascending order. Must not be changed.
+     */
+    int[] getMembers(int component) {
+        return components.get(component);
+    }
+
+    /**
+     * Get the number of an individual
+     * 
+     * @param i
+     *            the individual
+     * @return the number of the individual, or -1 if the individual is not in the gedcom
+     */
+    int getNumber(Individual i) {
+        Integer n = numbers.get(i);
+        return n == null ? -1 : n;
+    }
+
+    /**
+     * Is a component cyclic - that is, are its members their own ancestors?
+     * 
+     * @param component
+     *            the number of the component
+     * @param context
+     *            the validation context
+     * @return true if the component has more than one member, or its only member is their own parent
+     */
+    boolean isCyclic(int component, ValidationContext context) {
+        int[] members = components.get(component);
+        if (members.length > 1) {
+            return true;
+        }
+        Individual i = individuals.get(members[0]);
+        for (Individual kid : context.getChildren(i)) {
+            if (kid == i) { // NOPMD - deliberate checking if same individual
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Find the components, using an iterative version of Tarjan's algorithm so that deep pedigrees can't overflow the stack.
+     * Tarjan's algorithm finishes each component after all the components holding descendants of its members, so the components
+     * are put in topological order by reversing the order they are finished in.
+     * 
+     * @param context
+     *            the validation context, which knows the children of each individual
+     */
+    private void findComponents(ValidationContext context) {
+        int n = individuals.size();
+        int[] index = new int[n];
+        Arrays.fill(index, -1);
+        int[] lowLink = new int[n];
+        boolean[] onStack = new boolean[n];
+        int[] componentStack = new int[n];
+        int componentStackSize = 0;
+        int[] callStack = new int[n];
+        int[] nextChild = new int[n];
+        int callStackSize = 0;
+        int nextIndex = 0;
+
+        for (int root = 0; root < n; root++) {
+            if (index[root] >= 0) {
+                continue;
+            }
+            index[root] = nextIndex;
+            lowLink[root] = nextIndex++;
+            componentStack[componentStackSize++] = root;
+            onStack[root] = true;
+            callStack[callStackSize++] = root;
+
+            while (callStackSize > 0) {
+                int v = callStack[callStackSize - 1];
+                List<Individual> kids = context.getChildren(individuals.get(v));
+                if (nextChild[v] < kids.size()) {
+                    Integer w = numbers.get(kids.get(nextChild[v]++));
+                    if (w == null) {
+                        continue;
+                    }
+                    if (index[w] < 0) {
+                        index[w] = nextIndex;
+                        lowLink[w] = nextIndex++;
+                        componentStack[componentStackSize++] = w;
+                        onStack[w] = true;
+                        callStack[callStackSize++] = w;
+                    } else if (onStack[w]) {
+                        lowLink[v] = Math.min(lowLink[v], index[w]);
+                    }
+                    continue;
+                }
+
+                // All the children of v have been visited
+                callStackSize--;
+                if (callStackSize > 0) {
+                    int parent = callStack[callStackSize - 1];
+                    lowLink[parent] = Math.min(lowLink[parent], lowLink[v]);
+                }
+                if (lowLink[v] == index[v]) {
+                    int start = componentStackSize;
+                    do {
+                        start--;
+                        onStack[componentStack[start]] = false;
+                    } while (componentStack[start] != v);
+                    int[] component = Arrays.copyOfRange(componentStack, start, componentStackSize);
+                    componentStackSize = start;
+                    Arrays.sort(component);
+                    components.add(component);
+                }
+            }
+        }
+
+        // Reverse into topological order, and record which component each individual is in
+        Collections.reverse(components);
+        for (int k = 0; k < components.size(); k++) {
+            for (int member : components.get(k)) {
+                componentOf[member] = k;
+            }
+        }
+    }
+}
@@ -33,7 +33,6 @@ import org.gedcom4j.model.Individual;
 import org.gedcom4j.model.IndividualEvent;
 import org.gedcom4j.model.IndividualReference;
 import org.gedcom4j.model.enumerations.IndividualEventType;
-import org.gedcom4j.parser.DateParser;
 import org.gedcom4j.parser.DateParser.ImpreciseDatePreference;
 import org.gedcom4j.validate.Validator.Finding;
 
@@ -64,41 +63,48 @@ public class BirthsToOldParentsValidator extends AbstractValidator {
         super(v);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isLimitedToImmediateFamily() {
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     protected void validate() {
-        DateParser dp = new DateParser();
-        for (Family f : getValidator().getGedcom().getFamilies().values()) {
+        ValidationContext context = getContext();
+        for (Family f : getFamiliesToCheck()) {
             // No kids? Not interested
             if (f == null || f.getChildren() == null || f.getChildren().isEmpty()) {
                 continue;
             }
 
             Individual husband = (f.getHusband() == null ? null : f.getHusband().getIndividual());
-            IndividualEvent husbandLatestBirth = getLatestEventOfType(husband, IndividualEventType.BIRTH);
+            IndividualEvent husbandLatestBirth = context.getLatestEventOfType(husband, IndividualEventType.BIRTH);
             Date husbandLatestBirthDate = null;
             if (husbandLatestBirth != null) {
-                husbandLatestBirthDate = dp.parse(husbandLatestBirth.getDate().getValue(), ImpreciseDatePreference.FAVOR_LATEST);
+                husbandLatestBirthDate = context.getDate(husbandLatestBirth, ImpreciseDatePreference.FAVOR_LATEST);
             }
-            IndividualEvent husbandEarliestDeath = getEarliestEventOfType(husband, IndividualEventType.DEATH);
+            IndividualEvent husbandEarliestDeath = context.getEarliestEventOfType(husband, IndividualEventType.DEATH);
             Date husbandEarliestDeathDate = null;
             if (husbandEarliestDeath != null) {
-                husbandEarliestDeathDate = dp.parse(husbandEarliestDeath.getDate().getValue(),
-                        ImpreciseDatePreference.FAVOR_EARLIEST);
+                husbandEarliestDeathDate = context.getDate(husbandEarliestDeath, ImpreciseDatePreference.FAVOR_EARLIEST);
             }
 
             Individual wife = (f.getWife() == null ? null : f.getWife().getIndividual());
-            IndividualEvent wifeLatestBirth = getLatestEventOfType(wife, IndividualEventType.BIRTH);
+            IndividualEvent wifeLatestBirth = context.getLatestEventOfType(wife, IndividualEventType.BIRTH);
             Date wifeLatestBirthDate = null;
             if (wifeLatestBirth != null) {
-                wifeLatestBirthDate = dp.parse(wifeLatestBirth.getDate().getValue(), ImpreciseDatePreference.FAVOR_LATEST);
+                wifeLatestBirthDate = context.getDate(wifeLatestBirth, ImpreciseDatePreference.FAVOR_LATEST);
             }
-            IndividualEvent wifeEarliestDeath = getEarliestEventOfType(wife, IndividualEventType.DEATH);
+            IndividualEvent wifeEarliestDeath = context.getEarliestEventOfType(wife, IndividualEventType.DEATH);
             Date wifeEarliestDeathDate = null;
             if (wifeEarliestDeath != null) {
-                wifeEarliestDeathDate = dp.parse(wifeEarliestDeath.getDate().getValue(), ImpreciseDatePreference.FAVOR_EARLIEST);
+                wifeEarliestDeathDate = context.getDate(wifeEarliestDeath, ImpreciseDatePreference.FAVOR_EARLIEST);
             }
 
             // Neither parent has a birth date? Can't calculate, so skip
@@ -108,11 +114,11 @@ public class BirthsToOldParentsValidator extends AbstractValidator {
 
             for (IndividualReference kidRef : f.getChildren()) {
                 Individual kid = (kidRef == null ? null : kidRef.getIndividual());
-                IndividualEvent kidEarliestBirth = getEarliestEventOfType(kid, IndividualEventType.BIRTH);
+                IndividualEvent kidEarliestBirth = context.getEarliestEventOfType(kid, IndividualEventType.BIRTH);
                 if (kidEarliestBirth == null) {
                     continue;
                 }
-                Date kidEarliestBirthDate = dp.parse(kidEarliestBirth.getDate().getValue(), ImpreciseDatePreference.FAVOR_LATEST);
+                Date kidEarliestBirthDate = context.getDate(kidEarliestBirth, ImpreciseDatePreference.FAVOR_LATEST);
 
                 if (wifeLatestBirthDate != null) {
                     long momMillisDiff = kidEarliestBirthDate.getTime() - wifeLatestBirthDate.getTime();
@@ -33,7 +33,6 @@ import org.gedcom4j.model.Individual;
 import org.gedcom4j.model.IndividualEvent;
 import org.gedcom4j.model.IndividualReference;
 import org.gedcom4j.model.enumerations.IndividualEventType;
-import org.gedcom4j.parser.DateParser;
 import org.gedcom4j.parser.DateParser.ImpreciseDatePreference;
 import org.gedcom4j.validate.Validator.Finding;
 
@@ -64,30 +63,38 @@ public class BirthsToYoungParentsValidator extends AbstractValidator {
         super(v);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isLimitedToImmediateFamily() {
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     protected void validate() {
-        DateParser dp = new DateParser();
-        for (Family f : getValidator().getGedcom().getFamilies().values()) {
+        ValidationContext context = getContext();
+        for (Family f : getFamiliesToCheck()) {
             // No kids? Not interested
             if (f == null || f.getChildren() == null || f.getChildren().isEmpty()) {
                 continue;
             }
 
             Individual husband = (f.getHusband() == null ? null : f.getHusband().getIndividual());
-            IndividualEvent husbandLatestBirth = getLatestEventOfType(husband, IndividualEventType.BIRTH);
+            IndividualEvent husbandLatestBirth = context.getLatestEventOfType(husband, IndividualEventType.BIRTH);
             Date husbandLatestBirthDate = null;
             if (husbandLatestBirth != null) {
-                husbandLatestBirthDate = dp.parse(husbandLatestBirth.getDate().getValue(), ImpreciseDatePreference.FAVOR_LATEST);
+                husbandLatestBirthDate = context.getDate(husbandLatestBirth, ImpreciseDatePreference.FAVOR_LATEST);
             }
 
             Individual wife = (f.getWife() == null ? null : f.getWife().getIndividual());
-            IndividualEvent wifeLatestBirth = getLatestEventOfType(wife, IndividualEventType.BIRTH);
+            IndividualEvent wifeLatestBirth = context.getLatestEventOfType(wife, IndividualEventType.BIRTH);
             Date wifeLatestBirthDate = null;
             if (wifeLatestBirth != null) {
-                wifeLatestBirthDate = dp.parse(wifeLatestBirth.getDate().getValue(), ImpreciseDatePreference.FAVOR_LATEST);
+                wifeLatestBirthDate = context.getDate(wifeLatestBirth, ImpreciseDatePreference.FAVOR_LATEST);
             }
 
             // Neither parent has a birth date? Can't calculate, so skip
@@ -97,11 +104,11 @@ public class BirthsToYoungParentsValidator extends AbstractValidator {
 
             for (IndividualReference kidRef : f.getChildren()) {
                 Individual kid = (kidRef == null ? null : kidRef.getIndividual());
-                IndividualEvent kidEarliestBirth = getEarliestEventOfType(kid, IndividualEventType.BIRTH);
+                IndividualEvent kidEarliestBirth = context.getEarliestEventOfType(kid, IndividualEventType.BIRTH);
                 if (kidEarliestBirth == null) {
                     continue;
                 }
-                Date kidEarliestBirthDate = dp.parse(kidEarliestBirth.getDate().getValue(), ImpreciseDatePreference.FAVOR_EARLIEST);
+                Date kidEarliestBirthDate = context.getDate(kidEarliestBirth, ImpreciseDatePreference.FAVOR_EARLIEST);
 
                 if (wifeLatestBirthDate != null) {
                     long momMillisDiff = kidEarliestBirthDate.getTime() - wifeLatestBirthDate.getTime();
@@ -26,16 +26,25 @@
  */
 package org.gedcom4j.validate;
 
+import java.util.Arrays;
 import java.util.Date;
 
 import org.gedcom4j.model.Individual;
 import org.gedcom4j.model.IndividualEvent;
 import org.gedcom4j.model.enumerations.IndividualEventType;
-import org.gedcom4j.parser.DateParser;
 import org.gedcom4j.parser.DateParser.ImpreciseDatePreference;
 
 /**
+ * <p>
  * Validator that finds people with birthdates earlier than their ancestors.
+ * </p>
+ * <p>
+ * Rather than comparing everyone with each of their ancestors, the latest birth date among each person's ancestors is passed down
+ * the generations in one pass over the {@link AncestryComponents}, in topological order. Only people born before that date have
+ * their ancestors searched, and then only along the lines that lead to an ancestor born after them, so that each such ancestor can
+ * be reported. On a tree with few problems, this takes time proportional to the number of individuals plus the number of
+ * parent-to-child links.
+ * </p>
  * 
  * @author frizbog
  */
@@ -46,6 +55,11 @@ public class BornBeforeAncestorsValidator extends AbstractValidator {
      */
     private static final long serialVersionUID = -9011648733929347548L;
 
+    /**
+     * Stands for no date
+     */
+    private static final long NO_DATE = Long.MIN_VALUE;
+
     /**
      * Constructor
      * 
@@ -61,30 +75,129 @@ public class BornBeforeAncestorsValidator extends AbstractValidator {
      */
     @Override
     protected void validate() {
-        DateParser dp = new DateParser();
-        for (Individual i : getValidator().getGedcom().getIndividuals().values()) {
-            IndividualEvent ib = getEarliestEventOfType(i, IndividualEventType.BIRTH);
-            if (ib == null || ib.getDate() == null || ib.getDate().getValue() == null) {
+        ValidationContext context = getContext();
+        AncestryComponents ac = context.getAncestryComponents();
+        int n = ac.getIndividualCount();
+
+        // The latest birth date of each individual, favoring the latest date when imprecise
+        long[] latestBirth = new long[n];
+        for (int i = 0; i < n; i++) {
+            IndividualEvent b = context.getLatestEventOfType(ac.getIndividual(i), IndividualEventType.BIRTH);
+            Date d = context.getDate(b, ImpreciseDatePreference.FAVOR_LATEST);
+            latestBirth[i] = (d == null ? NO_DATE : d.getTime());
+        }
+
+        long[] latestAncestorBirth = findLatestAncestorBirths(context, ac, latestBirth);
+
+        int[] stack = new int[n];
+        boolean[] visited = new boolean[n];
+        int[] touched = new int[n];
+        for (int i = 0; i < n; i++) {
+            if (latestAncestorBirth[i] == NO_DATE) {
                 continue;
             }
-            Date ibd = dp.parse(ib.getDate().getValue(), ImpreciseDatePreference.FAVOR_EARLIEST);
-            if (ibd == null) {
+            Individual individual = ac.getIndividual(i);
+            IndividualEvent ib = context.getEarliestEventOfType(individual, IndividualEventType.BIRTH);
+            Date ibd = context.getDate(ib, ImpreciseDatePreference.FAVOR_EARLIEST);
+            if (ibd == null || latestAncestorBirth[i] <= ibd.getTime()) {
                 continue;
             }
-            for (Individual a : i.getAncestors()) {
-                if (a == i) { // NOPMD - deliberate checking if same individual
-                    continue;
+            reportAncestorsBornAfter(context, ac, i, ibd.getTime(), latestBirth, latestAncestorBirth, stack, visited, touched);
+        }
+    }
+
+    /**
+     * Pass the latest birth date among each individual's ancestors down the generations. All the members of a cyclic component are
+     * ancestors of each other, so they share the latest birth date among them (including their own, which makes this an upper
+     * bound for them rather than exact - which is all that is needed to decide whose ancestors to search).
+     * 
+     * @param context
+     *            the validation context
+     * @param ac
+     *            the strongly connected components of the graph of parents and children
+     * @param latestBirth
+     *            the latest birth date of each individual
+     * @return the latest birth date among the ancestors of each individual
+     */
+    private long[] findLatestAncestorBirths(ValidationContext context, AncestryComponents ac, long[] latestBirth) {
+        long[] result = new long[ac.getIndividualCount()];
+        Arrays.fill(result, NO_DATE);
+        for (int c = 0; c < ac.getComponentCount(); c++) {
+            int[] members = ac.getMembers(c);
+            long latest = NO_DATE;
+            for (int m : members) {
+                for (Individual parent : context.getParents(ac.getIndividual(m))) {
+                    int p = ac.getNumber(parent);
+                    if (p >= 0 && ac.getComponent(p) != c) {
+                        latest = Math.max(latest, Math.max(latestBirth[p], result[p]));
+                    }
+                }
+            }
+            if (ac.isCyclic(c, context)) {
+                for (int m : members) {
+                    latest = Math.max(latest, latestBirth[m]);
                 }
-                IndividualEvent ab = getLatestEventOfType(a, IndividualEventType.BIRTH);
-                if (ab == null || ab.getDate() == null || ab.getDate().getValue() == null) {
+            }
+            for (int m : members) {
+                result[m] = latest;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Search the ancestors of an individual for those born after them, following only the lines that lead to someone born after
+     * them, and make a finding for each one found
+     * 
+     * @param context
+     *            the validation context
+     * @param ac
+     *            the strongly connected components of the graph of parents and children
+     * @param i
+     *            the individual
+     * @param earliestBirth
+     *            the earliest birth date of the individual
+     * @param latestBirth
+     *            the latest birth date of each individual
+     * @param latestAncestorBirth
+     *            the latest birth date among the ancestors of each individual
+     * @param stack
+     *            working space for the search
+     * @param visited
+     *            working space for the search - all false, and left all false
+     * @param touched
+     *            working space for the search
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    private void reportAncestorsBornAfter(ValidationContext context, AncestryComponents ac, int i, long earliestBirth,
+            long[] latestBirth, long[] latestAncestorBirth, int[] stack, boolean[] visited, int[] touched) {
+        Individual individual = ac.getIndividual(i);
+        int stackSize = 0;
+        int touchedCount = 0;
+        stack[stackSize++] = i;
+        visited[i] = true;
+        touched[touchedCount++] = i;
+        while (stackSize > 0) {
+            int v = stack[--stackSize];
+            for (Individual parent : context.getParents(ac.getIndividual(v))) {
+                int p = ac.getNumber(parent);
+                if (p < 0 || visited[p]) {
                     continue;
                 }
-                Date abd = dp.parse(ab.getDate().getValue(), ImpreciseDatePreference.FAVOR_LATEST);
-                if (abd != null && abd.after(ibd)) {
-                    newFinding(i, Severity.WARNING, ProblemCode.DESCENDANT_BORN_BEFORE_ANCESTOR, null).getRelatedItems(true).add(a);
+                visited[p] = true;
+                touched[touchedCount++] = p;
+                if (latestBirth[p] != NO_DATE && latestBirth[p] > earliestBirth) {
+                    newFinding(individual, Severity.WARNING, ProblemCode.DESCENDANT_BORN_BEFORE_ANCESTOR, null)
+                            .getRelatedItems(true).add(parent);
+                }
+                if (latestAncestorBirth[p] > earliestBirth) {
+                    stack[stackSize++] = p;
                 }
             }
         }
+        for (int t = 0; t < touchedCount; t++) {
+            visited[touched[t]] = false;
+        }
     }
 
 }
@@ -26,15 +26,23 @@
  */
 package org.gedcom4j.validate;
 
-import org.gedcom4j.model.Family;
-import org.gedcom4j.model.FamilyChild;
-import org.gedcom4j.model.Individual;
-import org.gedcom4j.relationship.Relationship;
-import org.gedcom4j.relationship.RelationshipCalculator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
 import org.gedcom4j.validate.Validator.Finding;
 
 /**
- * Validator that finds circular ancestral relationships
+ * <p>
+ * Validator that finds circular ancestral relationships - people who are their own ancestors.
+ * </p>
+ * <p>
+ * Uses the {@link AncestryComponents} of the parent-to-child links, which are found in a single pass that takes time
+ * proportional to the number of individuals plus the number of links. Every cyclic component is a set of people who are all each
+ * other's ancestors, and is reported once, as a finding on the member that comes first in the gedcom with all the members as
+ * related items.
+ * </p>
  * 
  * @author frizbog
  */
@@ -58,37 +66,27 @@ public class CircularAncestryValidator extends AbstractValidator {
      */
     @Override
     protected void validate() {
-        RelationshipCalculator rc = new RelationshipCalculator();
-        for (Individual i : getValidator().getGedcom().getIndividuals().values()) {
-            if (i == null || i.getFamiliesWhereChild() == null) {
-                continue;
-            }
-            for (FamilyChild fc : i.getFamiliesWhereChild()) {
-                Family f = fc.getFamily();
+        ValidationContext context = getContext();
+        AncestryComponents ac = context.getAncestryComponents();
 
-                // Check father's side
-                Individual father = (f.getHusband() == null ? null : f.getHusband().getIndividual());
-                if (father != null && father.getAncestors().contains(i)) {
-                    Finding finding = newFinding(i, Severity.ERROR, ProblemCode.CIRCULAR_ANCESTRAL_RELATIONSHIP,
-                            "familiesWhereChild");
-                    rc.calculateRelationships(father, i, false);
-                    for (Relationship r : rc.getRelationshipsFound()) {
-                        finding.getRelatedItems(true).add(r.getIndividual2());
-                    }
-                }
-
-                // Check mother's side
-                Individual mother = (f.getWife() == null ? null : f.getWife().getIndividual());
-                if (mother != null && mother.getAncestors().contains(i)) {
-                    Finding finding = newFinding(i, Severity.ERROR, ProblemCode.CIRCULAR_ANCESTRAL_RELATIONSHIP,
-                            "familiesWhereChild");
-                    rc.calculateRelationships(mother, i, false);
-                    for (Relationship r : rc.getRelationshipsFound()) {
-                        finding.getRelatedItems(true).add(r.getIndividual2());
-                    }
-                }
+        List<int[]> cycles = new ArrayList<>();
+        for (int c = 0; c < ac.getComponentCount(); c++) {
+            if (ac.isCyclic(c, context)) {
+                cycles.add(ac.getMembers(c));
+            }
+        }
+        Collections.sort(cycles, new Comparator<int[]>() {
+            @Override
+            public int compare(int[] o1, int[] o2) {
+                return Integer.compare(o1[0], o2[0]);
+            }
+        });
+        for (int[] cycle : cycles) {
+            Finding finding = newFinding(ac.getIndividual(cycle[0]), Severity.ERROR, ProblemCode.CIRCULAR_ANCESTRAL_RELATIONSHIP,
+                    "familiesWhereChild");
+            for (int member : cycle) {
+                finding.getRelatedItems(true).add(ac.getIndividual(member));
             }
-
         }
     }
 }
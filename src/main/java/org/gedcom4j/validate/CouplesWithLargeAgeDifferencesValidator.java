@@ -32,7 +32,6 @@ import org.gedcom4j.model.Family;
 import org.gedcom4j.model.Individual;
 import org.gedcom4j.model.IndividualEvent;
 import org.gedcom4j.model.enumerations.IndividualEventType;
-import org.gedcom4j.parser.DateParser;
 import org.gedcom4j.parser.DateParser.ImpreciseDatePreference;
 
 /**
@@ -62,30 +61,38 @@ public class CouplesWithLargeAgeDifferencesValidator extends AbstractValidator {
         super(validator);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isLimitedToImmediateFamily() {
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     protected void validate() {
-        DateParser dp = new DateParser();
+        ValidationContext context = getContext();
 
-        for (Family f : getValidator().getGedcom().getFamilies().values()) {
+        for (Family f : getFamiliesToCheck()) {
             if (f == null || f.getHusband() == null || f.getWife() == null) {
                 continue;
             }
 
             Individual husband = (f.getHusband() == null ? null : f.getHusband().getIndividual());
-            IndividualEvent husbandLatestBirth = getLatestEventOfType(husband, IndividualEventType.BIRTH);
+            IndividualEvent husbandLatestBirth = context.getLatestEventOfType(husband, IndividualEventType.BIRTH);
             Date husbandLatestBirthDate = null;
             if (husbandLatestBirth != null) {
-                husbandLatestBirthDate = dp.parse(husbandLatestBirth.getDate().getValue(), ImpreciseDatePreference.FAVOR_LATEST);
+                husbandLatestBirthDate = context.getDate(husbandLatestBirth, ImpreciseDatePreference.FAVOR_LATEST);
             }
 
             Individual wife = (f.getWife() == null ? null : f.getWife().getIndividual());
-            IndividualEvent wifeLatestBirth = getLatestEventOfType(wife, IndividualEventType.BIRTH);
+            IndividualEvent wifeLatestBirth = context.getLatestEventOfType(wife, IndividualEventType.BIRTH);
             Date wifeLatestBirthDate = null;
             if (wifeLatestBirth != null) {
-                wifeLatestBirthDate = dp.parse(wifeLatestBirth.getDate().getValue(), ImpreciseDatePreference.FAVOR_LATEST);
+                wifeLatestBirthDate = context.getDate(wifeLatestBirth, ImpreciseDatePreference.FAVOR_LATEST);
             }
 
             // Both spouses need a birth date to proceed
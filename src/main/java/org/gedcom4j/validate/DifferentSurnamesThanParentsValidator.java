@@ -56,12 +56,20 @@ public class DifferentSurnamesThanParentsValidator extends AbstractValidator {
         super(validator);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isLimitedToImmediateFamily() {
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     protected void validate() {
-        for (Individual i : getValidator().getGedcom().getIndividuals().values()) {
+        for (Individual i : getIndividualsToCheck()) {
             if (i == null || i.getFamiliesWhereChild() == null || i.getFamiliesWhereChild().isEmpty()) {
                 continue;
             }
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.validate;
+
+import org.gedcom4j.validate.Validator.Finding;
+
+/**
+ * Something that findings can be passed to as they are made, instead of being kept in {@link ValidationResults} - for example, to
+ * write them to a file, or just to count them. Register one with {@link Validator#setFindingSink(FindingSink)}.
+ * 
+ * @author frizbog
+ * @since 4.0.0
+ */
+public interface FindingSink {
+
+    /**
+     * Accept a finding. Findings are passed on the thread that called {@link Validator#validate()}, in the order they would be
+     * made when validating on one thread, and once the validator that made them has finished with them (so their related items
+     * and repairs are complete).
+     * 
+     * @param finding
+     *            the finding
+     */
+    void add(Finding finding);
+}
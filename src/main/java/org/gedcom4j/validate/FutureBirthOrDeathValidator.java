@@ -32,7 +32,7 @@ import java.util.List;
 import org.gedcom4j.model.Individual;
 import org.gedcom4j.model.IndividualEvent;
 import org.gedcom4j.model.enumerations.IndividualEventType;
-import org.gedcom4j.parser.DateParser;
+import org.gedcom4j.parser.DateParser.ImpreciseDatePreference;
 
 /**
  * Validator that checks for birth or death dates in the future
@@ -46,11 +46,6 @@ public class FutureBirthOrDeathValidator extends AbstractValidator {
      */
     private static final long serialVersionUID = -8668522986153083890L;
 
-    /**
-     * Date parser
-     */
-    private final DateParser dp = new DateParser();
-
     /**
      * Right now
      */
@@ -67,20 +62,28 @@ public class FutureBirthOrDeathValidator extends AbstractValidator {
         super(validator);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isLimitedToImmediateFamily() {
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     protected void validate() {
-        for (Individual i : getValidator().getGedcom().getIndividuals().values()) {
+        ValidationContext context = getContext();
+        for (Individual i : getIndividualsToCheck()) {
             if (i == null) {
                 continue;
             }
             List<IndividualEvent> births = i.getEventsOfType(IndividualEventType.BIRTH);
             for (IndividualEvent b : births) {
                 if (b.getDate() != null && b.getDate().getValue() != null && !b.getDate().getValue().isEmpty()) {
-                    String dateString = b.getDate().getValue();
-                    Date bd = dp.parse(dateString);
+                    Date bd = context.getDate(b, ImpreciseDatePreference.PRECISE);
                     if (bd != null && now.before(bd)) {
                         newFinding(b, Severity.ERROR, ProblemCode.DATE_IN_FUTURE, "date").getRelatedItems(true).add(i);
                     }
@@ -89,8 +92,7 @@ public class FutureBirthOrDeathValidator extends AbstractValidator {
             List<IndividualEvent> deaths = i.getEventsOfType(IndividualEventType.DEATH);
             for (IndividualEvent d : deaths) {
                 if (d.getDate() != null && d.getDate().getValue() != null && !d.getDate().getValue().isEmpty()) {
-                    String dateString = d.getDate().getValue();
-                    Date dd = dp.parse(dateString);
+                    Date dd = context.getDate(d, ImpreciseDatePreference.PRECISE);
                     if (dd != null && now.before(dd)) {
                         newFinding(d, Severity.ERROR, ProblemCode.DATE_IN_FUTURE, "date").getRelatedItems(true).add(i);
                     }
@@ -0,0 +1,571 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.validate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.gedcom4j.model.Family;
+import org.gedcom4j.model.FamilyChild;
+import org.gedcom4j.model.FamilySpouse;
+import org.gedcom4j.model.Gedcom;
+import org.gedcom4j.model.Individual;
+import org.gedcom4j.model.IndividualReference;
+import org.gedcom4j.model.ModelElement;
+import org.gedcom4j.model.Source;
+
+/**
+ * <p>
+ * A {@link Validator} that can bring its results up to date after a few records have been changed, without validating the whole
+ * {@link Gedcom} again. This suits editors that want to show the findings for a file as the user changes it.
+ * </p>
+ * <p>
+ * Call {@link #validate()} once to validate the whole {@link Gedcom}. This files each finding under the record that was being
+ * checked when it was made. Then, after changing some individuals, families or sources, pass them to
+ * {@link #revalidate(Collection)}. This removes the findings filed under the changed records and their immediate families (their
+ * parents, spouses, children and siblings, and the families that link them), validates the changed records again (with the
+ * families whose husband or wife changed, as validating a family validates its husband and wife too), and runs the supplementary
+ * validators that are {@link AbstractValidator#isLimitedToImmediateFamily() limited to immediate family} over just those records.
+ * The new findings are added to the same {@link ValidationResults}.
+ * </p>
+ * <p>
+ * When a link between records is added or removed, both records must be passed to {@link #revalidate(Collection)}, as each is
+ * changed. Records that have been removed from the {@link Gedcom} can be passed too - their findings are removed, and they are not
+ * validated again. Sources have no checks of their own, and citations of sources don't look inside the source, so changing a
+ * source on its own changes no findings.
+ * </p>
+ * <p>
+ * Some findings are only brought up to date by the next {@link #validate()}: those about the header, submission and trailer, the
+ * other kinds of record, and the {@link Gedcom} as a whole, and those made by supplementary validators that look beyond immediate
+ * family, such as the checks for circular ancestry and for people born before their ancestors.
+ * </p>
+ * <p>
+ * Incremental validators always validate on the calling thread, so that each finding can be filed under the record it was made
+ * for.
+ * </p>
+ * 
+ * @author frizbog
+ * @since 4.0.0
+ */
+public class IncrementalValidator extends Validator {
+
+    /**
+     * The individuals and families near some changed records, each once, in the order found
+     */
+    private static final class Nearby {
+
+        /**
+         * The families
+         */
+        private final List<Family> families = new ArrayList<>();
+
+        /**
+         * The individuals
+         */
+        private final List<Individual> individuals = new ArrayList<>();
+
+        /**
+         * The records already added
+         */
+        private final Set<ModelElement> seen = Collections.newSetFromMap(new IdentityHashMap<ModelElement, Boolean>());
+
+        /**
+         * Add a family, and its husband, wife and children
+         * 
+         * @param f
+         *            the family
+         */
+        void addFamily(Family f) {
+            if (f == null || !seen.add(f)) {
+                return;
+            }
+            families.add(f);
+            addIndividual(f.getHusband());
+            addIndividual(f.getWife());
+            if (f.getChildren() != null) {
+                for (IndividualReference kid : f.getChildren()) {
+                    addIndividual(kid);
+                }
+            }
+        }
+
+        /**
+         * Add an individual, the families they are a child or spouse in, and the members of those families
+         * 
+         * @param i
+         *            the individual
+         */
+        void addImmediateFamily(Individual i) {
+            if (seen.add(i)) {
+                individuals.add(i);
+            }
+            if (i.getFamiliesWhereChild() != null) {
+                for (FamilyChild fc : i.getFamiliesWhereChild()) {
+                    if (fc != null) {
+                        addFamily(fc.getFamily());
+                    }
+                }
+            }
+            if (i.getFamiliesWhereSpouse() != null) {
+                for (FamilySpouse fs : i.getFamiliesWhereSpouse()) {
+                    if (fs != null) {
+                        addFamily(fs.getFamily());
+                    }
+                }
+            }
+        }
+
+        /**
+         * Add an individual
+         * 
+         * @param ref
+         *            a reference to the individual
+         */
+        private void addIndividual(IndividualReference ref) {
+            if (ref != null && ref.getIndividual() != null && seen.add(ref.getIndividual())) {
+                individuals.add(ref.getIndividual());
+            }
+        }
+    }
+
+    /**
+     * The records for a supplementary validator to check, which notes each record as the one being checked as it is reached
+     * 
+     * @param <T>
+     *            the type of record
+     */
+    private final class RecordsToCheck<T extends ModelElement> implements Iterable<T> {
+
+        /**
+         * The records to check
+         */
+        private final Iterable<T> records;
+
+        /**
+         * Constructor
+         * 
+         * @param records
+         *            the records to check
+         */
+        RecordsToCheck(Iterable<T> records) {
+            this.records = records;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Iterator<T> iterator() {
+            final Iterator<T> itr = records.iterator();
+            return new Iterator<T>() {
+
+                @Override
+                public boolean hasNext() {
+                    return itr.hasNext();
+                }
+
+                @Override
+                public T next() {
+                    T result = itr.next();
+                    recordBeingChecked = result;
+                    return result;
+                }
+
+                @Override
+                public void remove() {
+                    itr.remove();
+                }
+            };
+        }
+    }
+
+    /**
+     * Serial Version UID
+     */
+    private static final long serialVersionUID = -2204934615381120553L;
+
+    /**
+     * The families to check, when only checking the records near a change
+     */
+    private transient List<Family> familiesInScope;
+
+    /**
+     * The findings made by the supplementary validators that are limited to immediate family, by the record being checked when they
+     * were made
+     */
+    private final Map<ModelElement, List<Finding>> familyCheckFindings = new IdentityHashMap<>();
+
+    /**
+     * Where findings being made now are to be filed, or null if they are not to be filed
+     */
+    private transient Map<ModelElement, List<Finding>> filingIndex;
+
+    /**
+     * The individuals to check, when only checking the records near a change
+     */
+    private transient List<Individual> individualsInScope;
+
+    /**
+     * The context shared by the supplementary validators while checking the records near a change
+     */
+    private transient ValidationContext nearbyContext;
+
+    /**
+     * The record being checked, which findings being made now are filed under
+     */
+    private transient ModelElement recordBeingChecked;
+
+    /**
+     * The findings made while validating each record, by record
+     */
+    private final Map<ModelElement, List<Finding>> recordCheckFindings = new IdentityHashMap<>();
+
+    /**
+     * Instantiates a new incremental validator.
+     *
+     * @param gedcom
+     *            the gedcom being validated. Required.
+     * @throws IllegalArgumentException
+     *             if a null Gedcom is passed in.
+     */
+    public IncrementalValidator(Gedcom gedcom) {
+        super(gedcom);
+    }
+
+    /**
+     * Get the findings filed under a record - those made while validating the record, and those made by the supplementary
+     * validators limited to immediate family while checking the record
+     * 
+     * @param record
+     *            the record
+     * @return the findings filed under the record. Always returns a list, though it may be empty
+     */
+    public List<Finding> getFindingsForRecord(ModelElement record) {
+        List<Finding> result = new ArrayList<>();
+        List<Finding> list = recordCheckFindings.get(record);
+        if (list != null) {
+            result.addAll(list);
+        }
+        list = familyCheckFindings.get(record);
+        if (list != null) {
+            result.addAll(list);
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Finding newFinding(ModelElement itemOfConcern, Severity severity, ProblemCode problemCode, String fieldNameOfConcern) {
+        Finding f = super.newFinding(itemOfConcern, severity, problemCode, fieldNameOfConcern);
+        if (filingIndex != null && recordBeingChecked != null && (severity != Severity.INFO || !isSkipInfoChecks())) {
+            List<Finding> list = filingIndex.get(recordBeingChecked);
+            if (list == null) {
+                list = new ArrayList<>(2);
+                filingIndex.put(recordBeingChecked, list);
+            }
+            list.add(f);
+        }
+        return f;
+    }
+
+    /**
+     * Bring the results up to date after some records have been changed, by checking the changed records and their immediate
+     * families again. {@link #validate()} must have been called first. If {@link #setProfiling(boolean) profiling}, the
+     * {@link #getProfile() profile} afterwards is of this revalidation alone.
+     * 
+     * @param changedRecords
+     *            the records that have been changed. Required. May only contain {@link Individual}s, {@link Family}s and
+     *            {@link Source}s.
+     * @throws IllegalArgumentException
+     *             if changedRecords is null, or contains any other kind of record
+     */
+    public void revalidate(Collection<? extends ModelElement> changedRecords) {
+        if (changedRecords == null) {
+            throw new IllegalArgumentException("changedRecords is a required argument");
+        }
+        Set<ModelElement> changed = Collections.newSetFromMap(new IdentityHashMap<ModelElement, Boolean>());
+        List<ModelElement> toValidate = new ArrayList<>();
+        Nearby nearby = new Nearby();
+        for (ModelElement r : changedRecords) {
+            if (r instanceof Individual) {
+                nearby.addImmediateFamily((Individual) r);
+            } else if (r instanceof Family) {
+                nearby.addFamily((Family) r);
+            } else if (r != null && !(r instanceof Source)) {
+                throw new IllegalArgumentException("Only individuals, families and sources can be revalidated, not "
+                        + r.getClass().getName() + " - call validate() instead");
+            }
+            if (r != null && changed.add(r)) {
+                toValidate.add(r);
+            }
+        }
+
+        /*
+         * Validating a family validates its husband and wife too, so the families of changed spouses are validated again as well
+         */
+        for (Family f : nearby.families) {
+            if (!changed.contains(f) && (isChanged(f.getHusband(), changed) || isChanged(f.getWife(), changed))) {
+                toValidate.add(f);
+            }
+        }
+
+        long profileStart = startProfile();
+        List<Finding> stale = new ArrayList<>();
+        for (ModelElement r : toValidate) {
+            addAllIfAny(stale, recordCheckFindings.remove(r));
+        }
+        for (Individual i : nearby.individuals) {
+            addAllIfAny(stale, familyCheckFindings.remove(i));
+        }
+        for (Family f : nearby.families) {
+            addAllIfAny(stale, familyCheckFindings.remove(f));
+        }
+        getResults().removeAll(stale);
+
+        for (ModelElement r : toValidate) {
+            if (r instanceof Individual && isInGedcom((Individual) r)) {
+                validateRecord(r, new IndividualValidator(this, (Individual) r));
+            } else if (r instanceof Family && isInGedcom((Family) r)) {
+                validateRecord(r, new FamilyValidator(this, (Family) r));
+            }
+        }
+
+        individualsInScope = new ArrayList<>(nearby.individuals.size());
+        for (Individual i : nearby.individuals) {
+            if (isInGedcom(i)) {
+                individualsInScope.add(i);
+            }
+        }
+        familiesInScope = new ArrayList<>(nearby.families.size());
+        for (Family f : nearby.families) {
+            if (isInGedcom(f)) {
+                familiesInScope.add(f);
+            }
+        }
+        nearbyContext = new ValidationContext(getGedcom(), false);
+        try {
+            for (Class<? extends AbstractValidator> avc : getSupplementaryValidators()) {
+                AbstractValidator v = newSupplementaryValidator(avc);
+                if (v.isLimitedToImmediateFamily()) {
+                    validateRecord(null, v);
+                }
+            }
+        } finally {
+            individualsInScope = null;
+            familiesInScope = null;
+            nearbyContext = null;
+        }
+        finishProfile(profileStart);
+    }
+
+    /**
+     * Incremental validators keep every finding in the results, so that they can be brought up to date after a change.
+     * 
+     * @param findingSink
+     *            where findings are to be passed as they are made. Must be null.
+     * @throws UnsupportedOperationException
+     *             if findingSink is not null
+     */
+    @Override
+    public void setFindingSink(FindingSink findingSink) {
+        if (findingSink != null) {
+            throw new UnsupportedOperationException("Incremental validators keep all their findings in the results");
+        }
+        super.setFindingSink(findingSink);
+    }
+
+    /**
+     * Incremental validators always validate the whole gedcom, so that the results can be brought up to date after a change.
+     * 
+     * @param maxErrors
+     *            the number of errors after which validation stops. Must be 0 (no limit).
+     * @throws IllegalArgumentException
+     *             if maxErrors is negative
+     * @throws UnsupportedOperationException
+     *             if maxErrors is more than 0
+     */
+    @Override
+    public void setMaxErrors(int maxErrors) {
+        if (maxErrors > 0) {
+            throw new UnsupportedOperationException("Incremental validators always validate the whole gedcom");
+        }
+        super.setMaxErrors(maxErrors);
+    }
+
+    /**
+     * Incremental validators always validate on the calling thread, so that each finding can be filed under the record it was made
+     * for.
+     * 
+     * @param parallelism
+     *            the number of threads to validate on. Must be 1.
+     * @throws IllegalArgumentException
+     *             if parallelism is less than 1
+     * @throws UnsupportedOperationException
+     *             if parallelism is more than 1
+     */
+    @Override
+    public void setParallelism(int parallelism) {
+        if (parallelism > 1) {
+            throw new UnsupportedOperationException("Incremental validators only validate on the calling thread");
+        }
+        super.setParallelism(parallelism);
+    }
+
+    /**
+     * Validate the whole gedcom, filing each finding under the record being checked when it was made
+     */
+    @Override
+    public void validate() {
+        recordCheckFindings.clear();
+        familyCheckFindings.clear();
+        super.validate();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ValidationContext getContext() {
+        ValidationContext c = nearbyContext;
+        if (c != null) {
+            return c;
+        }
+        return super.getContext();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    Iterable<Family> getFamiliesToCheck() {
+        Iterable<Family> result = familiesInScope;
+        if (result == null) {
+            result = super.getFamiliesToCheck();
+        }
+        if (filingIndex == null) {
+            return result;
+        }
+        return new RecordsToCheck<>(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    Iterable<Individual> getIndividualsToCheck() {
+        Iterable<Individual> result = individualsInScope;
+        if (result == null) {
+            result = super.getIndividualsToCheck();
+        }
+        if (filingIndex == null) {
+            return result;
+        }
+        return new RecordsToCheck<>(result);
+    }
+
+    /**
+     * Run a validator, filing the findings it makes under the record being validated - or, for a supplementary validator limited to
+     * immediate family, under each record it checks
+     * 
+     * @param record
+     *            the record being validated, or null if the validator is a supplementary validator
+     * @param v
+     *            the validator to run
+     */
+    @Override
+    void validateRecord(ModelElement record, AbstractValidator v) {
+        if (record != null) {
+            recordBeingChecked = record;
+            filingIndex = recordCheckFindings;
+        } else if (v.isLimitedToImmediateFamily()) {
+            filingIndex = familyCheckFindings;
+        }
+        try {
+            runValidator(v);
+        } finally {
+            recordBeingChecked = null;
+            filingIndex = null;
+        }
+    }
+
+    /**
+     * Add the findings from a list, if there is one
+     * 
+     * @param all
+     *            the list to add to
+     * @param findings
+     *            the findings to add. May be null.
+     */
+    private static void addAllIfAny(List<Finding> all, List<Finding> findings) {
+        if (findings != null) {
+            all.addAll(findings);
+        }
+    }
+
+    /**
+     * Is the individual referred to one of the changed records?
+     * 
+     * @param ref
+     *            the reference to the individual. May be null.
+     * @param changed
+     *            the changed records
+     * @return true if the individual referred to is one of the changed records
+     */
+    private static boolean isChanged(IndividualReference ref, Set<ModelElement> changed) {
+        return ref != null && ref.getIndividual() != null && changed.contains(ref.getIndividual());
+    }
+
+    /**
+     * Is a family still in the gedcom?
+     * 
+     * @param f
+     *            the family
+     * @return true if the family is in the gedcom, under its xref
+     */
+    private boolean isInGedcom(Family f) {
+        return f.getXref() != null && getGedcom().getFamilies().get(f.getXref()) == f; // NOPMD - deliberately checking identity
+    }
+
+    /**
+     * Is an individual still in the gedcom?
+     * 
+     * @param i
+     *            the individual
+     * @return true if the individual is in the gedcom, under their xref
+     */
+    private boolean isInGedcom(Individual i) {
+        return i.getXref() != null && getGedcom().getIndividuals().get(i.getXref()) == i; // NOPMD - deliberately checking identity
+    }
+}
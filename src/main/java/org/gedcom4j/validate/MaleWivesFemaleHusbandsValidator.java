@@ -52,12 +52,20 @@ public class MaleWivesFemaleHusbandsValidator extends AbstractValidator {
 
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isLimitedToImmediateFamily() {
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     protected void validate() {
-        for (Family f : getValidator().getGedcom().getFamilies().values()) {
+        for (Family f : getFamiliesToCheck()) {
             if (f == null) {
                 continue;
             }
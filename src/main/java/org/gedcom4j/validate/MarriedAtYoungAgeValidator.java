@@ -56,6 +56,11 @@ public class MarriedAtYoungAgeValidator extends AbstractValidator {
      */
     private static final long MILLIS_IN_SIXTEEN_YEARS = (long) (16 * 365.25 * 24 * 60 * 60 * 1000);
 
+    /**
+     * Information about the gedcom shared between validators
+     */
+    private transient ValidationContext context;
+
     /**
      * Date parser
      */
@@ -75,9 +80,17 @@ public class MarriedAtYoungAgeValidator extends AbstractValidator {
      * {@inheritDoc}
      */
     @Override
-    protected void validate() {
+    protected boolean isLimitedToImmediateFamily() {
+        return true;
+    }
 
-        for (Family f : getValidator().getGedcom().getFamilies().values()) {
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void validate() {
+        context = getContext();
+        for (Family f : getFamiliesToCheck()) {
             if (f == null || f.getHusband() == null || f.getWife() == null || f.getEvents() == null || f.getEvents().isEmpty()) {
                 continue;
             }
@@ -115,11 +128,11 @@ public class MarriedAtYoungAgeValidator extends AbstractValidator {
      */
     private void checkHusband(Family f, FamilyEvent earliestMarriage, Date earliestMarriageDate) {
         Individual husband = (f.getHusband() == null ? null : f.getHusband().getIndividual());
-        IndividualEvent husbandLatestBirth = getLatestEventOfType(husband, IndividualEventType.BIRTH);
+        IndividualEvent husbandLatestBirth = context.getLatestEventOfType(husband, IndividualEventType.BIRTH);
         if (husbandLatestBirth == null) {
             return;
         }
-        Date husbandLatestBirthDate = dp.parse(husbandLatestBirth.getDate().getValue(), ImpreciseDatePreference.FAVOR_LATEST);
+        Date husbandLatestBirthDate = context.getDate(husbandLatestBirth, ImpreciseDatePreference.FAVOR_LATEST);
         if (husbandLatestBirthDate != null) {
             long hDiff = earliestMarriageDate.getTime() - husbandLatestBirthDate.getTime();
             if (hDiff <= MILLIS_IN_SIXTEEN_YEARS) {
@@ -141,11 +154,11 @@ public class MarriedAtYoungAgeValidator extends AbstractValidator {
      */
     private void checkWife(Family f, FamilyEvent earliestMarriage, Date earliestMarriageDate) {
         Individual wife = (f.getWife() == null ? null : f.getWife().getIndividual());
-        IndividualEvent wifeLatestBirth = getLatestEventOfType(wife, IndividualEventType.BIRTH);
+        IndividualEvent wifeLatestBirth = context.getLatestEventOfType(wife, IndividualEventType.BIRTH);
         if (wifeLatestBirth == null) {
             return;
         }
-        Date wifeLatestBirthDate = dp.parse(wifeLatestBirth.getDate().getValue(), ImpreciseDatePreference.FAVOR_LATEST);
+        Date wifeLatestBirthDate = context.getDate(wifeLatestBirth, ImpreciseDatePreference.FAVOR_LATEST);
         if (wifeLatestBirthDate != null) {
             long wDiff = earliestMarriageDate.getTime() - wifeLatestBirthDate.getTime();
             if (wDiff <= MILLIS_IN_SIXTEEN_YEARS) {
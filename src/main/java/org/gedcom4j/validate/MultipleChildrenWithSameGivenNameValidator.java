@@ -41,7 +41,6 @@ import org.gedcom4j.model.IndividualEvent;
 import org.gedcom4j.model.IndividualReference;
 import org.gedcom4j.model.PersonalName;
 import org.gedcom4j.model.enumerations.IndividualEventType;
-import org.gedcom4j.parser.DateParser;
 import org.gedcom4j.parser.DateParser.ImpreciseDatePreference;
 import org.gedcom4j.validate.Validator.Finding;
 
@@ -63,6 +62,11 @@ public class MultipleChildrenWithSameGivenNameValidator extends AbstractValidato
      */
     private static final long serialVersionUID = -3991408212675640583L;
 
+    /**
+     * Information about the gedcom shared between validators
+     */
+    private transient ValidationContext context;
+
     /**
      * Constructor
      *
@@ -73,12 +77,21 @@ public class MultipleChildrenWithSameGivenNameValidator extends AbstractValidato
         super(validator);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isLimitedToImmediateFamily() {
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     protected void validate() {
-        for (Family f : getValidator().getGedcom().getFamilies().values()) {
+        context = getContext();
+        for (Family f : getFamiliesToCheck()) {
             if (f == null || f.getChildren() == null) {
                 continue;
             }
@@ -147,12 +160,11 @@ public class MultipleChildrenWithSameGivenNameValidator extends AbstractValidato
      * @return the earliest birth date, or the earliest possible date if no parseable birth date could be found
      */
     private Date getEarliestBirthDate(Individual ind) {
-        IndividualEvent e = getEarliestEventOfType(ind, IndividualEventType.BIRTH);
+        IndividualEvent e = context.getEarliestEventOfType(ind, IndividualEventType.BIRTH);
         if (e == null || e.getDate() == null || e.getDate().getValue() == null) {
             return FAR_IN_THE_PAST;
         }
-        DateParser dp = new DateParser();
-        Date d = dp.parse(e.getDate().getValue(), ImpreciseDatePreference.FAVOR_EARLIEST);
+        Date d = context.getDate(e, ImpreciseDatePreference.FAVOR_EARLIEST);
         if (d == null) {
             return FAR_IN_THE_PAST;
         }
@@ -173,7 +185,10 @@ public class MultipleChildrenWithSameGivenNameValidator extends AbstractValidato
                 continue;
             }
             Individual kid = kidRef.getIndividual();
-            for (PersonalName pn : kid.getNames(true)) {
+            if (kid == null || kid.getNames() == null) {
+                continue;
+            }
+            for (PersonalName pn : kid.getNames()) {
                 String gn = null;
                 if (pn.getGivenName() != null && isSpecified(pn.getGivenName().getValue())) {
                     gn = pn.getGivenName().getValue();
@@ -207,15 +222,14 @@ public class MultipleChildrenWithSameGivenNameValidator extends AbstractValidato
      * @return the latest death date, or the latest possible date if no parseable death date could be found
      */
     private Date getLatestDeathDate(Individual ind) {
-        IndividualEvent e = getLatestEventOfType(ind, IndividualEventType.DEATH);
+        IndividualEvent e = context.getLatestEventOfType(ind, IndividualEventType.DEATH);
         if (e == null || e.getDate() == null || e.getDate().getValue() == null) {
-            e = getLatestEventOfType(ind, IndividualEventType.BURIAL);
+            e = context.getLatestEventOfType(ind, IndividualEventType.BURIAL);
         }
         if (e == null || e.getDate() == null || e.getDate().getValue() == null) {
             return FAR_IN_THE_FUTURE;
         }
-        DateParser dp = new DateParser();
-        Date d = dp.parse(e.getDate().getValue(), ImpreciseDatePreference.FAVOR_LATEST);
+        Date d = context.getDate(e, ImpreciseDatePreference.FAVOR_LATEST);
         if (d == null) {
             return FAR_IN_THE_FUTURE;
         }
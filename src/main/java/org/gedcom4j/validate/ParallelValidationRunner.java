@@ -0,0 +1,332 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.validate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.gedcom4j.validate.Validator.Finding;
+
+/**
+ * <p>
+ * Helper for {@link Validator} that runs record validators and supplementary validators on a {@link ForkJoinPool}. The validators
+ * are handed to this class in the order a sequential validation would run them, and the findings each one makes are kept aside
+ * while the pool runs them, then added to the {@link ValidationResults} in that same order - so the results are the same as for a
+ * sequential validation, whatever order the pool happens to run things in.
+ * </p>
+ * <p>
+ * Findings made on the calling thread between validators (for example, for null entries in the maps of records) are kept aside
+ * in the same way, so they stay in their place among the others. Nothing is run on the pool until {@link #collect()} is called,
+ * so any repairs made on the calling thread while the validators are being handed over are finished before the pool starts
+ * reading the {@link org.gedcom4j.model.Gedcom}.
+ * </p>
+ * <p>
+ * Auto-repairs, which change the {@link org.gedcom4j.model.Gedcom}, are never made on the pool. If a validator running on the pool
+ * makes a finding that the {@link AutoRepairResponder} might allow to be repaired, it is stopped there, the findings it had made
+ * are thrown away, and it is run again from the start on the calling thread once the pool has finished, at its place in the
+ * order. Validators running on the pool must therefore not change anything before asking whether they may repair it - which is
+ * how all the validators in gedcom4j work. When the responder is {@link Validator#AUTO_REPAIR_NONE} (the default), nothing is ever
+ * run again.
+ * </p>
+ * <p>
+ * When the validator has a {@link Validator#getMaxErrors() maximum number of errors}, validators on the pool stop being run once
+ * that many errors have been found among them, and are marked to be run again on the calling thread instead. The findings are
+ * then added in order until the limit is reached, running those validators only if their turn comes before that - so validation
+ * stops at the same finding as a sequential validation would.
+ * </p>
+ * 
+ * @author frizbog
+ */
+final class ParallelValidationRunner {
+
+    /**
+     * A chunk of validators to be run together on one of the pool's threads
+     */
+    private final class Chunk extends RecursiveAction {
+        /**
+         * Serial Version UID
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The validators to run
+         */
+        private final List<Unit> units = new ArrayList<>(CHUNK_SIZE);
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void compute() {
+            try {
+                int maxErrors = validator.getMaxErrors();
+                for (Unit u : units) {
+                    if (maxErrors > 0 && errorCount.get() >= maxErrors) {
+                        u.deferred = true;
+                        continue;
+                    }
+                    currentUnit.set(u);
+                    try {
+                        validator.runValidator(u.validator);
+                    } catch (RepairDeferred e) {
+                        u.findings = null;
+                        u.deferred = true;
+                    } catch (RuntimeException e) {
+                        u.failure = e;
+                        return;
+                    }
+                }
+            } finally {
+                currentUnit.remove();
+            }
+        }
+    }
+
+    /**
+     * Thrown on the pool when a validator makes a finding that might be auto-repaired, to stop the validator so that it can be run
+     * again on the calling thread. Deliberately carries no stack trace, since it is only used to unwind.
+     */
+    private static final class RepairDeferred extends RuntimeException {
+        /**
+         * Serial Version UID
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Constructor
+         */
+        RepairDeferred() {
+            super("Auto-repair deferred to the calling thread", null, false, false);
+        }
+    }
+
+    /**
+     * One place in the order of validation - either a validator to be run on the pool, or the findings made on the calling thread
+     * between two such validators
+     */
+    private static final class Unit {
+        /**
+         * Whether the validator had to be stopped so that it could be run again on the calling thread
+         */
+        private boolean deferred;
+
+        /**
+         * The exception that the validator failed with, if any
+         */
+        private RuntimeException failure;
+
+        /**
+         * The findings made, in the order they were made. Null if there are none.
+         */
+        private List<Finding> findings;
+
+        /**
+         * The validator to run on the pool, or null for the findings made on the calling thread
+         */
+        private final AbstractValidator validator;
+
+        /**
+         * Constructor
+         * 
+         * @param validator
+         *            the validator to run on the pool, or null for the findings made on the calling thread
+         */
+        Unit(AbstractValidator validator) {
+            this.validator = validator;
+        }
+    }
+
+    /**
+     * The number of validators run in each task given to the pool
+     */
+    private static final int CHUNK_SIZE = 64;
+
+    /**
+     * The signal that stops a validator on the pool that wants to make an auto-repair
+     */
+    private static final RepairDeferred REPAIR_DEFERRED = new RepairDeferred();
+
+    /**
+     * The chunk being filled
+     */
+    private Chunk chunk = new Chunk();
+
+    /**
+     * The chunks of validators waiting to be run since the last time results were collected
+     */
+    private final List<Chunk> chunks = new ArrayList<>();
+
+    /**
+     * The unit whose findings are being kept aside on the current thread
+     */
+    private final ThreadLocal<Unit> currentUnit = new ThreadLocal<>();
+
+    /**
+     * The number of errors kept aside since the last time results were collected
+     */
+    private final AtomicInteger errorCount = new AtomicInteger();
+
+    /**
+     * The pool that runs the validators
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Every unit since the last time results were collected, in the order of a sequential validation
+     */
+    private final List<Unit> units = new ArrayList<>();
+
+    /**
+     * The validator we're helping
+     */
+    private final Validator validator;
+
+    /**
+     * Constructor. Must be called on the thread that is validating. Findings made on that thread from now on are kept aside until
+     * {@link #collect()} is called.
+     * 
+     * @param validator
+     *            the validator we're helping
+     * @param parallelism
+     *            the number of threads to run validators on
+     */
+    ParallelValidationRunner(Validator validator, int parallelism) {
+        this.validator = validator;
+        pool = new ForkJoinPool(parallelism);
+        startCallingThreadUnit();
+    }
+
+    /**
+     * Run all the validators queued so far on the pool and wait for them to finish, then add all the findings since the last time
+     * this was called to the results, in order - running any validators that wanted to make an auto-repair again on the calling
+     * thread as their turn comes. Findings made on the calling thread after this go straight to the results, until the next
+     * validator is queued. Stops adding findings, and running validators, once the validator has found as many errors as it is
+     * allowed to.
+     */
+    void collect() {
+        currentUnit.remove();
+        if (!chunk.units.isEmpty()) {
+            chunks.add(chunk);
+            chunk = new Chunk();
+        }
+        for (Chunk c : chunks) {
+            pool.execute(c);
+        }
+        for (Chunk c : chunks) {
+            c.join();
+        }
+        for (Unit u : units) {
+            if (u.failure != null) {
+                throw u.failure;
+            }
+        }
+        for (Unit u : units) {
+            if (validator.isMaxErrorsReached()) {
+                break;
+            }
+            if (u.deferred) {
+                validator.runValidator(u.validator);
+            } else if (u.findings != null) {
+                for (Finding f : u.findings) {
+                    validator.deliver(f);
+                }
+            }
+        }
+        chunks.clear();
+        units.clear();
+        errorCount.set(0);
+    }
+
+    /**
+     * Stop the validator running on the current thread, if it is on the pool, so that it can be run again on the calling thread
+     * where it may make auto-repairs. Does nothing on the calling thread.
+     */
+    void deferRepairIfOnPool() {
+        Unit u = currentUnit.get();
+        if (u != null && u.validator != null) {
+            throw REPAIR_DEFERRED;
+        }
+    }
+
+    /**
+     * Keep a finding aside, if it was made on the pool or on the calling thread while validators are being handed to the pool
+     * 
+     * @param finding
+     *            the finding
+     * @return true if the finding was kept aside, false if it should go straight to the results
+     */
+    boolean keep(Finding finding) {
+        Unit u = currentUnit.get();
+        if (u == null) {
+            return false;
+        }
+        if (u.findings == null) {
+            u.findings = new ArrayList<>(2);
+        }
+        u.findings.add(finding);
+        if (finding.getSeverity() == Severity.ERROR) {
+            errorCount.incrementAndGet();
+        }
+        return true;
+    }
+
+    /**
+     * Shut down the pool
+     */
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Queue a validator to be run on the pool when {@link #collect()} is next called, at the next place in the order of validation
+     * 
+     * @param v
+     *            the validator
+     */
+    void submit(AbstractValidator v) {
+        Unit u = new Unit(v);
+        units.add(u);
+        chunk.units.add(u);
+        if (chunk.units.size() == CHUNK_SIZE) {
+            chunks.add(chunk);
+            chunk = new Chunk();
+        }
+        startCallingThreadUnit();
+    }
+
+    /**
+     * Start keeping the findings made on the calling thread aside, at the next place in the order of validation
+     */
+    private void startCallingThreadUnit() {
+        Unit u = new Unit(null);
+        units.add(u);
+        currentUnit.set(u);
+    }
+}
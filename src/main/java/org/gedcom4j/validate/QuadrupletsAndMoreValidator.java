@@ -38,7 +38,6 @@ import org.gedcom4j.model.Individual;
 import org.gedcom4j.model.IndividualEvent;
 import org.gedcom4j.model.IndividualReference;
 import org.gedcom4j.model.enumerations.IndividualEventType;
-import org.gedcom4j.parser.DateParser;
 import org.gedcom4j.parser.DateParser.ImpreciseDatePreference;
 
 /**
@@ -53,6 +52,11 @@ public class QuadrupletsAndMoreValidator extends AbstractValidator {
      */
     private static final long serialVersionUID = -109510055319633255L;
 
+    /**
+     * Information about the gedcom shared between validators
+     */
+    private transient ValidationContext context;
+
     /**
      * Constructor
      * 
@@ -63,12 +67,21 @@ public class QuadrupletsAndMoreValidator extends AbstractValidator {
         super(validator);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isLimitedToImmediateFamily() {
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     protected void validate() {
-        for (Family f : getValidator().getGedcom().getFamilies().values()) {
+        context = getContext();
+        for (Family f : getFamiliesToCheck()) {
 
             // If there aren't at least 4 children there's nothing to do with this family
             if (f == null || f.getChildren() == null || f.getChildren().size() < 4) {
@@ -126,12 +139,11 @@ public class QuadrupletsAndMoreValidator extends AbstractValidator {
      * @return the earliest birth date, or the earliest possible date if no parseable birth date could be found
      */
     private Date getEarliestBirthDate(Individual ind) {
-        IndividualEvent e = getEarliestEventOfType(ind, IndividualEventType.BIRTH);
+        IndividualEvent e = context.getEarliestEventOfType(ind, IndividualEventType.BIRTH);
         if (e == null || e.getDate() == null || e.getDate().getValue() == null) {
             return null;
         }
-        DateParser dp = new DateParser();
-        return dp.parse(e.getDate().getValue(), ImpreciseDatePreference.FAVOR_EARLIEST);
+        return context.getDate(e, ImpreciseDatePreference.FAVOR_EARLIEST);
     }
 
 }
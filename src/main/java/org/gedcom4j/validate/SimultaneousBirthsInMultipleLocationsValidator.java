@@ -40,7 +40,7 @@ import org.gedcom4j.model.IndividualEvent;
 import org.gedcom4j.model.IndividualReference;
 import org.gedcom4j.model.Place;
 import org.gedcom4j.model.enumerations.IndividualEventType;
-import org.gedcom4j.parser.DateParser;
+import org.gedcom4j.parser.DateParser.ImpreciseDatePreference;
 import org.gedcom4j.validate.Validator.Finding;
 
 /**
@@ -105,6 +105,11 @@ public class SimultaneousBirthsInMultipleLocationsValidator extends AbstractVali
      */
     private static final long serialVersionUID = 6667370628936043626L;
 
+    /**
+     * Information about the gedcom shared between validators, while {@link #validate()} is running
+     */
+    private transient ValidationContext context;
+
     /**
      * Constructor
      * 
@@ -125,7 +130,7 @@ public class SimultaneousBirthsInMultipleLocationsValidator extends AbstractVali
      */
     protected Map<Date, Set<Birth>> groupChildrenByBirthDate(Family f) {
         Map<Date, Set<Birth>> birthsByDate = new HashMap<>();
-        DateParser dp = new DateParser();
+        ValidationContext c = (context == null ? getContext() : context);
 
         for (IndividualReference iRef : f.getChildren()) {
             if (iRef == null) {
@@ -137,7 +142,7 @@ public class SimultaneousBirthsInMultipleLocationsValidator extends AbstractVali
                 if (birthEvent.getDate() == null) {
                     continue;
                 }
-                Date birthDate = dp.parse(birthEvent.getDate().getValue());
+                Date birthDate = c.getDate(birthEvent, ImpreciseDatePreference.PRECISE);
                 if (birthDate == null) {
                     continue;
                 }
@@ -172,12 +177,21 @@ public class SimultaneousBirthsInMultipleLocationsValidator extends AbstractVali
         return birthsByDate;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isLimitedToImmediateFamily() {
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     protected void validate() {
-        for (Family f : getValidator().getGedcom().getFamilies().values()) {
+        context = getContext();
+        for (Family f : getFamiliesToCheck()) {
 
             // If there aren't at least 2 children there's nothing to do with this family
             if (f == null || f.getChildren() == null || f.getChildren().size() < 2) {
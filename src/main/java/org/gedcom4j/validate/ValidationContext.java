@@ -0,0 +1,495 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.validate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.gedcom4j.model.Family;
+import org.gedcom4j.model.FamilyChild;
+import org.gedcom4j.model.Gedcom;
+import org.gedcom4j.model.Individual;
+import org.gedcom4j.model.IndividualEvent;
+import org.gedcom4j.model.IndividualReference;
+import org.gedcom4j.model.enumerations.IndividualEventType;
+import org.gedcom4j.parser.DateParser;
+import org.gedcom4j.parser.DateParser.ImpreciseDatePreference;
+
+/**
+ * <p>
+ * Information about a {@link Gedcom} that several validators need, worked out once so that each validator doesn't have to work it
+ * out again for itself. Obtained from {@link AbstractValidator#getContext()}.
+ * </p>
+ * <p>
+ * The context holds:
+ * </p>
+ * <ul>
+ * <li>the parsed dates of the births, deaths and burials of every individual, for the
+ * {@link ImpreciseDatePreference#FAVOR_EARLIEST} and {@link ImpreciseDatePreference#FAVOR_LATEST} preferences (which are needed to
+ * find the earliest and latest of each)</li>
+ * <li>the earliest and latest birth, death and burial of every individual</li>
+ * <li>the parents and children of every individual - the husbands and wives of the families that list the individual as a child,
+ * and of the families the individual says they are a child of</li>
+ * <li>the {@link AncestryComponents} of the graph of parents and children</li>
+ * </ul>
+ * <p>
+ * The dates, the parents and children, and the components are each worked out for the whole {@link Gedcom} the first time any
+ * of them is asked for, so validators only pay for what they need. Anything else asked of the context (dates of other
+ * events, or individuals not in the {@link Gedcom}) is worked out when asked for, and not remembered. Once worked out, nothing in
+ * the context changes, even if the {@link Gedcom} does - so while {@link Validator#validate()} is running, all the supplementary
+ * validators share one context, which is only made after all the records have been validated (and repaired, if allowed). When an
+ * {@link IncrementalValidator} checks just the records near a change, the dates are not worked out in advance, but each date
+ * favoring the earliest or latest is remembered once it has been asked for. The context can be used from several threads at once.
+ * The {@link Date}s it returns are shared, and must not be changed.
+ * </p>
+ * 
+ * @author frizbog
+ */
+public final class ValidationContext {
+
+    /**
+     * The types of event whose dates are worked out in advance
+     */
+    private static final IndividualEventType[] VITAL_EVENT_TYPES = { IndividualEventType.BIRTH, IndividualEventType.DEATH,
+            IndividualEventType.BURIAL };
+
+    /**
+     * The strongly connected components of the graph of parents and children, once worked out
+     */
+    private volatile AncestryComponents ancestryComponents;
+
+    /**
+     * The children of each individual
+     */
+    private final Map<Individual, List<Individual>> children = new IdentityHashMap<>();
+
+    /**
+     * Are the dates of the births, deaths and burials of every individual to be worked out in advance?
+     */
+    private final boolean datesInAdvance;
+
+    /**
+     * Have the dates of the births, deaths and burials been worked out?
+     */
+    private volatile boolean datesWorkedOut;
+
+    /**
+     * The date parser
+     */
+    private final DateParser dp = new DateParser();
+
+    /**
+     * Have the parents and children been worked out?
+     */
+    private volatile boolean familiesWorkedOut;
+
+    /**
+     * The gedcom being validated
+     */
+    private final Gedcom gedcom;
+
+    /**
+     * The parents of each individual
+     */
+    private final Map<Individual, List<Individual>> parents = new IdentityHashMap<>();
+
+    /**
+     * The parsed dates of each birth, death and burial (or, if the dates are not worked out in advance, of each event whose date
+     * has been asked for) - favoring the earliest date, then favoring the latest date
+     */
+    private final Map<IndividualEvent, Date[]> parsedDates = new IdentityHashMap<>();
+
+    /**
+     * The earliest and latest birth, death and burial of each individual - the earliest of the <i>n</i>th type in
+     * {@link #VITAL_EVENT_TYPES} at index 2<i>n</i>, and the latest at index 2<i>n</i>+1
+     */
+    private final Map<Individual, IndividualEvent[]> vitalEvents = new IdentityHashMap<>();
+
+    /**
+     * Constructor
+     * 
+     * @param gedcom
+     *            the gedcom being validated
+     */
+    ValidationContext(Gedcom gedcom) {
+        this(gedcom, true);
+    }
+
+    /**
+     * Constructor
+     * 
+     * @param gedcom
+     *            the gedcom being validated
+     * @param datesInAdvance
+     *            whether to work out the dates of the births, deaths and burials of every individual in advance. If false, each
+     *            date is parsed when it is asked for, which is quicker when only a few individuals are going to be checked.
+     */
+    ValidationContext(Gedcom gedcom, boolean datesInAdvance) {
+        this.gedcom = gedcom;
+        this.datesInAdvance = datesInAdvance;
+    }
+
+    /**
+     * Get the children of an individual
+     * 
+     * @param parent
+     *            the individual
+     * @return the children of the individual, from all the families where the individual is a husband or wife, each child once.
+     *         Never null, and cannot be changed.
+     */
+    public List<Individual> getChildren(Individual parent) {
+        workOutFamilies();
+        List<Individual> result = children.get(parent);
+        if (result == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Get the date of an event
+     * 
+     * @param event
+     *            the event
+     * @param preference
+     *            the preference for handling an imprecise date
+     * @return the date of the event, or null if it has no date or the date can't be parsed
+     */
+    public Date getDate(IndividualEvent event, ImpreciseDatePreference preference) {
+        if (event == null) {
+            return null;
+        }
+        workOutDates();
+        return parsedDate(event, preference);
+    }
+
+    /**
+     * Get the earliest event of a given type on an individual - the one whose date, favoring the earliest date when it is
+     * imprecise, is earliest. The same as {@link AbstractValidator#getEarliestEventOfType(Individual, IndividualEventType)}.
+     * 
+     * @param i
+     *            the individual
+     * @param type
+     *            the type of event to find
+     * @return the earliest event of the type, or null if there are none with parseable dates
+     */
+    public IndividualEvent getEarliestEventOfType(Individual i, IndividualEventType type) {
+        if (i == null) {
+            return null;
+        }
+        workOutDates();
+        int t = vitalEventTypeIndex(type);
+        IndividualEvent[] events = vitalEvents.get(i);
+        if (t >= 0 && events != null) {
+            return events[2 * t];
+        }
+        return findEarliestEventOfType(i, type);
+    }
+
+    /**
+     * Get the latest event of a given type on an individual - the one whose date, favoring the latest date when it is imprecise, is
+     * latest. The same as {@link AbstractValidator#getLatestEventOfType(Individual, IndividualEventType)}.
+     * 
+     * @param i
+     *            the individual
+     * @param type
+     *            the type of event to find
+     * @return the latest event of the type, or null if there are none with parseable dates
+     */
+    public IndividualEvent getLatestEventOfType(Individual i, IndividualEventType type) {
+        if (i == null) {
+            return null;
+        }
+        workOutDates();
+        int t = vitalEventTypeIndex(type);
+        IndividualEvent[] events = vitalEvents.get(i);
+        if (t >= 0 && events != null) {
+            return events[2 * t + 1];
+        }
+        return findLatestEventOfType(i, type);
+    }
+
+    /**
+     * Get the parents of an individual
+     * 
+     * @param child
+     *            the individual
+     * @return the parents of the individual, from all the families where the individual is a child, each parent once. Never null,
+     *         and cannot be changed.
+     */
+    public List<Individual> getParents(Individual child) {
+        workOutFamilies();
+        List<Individual> result = parents.get(child);
+        if (result == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Get the strongly connected components of the graph of parents and children
+     * 
+     * @return the strongly connected components of the graph of parents and children
+     */
+    AncestryComponents getAncestryComponents() {
+        AncestryComponents result = ancestryComponents;
+        if (result == null) {
+            synchronized (this) {
+                result = ancestryComponents;
+                if (result == null) {
+                    result = new AncestryComponents(gedcom, this);
+                    ancestryComponents = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Add a value to the list held for a key, unless it is already there
+     * 
+     * @param map
+     *            the map of lists
+     * @param key
+     *            the key
+     * @param value
+     *            the value
+     */
+    private static void addOnce(Map<Individual, List<Individual>> map, Individual key, Individual value) {
+        List<Individual> list = map.get(key);
+        if (list == null) {
+            list = new ArrayList<>(2);
+            map.put(key, list);
+        } else {
+            for (Individual i : list) {
+                if (i == value) { // NOPMD - deliberate checking if same individual
+                    return;
+                }
+            }
+        }
+        list.add(value);
+    }
+
+    /**
+     * Get the index of a type of event in {@link #VITAL_EVENT_TYPES}
+     * 
+     * @param type
+     *            the type of event
+     * @return the index, or -1 if the type is not one whose dates are worked out in advance
+     */
+    private static int vitalEventTypeIndex(IndividualEventType type) {
+        for (int t = 0; t < VITAL_EVENT_TYPES.length; t++) {
+            if (VITAL_EVENT_TYPES[t] == type) {
+                return t;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Record a child of the husband and wife of a family
+     * 
+     * @param f
+     *            the family
+     * @param kid
+     *            the child
+     */
+    private void addChild(Family f, Individual kid) {
+        Individual husband = f.getHusband() == null ? null : f.getHusband().getIndividual();
+        if (husband != null) {
+            addOnce(children, husband, kid);
+            addOnce(parents, kid, husband);
+        }
+        Individual wife = f.getWife() == null ? null : f.getWife().getIndividual();
+        if (wife != null) {
+            addOnce(children, wife, kid);
+            addOnce(parents, kid, wife);
+        }
+    }
+
+    /**
+     * Parse the dates of the births, deaths and burials of an individual, and find the earliest and latest of each
+     * 
+     * @param i
+     *            the individual
+     */
+    private void addVitalEvents(Individual i) {
+        if (i.getEvents() == null) {
+            return;
+        }
+        for (IndividualEvent e : i.getEvents()) {
+            if (e != null && vitalEventTypeIndex(e.getType()) >= 0 && e.getDate() != null && e.getDate().getValue() != null) {
+                String d = e.getDate().getValue();
+                parsedDates.put(e, new Date[] { dp.parse(d, ImpreciseDatePreference.FAVOR_EARLIEST), dp.parse(d,
+                        ImpreciseDatePreference.FAVOR_LATEST) });
+            }
+        }
+        IndividualEvent[] events = new IndividualEvent[2 * VITAL_EVENT_TYPES.length];
+        for (int t = 0; t < VITAL_EVENT_TYPES.length; t++) {
+            events[2 * t] = findEarliestEventOfType(i, VITAL_EVENT_TYPES[t]);
+            events[2 * t + 1] = findLatestEventOfType(i, VITAL_EVENT_TYPES[t]);
+        }
+        vitalEvents.put(i, events);
+    }
+
+    /**
+     * Find the earliest event of a given type on an individual
+     * 
+     * @param i
+     *            the individual
+     * @param type
+     *            the type of event to find
+     * @return the earliest event of the type
+     */
+    private IndividualEvent findEarliestEventOfType(Individual i, IndividualEventType type) {
+        IndividualEvent result = null;
+        Date earliestSoFar = new Date(Long.MAX_VALUE);
+        for (IndividualEvent e : i.getEventsOfType(type)) {
+            Date d = parsedDate(e, ImpreciseDatePreference.FAVOR_EARLIEST);
+            if (d != null && d.before(earliestSoFar)) {
+                result = e;
+                earliestSoFar = d;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Find the latest event of a given type on an individual
+     * 
+     * @param i
+     *            the individual
+     * @param type
+     *            the type of event to find
+     * @return the latest event of the type
+     */
+    private IndividualEvent findLatestEventOfType(Individual i, IndividualEventType type) {
+        IndividualEvent result = null;
+        Date latestSoFar = new Date(Long.MIN_VALUE);
+        for (IndividualEvent e : i.getEventsOfType(type)) {
+            Date d = parsedDate(e, ImpreciseDatePreference.FAVOR_LATEST);
+            if (d != null && d.after(latestSoFar)) {
+                result = e;
+                latestSoFar = d;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the date of an event, from those already worked out if possible
+     * 
+     * @param event
+     *            the event
+     * @param preference
+     *            the preference for handling an imprecise date
+     * @return the date of the event, or null if it has no date or the date can't be parsed
+     */
+    private Date parsedDate(IndividualEvent event, ImpreciseDatePreference preference) {
+        if (event.getDate() == null || event.getDate().getValue() == null) {
+            return null;
+        }
+        if (preference != ImpreciseDatePreference.FAVOR_EARLIEST && preference != ImpreciseDatePreference.FAVOR_LATEST) {
+            return dp.parse(event.getDate().getValue(), preference);
+        }
+        Date[] dates;
+        if (datesInAdvance) {
+            dates = parsedDates.get(event);
+        } else {
+            synchronized (parsedDates) {
+                dates = parsedDates.get(event);
+                if (dates == null) {
+                    String d = event.getDate().getValue();
+                    dates = new Date[] { dp.parse(d, ImpreciseDatePreference.FAVOR_EARLIEST), dp.parse(d,
+                            ImpreciseDatePreference.FAVOR_LATEST) };
+                    parsedDates.put(event, dates);
+                }
+            }
+        }
+        if (dates == null) {
+            return dp.parse(event.getDate().getValue(), preference);
+        }
+        return preference == ImpreciseDatePreference.FAVOR_EARLIEST ? dates[0] : dates[1];
+    }
+
+    /**
+     * Work out the dates of the births, deaths and burials of every individual, if not already done
+     */
+    private void workOutDates() {
+        if (datesWorkedOut || !datesInAdvance) {
+            return;
+        }
+        synchronized (parsedDates) {
+            if (!datesWorkedOut) {
+                for (Individual i : gedcom.getIndividuals().values()) {
+                    if (i != null) {
+                        addVitalEvents(i);
+                    }
+                }
+                datesWorkedOut = true;
+            }
+        }
+    }
+
+    /**
+     * Work out the parents and children of every individual, if not already done
+     */
+    private void workOutFamilies() {
+        if (familiesWorkedOut) {
+            return;
+        }
+        synchronized (children) {
+            if (!familiesWorkedOut) {
+                for (Family f : gedcom.getFamilies().values()) {
+                    if (f == null || f.getChildren() == null) {
+                        continue;
+                    }
+                    for (IndividualReference kidRef : f.getChildren()) {
+                        if (kidRef != null && kidRef.getIndividual() != null) {
+                            addChild(f, kidRef.getIndividual());
+                        }
+                    }
+                }
+                for (Individual i : gedcom.getIndividuals().values()) {
+                    if (i == null || i.getFamiliesWhereChild() == null) {
+                        continue;
+                    }
+                    for (FamilyChild fc : i.getFamiliesWhereChild()) {
+                        if (fc != null && fc.getFamily() != null) {
+                            addChild(fc.getFamily(), i);
+                        }
+                    }
+                }
+                familiesWorkedOut = true;
+            }
+        }
+    }
+}
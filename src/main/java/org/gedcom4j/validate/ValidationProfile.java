@@ -0,0 +1,348 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.validate;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * How long a validation took, and where the time went - for working out which validators are worth running, and which
+ * {@link Validator#getSupplementaryValidators() supplementary validators} to leave out. Turn it on with
+ * {@link Validator#setProfiling(boolean)}, and get it afterwards from {@link Validator#getProfile()}.
+ * </p>
+ * <p>
+ * Each validator the {@link Validator} runs for a record (an {@link IndividualValidator} for each individual, for example), and
+ * each supplementary validator, is measured. Validators that those validators run in turn are counted as part of them. Findings
+ * made by the {@link Validator} itself, outside any validator, are not counted against any validator.
+ * </p>
+ * <p>
+ * When validating on more than one thread, the times are measured on the threads the validators ran on, so the times of all the
+ * validators can add up to more than the time of the whole validation.
+ * </p>
+ * 
+ * @author frizbog
+ * @since 4.0.0
+ */
+public final class ValidationProfile {
+
+    /**
+     * The measurements for one kind of validator
+     */
+    public static final class ValidatorProfile {
+        /**
+         * The number of bytes allocated while running the validator, or -1 if not measured
+         */
+        private long allocatedBytes;
+
+        /**
+         * The number of findings the validator made
+         */
+        private int findings;
+
+        /**
+         * The number of times the validator was run
+         */
+        private int invocations;
+
+        /**
+         * The time spent running the validator, in nanoseconds
+         */
+        private long nanoseconds;
+
+        /**
+         * The kind of validator
+         */
+        private final Class<? extends AbstractValidator> validatorClass;
+
+        /**
+         * Constructor
+         * 
+         * @param validatorClass
+         *            the kind of validator
+         * @param allocationsMeasured
+         *            whether the bytes allocated are being measured
+         */
+        ValidatorProfile(Class<? extends AbstractValidator> validatorClass, boolean allocationsMeasured) {
+            this.validatorClass = validatorClass;
+            allocatedBytes = allocationsMeasured ? 0 : -1;
+        }
+
+        /**
+         * Get the number of bytes allocated while running the validator. Only measured if asked for with
+         * {@link Validator#setProfilingAllocations(boolean)}, and if the JVM can measure it.
+         * 
+         * @return the number of bytes allocated while running the validator, or -1 if not measured
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        /**
+         * Get the number of findings the validator made
+         * 
+         * @return the number of findings the validator made
+         */
+        public int getFindings() {
+            return findings;
+        }
+
+        /**
+         * Get the number of times the validator was run
+         * 
+         * @return the number of times the validator was run
+         */
+        public int getInvocations() {
+            return invocations;
+        }
+
+        /**
+         * Get the time spent running the validator
+         * 
+         * @return the time spent running the validator, in nanoseconds
+         */
+        public long getNanoseconds() {
+            return nanoseconds;
+        }
+
+        /**
+         * Get the kind of validator
+         * 
+         * @return the kind of validator
+         */
+        public Class<? extends AbstractValidator> getValidatorClass() {
+            return validatorClass;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder(100);
+            builder.append("ValidatorProfile [validatorClass=");
+            builder.append(validatorClass.getSimpleName());
+            builder.append(", invocations=");
+            builder.append(invocations);
+            builder.append(", nanoseconds=");
+            builder.append(nanoseconds);
+            builder.append(", findings=");
+            builder.append(findings);
+            if (allocatedBytes >= 0) {
+                builder.append(", allocatedBytes=");
+                builder.append(allocatedBytes);
+            }
+            builder.append("]");
+            return builder.toString();
+        }
+    }
+
+    /**
+     * Orders the measurements with the most time spent first
+     */
+    private static final Comparator<ValidatorProfile> MOST_TIME_FIRST = new Comparator<ValidatorProfile>() {
+        @Override
+        public int compare(ValidatorProfile o1, ValidatorProfile o2) {
+            return Long.compare(o2.nanoseconds, o1.nanoseconds);
+        }
+    };
+
+    /**
+     * The JVM's thread measurements
+     */
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    /**
+     * Are the bytes allocated by each validator being measured?
+     */
+    private final boolean allocationsMeasured;
+
+    /**
+     * The measurements for each kind of validator. Guarded by itself.
+     */
+    private final Map<Class<? extends AbstractValidator>, ValidatorProfile> byValidator = new HashMap<>();
+
+    /**
+     * The number of findings made so far on each thread
+     */
+    private final ThreadLocal<int[]> findingsOnThread = new ThreadLocal<int[]>() {
+        @Override
+        protected int[] initialValue() {
+            return new int[1];
+        }
+    };
+
+    /**
+     * The time the whole validation took, in nanoseconds
+     */
+    private long validationNanoseconds;
+
+    /**
+     * Constructor
+     * 
+     * @param measureAllocations
+     *            whether to measure the bytes allocated by each validator, if the JVM can
+     */
+    ValidationProfile(boolean measureAllocations) {
+        allocationsMeasured = measureAllocations && canMeasureAllocations();
+    }
+
+    /**
+     * Get the time the whole validation took
+     * 
+     * @return the time the whole validation took, in nanoseconds
+     */
+    public long getValidationNanoseconds() {
+        return validationNanoseconds;
+    }
+
+    /**
+     * Get the measurements for one kind of validator
+     * 
+     * @param validatorClass
+     *            the kind of validator
+     * @return the measurements for that kind of validator, or null if it was not run
+     */
+    public ValidatorProfile getValidatorProfile(Class<? extends AbstractValidator> validatorClass) {
+        synchronized (byValidator) {
+            return byValidator.get(validatorClass);
+        }
+    }
+
+    /**
+     * Get the measurements for each kind of validator that was run
+     * 
+     * @return the measurements for each kind of validator that was run, with the one that took the most time first
+     */
+    public List<ValidatorProfile> getValidatorProfiles() {
+        List<ValidatorProfile> result;
+        synchronized (byValidator) {
+            result = new ArrayList<>(byValidator.values());
+        }
+        Collections.sort(result, MOST_TIME_FIRST);
+        return result;
+    }
+
+    /**
+     * Are the bytes allocated by each validator being measured?
+     * 
+     * @return true if the bytes allocated by each validator are being measured
+     */
+    public boolean isAllocationsMeasured() {
+        return allocationsMeasured;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(50);
+        builder.append("ValidationProfile [validationNanoseconds=");
+        builder.append(validationNanoseconds);
+        builder.append(", validatorProfiles=");
+        builder.append(getValidatorProfiles());
+        builder.append("]");
+        return builder.toString();
+    }
+
+    /**
+     * Note that a finding has been made on the current thread
+     */
+    void findingMade() {
+        findingsOnThread.get()[0]++;
+    }
+
+    /**
+     * Run a validator, and add its measurements to those for its kind. Nothing is added if the validator doesn't finish normally.
+     * 
+     * @param v
+     *            the validator
+     */
+    void run(AbstractValidator v) {
+        int[] findingsSoFar = findingsOnThread.get();
+        int findingsBefore = findingsSoFar[0];
+        long allocatedBefore = allocationsMeasured ? allocatedOnThread() : 0;
+        long start = System.nanoTime();
+        v.validate();
+        long nanoseconds = System.nanoTime() - start;
+        long allocated = allocationsMeasured ? allocatedOnThread() - allocatedBefore : 0;
+        synchronized (byValidator) {
+            ValidatorProfile vp = byValidator.get(v.getClass());
+            if (vp == null) {
+                vp = new ValidatorProfile(v.getClass(), allocationsMeasured);
+                byValidator.put(v.getClass(), vp);
+            }
+            vp.invocations++;
+            vp.nanoseconds += nanoseconds;
+            vp.findings += findingsSoFar[0] - findingsBefore;
+            if (allocationsMeasured) {
+                vp.allocatedBytes += allocated;
+            }
+        }
+    }
+
+    /**
+     * Record the time the whole validation took
+     * 
+     * @param nanoseconds
+     *            the time the whole validation took, in nanoseconds
+     */
+    void setValidationNanoseconds(long nanoseconds) {
+        validationNanoseconds = nanoseconds;
+    }
+
+    /**
+     * Get the number of bytes allocated so far on the current thread. Only to be called if {@link #canMeasureAllocations()}.
+     * 
+     * @return the number of bytes allocated so far on the current thread
+     */
+    @SuppressWarnings("restriction")
+    private static long allocatedOnThread() {
+        return ((com.sun.management.ThreadMXBean) THREADS).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Can the JVM measure the bytes allocated on each thread?
+     * 
+     * @return true if the JVM can measure the bytes allocated on each thread
+     */
+    @SuppressWarnings("restriction")
+    private static boolean canMeasureAllocations() {
+        if (!(THREADS instanceof com.sun.management.ThreadMXBean)) {
+            return false;
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+        return threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled();
+    }
+}
@@ -28,7 +28,10 @@ package org.gedcom4j.validate;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -50,8 +53,32 @@ public class ValidationResults implements Serializable {
     /** All findings. */
     private final List<Finding> allFindings = new ArrayList<>();
 
-    /** The findings by object. */
-    private final Map<ModelElement, List<Finding>> findingsByObject = new HashMap<>();
+    /**
+     * The findings by problem code, in the order of {@link #allFindings} - or null if not worked out yet, or no longer up to date
+     */
+    private transient Map<Integer, List<Finding>> findingsByCode;
+
+    /**
+     * The findings by object. Keyed on the objects themselves rather than on equal objects, so that changing an object doesn't lose
+     * its findings, and so that looking them up doesn't have to work out the hash code of everything in the object.
+     */
+    private final Map<ModelElement, List<Finding>> findingsByObject = new IdentityHashMap<>();
+
+    /**
+     * The findings by severity, in the order of {@link #allFindings} - or null if not worked out yet, or no longer up to date
+     */
+    private transient Map<Severity, List<Finding>> findingsBySeverity;
+
+    /**
+     * The number of findings there were when {@link #findingsByCode} and {@link #findingsBySeverity} were last brought up to date,
+     * so that findings added to or removed from {@link #getAllFindings()} directly are noticed
+     */
+    private transient int indexedCount;
+
+    /**
+     * The position of each finding in {@link #allFindings}, once some findings have been removed - or null if none have
+     */
+    private transient Map<Finding, Integer> positions;
 
     /**
      * Add a validation finding.
@@ -60,7 +87,13 @@ public class ValidationResults implements Serializable {
      *            the validation finding
      */
     public void add(Finding vf) {
+        if (positions != null) {
+            positions.put(vf, allFindings.size());
+        }
         allFindings.add(vf);
+        if (findingsByCode != null && indexedCount == allFindings.size() - 1) {
+            addToIndexes(vf);
+        }
         List<Finding> list = findingsByObject.get(vf.getItemOfConcern());
         if (list == null) {
             list = new ArrayList<>();
@@ -75,10 +108,15 @@ public class ValidationResults implements Serializable {
     public void clear() {
         allFindings.clear();
         findingsByObject.clear();
+        positions = null;
+        findingsByCode = null;
+        findingsBySeverity = null;
     }
 
     /**
-     * Gets all findings.
+     * Gets all findings. Changes made to this list directly are not seen by {@link #getFindingsForObject(ModelElement)}, and may
+     * not be seen by {@link #getByCode(int)} and {@link #getBySeverity(Severity)} - use {@link #add(Finding)} and {@link #clear()}
+     * instead.
      *
      * @return all findings
      */
@@ -94,13 +132,9 @@ public class ValidationResults implements Serializable {
      * @return all findings with the provided code
      */
     public List<Finding> getByCode(int problemCode) {
-        List<Finding> result = new ArrayList<>();
-        for (Finding vf : allFindings) {
-            if (vf.getProblemCode() == problemCode) {
-                result.add(vf);
-            }
-        }
-        return result;
+        updateIndexes();
+        List<Finding> list = findingsByCode.get(problemCode);
+        return list == null ? new ArrayList<Finding>(0) : new ArrayList<>(list);
     }
 
     /**
@@ -133,18 +167,14 @@ public class ValidationResults implements Serializable {
         if (s == null) {
             throw new IllegalArgumentException("Severity is a required argument");
         }
-        List<Finding> result = new ArrayList<>();
-        for (Finding vf : allFindings) {
-            if (vf.getSeverity() == s) {
-                result.add(vf);
-            }
-        }
-        return result;
+        updateIndexes();
+        List<Finding> list = findingsBySeverity.get(s);
+        return list == null ? new ArrayList<Finding>(0) : new ArrayList<>(list);
     }
 
     /**
      * Gets the findings for a specific object. Not hierarchical, and does not consider child objects - only findings on the
-     * specific object you supply will be returned.
+     * specific object you supply will be returned, not those on other objects that are equal to it.
      * 
      * @param modelElement
      *            the object you want to get findings for
@@ -172,4 +202,112 @@ public class ValidationResults implements Serializable {
         builder.append("]");
         return builder.toString();
     }
+
+    /**
+     * Remove some findings. The last findings are moved into the places of those removed, so the order of the remaining findings
+     * changes.
+     * 
+     * @param findings
+     *            the findings to remove
+     */
+    void removeAll(Collection<Finding> findings) {
+        if (findings.isEmpty()) {
+            return;
+        }
+        findingsByCode = null;
+        findingsBySeverity = null;
+        for (Finding vf : findings) {
+            Integer position = positionOf(vf);
+            if (position == null) {
+                continue;
+            }
+            int last = allFindings.size() - 1;
+            Finding moved = allFindings.remove(last);
+            if (position != last) {
+                allFindings.set(position, moved);
+                positions.put(moved, position);
+            }
+            List<Finding> list = findingsByObject.get(vf.getItemOfConcern());
+            if (list != null && removeSame(list, vf) && list.isEmpty()) {
+                findingsByObject.remove(vf.getItemOfConcern());
+            }
+        }
+    }
+
+    /**
+     * Remove a finding from a list, if it's there
+     * 
+     * @param list
+     *            the list
+     * @param vf
+     *            the finding to remove
+     * @return true if the finding was in the list and has been removed
+     */
+    private static boolean removeSame(List<Finding> list, Finding vf) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) == vf) { // NOPMD - deliberately looking for the same finding
+                list.remove(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Find where a finding is in {@link #allFindings}, and forget it. Works out where all the findings are the first time it is
+     * needed, and again if {@link #allFindings} has been changed other than through this class.
+     * 
+     * @param vf
+     *            the finding
+     * @return the position of the finding, or null if it isn't there
+     */
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    private Integer positionOf(Finding vf) {
+        Integer result = positions == null ? null : positions.remove(vf);
+        if (result == null || result >= allFindings.size() || allFindings.get(result) != vf) {
+            positions = new IdentityHashMap<>(allFindings.size() * 2);
+            for (int i = 0; i < allFindings.size(); i++) {
+                positions.put(allFindings.get(i), i);
+            }
+            result = positions.remove(vf);
+        }
+        return result;
+    }
+
+    /**
+     * Add a finding to the end of the lists in {@link #findingsByCode} and {@link #findingsBySeverity}
+     * 
+     * @param vf
+     *            the finding
+     */
+    private void addToIndexes(Finding vf) {
+        List<Finding> list = findingsByCode.get(vf.getProblemCode());
+        if (list == null) {
+            list = new ArrayList<>();
+            findingsByCode.put(vf.getProblemCode(), list);
+        }
+        list.add(vf);
+        list = findingsBySeverity.get(vf.getSeverity());
+        if (list == null) {
+            list = new ArrayList<>();
+            findingsBySeverity.put(vf.getSeverity(), list);
+        }
+        list.add(vf);
+        indexedCount++;
+    }
+
+    /**
+     * Work out {@link #findingsByCode} and {@link #findingsBySeverity} again, if they aren't up to date
+     */
+    private void updateIndexes() {
+        if (findingsByCode != null && indexedCount == allFindings.size()) {
+            return;
+        }
+        findingsByCode = new HashMap<>();
+        findingsBySeverity = new EnumMap<>(Severity.class);
+        indexedCount = 0;
+        for (Finding vf : allFindings) {
+            addToIndexes(vf);
+        }
+    }
 }
@@ -77,6 +77,17 @@ import org.gedcom4j.model.enumerations.SupportedVersion;
  * there. When the {@link #validate()} method runs on this class, your validator will be called (along with the others in the
  * collection) and your results will be added to the full set of results.
  * </p>
+ * <p>
+ * To make use of multiple cores when validating large files, call {@link #setParallelism(int)} with the number of threads to
+ * validate on. The records, and then the supplementary validators, are validated on a pool of that many threads, and the findings
+ * are put into the {@link ValidationResults} in the same order as when validating on one thread. Auto-repairs, which change the
+ * {@link Gedcom}, are always made one at a time on the thread that called {@link #validate()}: a validator on the pool that comes
+ * across something the {@link AutoRepairResponder} may want to repair is stopped and run again from the start on the calling
+ * thread, at its turn. This means custom validators must not catch {@link RuntimeException} around code that may make findings,
+ * and must not change the {@link Gedcom} other than when allowed to repair it. Because repairs happen after the records validated
+ * on the pool have been looked at, a repair to one record that changes what another record's validation would find can give
+ * different findings from a validation on one thread.
+ * </p>
  * 
  * @author frizbog
  * @since 4.0.0
@@ -404,6 +415,24 @@ public class Validator implements Serializable {
 
     }
 
+    /**
+     * Thrown when a finding is made after the maximum number of errors has been found, to stop the validation. Deliberately
+     * carries no stack trace, since it is only used to unwind.
+     */
+    private static final class ValidationStopped extends RuntimeException {
+        /**
+         * Serial Version UID
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Constructor
+         */
+        ValidationStopped() {
+            super("Maximum number of errors reached", null, false, false);
+        }
+    }
+
     /**
      * Serial Version UID
      */
@@ -445,24 +474,97 @@ public class Validator implements Serializable {
         }
     };
 
+    /**
+     * The signal that stops the validation once the maximum number of errors has been found
+     */
+    private static final ValidationStopped VALIDATION_STOPPED = new ValidationStopped();
+
     /**
      * The responder that determines whether the validator is to be allowed to auto-repair a finding. Default is the more
      * conservative value of allowing no auto-repairs.
      */
     private AutoRepairResponder autoRepairResponder = AUTO_REPAIR_NONE;
 
+    /**
+     * The information shared by the supplementary validators, while {@link #validate()} is running and once it has been needed.
+     * Null otherwise.
+     */
+    private transient ValidationContext context;
+
+    /**
+     * The number of errors found so far by {@link #validate()}
+     */
+    private transient int errorCount;
+
+    /**
+     * Where findings are passed as they are made, instead of being kept in the results. Null (the default) to keep them in the
+     * results.
+     */
+    private transient FindingSink findingSink;
+
     /** The gedcom being validated. */
     private final Gedcom gedcom;
 
+    /**
+     * The number of errors after which validation stops. 0 (the default) means no limit.
+     */
+    private int maxErrors;
+
+    /**
+     * Has {@link #validate()} found as many errors as it is allowed to?
+     */
+    private transient boolean maxErrorsReached;
+
+    /**
+     * The number of threads to validate on. 1 (the default) means validate on the calling thread only.
+     */
+    private int parallelism = 1;
+
+    /**
+     * The finding most recently made, which is passed to the {@link #findingSink} once the validator that made it has finished
+     * with it
+     */
+    private transient Finding pendingFinding;
+
+    /**
+     * The profile of the last validation, or null if it wasn't profiled
+     */
+    private transient ValidationProfile profile;
+
+    /**
+     * Is each validation to be profiled?
+     */
+    private boolean profiling;
+
+    /**
+     * Are the bytes allocated by each validator to be measured when profiling?
+     */
+    private boolean profilingAllocations;
+
     /** The results. */
     private final ValidationResults results = new ValidationResults();
 
+    /**
+     * The helper that runs validators on a pool of threads, while a parallel validation is in progress. Null otherwise.
+     */
+    private transient ParallelValidationRunner runner;
+
+    /**
+     * Are checks that only make {@link Severity#INFO} findings skipped?
+     */
+    private boolean skipInfoChecks;
+
     /**
      * The extra validators. Callers may declare their own validators and register them to be executied
      */
     @SuppressWarnings("checkstyle:WhitespaceAround")
     private final Set<Class<? extends AbstractValidator>> supplementaryValidators = new HashSet<>();
 
+    /**
+     * Is {@link #validate()} running?
+     */
+    private transient boolean validating;
+
     /**
      * Is the gedcom being validated a version 5.5.1 file? Defaults to true unless we see a version of 5.5 in the file.
      */
@@ -508,6 +610,15 @@ public class Validator implements Serializable {
         return autoRepairResponder;
     }
 
+    /**
+     * Get where findings are passed as they are made, instead of being kept in the results
+     * 
+     * @return where findings are passed as they are made, or null if they are kept in the results
+     */
+    public FindingSink getFindingSink() {
+        return findingSink;
+    }
+
     /**
      * Get the gedcom
      * 
@@ -517,6 +628,33 @@ public class Validator implements Serializable {
         return gedcom;
     }
 
+    /**
+     * Get the number of errors after which validation stops
+     * 
+     * @return the number of errors after which validation stops. 0 means no limit.
+     */
+    public int getMaxErrors() {
+        return maxErrors;
+    }
+
+    /**
+     * Get the number of threads to validate on
+     * 
+     * @return the number of threads to validate on
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Get the profile of the last validation - how long it took, and how long each kind of validator took
+     * 
+     * @return the profile of the last validation, or null if it wasn't {@link #setProfiling(boolean) profiled}
+     */
+    public ValidationProfile getProfile() {
+        return profile;
+    }
+
     /**
      * Get the results
      * 
@@ -544,7 +682,45 @@ public class Validator implements Serializable {
     }
 
     /**
-     * Create a finding - automatically adds to the results.
+     * Did the last {@link #validate()} stop because it found as many errors as {@link #getMaxErrors()} allows?
+     * 
+     * @return true if the last validation stopped because it found as many errors as it is allowed to
+     */
+    public boolean isMaxErrorsReached() {
+        return maxErrorsReached;
+    }
+
+    /**
+     * Is each validation to be profiled?
+     * 
+     * @return true if each validation is to be profiled
+     */
+    public boolean isProfiling() {
+        return profiling;
+    }
+
+    /**
+     * Are the bytes allocated by each validator to be measured when profiling?
+     * 
+     * @return true if the bytes allocated by each validator are to be measured when profiling
+     */
+    public boolean isProfilingAllocations() {
+        return profilingAllocations;
+    }
+
+    /**
+     * Are checks that only make {@link Severity#INFO} findings skipped?
+     * 
+     * @return true if checks that only make {@link Severity#INFO} findings are skipped
+     */
+    public boolean isSkipInfoChecks() {
+        return skipInfoChecks;
+    }
+
+    /**
+     * Create a finding - automatically adds to the results (or passes it to the {@link #getFindingSink() finding sink}, if there is
+     * one). {@link Severity#INFO} findings are not added if {@link #isSkipInfoChecks() INFO checks are skipped}. Once
+     * {@link #isMaxErrorsReached() as many errors as are allowed} have been found, making another finding stops the validation.
      * 
      * @param itemOfConcern
      *            the item of concern. Required.
@@ -575,7 +751,20 @@ public class Validator implements Serializable {
         f.problemCode = problemCode.getCode();
         f.problemDescription = problemCode.getDescription();
         f.fieldNameOfConcern = fieldNameOfConcern;
-        results.add(f);
+        if (severity == Severity.INFO && skipInfoChecks) {
+            return f;
+        }
+        if (maxErrorsReached) {
+            throw VALIDATION_STOPPED;
+        }
+        ValidationProfile p = profile;
+        if (p != null) {
+            p.findingMade();
+        }
+        ParallelValidationRunner r = runner;
+        if (r == null || !r.keep(f)) {
+            deliver(f);
+        }
         return f;
     }
 
@@ -589,6 +778,82 @@ public class Validator implements Serializable {
         this.autoRepairResponder = autoRepairResponder;
     }
 
+    /**
+     * Set where findings are passed as they are made. Findings passed to a sink are not kept in the results, so that validating a
+     * file with a great many problems doesn't need to hold them all in memory.
+     * 
+     * @param findingSink
+     *            where findings are to be passed as they are made. Null (the default) to keep them in the results.
+     */
+    public void setFindingSink(FindingSink findingSink) {
+        this.findingSink = findingSink;
+    }
+
+    /**
+     * Set the number of errors after which validation stops. Once that many {@link Severity#ERROR} findings have been made, nothing
+     * more is checked, and nothing more is repaired - not even the finding that reached the limit.
+     * 
+     * @param maxErrors
+     *            the number of errors after which validation stops. 0 (the default) means no limit.
+     * @throws IllegalArgumentException
+     *             if maxErrors is negative
+     */
+    public void setMaxErrors(int maxErrors) {
+        if (maxErrors < 0) {
+            throw new IllegalArgumentException("Maximum number of errors cannot be negative");
+        }
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * Set the number of threads to validate on. Must be at least 1. 1 (the default) means validate on the calling thread only.
+     * Validation is always done on the calling thread only when there is a {@link #setMaxErrors(int) maximum number of errors} and
+     * auto-repairs are allowed, since whether a repair may be made depends on the errors found before it.
+     * 
+     * @param parallelism
+     *            the number of threads to validate on
+     * @throws IllegalArgumentException
+     *             if parallelism is less than 1
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Set whether each validation is to be profiled. The profile is available from {@link #getProfile()} afterwards. Profiling
+     * adds a little to the time each validator takes.
+     * 
+     * @param profiling
+     *            true if each validation is to be profiled
+     */
+    public void setProfiling(boolean profiling) {
+        this.profiling = profiling;
+    }
+
+    /**
+     * Set whether the bytes allocated by each validator are to be measured when profiling. Only done if the JVM can measure the
+     * bytes allocated on each thread - see {@link ValidationProfile#isAllocationsMeasured()}.
+     * 
+     * @param profilingAllocations
+     *            true if the bytes allocated by each validator are to be measured when profiling
+     */
+    public void setProfilingAllocations(boolean profilingAllocations) {
+        this.profilingAllocations = profilingAllocations;
+    }
+
+    /**
+     * Set whether checks that only make {@link Severity#INFO} findings are skipped. Skipped checks make no findings and no repairs.
+     * 
+     * @param skipInfoChecks
+     *            true if checks that only make {@link Severity#INFO} findings are to be skipped
+     */
+    public void setSkipInfoChecks(boolean skipInfoChecks) {
+        this.skipInfoChecks = skipInfoChecks;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -622,29 +887,37 @@ public class Validator implements Serializable {
     @SuppressWarnings("checkstyle:WhitespaceAround")
     public void validate() {
         results.clear();
-        checkHeader();
-        checkSubmission();
-        checkFamilies();
-        checkIndividuals();
-        checkMultimedia();
-        checkNotes();
-        checkRepositories();
-        checkNotes();
-        checkSubmitters();
-        if (gedcom.getTrailer() == null) {
-            Finding vf = newFinding(gedcom, Severity.ERROR, ProblemCode.MISSING_REQUIRED_VALUE, "trailer");
-            if (mayRepair(vf)) {
-                gedcom.setTrailer(new Trailer());
-                vf.addRepair(new AutoRepair(null, new Trailer()));
-            }
+        errorCount = 0;
+        maxErrorsReached = false;
+        pendingFinding = null;
+        long profileStart = startProfile();
+        synchronized (this) {
+            context = null;
+            validating = true;
         }
-        for (Class<? extends AbstractValidator> avc : supplementaryValidators) {
+        boolean repairsLimited = maxErrors > 0 && autoRepairResponder != null && autoRepairResponder != AUTO_REPAIR_NONE;
+        if (parallelism > 1 && !repairsLimited) {
+            runner = new ParallelValidationRunner(this, parallelism);
+        }
+        try {
             try {
-                AbstractValidator av = avc.getConstructor(Validator.class).newInstance(this);
-                av.validate();
-            } catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException
-                    | NoSuchMethodException | SecurityException e) {
-                throw new ValidationException("Unable to instantiate and invoke custom validator " + avc.getName(), e);
+                checkEverything();
+            } catch (@SuppressWarnings("unused") ValidationStopped stopped) {
+                // The maximum number of errors has been found, so nothing more is checked or repaired
+            }
+            if (pendingFinding != null) {
+                findingSink.add(pendingFinding);
+                pendingFinding = null;
+            }
+            finishProfile(profileStart);
+        } finally {
+            if (runner != null) {
+                runner.shutdown();
+                runner = null;
+            }
+            synchronized (this) {
+                context = null;
+                validating = false;
             }
         }
     }
@@ -672,11 +945,83 @@ public class Validator implements Serializable {
                     itr.remove();
                 }
             } else {
-                new IndividualValidator(this, entry.getValue()).validate();
+                validateRecord(entry.getValue(), new IndividualValidator(this, entry.getValue()));
             }
         }
     }
 
+    /**
+     * Keep a finding in the results, or pass it to the {@link #findingSink} if there is one - unless as many errors as are allowed
+     * have already been found. A finding is passed to the sink when the next finding is delivered, or when validation ends, by
+     * which time the validator that made it has finished with it.
+     * 
+     * @param f
+     *            the finding
+     */
+    void deliver(Finding f) {
+        if (maxErrorsReached) {
+            return;
+        }
+        if (findingSink == null) {
+            results.add(f);
+        } else {
+            if (pendingFinding != null) {
+                findingSink.add(pendingFinding);
+            }
+            pendingFinding = f;
+        }
+        if (f.severity == Severity.ERROR && maxErrors > 0 && ++errorCount >= maxErrors) {
+            maxErrorsReached = true;
+        }
+    }
+
+    /**
+     * Record the time the whole validation took in the profile, if profiling
+     * 
+     * @param profileStart
+     *            the time the validation started, from {@link #startProfile()}
+     */
+    void finishProfile(long profileStart) {
+        if (profile != null) {
+            profile.setValidationNanoseconds(System.nanoTime() - profileStart);
+        }
+    }
+
+    /**
+     * Get the information about the gedcom shared by the supplementary validators. While {@link #validate()} is running, this is
+     * worked out the first time it is asked for and then shared; otherwise it is worked out afresh on each call, so that
+     * validators run on their own see the gedcom as it is now.
+     * 
+     * @return the information about the gedcom
+     */
+    synchronized ValidationContext getContext() {
+        if (!validating) {
+            return new ValidationContext(gedcom);
+        }
+        if (context == null) {
+            context = new ValidationContext(gedcom);
+        }
+        return context;
+    }
+
+    /**
+     * Get the families that the supplementary validators should check
+     * 
+     * @return the families that the supplementary validators should check
+     */
+    Iterable<Family> getFamiliesToCheck() {
+        return gedcom.getFamilies().values();
+    }
+
+    /**
+     * Get the individuals that the supplementary validators should check
+     * 
+     * @return the individuals that the supplementary validators should check
+     */
+    Iterable<Individual> getIndividualsToCheck() {
+        return gedcom.getIndividuals().values();
+    }
+
     /**
      * Is the string supplied non-null, and has something other than whitespace in it? Deliberately package-private
      * 
@@ -703,13 +1048,115 @@ public class Validator implements Serializable {
      *            the validation finding
      * @return true if the finding may be auto-repaired
      */
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
     boolean mayRepair(Finding validationFinding) {
-        if (autoRepairResponder != null) {
+        if (maxErrorsReached || validationFinding.getSeverity() == Severity.INFO && skipInfoChecks) {
+            return false;
+        }
+        if (autoRepairResponder != null && autoRepairResponder != AUTO_REPAIR_NONE) {
+            ParallelValidationRunner r = runner;
+            if (r != null) {
+                r.deferRepairIfOnPool();
+            }
             return autoRepairResponder.mayRepair(validationFinding);
         }
         return false;
     }
 
+    /**
+     * Make an instance of a supplementary validator
+     * 
+     * @param avc
+     *            the class of the supplementary validator
+     * @return the supplementary validator
+     * @throws ValidationException
+     *             if the validator can't be instantiated
+     */
+    @SuppressWarnings("checkstyle:WhitespaceAround")
+    AbstractValidator newSupplementaryValidator(Class<? extends AbstractValidator> avc) {
+        try {
+            return avc.getConstructor(Validator.class).newInstance(this);
+        } catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException
+                | NoSuchMethodException | SecurityException e) {
+            throw new ValidationException("Unable to instantiate and invoke custom validator " + avc.getName(), e);
+        }
+    }
+
+    /**
+     * Run a validator on the current thread, measuring it if profiling
+     * 
+     * @param v
+     *            the validator to run
+     */
+    void runValidator(AbstractValidator v) {
+        ValidationProfile p = profile;
+        if (p == null) {
+            v.validate();
+        } else {
+            p.run(v);
+        }
+    }
+
+    /**
+     * Start a new profile, if profiling, or stop keeping one if not
+     * 
+     * @return the time the profile started, in nanoseconds
+     */
+    long startProfile() {
+        profile = profiling ? new ValidationProfile(profilingAllocations) : null;
+        return System.nanoTime();
+    }
+
+    /**
+     * Run a validator - straight away if validating on one thread, otherwise on the pool, in turn
+     * 
+     * @param record
+     *            the record being validated, or null if the validator is a supplementary validator
+     * @param v
+     *            the validator to run
+     */
+    void validateRecord(ModelElement record, AbstractValidator v) {
+        if (maxErrorsReached) {
+            return;
+        }
+        if (runner == null) {
+            runValidator(v);
+        } else {
+            runner.submit(v);
+        }
+    }
+
+    /**
+     * Check everything in the gedcom
+     */
+    private void checkEverything() {
+        checkHeader();
+        checkSubmission();
+        checkFamilies();
+        checkIndividuals();
+        checkMultimedia();
+        checkNotes();
+        checkRepositories();
+        checkNotes();
+        checkSubmitters();
+        if (runner != null) {
+            runner.collect();
+        }
+        if (gedcom.getTrailer() == null) {
+            Finding vf = newFinding(gedcom, Severity.ERROR, ProblemCode.MISSING_REQUIRED_VALUE, "trailer");
+            if (mayRepair(vf)) {
+                gedcom.setTrailer(new Trailer());
+                vf.addRepair(new AutoRepair(null, new Trailer()));
+            }
+        }
+        for (Class<? extends AbstractValidator> avc : supplementaryValidators) {
+            validateRecord(null, newSupplementaryValidator(avc));
+        }
+        if (runner != null) {
+            runner.collect();
+        }
+    }
+
     /**
      * Check families.
      */
@@ -724,7 +1171,7 @@ public class Validator implements Serializable {
                     itr.remove();
                 }
             } else {
-                new FamilyValidator(this, entry.getValue()).validate();
+                validateRecord(entry.getValue(), new FamilyValidator(this, entry.getValue()));
             }
         }
     }
@@ -737,7 +1184,7 @@ public class Validator implements Serializable {
             Header header = new Header();
             gedcom.setHeader(header);
         }
-        new HeaderValidator(this, gedcom.getHeader()).validate();
+        runValidator(new HeaderValidator(this, gedcom.getHeader()));
     }
 
     /**
@@ -754,7 +1201,7 @@ public class Validator implements Serializable {
                     itr.remove();
                 }
             } else {
-                new MultimediaValidator(this, entry.getValue()).validate();
+                validateRecord(entry.getValue(), new MultimediaValidator(this, entry.getValue()));
             }
         }
     }
@@ -772,7 +1219,7 @@ public class Validator implements Serializable {
             if (!isSpecified(note.getXref())) {
                 newFinding(note, Severity.ERROR, ProblemCode.MISSING_REQUIRED_VALUE, "xref");
             }
-            new NoteRecordValidator(this, note).validate();
+            validateRecord(note, new NoteRecordValidator(this, note));
         }
     }
 
@@ -790,7 +1237,7 @@ public class Validator implements Serializable {
                     itr.remove();
                 }
             } else {
-                new RepositoryValidator(this, entry.getValue()).validate();
+                validateRecord(entry.getValue(), new RepositoryValidator(this, entry.getValue()));
             }
         }
     }
@@ -800,7 +1247,7 @@ public class Validator implements Serializable {
      */
     private void checkSubmission() {
         if (gedcom.getSubmission() != null) {
-            new SubmissionValidator(this, gedcom.getSubmission()).validate();
+            runValidator(new SubmissionValidator(this, gedcom.getSubmission()));
         } else {
             Finding vf = newFinding(gedcom, Severity.ERROR, ProblemCode.MISSING_REQUIRED_VALUE, "submission");
             if (mayRepair(vf)) {
@@ -824,7 +1271,7 @@ public class Validator implements Serializable {
                     itr.remove();
                 }
             } else {
-                new SubmitterValidator(this, entry.getValue()).validate();
+                validateRecord(entry.getValue(), new SubmitterValidator(this, entry.getValue()));
             }
         }
     }
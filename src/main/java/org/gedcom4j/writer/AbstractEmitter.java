@@ -30,7 +30,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.gedcom4j.exception.GedcomWriterException;
+import org.gedcom4j.exception.GedcomWriterVersionDataMismatchException;
 import org.gedcom4j.exception.WriterCancelledException;
+import org.gedcom4j.model.AbstractAddressableElement;
 import org.gedcom4j.model.CustomFact;
 import org.gedcom4j.model.HasCustomFacts;
 import org.gedcom4j.model.MultiStringWithCustomFacts;
@@ -91,6 +93,31 @@ abstract class AbstractEmitter<T> {
         }
     }
 
+    /**
+     * Check that an element being written to a GEDCOM 5.5 file has no www urls, fax numbers or emails, none of which the 5.5
+     * standard allows. Called by the emitters as they write each element, so incompatible data is found without a separate pass
+     * over the whole model.
+     * 
+     * @param element
+     *            the element being written
+     * @param description
+     *            a description of the element for the exception message, e.g. "Submitter @SUBM1@"
+     * @throws GedcomWriterVersionDataMismatchException
+     *             if the element has any www urls, fax numbers or emails
+     */
+    protected void checkContactDetails55(AbstractAddressableElement element, String description)
+            throws GedcomWriterVersionDataMismatchException {
+        if (element.getWwwUrls() != null && !element.getWwwUrls().isEmpty()) {
+            throw new GedcomWriterVersionDataMismatchException("Gedcom version is 5.5, but " + description + " has www urls");
+        }
+        if (element.getFaxNumbers() != null && !element.getFaxNumbers().isEmpty()) {
+            throw new GedcomWriterVersionDataMismatchException("Gedcom version is 5.5, but " + description + " has fax numbers");
+        }
+        if (element.getEmails() != null && !element.getEmails().isEmpty()) {
+            throw new GedcomWriterVersionDataMismatchException("Gedcom version is 5.5, but " + description + " has emails");
+        }
+    }
+
     /**
      * Emit the GEDCOM text for the object this Emitter is for
      * 
@@ -108,8 +135,10 @@ abstract class AbstractEmitter<T> {
      *            the tag to use for the first line of the text. All subsequent lines will be "CONT" lines.
      * @param linesOfText
      *            the lines of text
+     * @throws GedcomWriterException
+     *             if the line can't be written to the output
      */
-    protected void emitLinesOfText(int level, String startingTag, List<String> linesOfText) {
+    protected void emitLinesOfText(int level, String startingTag, List<String> linesOfText) throws GedcomWriterException {
         emitLinesOfText(level, null, startingTag, linesOfText);
     }
 
@@ -148,27 +177,39 @@ abstract class AbstractEmitter<T> {
      *            the xref of the item with lines of text
      * @param linesOfText
      *            the lines of text to write
+     * @throws GedcomWriterException
+     *             if the line can't be written to the output
      */
-    protected void emitLinesOfText(int level, String xref, String startingTag, List<String> linesOfText) {
-        List<String> splitLinesOfText = splitLinesOnBreakingCharacters(linesOfText);
-        int lineNum = 0;
-        for (String l : splitLinesOfText) {
-            StringBuilder line = new StringBuilder();
-            if (lineNum == 0) {
-                line.append(level).append(" ");
+    protected void emitLinesOfText(int level, String xref, String startingTag, List<String> linesOfText)
+            throws GedcomWriterException {
+        if (linesOfText == null) {
+            return;
+        }
+        boolean first = true;
+        for (String text : linesOfText) {
+            int end = endOfText(text);
+            if (end == 0 && !text.isEmpty()) {
+                // Nothing but line breaks
+                continue;
+            }
+            int pieceStart = 0;
+            int pieceEnd;
+            do {
+                pieceEnd = nextLineBreak(text, pieceStart, end);
+                LineBuilder line = baseWriter.lineBuilder.start(first ? level : level + 1).append(' ');
                 if (xref != null && xref.length() > 0) {
-                    line.append(xref).append(" ");
+                    line.append(xref).append(' ');
                 }
-                line.append(startingTag).append(" ").append(l);
-            } else {
-                line.append(level + 1).append(" ");
-                if (xref != null && xref.length() > 0) {
-                    line.append(xref).append(" ");
+                if (first) {
+                    line.append(startingTag).append(' ');
+                } else {
+                    line.append("CONT ");
                 }
-                line.append("CONT ").append(l);
-            }
-            lineNum++;
-            emitAndSplit(level, line.toString());
+                line.append(text, pieceStart, pieceEnd);
+                emitAndSplit(level, line);
+                first = false;
+                pieceStart = pieceEnd + lineBreakLength(text, pieceEnd);
+            } while (pieceEnd < end);
         }
     }
 
@@ -200,9 +241,11 @@ abstract class AbstractEmitter<T> {
      *            the level within the file hierarchy
      * @param tag
      *            the tag for the line of the file
+     * @throws GedcomWriterException
+     *             if the line can't be written to the output
      */
-    protected void emitTag(int level, String tag) {
-        baseWriter.lines.add(level + " " + tag);
+    protected void emitTag(int level, String tag) throws GedcomWriterException {
+        baseWriter.emitLine(baseWriter.lineBuilder.start(level).append(' ').append(tag));
     }
 
     /**
@@ -214,14 +257,16 @@ abstract class AbstractEmitter<T> {
      *            the xref of the item being written, if any
      * @param tag
      *            the tag for the line of the file
+     * @throws GedcomWriterException
+     *             if the line can't be written to the output
      */
-    protected void emitTag(int level, String xref, String tag) {
-        StringBuilder line = new StringBuilder(Integer.toString(level));
+    protected void emitTag(int level, String xref, String tag) throws GedcomWriterException {
+        LineBuilder line = baseWriter.lineBuilder.start(level);
         if (xref != null && xref.length() > 0) {
-            line.append(" ").append(xref);
+            line.append(' ').append(xref);
         }
-        line.append(" ").append(tag);
-        baseWriter.lines.add(line.toString());
+        line.append(' ').append(tag);
+        baseWriter.emitLine(line);
     }
 
     /**
@@ -257,14 +302,9 @@ abstract class AbstractEmitter<T> {
      */
     protected void emitTagWithOptionalValue(int level, String tag, String value) throws GedcomWriterException {
         if (value == null) {
-            StringBuilder line = new StringBuilder(Integer.toString(level));
-            line.append(" ").append(tag);
-            baseWriter.lines.add(line.toString());
+            emitTag(level, tag);
         } else {
-            List<String> temp = new ArrayList<>();
-            temp.add(value);
-            List<String> valueLines = splitLinesOnBreakingCharacters(temp);
-            emitValueLines(level, null, tag, valueLines);
+            emitValue(level, null, tag, value);
         }
     }
 
@@ -283,21 +323,14 @@ abstract class AbstractEmitter<T> {
     protected void emitTagWithOptionalValueAndCustomSubtags(int level, String tag, StringWithCustomFacts valueToRightOfTag)
             throws GedcomWriterException {
         if (valueToRightOfTag == null || valueToRightOfTag.getValue() == null) {
-            StringBuilder line = new StringBuilder(Integer.toString(level));
-            line.append(" ").append(tag);
-            baseWriter.lines.add(line.toString());
+            emitTag(level, tag);
             if (valueToRightOfTag != null) {
                 emitCustomFacts(level + 1, valueToRightOfTag.getCustomFacts());
             }
             return;
         }
 
-        List<String> temp = new ArrayList<>();
-        temp.add(valueToRightOfTag.getValue());
-        List<String> valueLines = splitLinesOnBreakingCharacters(temp);
-
-        emitValueLines(level, null, tag, valueLines);
-
+        emitValue(level, null, tag, valueToRightOfTag.getValue());
         emitCustomFacts(level + 1, valueToRightOfTag.getCustomFacts());
     }
 
@@ -380,18 +413,17 @@ abstract class AbstractEmitter<T> {
                 if (cf == null) {
                     continue;
                 }
-                StringBuilder line = new StringBuilder(Integer.toString(level));
-                line.append(" ");
+                LineBuilder line = baseWriter.lineBuilder.start(level).append(' ');
                 if (cf.getXref() != null && cf.getXref().trim().length() > 0) {
-                    line.append(cf.getXref()).append(" ");
+                    line.append(cf.getXref()).append(' ');
                 }
                 line.append(cf.getTag());
                 if (cf.getDescription() != null && cf.getDescription().getValue() != null && cf.getDescription().getValue().trim()
                         .length() > 0) {
-                    line.append(" ").append(cf.getDescription());
+                    line.append(' ').append(cf.getDescription().getValue());
                 }
 
-                emitAndSplit(level, line.toString());
+                emitAndSplit(level, line);
 
                 new ChangeDateEmitter(baseWriter, level + 1, cf.getChangeDate()).emit();
                 new CitationEmitter(baseWriter, level + 1, cf.getCitations()).emit();
@@ -416,40 +448,100 @@ abstract class AbstractEmitter<T> {
         List<String> result = new ArrayList<>();
         if (linesOfText != null) {
             for (String s : linesOfText) {
-                String[] pieces = s.split("(\r\n|\n\r|\r|\n)");
-                for (String piece : pieces) {
-                    result.add(piece);
+                int end = endOfText(s);
+                if (end == 0 && !s.isEmpty()) {
+                    continue;
                 }
+                int pieceStart = 0;
+                int pieceEnd;
+                do {
+                    pieceEnd = nextLineBreak(s, pieceStart, end);
+                    result.add(s.substring(pieceStart, pieceEnd));
+                    pieceStart = pieceEnd + lineBreakLength(s, pieceEnd);
+                } while (pieceEnd < end);
             }
         }
         return result;
     }
 
     /**
-     * Write a line out to the print writer, splitting due to length if needed with CONC lines
+     * Find where the text of a value ends, ignoring any line breaks at the end (which don't result in CONT lines)
+     * 
+     * @param s
+     *            the value
+     * @return the index after the last character that isn't a line break, or the length of the value if it has no line breaks
+     */
+    private static int endOfText(String s) {
+        int end = s.length();
+        while (end > 0 && (s.charAt(end - 1) == '\r' || s.charAt(end - 1) == '\n')) {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Get the length of the line break at a position in a string. CR LF and LF CR count as single line breaks.
+     * 
+     * @param s
+     *            the string
+     * @param i
+     *            the position in the string
+     * @return the number of characters in the line break at the position, or 0 if there isn't one there
+     */
+    private static int lineBreakLength(String s, int i) {
+        if (i >= s.length()) {
+            return 0;
+        }
+        char c = s.charAt(i);
+        if (c == '\r') {
+            return i + 1 < s.length() && s.charAt(i + 1) == '\n' ? 2 : 1;
+        }
+        if (c == '\n') {
+            return i + 1 < s.length() && s.charAt(i + 1) == '\r' ? 2 : 1;
+        }
+        return 0;
+    }
+
+    /**
+     * Find the next line break in a string
+     * 
+     * @param s
+     *            the string
+     * @param from
+     *            the position to start looking at
+     * @param end
+     *            the position to stop looking at
+     * @return the position of the next line break, or <code>end</code> if there isn't one before it
+     */
+    private static int nextLineBreak(String s, int from, int end) {
+        int i = from;
+        while (i < end && s.charAt(i) != '\r' && s.charAt(i) != '\n') {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Write a line out, splitting due to length if needed with CONC lines
      * 
      * @param level
      *            the level at which we are recording
      * @param line
-     *            the line to be written, which may have line breaking characters (which will result in CONT lines)
+     *            the line to be written
+     * @throws GedcomWriterException
+     *             if the line can't be written to the output
      */
-    private void emitAndSplit(int level, String line) {
+    private void emitAndSplit(int level, LineBuilder line) throws GedcomWriterException {
         if (line.length() <= MAX_LINE_LENGTH) {
-            baseWriter.lines.add(line);
-        } else {
-            // First part
-            baseWriter.lines.add(line.substring(0, MAX_LINE_LENGTH));
-            // Now a series of as many CONC lines as needed
-            String remainder = line.substring(MAX_LINE_LENGTH);
-            while (remainder.length() > 0) {
-                if (remainder.length() > MAX_LINE_LENGTH) {
-                    baseWriter.lines.add(level + 1 + " CONC " + remainder.substring(0, MAX_LINE_LENGTH));
-                    remainder = remainder.substring(MAX_LINE_LENGTH);
-                } else {
-                    baseWriter.lines.add(level + 1 + " CONC " + remainder);
-                    remainder = "";
-                }
-            }
+            baseWriter.emitLine(line);
+            return;
+        }
+        // First part, then a series of as many CONC lines as needed
+        LineBuilder piece = baseWriter.splitLineBuilder;
+        baseWriter.emitLine(piece.clear().append(line, 0, MAX_LINE_LENGTH));
+        for (int i = MAX_LINE_LENGTH; i < line.length(); i += MAX_LINE_LENGTH) {
+            piece.start(level + 1).append(" CONC ").append(line, i, Math.min(i + MAX_LINE_LENGTH, line.length()));
+            baseWriter.emitLine(piece);
         }
     }
 
@@ -472,12 +564,7 @@ abstract class AbstractEmitter<T> {
     private void emitTagIfValueNotNull(int level, String xref, String tag, HasCustomFacts value) throws WriterCancelledException,
             GedcomWriterException {
         if (value != null) {
-            List<String> temp = new ArrayList<>();
-            temp.add(value.toString());
-
-            List<String> valueLines = splitLinesOnBreakingCharacters(temp);
-            emitValueLines(level, xref, tag, valueLines);
-
+            emitValue(level, xref, tag, value.toString());
             emitCustomFacts(level + 1, value.getCustomFacts());
         }
     }
@@ -501,17 +588,12 @@ abstract class AbstractEmitter<T> {
         if (e == null || e.getValue() == null || e.getValue().trim().length() == 0) {
             throw new GedcomWriterException("Required value for tag " + tag + " at level " + level + " was null or blank");
         }
-        List<String> temp = new ArrayList<>();
-        temp.add(e.getValue());
-        List<String> valueLines = splitLinesOnBreakingCharacters(temp);
-
-        emitValueLines(level, xref, tag, valueLines);
-
+        emitValue(level, xref, tag, e.getValue());
         emitCustomFacts(level + 1, e.getCustomFacts());
     }
 
     /**
-     * Emit the value lines that have been split on line breaks
+     * Emit a value, with CONT lines for each line break in it, and CONC lines for parts that are too long
      * 
      * @param level
      *            the level within the file hierarchy
@@ -519,27 +601,29 @@ abstract class AbstractEmitter<T> {
      *            the xref for the item, if any
      * @param tag
      *            the tag for the line of the file
-     * @param valueLines
+     * @param value
      *            the value to write to the right of the tag
+     * @throws GedcomWriterException
+     *             if the line can't be written to the output
      */
-    private void emitValueLines(int level, String xref, String tag, List<String> valueLines) {
-        boolean first = true;
-        for (String v : valueLines) {
-            StringBuilder line = new StringBuilder();
-            if (first) {
-                line.append(level);
-                if (xref != null && xref.length() > 0) {
-                    line.append(" ").append(xref);
-                }
-                line.append(" ").append(tag).append(" ").append(v);
-                emitAndSplit(level, line.toString());
-            } else {
-                line.append(level + 1);
-                line.append(" CONT ").append(v);
-                emitAndSplit(level + 1, line.toString());
-            }
-
-            first = false;
+    private void emitValue(int level, String xref, String tag, String value) throws GedcomWriterException {
+        int end = endOfText(value);
+        if (end == 0 && !value.isEmpty()) {
+            // Nothing but line breaks
+            return;
+        }
+        int pieceStart = 0;
+        int pieceEnd = nextLineBreak(value, pieceStart, end);
+        LineBuilder line = baseWriter.lineBuilder.start(level);
+        if (xref != null && xref.length() > 0) {
+            line.append(' ').append(xref);
+        }
+        line.append(' ').append(tag).append(' ').append(value, pieceStart, pieceEnd);
+        emitAndSplit(level, line);
+        while (pieceEnd < end) {
+            pieceStart = pieceEnd + lineBreakLength(value, pieceEnd);
+            pieceEnd = nextLineBreak(value, pieceStart, end);
+            emitAndSplit(level + 1, baseWriter.lineBuilder.start(level + 1).append(" CONT ").append(value, pieceStart, pieceEnd));
         }
     }
 }
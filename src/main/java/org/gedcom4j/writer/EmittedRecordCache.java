@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.writer;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.gedcom4j.model.HasXref;
+
+/**
+ * <p>
+ * A cache of the encoded bytes emitted for each root-level record (individuals, families, multimedia, notes, repositories,
+ * sources, and submitters) by a {@link GedcomWriter}, so that saving again after changing a few records only has to construct and
+ * encode the lines for the records that changed. Set it on each writer with {@link GedcomWriter#setRecordCache(EmittedRecordCache)}
+ * - the first write fills the cache, and later writes of the same (or a changed) {@link org.gedcom4j.model.Gedcom} copy the bytes
+ * for unchanged records straight to the output.
+ * </p>
+ * <p>
+ * Records are identified by object identity, not by xref or by value. The cache cannot see changes made to a record (or to any of
+ * the objects inside it), so <b>{@link #markChanged(HasXref)} must be called for every record that is changed</b> between writes.
+ * The cache looks after the following by itself:
+ * </p>
+ * <ul>
+ * <li>Records that are added are constructed and added to the cache; records that are removed are dropped from it.</li>
+ * <li>If the xref of any cached record, or of any record marked as changed since the last write, has changed, the whole cache is
+ * cleared, since records that refer to it would change too.</li>
+ * <li>If the character set, byte order, line terminator, or GEDCOM version being written changes, the whole cache is cleared.</li>
+ * </ul>
+ * <p>
+ * The header, submission, root-level custom facts, and trailer are constructed fresh on every write. This class is not
+ * thread-safe.
+ * </p>
+ * 
+ * @author frizbog
+ */
+public final class EmittedRecordCache {
+
+    /**
+     * The cached bytes for a record
+     */
+    static final class Entry {
+        /**
+         * The encoded bytes of the record's lines, including their terminators
+         */
+        final byte[] encoded;
+
+        /**
+         * The number of lines in {@link #encoded}
+         */
+        final int lineCount;
+
+        /**
+         * The record's xref when it was emitted
+         */
+        private final String xref;
+
+        /**
+         * The number of the write that the record was last written in
+         */
+        private long lastWrite;
+
+        /**
+         * Constructor
+         * 
+         * @param encoded
+         *            the encoded bytes of the record's lines, including their terminators
+         * @param lineCount
+         *            the number of lines
+         * @param xref
+         *            the record's xref when it was emitted
+         * @param lastWrite
+         *            the number of the write that the record was written in
+         */
+        Entry(byte[] encoded, int lineCount, String xref, long lastWrite) {
+            this.encoded = encoded;
+            this.lineCount = lineCount;
+            this.xref = xref;
+            this.lastWrite = lastWrite;
+        }
+    }
+
+    /**
+     * The cached bytes, keyed by the identity of the record
+     */
+    private final Map<HasXref, Entry> entries = new IdentityHashMap<>();
+
+    /**
+     * The character set, byte order, line terminator and GEDCOM version that the cached bytes were written with
+     */
+    private String format;
+
+    /**
+     * The xrefs that records marked as changed since the last write had when they were cached, keyed by the identity of the record -
+     * so that renaming a record is noticed even though it is no longer cached
+     */
+    private final Map<HasXref, String> retiredXrefs = new IdentityHashMap<>();
+
+    /**
+     * The number of the write in progress, or of the last one
+     */
+    private long writeNumber;
+
+    /**
+     * Forget everything in the cache, so all records are constructed and encoded again the next time they are written
+     */
+    public void clear() {
+        entries.clear();
+        retiredXrefs.clear();
+    }
+
+    /**
+     * Is the record's encoded data in the cache? Records are in the cache once they have been written, until they are marked as
+     * changed.
+     * 
+     * @param record
+     *            the record
+     * @return true if the record's encoded data is in the cache
+     */
+    public boolean isCached(HasXref record) {
+        return entries.containsKey(record);
+    }
+
+    /**
+     * Note that a record (or something inside it) has changed, so it needs to be constructed and encoded again the next time it is
+     * written
+     * 
+     * @param record
+     *            the record that changed
+     */
+    public void markChanged(HasXref record) {
+        Entry e = entries.remove(record);
+        if (e != null) {
+            retiredXrefs.put(record, e.xref);
+        }
+    }
+
+    /**
+     * Get the number of records in the cache
+     * 
+     * @return the number of records in the cache
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Get the cached bytes for a record, if it has not changed since they were cached
+     * 
+     * @param record
+     *            the record
+     * @return the cached bytes, or null if they need to be constructed and encoded again
+     */
+    Entry get(HasXref record) {
+        Entry e = entries.get(record);
+        if (e != null) {
+            e.lastWrite = writeNumber;
+        }
+        return e;
+    }
+
+    /**
+     * Finish a write that succeeded, dropping the records that were not written (because they are no longer in the
+     * {@link org.gedcom4j.model.Gedcom})
+     */
+    void finishWrite() {
+        Iterator<Entry> i = entries.values().iterator();
+        while (i.hasNext()) {
+            if (i.next().lastWrite != writeNumber) {
+                i.remove();
+            }
+        }
+    }
+
+    /**
+     * Add the bytes for a record that has just been constructed and encoded
+     * 
+     * @param record
+     *            the record
+     * @param encoded
+     *            the encoded bytes of the record's lines, including their terminators
+     * @param lineCount
+     *            the number of lines
+     */
+    void put(HasXref record, byte[] encoded, int lineCount) {
+        entries.put(record, new Entry(encoded, lineCount, record.getXref(), writeNumber));
+    }
+
+    /**
+     * Start a write, clearing the cache if the format is different from last time or any cached record's xref has changed
+     * 
+     * @param formatOfWrite
+     *            the character set, byte order, line terminator and GEDCOM version being written
+     */
+    void startWrite(String formatOfWrite) {
+        writeNumber++;
+        if (!formatOfWrite.equals(format)) {
+            clear();
+            format = formatOfWrite;
+            return;
+        }
+        for (Map.Entry<HasXref, String> r : retiredXrefs.entrySet()) {
+            if (isXrefChanged(r.getKey(), r.getValue())) {
+                clear();
+                return;
+            }
+        }
+        retiredXrefs.clear();
+        for (Map.Entry<HasXref, Entry> e : entries.entrySet()) {
+            if (isXrefChanged(e.getKey(), e.getValue().xref)) {
+                clear();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Has a record's xref changed since it was cached?
+     * 
+     * @param record
+     *            the record
+     * @param cachedXref
+     *            the record's xref when it was cached
+     * @return true if the record's xref has changed
+     */
+    private static boolean isXrefChanged(HasXref record, String cachedXref) {
+        String xref = record.getXref();
+        return xref == null ? cachedXref != null : !xref.equals(cachedXref);
+    }
+}
@@ -31,30 +31,30 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.lang.ref.WeakReference;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import org.gedcom4j.exception.GedcomWriterException;
 import org.gedcom4j.exception.GedcomWriterVersionDataMismatchException;
 import org.gedcom4j.exception.WriterCancelledException;
+import org.gedcom4j.io.encoding.Compression;
 import org.gedcom4j.io.event.FileProgressEvent;
 import org.gedcom4j.io.event.FileProgressListener;
 import org.gedcom4j.io.writer.GedcomFileWriter;
 import org.gedcom4j.io.writer.LineTerminator;
-import org.gedcom4j.model.AbstractAddressableElement;
-import org.gedcom4j.model.AbstractEvent;
-import org.gedcom4j.model.FamilyChild;
+import org.gedcom4j.model.FileReference;
 import org.gedcom4j.model.Gedcom;
 import org.gedcom4j.model.GedcomVersion;
-import org.gedcom4j.model.Individual;
-import org.gedcom4j.model.IndividualAttribute;
 import org.gedcom4j.model.Multimedia;
-import org.gedcom4j.model.Repository;
 import org.gedcom4j.model.StringWithCustomFacts;
-import org.gedcom4j.model.Submitter;
-import org.gedcom4j.model.enumerations.IndividualAttributeType;
-import org.gedcom4j.model.enumerations.SupportedVersion;
 import org.gedcom4j.validate.AutoRepairResponder;
 import org.gedcom4j.validate.Severity;
 import org.gedcom4j.validate.Validator;
@@ -89,12 +89,41 @@ import org.gedcom4j.writer.event.ConstructProgressListener;
  * </p>
  * 
  * <p>
+ * Data that the GEDCOM version in the header does not support (for example, email addresses on a submitter in a 5.5 file) is
+ * detected while the file is being constructed, and causes a {@link GedcomWriterVersionDataMismatchException} to be thrown at
+ * the first such piece of data. Unless {@link #setStreaming(boolean) streaming}, nothing is written to the output when this
+ * happens.
+ * </p>
+ * 
+ * <p>
  * Although validation is automatically performed, autorepair is turned off by default (see
  * {@link org.gedcom4j.validate.GedcomValidator#setAutoRepairEnabled(boolean)})...this way your data is not altered. Validation can
  * be suppressed if you want by setting {@link #validationSuppressed} to true, but this is not recommended. You can also force
  * autorepair on if you want.
  * </p>
  * 
+ * <h3>Parallel construction</h3>
+ * <p>
+ * To make use of multiple cores when writing large files, call {@link #setParallelism(int)} with the number of threads to construct
+ * the lines for root-level records on. The output is the same as for a sequential write.
+ * </p>
+ * 
+ * <h3>Saving again after changes</h3>
+ * <p>
+ * To save the same {@link Gedcom} repeatedly after changing a few records, set an {@link EmittedRecordCache} on the writer with
+ * {@link #setRecordCache(EmittedRecordCache)}, keep it between writes, and mark the records that change with
+ * {@link EmittedRecordCache#markChanged(org.gedcom4j.model.HasXref)}. Only the records that changed are constructed and encoded
+ * again.
+ * </p>
+ * 
+ * <h3>Compressed files</h3>
+ * <p>
+ * Call {@link #setCompression(Compression)} to write the file gzipped, or as a zip archive (such as a GEDZIP file) holding the
+ * gedcom and, if a {@link #setMediaDirectory(File) media directory} is set, the multimedia files it refers to. The data is
+ * compressed as it is written, without any temporary files. {@link org.gedcom4j.parser.GedcomParser} reads such files without
+ * being told they are compressed.
+ * </p>
+ * 
  * @author frizbog1
  */
 /**
@@ -103,12 +132,33 @@ import org.gedcom4j.writer.event.ConstructProgressListener;
  */
 @SuppressWarnings({ "PMD.GodClass", "PMD.TooManyMethods", "PMD.ExcessiveImports" })
 public class GedcomWriter extends AbstractEmitter<Gedcom> {
+    /**
+     * The size of the buffer that the compressed data is assembled in when the file is gzipped. 64K.
+     */
+    private static final int COMPRESSION_BUFFER_SIZE = 65536;
+
     /**
      * The text lines of the GEDCOM file we're writing, which will be written using a {@link GedcomFileWriter}. Deliberately
-     * package-private so tests can access it but others can't alter it.
+     * package-private so tests can access it but others can't alter it. Stays empty when {@link #streaming}.
      */
     List<String> lines = new ArrayList<>();
 
+    /**
+     * The buffer that lines are assembled in before being emitted
+     */
+    final LineBuilder lineBuilder = new LineBuilder();
+
+    /**
+     * The buffer that the pieces of lines that are too long are assembled in, when splitting them into CONC lines
+     */
+    final LineBuilder splitLineBuilder = new LineBuilder();
+
+    /**
+     * The file writer that lines are being streamed to while {@link #streaming}, or null when lines are being buffered in
+     * {@link #lines}
+     */
+    private GedcomFileWriter streamingTo;
+
     /**
      * The auto repair responder.
      */
@@ -117,7 +167,12 @@ public class GedcomWriter extends AbstractEmitter<Gedcom> {
     /**
      * Has this writer been cancelled?
      */
-    private boolean cancelled;
+    private volatile boolean cancelled;
+
+    /**
+     * How the file is compressed as it is written
+     */
+    private Compression compression = Compression.NONE;
 
     /**
      * Send a notification whenever more than this many lines are constructed
@@ -142,13 +197,55 @@ public class GedcomWriter extends AbstractEmitter<Gedcom> {
     /**
      * The number of lines constructed as last reported to the observers
      */
-    private int lastLineCountNotified = 0;
+    private long lastLineCountNotified = 0;
+
+    /**
+     * The number of lines constructed so far
+     */
+    private long linesConstructed;
 
     /**
      * The line terminator to use
      */
     private LineTerminator lineTerminator = LineTerminator.getDefaultLineTerminator();
 
+    /**
+     * The directory that relative multimedia file references are found in, when writing a {@link Compression#ZIP} archive
+     */
+    private File mediaDirectory;
+
+    /**
+     * For a writer that is a buffer for the lines of some of another writer's records, the line counts at which construction
+     * progress notifications were asked for, so the other writer can send them at the same points. Null otherwise.
+     */
+    private int[] notificationPoints;
+
+    /**
+     * The number of entries in use in {@link #notificationPoints}
+     */
+    private int notificationPointCount;
+
+    /**
+     * The number of threads to construct the lines for root-level records on
+     */
+    private int parallelism = 1;
+
+    /**
+     * The writer that this writer is a buffer for the lines of some records of, or null if this writer is writing a whole file
+     */
+    private final GedcomWriter parent;
+
+    /**
+     * The cache of the encoded bytes of root-level records, if any
+     */
+    private EmittedRecordCache recordCache;
+
+    /**
+     * Whether to stream lines straight to the output as they are constructed, rather than building the whole file in
+     * {@link #lines} first
+     */
+    private boolean streaming;
+
     /**
      * Whether to use little-endian unicode
      */
@@ -173,8 +270,28 @@ public class GedcomWriter extends AbstractEmitter<Gedcom> {
      *             if cancellation was requested during the operation
      */
     public GedcomWriter(Gedcom gedcom) throws WriterCancelledException {
+        this(gedcom, null);
+    }
+
+    /**
+     * Constructor. When there is a parent writer, this writer is a buffer for the lines of some of the parent's records, while
+     * those records are being constructed in parallel: lines are always kept in {@link #lines}, cancelling the parent cancels this
+     * writer, and construction progress notifications are left for the parent to send.
+     * 
+     * @param gedcom
+     *            the {@link Gedcom} structure to write out
+     * @param parent
+     *            the writer that this writer is a buffer for, or null if this writer is writing a whole file
+     * @throws WriterCancelledException
+     *             if cancellation was requested during the operation
+     */
+    GedcomWriter(Gedcom gedcom, GedcomWriter parent) throws WriterCancelledException {
         super(null, 0, gedcom);
         baseWriter = this;
+        this.parent = parent;
+        if (parent != null) {
+            notificationPoints = new int[16];
+        }
     }
 
     /**
@@ -193,6 +310,15 @@ public class GedcomWriter extends AbstractEmitter<Gedcom> {
         return autoRepairResponder;
     }
 
+    /**
+     * Get how the file is compressed as it is written
+     * 
+     * @return how the file is compressed as it is written
+     */
+    public Compression getCompression() {
+        return compression;
+    }
+
     /**
      * Get the construction notification rate - how many lines need to be constructed before getting a notification
      * 
@@ -220,6 +346,35 @@ public class GedcomWriter extends AbstractEmitter<Gedcom> {
         return lineTerminator;
     }
 
+    /**
+     * Get the directory that relative multimedia file references are found in, when writing a {@link Compression#ZIP} archive
+     * 
+     * @return the directory that relative multimedia file references are found in, or null if multimedia files are not added to
+     *         archives
+     */
+    public File getMediaDirectory() {
+        return mediaDirectory;
+    }
+
+    /**
+     * Get the number of threads that the lines for root-level records are constructed on
+     * 
+     * @return the number of threads that the lines for root-level records are constructed on. 1 means they are constructed on the
+     *         thread that is writing.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Get the cache of the encoded bytes of root-level records
+     * 
+     * @return the cache of the encoded bytes of root-level records, or null if there isn't one
+     */
+    public EmittedRecordCache getRecordCache() {
+        return recordCache;
+    }
+
     /**
      * Get the validator
      * 
@@ -235,9 +390,22 @@ public class GedcomWriter extends AbstractEmitter<Gedcom> {
      * @return true if this writer has been cancelled
      */
     public boolean isCancelled() {
+        if (parent != null) {
+            return parent.isCancelled();
+        }
         return cancelled;
     }
 
+    /**
+     * Are lines streamed straight to the output as they are constructed?
+     * 
+     * @return true if lines are streamed straight to the output as they are constructed, false if the whole file is built in
+     *         memory before any of it is written
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
     /**
      * Get the useLittleEndianForUnicode
      * 
@@ -308,6 +476,21 @@ public class GedcomWriter extends AbstractEmitter<Gedcom> {
         this.autoRepairResponder = autoRepairResponder;
     }
 
+    /**
+     * Set how the file is compressed as it is written. When the file is written as a {@link Compression#ZIP} archive, the gedcom
+     * is the entry named {@link Compression#GEDCOM_ENTRY_NAME}, followed by the multimedia files found in the
+     * {@link #setMediaDirectory(File) media directory}, if there is one.
+     * 
+     * @param compression
+     *            how the file is compressed as it is written. Defaults to {@link Compression#NONE}.
+     */
+    public void setCompression(Compression compression) {
+        if (compression == null) {
+            throw new IllegalArgumentException("Compression must not be null - use Compression.NONE for none");
+        }
+        this.compression = compression;
+    }
+
     /**
      * Set the construction notification rate - how many lines need to be constructed before getting a notification
      * 
@@ -345,6 +528,69 @@ public class GedcomWriter extends AbstractEmitter<Gedcom> {
         this.lineTerminator = lineTerminator;
     }
 
+    /**
+     * Set the directory that relative multimedia file references are found in, when writing a {@link Compression#ZIP} archive.
+     * Each file that a multimedia record refers to by a path relative to this directory, and that exists, is added to the archive
+     * under that path, so the references still work when the archive is unpacked. References to absolute paths, to URLs, or to
+     * paths outside the directory are left as they are, and the files are not added.
+     * 
+     * @param mediaDirectory
+     *            the directory that relative multimedia file references are found in, or null (the default) to add no
+     *            multimedia files to archives
+     */
+    public void setMediaDirectory(File mediaDirectory) {
+        this.mediaDirectory = mediaDirectory;
+    }
+
+    /**
+     * Set the number of threads that the lines for root-level records are constructed on. When this is more than 1, a pool of this
+     * many threads constructs the lines for chunks of records, and the thread that is writing hands them to the output in the
+     * usual order, so the output, and the construction progress notifications, are the same as for a sequential write. This works
+     * whether or not the writer is {@link #setStreaming(boolean) streaming}, although when streaming, the lines for a number of
+     * chunks of records are held in memory at once. Validation (unless suppressed) uses the same number of threads - see
+     * {@link Validator#setParallelism(int)}.
+     * 
+     * @param parallelism
+     *            the number of threads to construct the lines for root-level records on. Must be at least 1. 1 (the default) means
+     *            they are constructed on the thread that is writing.
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Set the cache of the encoded bytes of root-level records. When there is a cache, the file is always written as if
+     * {@link #setStreaming(boolean) streaming}; the encoded bytes of the records already in the cache are copied straight to the
+     * output, and the other records are constructed, encoded and added to the cache. The same cache should be set on each writer
+     * that writes the same {@link Gedcom}, and the records that are changed between writes must be marked with
+     * {@link EmittedRecordCache#markChanged(org.gedcom4j.model.HasXref)}. Records are constructed on the thread that is writing,
+     * whatever the {@link #setParallelism(int) parallelism}. Validation (unless suppressed) still checks the whole {@link Gedcom}.
+     * 
+     * @param recordCache
+     *            the cache of the encoded bytes of root-level records, or null to construct every record on every write
+     */
+    public void setRecordCache(EmittedRecordCache recordCache) {
+        this.recordCache = recordCache;
+    }
+
+    /**
+     * Set whether lines are streamed straight to the output as they are constructed. When streaming, the encoding is chosen up
+     * front from the character set in the header, each line is encoded and written as soon as it is constructed, and the memory
+     * needed to write a file does not grow with the size of the file. The drawback is that if construction fails part way through
+     * (say, because of malformed data, or cancellation), whatever was constructed before the failure has already been written.
+     * Validation still happens before anything is written, but data that the GEDCOM version in the header does not support is
+     * found as each record is constructed, like other malformed data. Defaults to false.
+     * 
+     * @param streaming
+     *            true to stream lines straight to the output, false to build the whole file in memory before writing any of it
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     /**
      * Set the useLittleEndianForUnicode
      * 
@@ -441,12 +687,18 @@ public class GedcomWriter extends AbstractEmitter<Gedcom> {
      *             severity ERROR (and validation is not suppressed - see {@link GedcomWriter#validationSuppressed})
      */
     public void write(OutputStream out) throws GedcomWriterException {
+        if (streaming || recordCache != null) {
+            writeStreaming(out);
+            return;
+        }
         emit();
         try {
+            OutputStream compressed = startCompression(out);
             GedcomFileWriter gfw = new GedcomFileWriter(this, lines);
             gfw.setUseLittleEndianForUnicode(useLittleEndianForUnicode);
             gfw.setTerminator(getLineTerminator());
-            gfw.write(out);
+            gfw.write(compressed);
+            finishCompression(compressed);
         } catch (IOException e) {
             throw new GedcomWriterException("Unable to write file", e);
         }
@@ -475,6 +727,7 @@ public class GedcomWriter extends AbstractEmitter<Gedcom> {
         if (!validationSuppressed) {
             validator = new Validator(writeFrom);
             validator.setAutoRepairResponder(getAutoRepairResponder());
+            validator.setParallelism(parallelism);
             validator.validate();
             int numUnrepairedErrorFindings = 0;
             for (Finding f : validator.getResults().getAllFindings()) {
@@ -487,193 +740,197 @@ public class GedcomWriter extends AbstractEmitter<Gedcom> {
                         + " error(s) found during validation requiring repair.  Review the validation findings to determine root cause.");
             }
         }
-        checkVersionCompatibility();
+        if (writeFrom.getHeader().getGedcomVersion() == null) {
+            // If there's not one specified, set up a default one that specifies
+            // 5.5.1
+            writeFrom.getHeader().setGedcomVersion(new GedcomVersion());
+        }
         new HeaderEmitter(baseWriter, 0, writeFrom.getHeader()).emit();
         new SubmissionEmitter(baseWriter, 0, writeFrom.getSubmission()).emit();
-        new IndividualEmitter(baseWriter, 0, writeFrom.getIndividuals().values()).emit();
-        new FamilyEmitter(baseWriter, 0, writeFrom.getFamilies().values()).emit();
-        if (g55()) {
-            new Multimedia55Emitter(baseWriter, 0, writeFrom.getMultimedia().values()).emit();
+        if (recordCache != null && streamingTo != null) {
+            new IncrementalRecordEmitter(this, recordCache).emitRecords(getCharacterSetName() + " " + useLittleEndianForUnicode
+                    + " " + lineTerminator + " " + g55());
+        } else if (parallelism > 1) {
+            ParallelRecordEmitter parallelEmitter = new ParallelRecordEmitter(this, parallelism);
+            try {
+                parallelEmitter.emitRecords();
+            } finally {
+                parallelEmitter.shutdown();
+            }
         } else {
-            new Multimedia551Emitter(baseWriter, 0, writeFrom.getMultimedia().values()).emit();
+            new IndividualEmitter(baseWriter, 0, writeFrom.getIndividuals().values()).emit();
+            new FamilyEmitter(baseWriter, 0, writeFrom.getFamilies().values()).emit();
+            if (g55()) {
+                new Multimedia55Emitter(baseWriter, 0, writeFrom.getMultimedia().values()).emit();
+            } else {
+                new Multimedia551Emitter(baseWriter, 0, writeFrom.getMultimedia().values()).emit();
+            }
+            new NoteRecordEmitter(baseWriter, 0, writeFrom.getNotes().values()).emit();
+            new RepositoryEmitter(baseWriter, 0, writeFrom.getRepositories().values()).emit();
+            new SourceEmitter(baseWriter, 0, writeFrom.getSources().values()).emit();
+            new SubmittersEmitter(this, 0, writeFrom.getSubmitters().values()).emit();
         }
-        new NoteRecordEmitter(baseWriter, 0, writeFrom.getNotes().values()).emit();
-        new RepositoryEmitter(baseWriter, 0, writeFrom.getRepositories().values()).emit();
-        new SourceEmitter(baseWriter, 0, writeFrom.getSources().values()).emit();
-        new SubmittersEmitter(this, 0, writeFrom.getSubmitters().values()).emit();
         emitCustomFacts(0, writeFrom.getCustomFacts());
         emitTrailer();
     }
 
     /**
-     * Check that the data is compatible with 5.5 style Gedcom files
+     * Write a block of lines that were constructed and encoded during an earlier write (see {@link #startCapture()}), counting them
+     * as constructed
      * 
-     * @throws GedcomWriterVersionDataMismatchException
-     *             if a data point is detected that is incompatible with the 5.5 standard
+     * @param encoded
+     *            the encoded bytes of the lines, including their terminators
+     * @param lineCount
+     *            the number of lines
+     * @throws GedcomWriterException
+     *             if the lines can't be written to the output, or the write operation was cancelled
      */
-    void checkVersionCompatibility55() throws GedcomWriterVersionDataMismatchException {
-        // Now that we know if we're working with a 5.5.1 file or not, let's
-        // check some data points
-        if (writeFrom.getHeader().getCopyrightData() != null && writeFrom.getHeader().getCopyrightData().size() > 1) {
-            throw new GedcomWriterVersionDataMismatchException(
-                    "Gedcom version is 5.5, but has multi-line copyright data in header");
-        }
-        if (writeFrom.getHeader().getCharacterSet() != null && writeFrom.getHeader().getCharacterSet().getCharacterSetName() != null
-                && "UTF-8".equals(writeFrom.getHeader().getCharacterSet().getCharacterSetName().getValue())) {
-            throw new GedcomWriterVersionDataMismatchException("Gedcom version is 5.5, but data is encoded using UTF-8");
-        }
-        if (writeFrom.getHeader().getSourceSystem() != null && writeFrom.getHeader().getSourceSystem().getCorporation() != null) {
-            AbstractAddressableElement c = writeFrom.getHeader().getSourceSystem().getCorporation();
-            if (c.getWwwUrls() != null && !c.getWwwUrls().isEmpty()) {
-                throw new GedcomWriterVersionDataMismatchException(
-                        "Gedcom version is 5.5, but source system corporation has www urls");
-            }
-            if (c.getFaxNumbers() != null && !c.getFaxNumbers().isEmpty()) {
-                throw new GedcomWriterVersionDataMismatchException(
-                        "Gedcom version is 5.5, but source system corporation has fax numbers");
-            }
-            if (c.getEmails() != null && !c.getEmails().isEmpty()) {
-                throw new GedcomWriterVersionDataMismatchException(
-                        "Gedcom version is 5.5, but source system corporation has emails");
-            }
-        }
-        checkVersionCompatibility55Individuals();
-        for (Submitter s : writeFrom.getSubmitters().values()) {
-            if (s.getWwwUrls() != null && !s.getWwwUrls().isEmpty()) {
-                throw new GedcomWriterVersionDataMismatchException("Gedcom version is 5.5, but Submitter " + s.getXref()
-                        + " has www urls");
-            }
-            if (s.getFaxNumbers() != null && !s.getFaxNumbers().isEmpty()) {
-                throw new GedcomWriterVersionDataMismatchException("Gedcom version is 5.5, but Submitter " + s.getXref()
-                        + " has fax numbers");
-            }
-            if (s.getEmails() != null && !s.getEmails().isEmpty()) {
-                throw new GedcomWriterVersionDataMismatchException("Gedcom version is 5.5, but Submitter " + s.getXref()
-                        + " has emails");
-            }
-        }
-        for (Repository r : writeFrom.getRepositories().values()) {
-            if (r.getWwwUrls() != null && !r.getWwwUrls().isEmpty()) {
-                throw new GedcomWriterVersionDataMismatchException("Gedcom version is 5.5, but Repository " + r.getXref()
-                        + " has www urls");
-            }
-            if (r.getFaxNumbers() != null && !r.getFaxNumbers().isEmpty()) {
-                throw new GedcomWriterVersionDataMismatchException("Gedcom version is 5.5, but Repository " + r.getXref()
-                        + " has fax numbers");
-            }
-            if (r.getEmails() != null && !r.getEmails().isEmpty()) {
-                throw new GedcomWriterVersionDataMismatchException("Gedcom version is 5.5, but Repository " + r.getXref()
-                        + " has emails");
-            }
+    void emitEncodedLines(byte[] encoded, int lineCount) throws GedcomWriterException {
+        linesConstructed += lineCount;
+        try {
+            streamingTo.writeEncoded(encoded, lineCount);
+        } catch (IOException e) {
+            throw new GedcomWriterException("Unable to write file", e);
         }
+        notifyConstructObserversIfNeeded();
     }
 
     /**
-     * Notify construct observers if more than 100 lines have been constructed since last time we notified them
+     * Emit a line of GEDCOM text - either adding it to {@link #lines}, or encoding and writing it straight to the output when
+     * {@link #streaming}. The line can be a reusable buffer such as {@link #lineBuilder}; it is only turned into a {@link String}
+     * when it is added to {@link #lines}.
+     * 
+     * @param line
+     *            the line of text
+     * @throws GedcomWriterException
+     *             if the line can't be written to the output, or the write operation was cancelled
      */
-    void notifyConstructObserversIfNeeded() {
-        if (lines.size() - lastLineCountNotified > constructionNotificationRate) {
-            notifyConstructObservers(new ConstructProgressEvent(this, lines.size(), true));
+    void emitLine(CharSequence line) throws GedcomWriterException {
+        linesConstructed++;
+        if (streamingTo == null) {
+            lines.add(line.toString());
+            return;
+        }
+        try {
+            streamingTo.writeLine(line);
+        } catch (IOException e) {
+            throw new GedcomWriterException("Unable to write file", e);
         }
     }
 
     /**
-     * Checks that the gedcom version specified is compatible with the data in the model. Not a perfect exhaustive check.
+     * Stop keeping the encoded bytes of the lines being streamed
      * 
+     * @return the encoded bytes of the lines emitted since {@link #startCapture()} was called, including their terminators
      * @throws GedcomWriterException
-     *             if data is detected that is incompatible with the selected version
+     *             if the lines can't be written to the output
      */
-    private void checkVersionCompatibility() throws GedcomWriterException {
-
-        if (writeFrom.getHeader().getGedcomVersion() == null) {
-            // If there's not one specified, set up a default one that specifies
-            // 5.5.1
-            writeFrom.getHeader().setGedcomVersion(new GedcomVersion());
-        }
-        if (SupportedVersion.V5_5.toString().equals(writeFrom.getHeader().getGedcomVersion().getVersionNumber().getValue())) {
-            checkVersionCompatibility55();
-        } else {
-            checkVersionCompatibility551();
+    byte[] finishCapture() throws GedcomWriterException {
+        try {
+            return streamingTo.finishCapture();
+        } catch (IOException e) {
+            throw new GedcomWriterException("Unable to write file", e);
         }
     }
 
     /**
-     * Check that the data is compatible with 5.5.1 style Gedcom files
+     * Get the number of lines constructed so far
      * 
-     * @throws GedcomWriterVersionDataMismatchException
-     *             if a data point is detected that is incompatible with the 5.5.1 standard
+     * @return the number of lines constructed so far
+     */
+    long getLinesConstructed() {
+        return linesConstructed;
+    }
+
+    /**
+     * Get the line counts at which construction progress notifications were asked for, for a writer that is a buffer for the lines
+     * of some of another writer's records
      * 
+     * @return the line counts at which construction progress notifications were asked for, in the order they were asked for
      */
-    private void checkVersionCompatibility551() throws GedcomWriterVersionDataMismatchException {
-        for (Multimedia m : writeFrom.getMultimedia().values()) {
-            if (m.getBlob() != null && !m.getBlob().isEmpty()) {
-                throw new GedcomWriterVersionDataMismatchException("Gedcom version is 5.5.1, but multimedia item " + m.getXref()
-                        + " contains BLOB data which is unsupported in 5.5.1");
+    int[] getNotificationPoints() {
+        return Arrays.copyOf(notificationPoints, notificationPointCount);
+    }
+
+    /**
+     * Notify construct observers if more than 100 lines have been constructed since last time we notified them. For a writer that
+     * is a buffer for another writer, just note the number of lines so far, so the other writer can notify its observers at the
+     * same point.
+     */
+    void notifyConstructObserversIfNeeded() {
+        if (parent != null) {
+            int lineCount = lines.size();
+            if (notificationPointCount > 0 && notificationPoints[notificationPointCount - 1] == lineCount) {
+                return;
+            }
+            if (notificationPointCount == notificationPoints.length) {
+                notificationPoints = Arrays.copyOf(notificationPoints, notificationPointCount * 2);
             }
+            notificationPoints[notificationPointCount++] = lineCount;
+            return;
+        }
+        if (linesConstructed - lastLineCountNotified > constructionNotificationRate) {
+            notifyConstructObservers(new ConstructProgressEvent(this, linesConstructed, true));
         }
     }
 
     /**
-     * Check that the data on individuals is compatible with 5.5 style Gedcom files
+     * Start keeping the encoded bytes of the lines being streamed, until {@link #finishCapture()} is called
      * 
-     * @throws GedcomWriterVersionDataMismatchException
-     *             if a data point is detected that is incompatible with the 5.5 standard
+     * @throws GedcomWriterException
+     *             if the lines already emitted can't be written to the output
      */
-    private void checkVersionCompatibility55Individuals() throws GedcomWriterVersionDataMismatchException {
-        for (Individual i : writeFrom.getIndividuals().values()) {
-            if (i.getWwwUrls() != null && !i.getWwwUrls().isEmpty()) {
-                throw new GedcomWriterVersionDataMismatchException("Gedcom version is 5.5, but Individual " + i.getXref()
-                        + " has www urls");
-            }
-            if (i.getFaxNumbers() != null && !i.getFaxNumbers().isEmpty()) {
-                throw new GedcomWriterVersionDataMismatchException("Gedcom version is 5.5, but Individual " + i.getXref()
-                        + " has fax numbers");
-            }
-            if (i.getEmails() != null && !i.getEmails().isEmpty()) {
-                throw new GedcomWriterVersionDataMismatchException("Gedcom version is 5.5, but Individual " + i.getXref()
-                        + " has emails");
-            }
-            if (i.getEvents() != null) {
-                for (AbstractEvent e : i.getEvents()) {
-                    if (e.getWwwUrls() != null && !e.getWwwUrls().isEmpty()) {
-                        throw new GedcomWriterVersionDataMismatchException("Gedcom version is 5.5, but Individual " + i.getXref()
-                                + " has www urls on an event");
-                    }
-                    if (e.getFaxNumbers() != null && !e.getFaxNumbers().isEmpty()) {
-                        throw new GedcomWriterVersionDataMismatchException("Gedcom version is 5.5, but Individual " + i.getXref()
-                                + " has fax numbers on an event");
-                    }
-                    if (e.getEmails() != null && !e.getEmails().isEmpty()) {
-                        throw new GedcomWriterVersionDataMismatchException("Gedcom version is 5.5, but Individual " + i.getXref()
-                                + " has emails on an event");
-                    }
-                }
-            }
-            if (i.getAttributes() != null) {
-                for (IndividualAttribute a : i.getAttributes()) {
-                    if (IndividualAttributeType.FACT.equals(a.getType())) {
-                        throw new GedcomWriterVersionDataMismatchException("Gedcom version is 5.5, but Individual " + i.getXref()
-                                + " has a FACT attribute");
-                    }
-                }
-            }
-            if (i.getFamiliesWhereChild() != null) {
-                for (FamilyChild fc : i.getFamiliesWhereChild()) {
-                    if (fc.getStatus() != null) {
-                        throw new GedcomWriterVersionDataMismatchException("Gedcom version is 5.5, but Individual " + i.getXref()
-                                + " is in a family with a status specified (a Gedcom 5.5.1 only feature)");
-                    }
-                }
-            }
+    void startCapture() throws GedcomWriterException {
+        try {
+            streamingTo.startCapture();
+        } catch (IOException e) {
+            throw new GedcomWriterException("Unable to write file", e);
         }
     }
 
     /**
      * Write out the trailer record
+     * 
+     * @throws GedcomWriterException
+     *             if the trailer can't be written to the output
+     */
+    private void emitTrailer() throws GedcomWriterException {
+        emitLine("0 TRLR");
+        notifyConstructObservers(new ConstructProgressEvent(this, linesConstructed, true));
+    }
+
+    /**
+     * Finish compressing the file, once the gedcom has been written to the stream returned by
+     * {@link #startCompression(OutputStream)}. For a {@link Compression#ZIP} archive, this adds the multimedia files after the
+     * gedcom. The stream that the compressed data is written to is not closed.
+     * 
+     * @param compressed
+     *            the stream returned by {@link #startCompression(OutputStream)}
+     * @throws IOException
+     *             if the data can't be written, or a multimedia file can't be read
+     */
+    private void finishCompression(OutputStream compressed) throws IOException {
+        if (compression == Compression.GZIP) {
+            ((GZIPOutputStream) compressed).finish();
+        } else if (compression == Compression.ZIP) {
+            ZipOutputStream zip = (ZipOutputStream) compressed;
+            zip.closeEntry();
+            writeMediaFiles(zip);
+            zip.finish();
+        }
+    }
+
+    /**
+     * Get the name of the character set in the header
+     * 
+     * @return the name of the character set in the header, or null if there isn't one
      */
-    private void emitTrailer() {
-        lines.add("0 TRLR");
-        notifyConstructObservers(new ConstructProgressEvent(this, lines.size(), true));
+    private String getCharacterSetName() {
+        if (writeFrom.getHeader() != null && writeFrom.getHeader().getCharacterSet() != null && writeFrom.getHeader()
+                .getCharacterSet().getCharacterSetName() != null) {
+            return writeFrom.getHeader().getCharacterSet().getCharacterSetName().getValue();
+        }
+        return null;
     }
 
     /**
@@ -699,4 +956,94 @@ public class GedcomWriter extends AbstractEmitter<Gedcom> {
         }
     }
 
+    /**
+     * Start compressing the file, if it is to be compressed
+     * 
+     * @param out
+     *            the stream to write the compressed data to
+     * @return the stream to write the gedcom to - <code>out</code> itself if the file is not to be compressed
+     * @throws IOException
+     *             if the data can't be written
+     */
+    private OutputStream startCompression(OutputStream out) throws IOException {
+        if (compression == Compression.GZIP) {
+            return new GZIPOutputStream(out, COMPRESSION_BUFFER_SIZE);
+        }
+        if (compression == Compression.ZIP) {
+            ZipOutputStream zip = new ZipOutputStream(out);
+            zip.putNextEntry(new ZipEntry(Compression.GEDCOM_ENTRY_NAME));
+            return zip;
+        }
+        return out;
+    }
+
+    /**
+     * Add the multimedia files that multimedia records refer to by paths relative to the {@link #mediaDirectory} to a zip
+     * archive, each under the path it is referred to by. Each file is only added once, however many references there are to it.
+     * 
+     * @param zip
+     *            the zip archive
+     * @throws IOException
+     *             if a file can't be read, or the data can't be written
+     */
+    private void writeMediaFiles(ZipOutputStream zip) throws IOException {
+        if (mediaDirectory == null) {
+            return;
+        }
+        Set<String> added = new HashSet<>();
+        for (Multimedia m : writeFrom.getMultimedia().values()) {
+            if (m.getFileReferences() == null) {
+                continue;
+            }
+            for (FileReference fr : m.getFileReferences()) {
+                if (fr.getReferenceToFile() == null || fr.getReferenceToFile().getValue() == null) {
+                    continue;
+                }
+                String name = fr.getReferenceToFile().getValue().replace('\\', '/');
+                if (name.isEmpty() || name.startsWith("/") || name.indexOf(':') >= 0 || ("/" + name + "/").contains("/../")
+                        || !added.add(name)) {
+                    continue;
+                }
+                File f = new File(mediaDirectory, name);
+                if (f.isFile()) {
+                    zip.putNextEntry(new ZipEntry(name));
+                    Files.copy(f.toPath(), zip);
+                    zip.closeEntry();
+                }
+            }
+        }
+    }
+
+    /**
+     * Write the {@link Gedcom} data to an output stream, streaming each line straight through the encoder as it is constructed
+     * 
+     * @param out
+     *            the output stream we're writing to
+     * @throws GedcomWriterException
+     *             if the data is malformed and cannot be written; or if the data fails validation with one or more finding of
+     *             severity ERROR (and validation is not suppressed - see {@link GedcomWriter#validationSuppressed})
+     */
+    private void writeStreaming(OutputStream out) throws GedcomWriterException {
+        OutputStream compressed;
+        try {
+            compressed = startCompression(out);
+        } catch (IOException e) {
+            throw new GedcomWriterException("Unable to write file", e);
+        }
+        GedcomFileWriter gfw = new GedcomFileWriter(this);
+        gfw.setUseLittleEndianForUnicode(useLittleEndianForUnicode);
+        gfw.setTerminator(getLineTerminator());
+        gfw.open(compressed, getCharacterSetName());
+        streamingTo = gfw;
+        try {
+            emit();
+            gfw.finish();
+            finishCompression(compressed);
+        } catch (IOException e) {
+            throw new GedcomWriterException("Unable to write file", e);
+        } finally {
+            streamingTo = null;
+        }
+    }
+
 }
@@ -27,11 +27,13 @@
 package org.gedcom4j.writer;
 
 import org.gedcom4j.exception.GedcomWriterException;
+import org.gedcom4j.exception.GedcomWriterVersionDataMismatchException;
 import org.gedcom4j.exception.WriterCancelledException;
 import org.gedcom4j.model.Corporation;
 import org.gedcom4j.model.Header;
 import org.gedcom4j.model.HeaderSourceData;
 import org.gedcom4j.model.SourceSystem;
+import org.gedcom4j.model.StringWithCustomFacts;
 
 /**
  * Emitter for {@link Header} objects
@@ -65,7 +67,7 @@ class HeaderEmitter extends AbstractEmitter<Header> {
         if (header == null) {
             header = new Header();
         }
-        baseWriter.lines.add("0 HEAD");
+        baseWriter.emitLine("0 HEAD");
         emitSourceSystem(header.getSourceSystem());
         emitTagIfValueNotNull(1, "DEST", header.getDestinationSystem());
         if (header.getDate() != null) {
@@ -83,6 +85,10 @@ class HeaderEmitter extends AbstractEmitter<Header> {
 
         emitTagIfValueNotNull(1, "FILE", header.getFileName());
 
+        if (g55() && header.getCopyrightData() != null && header.getCopyrightData().size() > 1) {
+            throw new GedcomWriterVersionDataMismatchException(
+                    "Gedcom version is 5.5, but has multi-line copyright data in header");
+        }
         emitLinesOfText(1, "COPR", header.getCopyrightData());
 
         emitTag(1, "GEDC");
@@ -92,7 +98,12 @@ class HeaderEmitter extends AbstractEmitter<Header> {
         emitTagWithRequiredValue(2, "FORM", header.getGedcomVersion().getGedcomForm());
         emitCustomFacts(2, header.getGedcomVersion());
 
-        emitTagWithRequiredValue(1, "CHAR", header.getCharacterSet().getCharacterSetName());
+        StringWithCustomFacts characterSetName = header.getCharacterSet() == null ? null : header.getCharacterSet()
+                .getCharacterSetName();
+        if (g55() && characterSetName != null && "UTF-8".equals(characterSetName.getValue())) {
+            throw new GedcomWriterVersionDataMismatchException("Gedcom version is 5.5, but data is encoded using UTF-8");
+        }
+        emitTagWithRequiredValue(1, "CHAR", characterSetName);
 
         emitTagIfValueNotNull(1, "LANG", header.getLanguage());
         if (header.getPlaceHierarchy() != null && header.getPlaceHierarchy().getValue() != null && header.getPlaceHierarchy()
@@ -121,6 +132,9 @@ class HeaderEmitter extends AbstractEmitter<Header> {
         emitTagIfValueNotNull(2, "NAME", sourceSystem.getProductName());
         Corporation corporation = sourceSystem.getCorporation();
         if (corporation != null) {
+            if (g55()) {
+                checkContactDetails55(corporation, "source system corporation");
+            }
             emitTagWithOptionalValue(2, "CORP", corporation.getBusinessName());
             new AddressEmitter(baseWriter, 3, corporation.getAddress()).emit();
             emitStringsWithCustomFacts(3, corporation.getPhoneNumbers(), "PHON");
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.writer;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.gedcom4j.exception.GedcomWriterException;
+import org.gedcom4j.model.Family;
+import org.gedcom4j.model.Gedcom;
+import org.gedcom4j.model.HasXref;
+import org.gedcom4j.model.Individual;
+import org.gedcom4j.model.Multimedia;
+import org.gedcom4j.model.NoteRecord;
+import org.gedcom4j.model.Repository;
+import org.gedcom4j.model.Source;
+import org.gedcom4j.model.Submitter;
+
+/**
+ * Helper for {@link GedcomWriter} that emits root-level records while streaming, using an {@link EmittedRecordCache}. The encoded
+ * bytes of records that are in the cache are copied straight to the output; the others are constructed and encoded as usual, and
+ * their encoded bytes are added to the cache as they are written.
+ * 
+ * @author frizbog
+ */
+final class IncrementalRecordEmitter {
+
+    /**
+     * The cache of encoded bytes
+     */
+    private final EmittedRecordCache cache;
+
+    /**
+     * The writer we're helping
+     */
+    private final GedcomWriter writer;
+
+    /**
+     * Constructor
+     * 
+     * @param writer
+     *            the writer we're helping
+     * @param cache
+     *            the cache of encoded bytes
+     */
+    IncrementalRecordEmitter(GedcomWriter writer, EmittedRecordCache cache) {
+        this.writer = writer;
+        this.cache = cache;
+    }
+
+    /**
+     * Emit all the root-level records in the {@link Gedcom} (individuals, families, multimedia, notes, repositories, sources, and
+     * submitters, in that order), in the same order as a write without a cache
+     * 
+     * @param format
+     *            the character set, byte order, line terminator and GEDCOM version being written
+     * @throws GedcomWriterException
+     *             if any of the records could not be emitted, or the write was cancelled
+     */
+    void emitRecords(String format) throws GedcomWriterException {
+        Gedcom g = writer.writeFrom;
+        cache.startWrite(format);
+        emitAll(g.getIndividuals().values());
+        emitAll(g.getFamilies().values());
+        emitAll(g.getMultimedia().values());
+        emitAll(g.getNotes().values());
+        emitAll(g.getRepositories().values());
+        emitAll(g.getSources().values());
+        emitAll(g.getSubmitters().values());
+        cache.finishWrite();
+    }
+
+    /**
+     * Emit each of a collection of records, from the cache where possible
+     * 
+     * @param records
+     *            the records
+     * @throws GedcomWriterException
+     *             if any of the records could not be emitted, or the write was cancelled
+     */
+    private void emitAll(Collection<? extends HasXref> records) throws GedcomWriterException {
+        for (HasXref r : records) {
+            EmittedRecordCache.Entry e = cache.get(r);
+            if (e != null) {
+                writer.emitEncodedLines(e.encoded, e.lineCount);
+            } else {
+                long linesBefore = writer.getLinesConstructed();
+                writer.startCapture();
+                emitRecord(r);
+                cache.put(r, writer.finishCapture(), (int) (writer.getLinesConstructed() - linesBefore));
+            }
+        }
+    }
+
+    /**
+     * Construct and write the lines for a single record
+     * 
+     * @param r
+     *            the record
+     * @throws GedcomWriterException
+     *             if the record could not be emitted, or the write was cancelled
+     */
+    private void emitRecord(HasXref r) throws GedcomWriterException {
+        if (r instanceof Individual) {
+            new IndividualEmitter(writer, 0, Collections.singletonList((Individual) r)).emit();
+        } else if (r instanceof Family) {
+            new FamilyEmitter(writer, 0, Collections.singletonList((Family) r)).emit();
+        } else if (r instanceof Multimedia) {
+            if (writer.g55()) {
+                new Multimedia55Emitter(writer, 0, Collections.singletonList((Multimedia) r)).emit();
+            } else {
+                new Multimedia551Emitter(writer, 0, Collections.singletonList((Multimedia) r)).emit();
+            }
+        } else if (r instanceof NoteRecord) {
+            new NoteRecordEmitter(writer, 0, Collections.singletonList((NoteRecord) r)).emit();
+        } else if (r instanceof Repository) {
+            new RepositoryEmitter(writer, 0, Collections.singletonList((Repository) r)).emit();
+        } else if (r instanceof Source) {
+            new SourceEmitter(writer, 0, Collections.singletonList((Source) r)).emit();
+        } else {
+            new SubmittersEmitter(writer, 0, Collections.singletonList((Submitter) r)).emit();
+        }
+    }
+}
@@ -30,7 +30,9 @@ import java.util.Collection;
 import java.util.List;
 
 import org.gedcom4j.exception.GedcomWriterException;
+import org.gedcom4j.exception.GedcomWriterVersionDataMismatchException;
 import org.gedcom4j.exception.WriterCancelledException;
+import org.gedcom4j.model.AbstractEvent;
 import org.gedcom4j.model.Association;
 import org.gedcom4j.model.FamilyChild;
 import org.gedcom4j.model.FamilySpouse;
@@ -43,6 +45,7 @@ import org.gedcom4j.model.PersonalNameVariation;
 import org.gedcom4j.model.StringWithCustomFacts;
 import org.gedcom4j.model.Submitter;
 import org.gedcom4j.model.UserReference;
+import org.gedcom4j.model.enumerations.IndividualAttributeType;
 import org.gedcom4j.model.enumerations.IndividualEventType;
 import org.gedcom4j.model.enumerations.LdsIndividualOrdinanceType;
 
@@ -77,7 +80,11 @@ class IndividualEmitter extends AbstractEmitter<Collection<Individual>> {
         if (writeFrom == null) {
             return;
         }
+        boolean g55 = g55();
         for (Individual i : writeFrom) {
+            if (g55) {
+                checkVersionCompatibility55(i);
+            }
             emitTag(0, i.getXref(), "INDI");
             emitTagIfValueNotNull(1, "RESN", i.getRestrictionNotice());
             emitPersonalNames(1, i.getNames());
@@ -126,6 +133,39 @@ class IndividualEmitter extends AbstractEmitter<Collection<Individual>> {
 
     }
 
+    /**
+     * Check that an individual about to be written to a GEDCOM 5.5 file has no data that only GEDCOM 5.5.1 supports
+     * 
+     * @param i
+     *            the individual
+     * @throws GedcomWriterVersionDataMismatchException
+     *             if a data point is detected that is incompatible with the 5.5 standard
+     */
+    private void checkVersionCompatibility55(Individual i) throws GedcomWriterVersionDataMismatchException {
+        checkContactDetails55(i, "Individual " + i.getXref());
+        if (i.getEvents() != null) {
+            for (AbstractEvent e : i.getEvents()) {
+                checkContactDetails55(e, "an event on Individual " + i.getXref());
+            }
+        }
+        if (i.getAttributes() != null) {
+            for (IndividualAttribute a : i.getAttributes()) {
+                if (IndividualAttributeType.FACT.equals(a.getType())) {
+                    throw new GedcomWriterVersionDataMismatchException("Gedcom version is 5.5, but Individual " + i.getXref()
+                            + " has a FACT attribute");
+                }
+            }
+        }
+        if (i.getFamiliesWhereChild() != null) {
+            for (FamilyChild fc : i.getFamiliesWhereChild()) {
+                if (fc != null && fc.getStatus() != null) {
+                    throw new GedcomWriterVersionDataMismatchException("Gedcom version is 5.5, but Individual " + i.getXref()
+                            + " is in a family with a status specified (a Gedcom 5.5.1 only feature)");
+                }
+            }
+        }
+    }
+
     /**
      * Emit the person-to-person associations an individual was in - see ASSOCIATION_STRUCTURE in the GEDCOM spec.
      * 
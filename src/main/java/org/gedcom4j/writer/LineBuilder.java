@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.writer;
+
+import java.util.Arrays;
+
+/**
+ * A reusable buffer for assembling a line of GEDCOM text from its level, xref, tag, and value, without creating intermediate
+ * strings. The line is a {@link CharSequence}, so it can be encoded straight from the buffer; a {@link String} is only created if
+ * {@link #toString()} is called. Each {@link GedcomWriter} has its own, so they are not shared between threads.
+ * 
+ * @author frizbog
+ */
+final class LineBuilder implements CharSequence {
+
+    /**
+     * The characters of the line. Grown as needed for long lines.
+     */
+    private char[] chars = new char[256];
+
+    /**
+     * The number of characters in the line
+     */
+    private int length;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char charAt(int index) {
+        if (index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " is beyond the end of the line (" + length + ")");
+        }
+        return chars[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int length() {
+        return length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (end > length) {
+            throw new IndexOutOfBoundsException("End " + end + " is beyond the end of the line (" + length + ")");
+        }
+        return new String(chars, start, end - start);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return new String(chars, 0, length);
+    }
+
+    /**
+     * Append a single character
+     * 
+     * @param c
+     *            the character
+     * @return this builder
+     */
+    LineBuilder append(char c) {
+        ensureCapacity(length + 1);
+        chars[length++] = c;
+        return this;
+    }
+
+    /**
+     * Append a non-negative number, such as a level, in decimal
+     * 
+     * @param number
+     *            the number
+     * @return this builder
+     */
+    LineBuilder append(int number) {
+        if (number < 0) {
+            return append(Integer.toString(number));
+        }
+        int digits = 1;
+        for (int n = number; n >= 10; n /= 10) {
+            digits++;
+        }
+        ensureCapacity(length + digits);
+        int n = number;
+        for (int i = length + digits - 1; i >= length; i--) {
+            chars[i] = (char) ('0' + n % 10);
+            n /= 10;
+        }
+        length += digits;
+        return this;
+    }
+
+    /**
+     * Append part of another line
+     * 
+     * @param other
+     *            the other line
+     * @param start
+     *            the index of the first character to append
+     * @param end
+     *            the index after the last character to append
+     * @return this builder
+     */
+    LineBuilder append(LineBuilder other, int start, int end) {
+        ensureCapacity(length + end - start);
+        System.arraycopy(other.chars, start, chars, length, end - start);
+        length += end - start;
+        return this;
+    }
+
+    /**
+     * Append a string. As with {@link StringBuilder}, a null string is appended as <code>null</code>.
+     * 
+     * @param s
+     *            the string
+     * @return this builder
+     */
+    LineBuilder append(String s) {
+        if (s == null) {
+            return append("null");
+        }
+        return append(s, 0, s.length());
+    }
+
+    /**
+     * Append part of a string
+     * 
+     * @param s
+     *            the string
+     * @param start
+     *            the index of the first character to append
+     * @param end
+     *            the index after the last character to append
+     * @return this builder
+     */
+    LineBuilder append(String s, int start, int end) {
+        ensureCapacity(length + end - start);
+        s.getChars(start, end, chars, length);
+        length += end - start;
+        return this;
+    }
+
+    /**
+     * Empty the line
+     * 
+     * @return this builder
+     */
+    LineBuilder clear() {
+        length = 0;
+        return this;
+    }
+
+    /**
+     * Empty the line, and start a new one with a level
+     * 
+     * @param level
+     *            the level of the new line
+     * @return this builder
+     */
+    LineBuilder start(int level) {
+        return clear().append(level);
+    }
+
+    /**
+     * Make sure the line can hold at least the specified number of characters, growing the buffer if needed
+     * 
+     * @param capacity
+     *            the number of characters needed
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(capacity, chars.length * 2));
+        }
+    }
+}
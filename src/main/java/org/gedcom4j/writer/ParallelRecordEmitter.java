@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.writer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.gedcom4j.exception.GedcomWriterException;
+import org.gedcom4j.exception.WriterCancelledException;
+import org.gedcom4j.model.Family;
+import org.gedcom4j.model.Gedcom;
+import org.gedcom4j.model.Individual;
+import org.gedcom4j.model.Multimedia;
+import org.gedcom4j.model.NoteRecord;
+import org.gedcom4j.model.Repository;
+import org.gedcom4j.model.Source;
+import org.gedcom4j.model.Submitter;
+
+/**
+ * <p>
+ * Helper for {@link GedcomWriter} that constructs the lines for root-level records on a {@link ForkJoinPool}. The records are
+ * split into chunks, in the order they would be emitted sequentially, and each chunk is emitted into its own buffer (a
+ * {@link GedcomWriter} created with {@link GedcomWriter#GedcomWriter(Gedcom, GedcomWriter)}). The thread doing the writing then
+ * hands the lines in each buffer to the writer in chunk order, so the output is exactly the same as for a sequential write.
+ * </p>
+ * <p>
+ * Construction progress notifications are sent by the writing thread, as the lines are handed over, at the same points as they
+ * would be for a sequential write. Cancelling the writer stops the buffers being filled as well.
+ * </p>
+ * 
+ * @author frizbog
+ */
+final class ParallelRecordEmitter {
+
+    /**
+     * A chunk of records to be emitted together on one of the pool's threads
+     */
+    private final class Chunk extends RecursiveAction {
+        /**
+         * Serial Version UID
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The buffer the records are emitted into
+         */
+        private final GedcomWriter buffer;
+
+        /**
+         * Whether this is the first chunk of records of its type
+         */
+        private final boolean first;
+
+        /**
+         * The records to emit
+         */
+        private final List<Object> records = new ArrayList<>(CHUNK_SIZE);
+
+        /**
+         * The type of the records in this chunk
+         */
+        private final Class<?> type;
+
+        /**
+         * The exception that stopped the chunk from being emitted, if any
+         */
+        private Exception failure;
+
+        /**
+         * Constructor
+         * 
+         * @param type
+         *            the type of the records in this chunk
+         * @param first
+         *            whether this is the first chunk of records of its type
+         * @throws WriterCancelledException
+         *             if cancellation was requested during the operation
+         */
+        Chunk(Class<?> type, boolean first) throws WriterCancelledException {
+            buffer = new GedcomWriter(writer.writeFrom, writer);
+            this.type = type;
+            this.first = first;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void compute() {
+            try {
+                emitChunk(this);
+            } catch (GedcomWriterException | RuntimeException e) {
+                failure = e;
+            }
+        }
+    }
+
+    /**
+     * The number of records emitted in each task given to the pool
+     */
+    private static final int CHUNK_SIZE = 64;
+
+    /**
+     * The chunks that have been given to the pool but whose lines have not been handed to the writer yet, oldest first
+     */
+    private final Deque<Chunk> outstanding = new ArrayDeque<>();
+
+    /**
+     * The most chunks that can be outstanding before the writing thread waits for the oldest
+     */
+    private final int maxOutstandingChunks;
+
+    /**
+     * The pool that emits the records
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * The writer we're helping
+     */
+    private final GedcomWriter writer;
+
+    /**
+     * Constructor
+     * 
+     * @param writer
+     *            the writer we're helping
+     * @param parallelism
+     *            the number of threads to emit records on
+     */
+    ParallelRecordEmitter(GedcomWriter writer, int parallelism) {
+        this.writer = writer;
+        pool = new ForkJoinPool(parallelism);
+        maxOutstandingChunks = parallelism * 4;
+    }
+
+    /**
+     * Emit all the root-level records in the {@link Gedcom} (individuals, families, multimedia, notes, repositories, sources, and
+     * submitters, in that order), handing their lines to the writer in the same order as a sequential write. Called on the writing
+     * thread.
+     * 
+     * @throws GedcomWriterException
+     *             if any of the records could not be emitted, or the write was cancelled
+     */
+    void emitRecords() throws GedcomWriterException {
+        Gedcom g = writer.writeFrom;
+        submitAll(Individual.class, g.getIndividuals().values());
+        submitAll(Family.class, g.getFamilies().values());
+        submitAll(Multimedia.class, g.getMultimedia().values());
+        submitAll(NoteRecord.class, g.getNotes().values());
+        submitAll(Repository.class, g.getRepositories().values());
+        submitAll(Source.class, g.getSources().values());
+        submitAll(Submitter.class, g.getSubmitters().values());
+        while (!outstanding.isEmpty()) {
+            collectOldest();
+        }
+    }
+
+    /**
+     * Stop the pool. Called on the writing thread when emitting is done, whether or not it succeeded.
+     */
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Wait for the oldest outstanding chunk to finish, and hand its lines to the writer, sending construction progress
+     * notifications at the same points a sequential write would have
+     * 
+     * @throws GedcomWriterException
+     *             if any of the records in the chunk could not be emitted, or the write was cancelled
+     */
+    private void collectOldest() throws GedcomWriterException {
+        Chunk c = outstanding.removeFirst();
+        c.join();
+        List<String> lines = c.buffer.lines;
+        int[] notificationPoints = c.buffer.getNotificationPoints();
+        int n = 0;
+        if (!c.first && n < notificationPoints.length && notificationPoints[n] == 0) {
+            // Only there because the chunk had its own emitter - a sequential write carries on with the previous one
+            n++;
+        }
+        for (int i = 0; i <= lines.size(); i++) {
+            while (n < notificationPoints.length && notificationPoints[n] == i) {
+                writer.notifyConstructObserversIfNeeded();
+                n++;
+            }
+            if (i < lines.size()) {
+                writer.emitLine(lines.get(i));
+            }
+        }
+        if (c.failure instanceof GedcomWriterException) {
+            throw (GedcomWriterException) c.failure;
+        }
+        if (c.failure != null) {
+            throw (RuntimeException) c.failure;
+        }
+        if (writer.isCancelled()) {
+            throw new WriterCancelledException("Construction and writing of GEDCOM cancelled");
+        }
+    }
+
+    /**
+     * Emit the records in a chunk into the chunk's buffer. Called on one of the pool's threads.
+     * 
+     * @param c
+     *            the chunk
+     * @throws GedcomWriterException
+     *             if any of the records could not be emitted, or the write was cancelled
+     */
+    @SuppressWarnings("unchecked")
+    private void emitChunk(Chunk c) throws GedcomWriterException {
+        GedcomWriter b = c.buffer;
+        if (c.type == Individual.class) {
+            new IndividualEmitter(b, 0, (List<Individual>) (List<?>) c.records).emit();
+        } else if (c.type == Family.class) {
+            new FamilyEmitter(b, 0, (List<Family>) (List<?>) c.records).emit();
+        } else if (c.type == Multimedia.class) {
+            if (b.g55()) {
+                new Multimedia55Emitter(b, 0, (List<Multimedia>) (List<?>) c.records).emit();
+            } else {
+                new Multimedia551Emitter(b, 0, (List<Multimedia>) (List<?>) c.records).emit();
+            }
+        } else if (c.type == NoteRecord.class) {
+            new NoteRecordEmitter(b, 0, (List<NoteRecord>) (List<?>) c.records).emit();
+        } else if (c.type == Repository.class) {
+            new RepositoryEmitter(b, 0, (List<Repository>) (List<?>) c.records).emit();
+        } else if (c.type == Source.class) {
+            new SourceEmitter(b, 0, (List<Source>) (List<?>) c.records).emit();
+        } else {
+            new SubmittersEmitter(b, 0, (List<Submitter>) (List<?>) c.records).emit();
+        }
+    }
+
+    /**
+     * Give a chunk to the pool. If too many chunks are outstanding, wait for the oldest ones and hand their lines to the writer.
+     * 
+     * @param c
+     *            the chunk
+     * @throws GedcomWriterException
+     *             if any of the records in a chunk that was waited for could not be emitted, or the write was cancelled
+     */
+    private void submit(Chunk c) throws GedcomWriterException {
+        pool.execute(c);
+        outstanding.addLast(c);
+        while (outstanding.size() > maxOutstandingChunks) {
+            collectOldest();
+        }
+    }
+
+    /**
+     * Split a collection of records into chunks and give them to the pool
+     * 
+     * @param type
+     *            the type of the records
+     * @param records
+     *            the records
+     * @throws GedcomWriterException
+     *             if any of the records in a chunk that was waited for could not be emitted, or the write was cancelled
+     */
+    private void submitAll(Class<?> type, Collection<?> records) throws GedcomWriterException {
+        Chunk c = new Chunk(type, true);
+        for (Object r : records) {
+            if (c.records.size() == CHUNK_SIZE) {
+                submit(c);
+                c = new Chunk(type, false);
+            }
+            c.records.add(r);
+        }
+        submit(c);
+    }
+}
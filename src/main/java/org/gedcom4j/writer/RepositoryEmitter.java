@@ -60,6 +60,7 @@ class RepositoryEmitter extends AbstractEmitter<Collection<Repository>> {
      */
     @Override
     protected void emit() throws GedcomWriterException {
+        boolean g55 = g55();
         for (Repository r : writeFrom) {
             emitTag(0, r.getXref(), "REPO");
             emitTagIfValueNotNull(1, "NAME", r.getName());
@@ -73,6 +74,9 @@ class RepositoryEmitter extends AbstractEmitter<Collection<Repository>> {
             }
             emitTagIfValueNotNull(1, "RIN", r.getRecIdNumber());
             emitStringsWithCustomFacts(1, r.getPhoneNumbers(), "PHON");
+            if (g55) {
+                checkContactDetails55(r, "Repository " + r.getXref());
+            }
             emitStringsWithCustomFacts(1, r.getWwwUrls(), "WWW");
             emitStringsWithCustomFacts(1, r.getFaxNumbers(), "FAX");
             emitStringsWithCustomFacts(1, r.getEmails(), "EMAIL");
@@ -63,6 +63,7 @@ class SubmittersEmitter extends AbstractEmitter<Collection<Submitter>> {
         if (writeFrom == null) {
             return;
         }
+        boolean g55 = g55();
         for (Submitter s : writeFrom) {
             emitTag(0, s.getXref(), "SUBM");
             emitTagWithOptionalValueAndCustomSubtags(1, "NAME", s.getName());
@@ -74,6 +75,9 @@ class SubmittersEmitter extends AbstractEmitter<Collection<Submitter>> {
                 }
             }
             emitStringsWithCustomFacts(1, s.getPhoneNumbers(), "PHON");
+            if (g55) {
+                checkContactDetails55(s, "Submitter " + s.getXref());
+            }
             emitStringsWithCustomFacts(1, s.getWwwUrls(), "WWW");
             emitStringsWithCustomFacts(1, s.getFaxNumbers(), "FAX");
             emitStringsWithCustomFacts(1, s.getEmails(), "EMAIL");
@@ -0,0 +1,361 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.exception.GedcomWriterException;
+import org.gedcom4j.io.event.FileProgressEvent;
+import org.gedcom4j.io.event.FileProgressListener;
+import org.gedcom4j.io.writer.GedcomFileWriter;
+import org.gedcom4j.io.writer.LineTerminator;
+import org.gedcom4j.io.writer.NullOutputStream;
+import org.gedcom4j.model.Gedcom;
+import org.gedcom4j.model.Individual;
+import org.gedcom4j.parser.GedcomParser;
+import org.gedcom4j.parser.GedcomRecordHandlerAdapter;
+import org.gedcom4j.parser.event.ParseProgressEvent;
+import org.gedcom4j.parser.event.ParseProgressListener;
+import org.gedcom4j.writer.GedcomWriter;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * Test streaming a generated file through the parser and back out through the writer without building the model, to check that
+ * the byte and line counts in the progress notifications are right. The test with a file over 4GB (whose byte count would
+ * overflow an int twice over) takes several minutes, so only runs when the <code>gedcom4j.test.largeFiles</code> system property
+ * is set to true; otherwise a smaller file goes through the same steps.
+ * 
+ * @author frizbog
+ */
+public class LargeFileStreamingTest {
+
+    /**
+     * The lines at the start of the generated file
+     */
+    private static final String HEADER = "0 HEAD\r\n1 SOUR gedcom4j\r\n1 GEDC\r\n2 VERS 5.5.1\r\n2 FORM LINEAGE-LINKED\r\n"
+            + "1 CHAR UTF-8\r\n1 SUBM @SUBM@\r\n0 @SUBM@ SUBM\r\n1 NAME Tester\r\n";
+
+    /**
+     * The text of each individual's note. Long enough to be split over several lines, so records are about 1KB each.
+     */
+    private static final String NOTE_TEXT;
+
+    /**
+     * The number of characters of the note written on each line
+     */
+    private static final int NOTE_CHUNK = 200;
+
+    static {
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < 5 * NOTE_CHUNK) {
+            sb.append("The quick brown fox jumps over the lazy dog. ");
+        }
+        NOTE_TEXT = sb.substring(0, 5 * NOTE_CHUNK);
+    }
+
+    /**
+     * An input stream that generates GEDCOM data on the fly, so no file the size of the test ever needs to exist
+     */
+    private static class GeneratedGedcomInputStream extends InputStream {
+        /**
+         * The number of bytes of individual records to generate before the trailer
+         */
+        private final long recordBytesWanted;
+
+        /**
+         * The bytes currently being handed out
+         */
+        private byte[] current = HEADER.getBytes(StandardCharsets.US_ASCII);
+
+        /**
+         * The position in {@link #current}
+         */
+        private int pos;
+
+        /**
+         * The number of individuals generated
+         */
+        private long individuals;
+
+        /**
+         * The number of bytes generated so far
+         */
+        private long bytes = current.length;
+
+        /**
+         * The number of lines generated so far
+         */
+        private long lines = 9;
+
+        /**
+         * Has the trailer been generated?
+         */
+        private boolean trailerGenerated;
+
+        /**
+         * Constructor
+         * 
+         * @param recordBytesWanted
+         *            the number of bytes of individual records to generate before the trailer
+         */
+        GeneratedGedcomInputStream(long recordBytesWanted) {
+            this.recordBytesWanted = recordBytesWanted;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int read() throws IOException {
+            if (pos == current.length && !nextRecord()) {
+                return -1;
+            }
+            return current[pos++] & 0xFF;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (pos == current.length && !nextRecord()) {
+                return -1;
+            }
+            int n = Math.min(len, current.length - pos);
+            System.arraycopy(current, pos, b, off, n);
+            pos += n;
+            return n;
+        }
+
+        /**
+         * Generate the next record
+         * 
+         * @return true if a record was generated, false if the end of the data has been reached
+         */
+        private boolean nextRecord() {
+            if (trailerGenerated) {
+                return false;
+            }
+            String record;
+            if (bytes - HEADER.length() < recordBytesWanted) {
+                individuals++;
+                record = individualRecord("@I" + individuals + "@", "Person" + individuals + " /Surname/", NOTE_TEXT);
+                lines += 7;
+            } else {
+                record = "0 TRLR\r\n";
+                lines++;
+                trailerGenerated = true;
+            }
+            current = record.getBytes(StandardCharsets.US_ASCII);
+            pos = 0;
+            bytes += current.length;
+            return true;
+        }
+    }
+
+    /**
+     * Listens to the parser's file progress
+     */
+    private final FileProgressListener readListener = new FileProgressListener() {
+        @Override
+        public void progressNotification(FileProgressEvent e) {
+            bytesRead = e.getBytesProcessed();
+            linesRead = e.getLinesProcessed();
+        }
+    };
+
+    /**
+     * Listens to the parser's parse progress
+     */
+    private final ParseProgressListener parseListener = new ParseProgressListener() {
+        @Override
+        public void progressNotification(ParseProgressEvent e) {
+            linesParsed = e.getLinesParsed();
+        }
+    };
+
+    /**
+     * Listens to the writer's file progress
+     */
+    private final FileProgressListener writeListener = new FileProgressListener() {
+        @Override
+        public void progressNotification(FileProgressEvent e) {
+            bytesWritten = e.getBytesProcessed();
+        }
+    };
+
+    /**
+     * The total number of bytes read by the parser, as of the last file notification
+     */
+    private long bytesRead;
+
+    /**
+     * The number of lines read, as of the last file notification
+     */
+    private long linesRead;
+
+    /**
+     * The number of lines parsed, as of the last parse notification
+     */
+    private long linesParsed;
+
+    /**
+     * The total number of bytes written, as of the last file notification
+     */
+    private long bytesWritten;
+
+    /**
+     * The number of individuals handed to the record handler
+     */
+    private long individualsHandled;
+
+    /**
+     * Test streaming a generated file over 4GB through the parser and writer. Only runs when the
+     * <code>gedcom4j.test.largeFiles</code> system property is set to true.
+     * 
+     * @throws IOException
+     *             if the data can't be read or written
+     * @throws GedcomParserException
+     *             if the data can't be parsed
+     * @throws GedcomWriterException
+     *             if the data can't be written
+     */
+    @Test
+    public void testOver4GB() throws IOException, GedcomParserException, GedcomWriterException {
+        Assume.assumeTrue(Boolean.getBoolean("gedcom4j.test.largeFiles"));
+        long size = 4L * 1024 * 1024 * 1024 + 1024 * 1024;
+        streamThrough(size);
+        assertTrue(bytesRead > 4L * 1024 * 1024 * 1024);
+    }
+
+    /**
+     * Test streaming a smaller generated file through the parser and writer
+     * 
+     * @throws IOException
+     *             if the data can't be read or written
+     * @throws GedcomParserException
+     *             if the data can't be parsed
+     * @throws GedcomWriterException
+     *             if the data can't be written
+     */
+    @Test
+    public void testSmall() throws IOException, GedcomParserException, GedcomWriterException {
+        streamThrough(8 * 1024 * 1024);
+    }
+
+    /**
+     * Generate a GEDCOM file of (about) the specified size, parse it a record at a time, and write each record back out as it is
+     * parsed. Check that the counts in the progress notifications match what was generated.
+     * 
+     * @param recordBytesWanted
+     *            the number of bytes of individual records to generate
+     * @throws IOException
+     *             if the data can't be read or written
+     * @throws GedcomParserException
+     *             if the data can't be parsed
+     * @throws GedcomWriterException
+     *             if the data can't be written
+     */
+    @SuppressWarnings("resource")
+    private void streamThrough(long recordBytesWanted) throws IOException, GedcomParserException, GedcomWriterException {
+        GeneratedGedcomInputStream generated = new GeneratedGedcomInputStream(recordBytesWanted);
+
+        GedcomWriter gw = new GedcomWriter(new Gedcom());
+        gw.setFileNotificationRate(Integer.MAX_VALUE);
+        gw.registerFileObserver(writeListener);
+        final GedcomFileWriter gfw = new GedcomFileWriter(gw);
+        gfw.setTerminator(LineTerminator.CRLF);
+        gfw.open(new NullOutputStream(), "UTF-8");
+        for (String line : HEADER.split("\r\n")) {
+            gfw.writeLine(line);
+        }
+
+        GedcomParser gp = new GedcomParser();
+        gp.setReadNotificationRate(1000000);
+        gp.setParseNotificationRate(1);
+        gp.registerFileObserver(readListener);
+        gp.registerParseObserver(parseListener);
+        gp.setRecordHandler(new GedcomRecordHandlerAdapter() {
+            @Override
+            public void onIndividual(Individual individual) {
+                individualsHandled++;
+                String record = individualRecord(individual.getXref(), individual.getNames().get(0).getBasic(), individual
+                        .getNoteStructures().get(0).getLines().get(0));
+                try {
+                    for (String line : record.split("\r\n")) {
+                        gfw.writeLine(line);
+                    }
+                } catch (IOException | GedcomWriterException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        });
+        gp.load(new BufferedInputStream(generated));
+        gfw.writeLine("0 TRLR");
+        gfw.finish();
+
+        assertTrue(gp.getErrors().isEmpty());
+        assertTrue(gp.getWarnings().isEmpty());
+        assertEquals(generated.individuals, individualsHandled);
+        assertEquals(generated.bytes, bytesRead);
+        assertEquals(generated.lines, linesRead);
+        assertEquals(generated.lines, linesParsed);
+        assertEquals(generated.bytes, bytesWritten);
+    }
+
+    /**
+     * Get the text of an individual record
+     * 
+     * @param xref
+     *            the individual's xref
+     * @param name
+     *            the individual's name
+     * @param note
+     *            the text of the individual's note
+     * @return the text of the record
+     */
+    static String individualRecord(String xref, String name, String note) {
+        StringBuilder sb = new StringBuilder(1200);
+        sb.append("0 ").append(xref).append(" INDI\r\n1 NAME ").append(name).append("\r\n1 NOTE ");
+        sb.append(note, 0, NOTE_CHUNK).append("\r\n");
+        for (int i = NOTE_CHUNK; i < note.length(); i += NOTE_CHUNK) {
+            sb.append("2 CONC ").append(note, i, Math.min(note.length(), i + NOTE_CHUNK)).append("\r\n");
+        }
+        return sb.toString();
+    }
+}
@@ -58,6 +58,21 @@ public class AnselHandlerTest {
         }
     }
 
+    /**
+     * Test that lines longer than the old fixed 512-character working buffer can be converted in both directions
+     */
+    @Test
+    public void testLinesLongerThanBuffer() {
+        StringBuilder utf16 = new StringBuilder();
+        StringBuilder ansel = new StringBuilder();
+        for (int i = 0; i < 400; i++) {
+            utf16.append("\u00C0b");
+            ansel.append("\u00E1Ab");
+        }
+        assertEquals(ansel.toString(), classUnderTest.toAnsel(utf16.toString()));
+        assertEquals(utf16.toString(), classUnderTest.toUtf16(ansel.toString()));
+    }
+
     /**
      * This is a longer read test with diacriticals
      */
@@ -81,6 +96,15 @@ public class AnselHandlerTest {
         assertEquals("2 GIVN Dolor\u00E8s", classUnderTest.toUtf16("2 GIVN Dolor\u00E1es"));
     }
 
+    /**
+     * Test reading a base character with two diacritics that have no precomposed equivalent - both diacritics must be kept, in
+     * order, after the base character
+     */
+    @Test
+    public void testReadTwoDiacriticsWithoutCombinedGlyph() {
+        assertEquals("B\u0302\u0309", classUnderTest.toUtf16("\u00E3\u00E0B"));
+    }
+
     /**
      * This is a longer read test with diacriticals. Note that:
      * <ul>
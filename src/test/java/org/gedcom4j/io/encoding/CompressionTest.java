@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.io.encoding;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * Test for {@link Compression}
+ * 
+ * @author frizbog
+ */
+public class CompressionTest {
+
+    /**
+     * Test detecting gzipped data
+     */
+    @Test
+    public void testDetectGzip() {
+        assertEquals(Compression.GZIP, Compression.detect(new byte[] { 0x1F, (byte) 0x8B, 0x08, 0x00 }, 4));
+        assertEquals(Compression.GZIP, Compression.detect(new byte[] { 0x1F, (byte) 0x8B }, 2));
+    }
+
+    /**
+     * Test that uncompressed gedcom data, in each of the encodings, is not mistaken for compressed data
+     */
+    @Test
+    public void testDetectNone() {
+        assertEquals(Compression.NONE, Compression.detect("0 HEAD".getBytes(), 4));
+        assertEquals(Compression.NONE, Compression.detect(new byte[] { (byte) 0xEF, (byte) 0xBB, (byte) 0xBF, '0' }, 4));
+        assertEquals(Compression.NONE, Compression.detect(new byte[] { (byte) 0xFF, (byte) 0xFE, '0', 0 }, 4));
+        assertEquals(Compression.NONE, Compression.detect(new byte[] { 0, '0', 0, ' ' }, 4));
+        assertEquals(Compression.NONE, Compression.detect(new byte[] { 'P', 'K', 0x05, 0x06 }, 4));
+    }
+
+    /**
+     * Test that data too short to hold the magic bytes is not compressed
+     */
+    @Test
+    public void testDetectShort() {
+        assertEquals(Compression.NONE, Compression.detect(new byte[] { 0x1F, (byte) 0x8B }, 1));
+        assertEquals(Compression.NONE, Compression.detect(new byte[] { 'P', 'K', 0x03, 0x04 }, 3));
+        assertEquals(Compression.NONE, Compression.detect(new byte[0], 0));
+    }
+
+    /**
+     * Test detecting a zip archive
+     */
+    @Test
+    public void testDetectZip() {
+        assertEquals(Compression.ZIP, Compression.detect(new byte[] { 'P', 'K', 0x03, 0x04, 0x14 }, 5));
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.io.reader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.parser.GedcomParser;
+import org.junit.Test;
+
+/**
+ * Test for {@link AbstractUtf16Reader} and its subclasses, {@link UnicodeLittleEndianReader} and {@link UnicodeBigEndianReader}
+ * 
+ * @author frizbog
+ */
+public class AbstractUtf16ReaderTest {
+
+    /**
+     * Test reading big-endian data that has a byte order marker and lines longer than the internal buffers
+     * 
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the data cannot be parsed
+     */
+    @Test
+    public void testBigEndian() throws IOException, GedcomParserException {
+        byte[] data = getTestData(StandardCharsets.UTF_16BE);
+        assertLines(new UnicodeBigEndianReader(new GedcomParser(), new ByteArrayInputStream(data)), data.length);
+    }
+
+    /**
+     * Test that an incomplete character at the very end of the data is ignored
+     * 
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the data cannot be parsed
+     */
+    @Test
+    public void testIncompleteFinalCharacter() throws IOException, GedcomParserException {
+        byte[] data = new byte[] { 0x30, 0x00, 0x20, 0x00, 0x54, 0x00, 0x52, 0x00, 0x4C, 0x00, 0x52, 0x00, 0x0A };
+        UnicodeLittleEndianReader r = new UnicodeLittleEndianReader(new GedcomParser(), new ByteArrayInputStream(data));
+        assertEquals("0 TRLR", r.nextLine());
+        assertNull(r.nextLine());
+        assertEquals(data.length, r.bytesRead);
+    }
+
+    /**
+     * Test reading little-endian data that has a byte order marker and lines longer than the internal buffers
+     * 
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the data cannot be parsed
+     */
+    @Test
+    public void testLittleEndian() throws IOException, GedcomParserException {
+        byte[] data = getTestData(StandardCharsets.UTF_16LE);
+        assertLines(new UnicodeLittleEndianReader(new GedcomParser(), new ByteArrayInputStream(data)), data.length);
+    }
+
+    /**
+     * Assert that the reader gives back the lines in the test data
+     * 
+     * @param r
+     *            the reader
+     * @param expectedBytes
+     *            the number of bytes in the test data
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the data cannot be parsed
+     */
+    private void assertLines(AbstractUtf16Reader r, int expectedBytes) throws IOException, GedcomParserException {
+        assertEquals("0 HEAD", r.nextLine());
+        assertEquals("1 CHAR UNICODE", r.nextLine());
+        assertEquals(getLongLine(), r.nextLine());
+        assertEquals("1 NOTE \ud834\udd1e clef", r.nextLine());
+        assertEquals("0 TRLR", r.nextLine());
+        assertNull(r.nextLine());
+        assertEquals(expectedBytes, r.bytesRead);
+    }
+
+    /**
+     * Get a line long enough to span several of the reader's internal buffers
+     * 
+     * @return a long line
+     */
+    private String getLongLine() {
+        StringBuilder sb = new StringBuilder("2 CONC ");
+        while (sb.length() < 30000) {
+            sb.append("Bj\u00f6rk \u4e2d\u6587 ");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Get the test data, encoded with the supplied charset and preceded by a byte order marker
+     * 
+     * @param charset
+     *            the charset to encode with
+     * @return the test data
+     */
+    private byte[] getTestData(Charset charset) {
+        String s = "\ufeff0 HEAD\r\n  1 CHAR UNICODE\r\n\r\n" + getLongLine() + "\n\t1 NOTE \ud834\udd1e clef\r0 TRLR";
+        return s.getBytes(charset);
+    }
+}
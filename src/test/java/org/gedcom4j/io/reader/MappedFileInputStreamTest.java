@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.io.reader;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Test;
+
+/**
+ * Test for the {@link MappedFileInputStream} class
+ * 
+ * @author frizbog
+ */
+public class MappedFileInputStreamTest {
+
+    /**
+     * The sample file to read
+     */
+    private static final Path SAMPLE = Paths.get("sample/willis.ged");
+
+    /**
+     * Test reading in blocks that span several small mapped chunks
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     */
+    @Test
+    public void testBlocksAcrossChunks() throws IOException {
+        byte[] expected = Files.readAllBytes(SAMPLE);
+        try (FileChannel fc = FileChannel.open(SAMPLE, StandardOpenOption.READ);
+                MappedFileInputStream in = new MappedFileInputStream(fc, 1000)) {
+            ByteArrayOutputStream actual = new ByteArrayOutputStream();
+            byte[] buf = new byte[777];
+            int r = in.read(buf);
+            while (r > 0) {
+                actual.write(buf, 0, r);
+                r = in.read(buf);
+            }
+            assertEquals(-1, r);
+            assertArrayEquals(expected, actual.toByteArray());
+            assertEquals(expected.length, in.getPosition());
+        }
+    }
+
+    /**
+     * Test reading byte by byte across several small mapped chunks
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     */
+    @Test
+    public void testByteByByteAcrossChunks() throws IOException {
+        byte[] expected = Files.readAllBytes(SAMPLE);
+        try (FileChannel fc = FileChannel.open(SAMPLE, StandardOpenOption.READ);
+                MappedFileInputStream in = new MappedFileInputStream(fc, 100)) {
+            for (int i = 0; i < expected.length; i++) {
+                assertEquals(expected[i] & 0xFF, in.read());
+            }
+            assertEquals(-1, in.read());
+        }
+    }
+
+    /**
+     * Test that mark and reset work when the reset crosses back over a chunk boundary
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     */
+    @Test
+    public void testMarkAndResetAcrossChunks() throws IOException {
+        byte[] expected = Files.readAllBytes(SAMPLE);
+        try (FileChannel fc = FileChannel.open(SAMPLE, StandardOpenOption.READ);
+                MappedFileInputStream in = new MappedFileInputStream(fc, 64)) {
+            assertEquals(50, in.skip(50));
+            in.mark(1000);
+            byte[] first = new byte[500];
+            assertEquals(500, in.read(first));
+            in.reset();
+            assertEquals(50, in.getPosition());
+            byte[] second = new byte[500];
+            assertEquals(500, in.read(second));
+            assertArrayEquals(first, second);
+            assertEquals(expected[50] & 0xFF, first[0] & 0xFF);
+        }
+    }
+
+}
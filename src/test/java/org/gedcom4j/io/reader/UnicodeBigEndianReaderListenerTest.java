@@ -38,7 +38,7 @@ public class UnicodeBigEndianReaderListenerTest extends AbstractReaderListenerTe
      * Constructor
      */
     public UnicodeBigEndianReaderListenerTest() {
-        super("sample/willis-unicode-bigendian.ged", 20036, 1174850, 41);
+        super("sample/willis-unicode-bigendian.ged", 20035, 1174850, 41);
     }
 
 }
@@ -35,6 +35,7 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 
 import org.gedcom4j.exception.GedcomParserException;
 import org.gedcom4j.parser.GedcomParser;
@@ -46,6 +47,29 @@ import org.junit.Test;
  * @author frizbog
  */
 public class Utf8ReaderTest {
+    /**
+     * Test a byte order mark at the start of the data, followed by mixed line terminators
+     * 
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the data cannot be parsed
+     */
+    @Test
+    public void testByteOrderMarkAndMixedTerminators() throws IOException, GedcomParserException {
+        GedcomParser parser = new GedcomParser();
+
+        byte[] buf = "\ufeff0 HEAD\r1 CHAR UTF-8\n\r\n  1 SOUR X\n0 TRLR\r\n".getBytes(StandardCharsets.UTF_8);
+        InputStream fis = new ByteArrayInputStream(buf);
+        Utf8Reader r = new Utf8Reader(parser, fis);
+        r.setByteOrderMarkerRead(true);
+        assertEquals("0 HEAD", r.nextLine());
+        assertEquals("1 CHAR UTF-8", r.nextLine());
+        assertEquals("1 SOUR X", r.nextLine());
+        assertEquals("0 TRLR", r.nextLine());
+        assertNull(r.nextLine());
+    }
+
     /**
      * Test an empty byte array, no byte order mark
      * 
@@ -125,6 +149,36 @@ public class Utf8ReaderTest {
         assertEquals("Bat", r.nextLine());
     }
 
+    /**
+     * Test lines with non-ASCII characters, including one long enough to straddle the reader's internal buffer with a multi-byte
+     * character split across the boundary
+     * 
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the data cannot be parsed
+     */
+    @Test
+    public void testNonAsciiAndLongLines() throws IOException, GedcomParserException {
+        GedcomParser parser = new GedcomParser();
+
+        StringBuilder longLine = new StringBuilder("2 CONC ");
+        while (longLine.length() < 20000) {
+            longLine.append("G\u00f6del \u00c9mile \u4e2d\u6587 ");
+        }
+        String data = "0 HEAD\r\n1 NOTE Bj\u00f6rk\r\n" + longLine + "\r\n\u3000 1 NOTE ideographic space\r\n0 TRLR";
+        byte[] buf = data.getBytes(StandardCharsets.UTF_8);
+        InputStream fis = new ByteArrayInputStream(buf);
+        Utf8Reader r = new Utf8Reader(parser, fis);
+        assertEquals("0 HEAD", r.nextLine());
+        assertEquals("1 NOTE Bj\u00f6rk", r.nextLine());
+        assertEquals(longLine.toString(), r.nextLine());
+        assertEquals("1 NOTE ideographic space", r.nextLine());
+        assertEquals("0 TRLR", r.nextLine());
+        assertNull(r.nextLine());
+        assertEquals(buf.length, r.bytesRead);
+    }
+
     /**
      * Test a non-existent file
      * 
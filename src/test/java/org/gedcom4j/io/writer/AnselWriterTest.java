@@ -70,4 +70,36 @@ public class AnselWriterTest {
             assertEquals("Character " + i + " is not equal", e, a);
         }
     }
+
+    /**
+     * Test writing a line longer than the initial size of the buffer that lines are encoded into
+     * 
+     * @throws IOException
+     *             if the line cannot be written to the memory output stream
+     * @throws WriterCancelledException
+     *             if the write operation was cancelled
+     */
+    @Test
+    public void testWriteLongLine() throws IOException, WriterCancelledException {
+        AnselWriter anselWriter = new AnselWriter(new GedcomWriter(new Gedcom()));
+        anselWriter.terminator = LineTerminator.CRLF;
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            line.append("\u00C0");
+        }
+
+        anselWriter.writeLine(baos, line.toString());
+        anselWriter.writeLine(baos, "x");
+        byte[] bytes = baos.toByteArray();
+        assertEquals(2005, bytes.length);
+        assertEquals(2005, anselWriter.bytesWritten);
+        for (int i = 0; i < 2000; i += 2) {
+            assertEquals((byte) 0xE1, bytes[i]);
+            assertEquals('A', bytes[i + 1]);
+        }
+        assertEquals('\r', bytes[2000]);
+        assertEquals('\n', bytes[2001]);
+        assertEquals('x', bytes[2002]);
+    }
 }
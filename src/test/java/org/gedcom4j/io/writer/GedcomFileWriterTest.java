@@ -26,6 +26,7 @@
  */
 package org.gedcom4j.io.writer;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
@@ -945,4 +946,45 @@ public class GedcomFileWriterTest {
         gw.write(fn);
     }
 
+    /**
+     * Test that encoded data is written to the output stream in large blocks rather than a byte or a line at a time, and that the
+     * count of bytes written is still exact
+     * 
+     * @throws IOException
+     *             if anything goes wrong with the writing of the data
+     * @throws WriterCancelledException
+     *             if the write operation was cancelled
+     */
+    @Test
+    public void testWritesInBlocks() throws IOException, WriterCancelledException {
+        List<String> lines = new ArrayList<>();
+        lines.add("0 HEAD");
+        lines.add("1 CHAR ANSEL");
+        for (int i = 0; i < 10000; i++) {
+            lines.add("1 NOTE Line " + i + " has a diacritic: \u00C0");
+        }
+        lines.add("0 TRLR");
+        final int[] writeCalls = new int[1];
+        ByteArrayOutputStream baos = new ByteArrayOutputStream() {
+            @Override
+            public synchronized void write(byte[] b, int off, int len) {
+                writeCalls[0]++;
+                super.write(b, off, len);
+            }
+
+            @Override
+            public synchronized void write(int b) {
+                writeCalls[0]++;
+                super.write(b);
+            }
+        };
+        GedcomFileWriter gfw = new GedcomFileWriter(new GedcomWriter(new Gedcom()), lines);
+        gfw.setTerminator(LineTerminator.CRLF);
+        gfw.write(baos);
+        assertTrue(gfw.encodingSpecificWriter instanceof AnselWriter);
+        assertEquals(baos.size(), gfw.encodingSpecificWriter.bytesWritten);
+        assertTrue("Should have been written in a few large blocks, but took " + writeCalls[0] + " writes",
+                writeCalls[0] <= baos.size() / GedcomFileWriter.OUTPUT_BUFFER_SIZE + 1);
+    }
+
 }
@@ -63,7 +63,7 @@ public class Utf8WriterTest {
     }
 
     /**
-     * Test for {@link Utf8Writer#writeLine(java.io.OutputStream, String)}
+     * Test for {@link Utf8Writer#writeLine(java.io.OutputStream, CharSequence)}
      * 
      * @throws WriterCancelledException
      *             if the writer is cancelled
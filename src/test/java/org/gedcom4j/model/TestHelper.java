@@ -26,6 +26,11 @@
  */
 package org.gedcom4j.model;
 
+import java.io.IOException;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.parser.GedcomParser;
+
 /**
  * Utility class for helping with tests
  * 
@@ -52,6 +57,23 @@ public final class TestHelper {
         return g;
     }
 
+    /**
+     * Load a GEDCOM file
+     * 
+     * @param fileName
+     *            the name of the file
+     * @return the loaded data
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     */
+    public static Gedcom load(String fileName) throws IOException, GedcomParserException {
+        GedcomParser gp = new GedcomParser();
+        gp.load(fileName);
+        return gp.getGedcom();
+    }
+
     /**
      * Private constructor to prevent instantiation and subclassing
      */
@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.exception.ParserCancelledException;
+import org.gedcom4j.io.reader.GedcomFileReader;
+import org.junit.Test;
+
+/**
+ * Test for {@link GedcomLineCursor}
+ * 
+ * @author frizbog
+ */
+public class GedcomLineCursorTest {
+
+    /**
+     * A small file to test with
+     */
+    private static final String SMALL_FILE = "0 HEAD\n1 CHAR ASCII\n0 @I1@ INDI\n1 NAME Joe /Bloggs/\n2 GIVN Joe\n1 SEX M\n"
+            + "0 @I2@ INDI\n1 NAME Jane /Bloggs/\n1 NOTE \n0 TRLR\n";
+
+    /**
+     * Test that cancelling stops the cursor
+     * 
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the data can't be parsed
+     */
+    @Test(expected = ParserCancelledException.class)
+    public void testCancel() throws IOException, GedcomParserException {
+        GedcomLineCursor cursor = cursorOver(SMALL_FILE);
+        assertTrue(cursor.next());
+        cursor.cancel();
+        cursor.next();
+    }
+
+    /**
+     * Test that the cursor breaks every line of a variety of files into the same pieces as {@link LinePieces}
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     */
+    @Test
+    public void testSameAsLinePieces() throws IOException, GedcomParserException {
+        for (String fileName : new String[] { "sample/TGC551.ged", "sample/willis-ansel.ged",
+                "sample/willis-unicode-littleendian.ged", "sample/Harry_Potter.ged" }) {
+            try (BufferedInputStream expectedBytes = new BufferedInputStream(new FileInputStream(fileName));
+                    FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+                GedcomFileReader expectedReader = new GedcomFileReader(new GedcomParser(), expectedBytes);
+                GedcomLineCursor cursor = new GedcomLineCursor(channel);
+                int lines = 0;
+                while (cursor.next()) {
+                    lines++;
+                    LinePieces expected = new LinePieces(expectedReader.nextLine(), lines);
+                    assertEquals(fileName, lines, cursor.lineNumber());
+                    assertEquals(fileName, expected.level, cursor.level());
+                    assertEquals(fileName, expected.id, cursor.xref());
+                    assertEquals(fileName, expected.tag, cursor.tag());
+                    assertEquals(fileName, expected.remainder, cursor.value());
+                    assertEquals(fileName, expected.remainder == null ? "" : expected.remainder, cursor.valueAsCharSequence()
+                            .toString());
+                }
+                assertNull(fileName, expectedReader.nextLine());
+                assertTrue(fileName, lines > 0);
+            }
+        }
+    }
+
+    /**
+     * Test skipping the children of lines
+     * 
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the data can't be parsed
+     */
+    @Test
+    public void testSkipChildren() throws IOException, GedcomParserException {
+        GedcomLineCursor cursor = cursorOver(SMALL_FILE);
+        StringBuilder sb = new StringBuilder();
+        while (cursor.next()) {
+            sb.append(cursor.lineNumber()).append(':').append(cursor.tag()).append(' ');
+            if (cursor.level() == 0 || "NAME".equals(cursor.tag())) {
+                cursor.skipChildren();
+                // Skipping twice in a row doesn't skip anything more
+                cursor.skipChildren();
+            }
+        }
+        assertEquals("1:HEAD 3:INDI 7:INDI 10:TRLR ", sb.toString());
+
+        cursor = cursorOver(SMALL_FILE);
+        sb.setLength(0);
+        while (cursor.next()) {
+            if ("NAME".equals(cursor.tag())) {
+                cursor.skipChildren();
+            }
+            sb.append(cursor.lineNumber()).append(':').append(cursor.tag()).append(' ');
+        }
+        assertEquals("1:HEAD 2:CHAR 3:INDI 4:NAME 6:SEX 7:INDI 8:NAME 9:NOTE 10:TRLR ", sb.toString());
+    }
+
+    /**
+     * Test handling of lines that don't begin with a level number
+     * 
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the data can't be parsed
+     */
+    @Test
+    public void testStrictLineBreaks() throws IOException, GedcomParserException {
+        String data = "0 HEAD\n1 CHAR ASCII\n0 @N1@ NOTE First line\nSecond line\n0 TRLR\n";
+        GedcomLineCursor cursor = cursorOver(data);
+        assertTrue(cursor.isStrictLineBreaks());
+        assertTrue(cursor.next());
+        assertTrue(cursor.next());
+        assertTrue(cursor.next());
+        try {
+            cursor.next();
+            fail("Expected exception");
+        } catch (GedcomParserException e) {
+            assertEquals("Line 4 does not begin with a 1 or 2 digit number for the level followed by a space: Second line", e
+                    .getMessage());
+        }
+
+        cursor = cursorOver(data);
+        cursor.setStrictLineBreaks(false);
+        cursor.next();
+        cursor.next();
+        cursor.next();
+        assertTrue(cursor.next());
+        assertEquals(1, cursor.level());
+        assertEquals("CONT", cursor.tag());
+        assertEquals("Second line", cursor.value());
+        assertTrue(cursor.next());
+        assertEquals("TRLR", cursor.tag());
+        assertFalse(cursor.next());
+    }
+
+    /**
+     * Test that tags are pooled and the value view is reused
+     * 
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the data can't be parsed
+     */
+    @Test
+    public void testTagsAndValues() throws IOException, GedcomParserException {
+        GedcomLineCursor cursor = cursorOver(SMALL_FILE);
+        cursor.next();
+        cursor.next();
+        CharSequence value = cursor.valueAsCharSequence();
+        assertEquals("ASCII", value.toString());
+        assertEquals('S', value.charAt(1));
+        assertEquals("SC", value.subSequence(1, 3).toString());
+        cursor.next();
+        assertEquals("@I1@", cursor.xref());
+        assertEquals(0, value.length());
+        assertNull(cursor.value());
+        cursor.next();
+        String nameTag = cursor.tag();
+        assertSame(value, cursor.valueAsCharSequence());
+        assertEquals("Joe /Bloggs/", value.toString());
+        assertNull(cursor.xref());
+        while (cursor.next() && !"NAME".equals(cursor.tag())) {
+            // Keep going to the second individual's name
+        }
+        assertSame(nameTag, cursor.tag());
+        assertEquals(8, cursor.lineNumber());
+        cursor.next();
+        assertEquals("", cursor.value());
+        cursor.next();
+        assertFalse(cursor.next());
+        assertNull(cursor.tag());
+    }
+
+    /**
+     * Test that warnings from reading the file are reported to the parser supplied, and through the cursor
+     * 
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the data can't be parsed
+     */
+    @Test
+    public void testWarnings() throws IOException, GedcomParserException {
+        StringBuilder data = new StringBuilder("0 HEAD\n1 CHAR ANSEL\n0 @N1@ NOTE ");
+        for (int i = 0; i < 400; i++) {
+            data.append('x');
+        }
+        data.append("\n0 TRLR\n");
+        GedcomParser parser = new GedcomParser();
+        GedcomLineCursor cursor = new GedcomLineCursor(parser, new BufferedInputStream(new ByteArrayInputStream(data.toString()
+                .getBytes(StandardCharsets.US_ASCII))));
+        int lines = 0;
+        while (cursor.next()) {
+            lines++;
+        }
+        assertEquals("The long line should have been split with a synthetic CONC", 5, lines);
+        assertEquals(1, parser.getWarnings().size());
+        assertSame(parser.getWarnings(), cursor.getWarnings());
+    }
+
+    /**
+     * Make a cursor over the supplied data
+     * 
+     * @param data
+     *            the data, as an ASCII string
+     * @return the cursor
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the data can't be parsed
+     */
+    private GedcomLineCursor cursorOver(String data) throws IOException, GedcomParserException {
+        return new GedcomLineCursor(new BufferedInputStream(new ByteArrayInputStream(data.getBytes(StandardCharsets.US_ASCII))));
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.model.Gedcom;
+import org.junit.Test;
+
+/**
+ * Test for loading gzipped files, and files in zip archives, with {@link GedcomParser}
+ * 
+ * @author frizbog
+ */
+public class GedcomParserCompressedFileTest {
+
+    /**
+     * Test loading a gzipped file through each of the load methods, in several encodings
+     * 
+     * @throws IOException
+     *             if a file can't be read or written
+     * @throws GedcomParserException
+     *             if a file can't be parsed
+     */
+    @Test
+    public void testGzip() throws IOException, GedcomParserException {
+        for (String fileName : new String[] { "sample/willis.ged", "sample/willis-ansel.ged",
+                "sample/willis-unicode-littleendian.ged", "sample/willis-unicode-bigendian.ged" }) {
+            File compressed = new File("tmp/" + new File(fileName).getName() + ".gz");
+            compressed.getParentFile().mkdirs();
+            try (GZIPOutputStream out = new GZIPOutputStream(new FileOutputStream(compressed))) {
+                Files.copy(Paths.get(fileName), out);
+            }
+
+            GedcomParser expected = new GedcomParser();
+            expected.load(fileName);
+
+            GedcomParser fromFileName = new GedcomParser();
+            fromFileName.load(compressed.getPath());
+            assertSameAs(fileName, expected, fromFileName);
+
+            GedcomParser fromPath = new GedcomParser();
+            fromPath.load(compressed.toPath());
+            assertSameAs(fileName, expected, fromPath);
+
+            GedcomParser fromStream = new GedcomParser();
+            fromStream.load(new BufferedInputStream(new ByteArrayInputStream(Files.readAllBytes(compressed.toPath()))));
+            assertSameAs(fileName, expected, fromStream);
+        }
+    }
+
+    /**
+     * Test that a compressed file cannot be loaded lazily
+     * 
+     * @throws IOException
+     *             if the file can't be written
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     */
+    @Test
+    public void testLazyLoadCompressed() throws IOException, GedcomParserException {
+        File compressed = new File("tmp/willis-lazy.ged.gz");
+        compressed.getParentFile().mkdirs();
+        try (GZIPOutputStream out = new GZIPOutputStream(new FileOutputStream(compressed))) {
+            Files.copy(Paths.get("sample/willis.ged"), out);
+        }
+        try {
+            new GedcomParser().loadLazily(compressed.toPath());
+            fail("Expected exception not thrown");
+        } catch (IOException expected) {
+            assertTrue(expected.getMessage().contains("Compressed files cannot be loaded lazily"));
+        }
+    }
+
+    /**
+     * Test loading a gedcom from a zip archive that also holds a directory and a multimedia file, which come before the gedcom
+     * 
+     * @throws IOException
+     *             if a file can't be read
+     * @throws GedcomParserException
+     *             if a file can't be parsed
+     */
+    @Test
+    public void testZip() throws IOException, GedcomParserException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            zip.putNextEntry(new ZipEntry("media/"));
+            zip.closeEntry();
+            addEntry(zip, "media/ImgFile.JPG", "sample/ImgFile.JPG");
+            addEntry(zip, "family/willis.GED", "sample/willis.ged");
+            addEntry(zip, "other.ged", "sample/Harry_Potter.ged");
+        }
+
+        GedcomParser expected = new GedcomParser();
+        expected.load("sample/willis.ged");
+
+        GedcomParser actual = new GedcomParser();
+        actual.load(new BufferedInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertSameAs("zip", expected, actual);
+    }
+
+    /**
+     * Test loading a zip archive with no gedcom in it
+     * 
+     * @throws IOException
+     *             if a file can't be read
+     * @throws GedcomParserException
+     *             if a file can't be parsed
+     */
+    @Test
+    public void testZipWithoutGedcom() throws IOException, GedcomParserException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            addEntry(zip, "ImgFile.JPG", "sample/ImgFile.JPG");
+        }
+        try {
+            new GedcomParser().load(new BufferedInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+            fail("Expected exception not thrown");
+        } catch (IOException expected) {
+            assertTrue(expected.getMessage().contains("does not contain a gedcom file"));
+        }
+    }
+
+    /**
+     * Add an entry to a zip archive with the contents of a file
+     * 
+     * @param zip
+     *            the zip archive
+     * @param entryName
+     *            the name of the entry
+     * @param fileName
+     *            the name of the file with the contents
+     * @throws IOException
+     *             if the file can't be read or the entry can't be written
+     */
+    private void addEntry(ZipOutputStream zip, String entryName, String fileName) throws IOException {
+        zip.putNextEntry(new ZipEntry(entryName));
+        Files.copy(Paths.get(fileName), zip);
+        zip.closeEntry();
+    }
+
+    /**
+     * Assert that two parsers loaded the same data, with the same errors and warnings
+     * 
+     * @param message
+     *            the message for failed assertions
+     * @param expected
+     *            the parser that loaded the expected data
+     * @param actual
+     *            the parser to check
+     */
+    private void assertSameAs(String message, GedcomParser expected, GedcomParser actual) {
+        Gedcom g = expected.getGedcom();
+        assertTrue(message, g.getIndividuals().size() > 0);
+        assertEquals(message, g, actual.getGedcom());
+        assertEquals(message, expected.getErrors(), actual.getErrors());
+        assertEquals(message, expected.getWarnings(), actual.getWarnings());
+    }
+
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.model.AbstractElement;
+import org.gedcom4j.model.Family;
+import org.gedcom4j.model.Gedcom;
+import org.gedcom4j.model.Individual;
+import org.junit.Test;
+
+/**
+ * Test for loading files lazily through {@link GedcomParser#loadLazily(java.nio.file.Path, boolean)}
+ * 
+ * @author frizbog
+ */
+public class GedcomParserLazyTest {
+
+    /**
+     * Test that records are only parsed when they are asked for, and that records they refer to are filled in when they are asked
+     * for themselves
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     */
+    @Test
+    public void testOnlyRequestedRecordsParsed() throws IOException, GedcomParserException {
+        GedcomParser gp = new GedcomParser();
+        gp.loadLazily(Paths.get("sample/willis.ged"));
+        Gedcom g = gp.getGedcom();
+        assertTrue(g.getIndividuals().containsKey("@I4726@"));
+        assertNull(g.getIndividuals().get("@NOT_THERE@"));
+        assertNotNull(g.getHeader().getSubmitterReference());
+
+        Individual i = g.getIndividuals().get("@I4726@");
+        assertEquals("James /Horton/", i.getNames().get(0).getBasic());
+        assertSame(i, g.getIndividuals().get("@I4726@"));
+
+        // The family has only been referred to so far, not parsed
+        Family f = i.getFamiliesWhereSpouse().get(0).getFamily();
+        assertEquals("@F1668@", f.getXref());
+        assertNull(f.getHusband());
+
+        // ...until it's asked for
+        assertSame(f, g.getFamilies().get("@F1668@"));
+        assertSame(i, f.getHusband().getIndividual());
+    }
+
+    /**
+     * Test putting and removing records
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     */
+    @Test
+    public void testPutAndRemove() throws IOException, GedcomParserException {
+        GedcomParser gp = new GedcomParser();
+        gp.loadLazily(Paths.get("sample/willis.ged"));
+        Map<String, Individual> individuals = gp.getGedcom().getIndividuals();
+        int size = individuals.size();
+
+        Individual i = new Individual();
+        i.setXref("@NEW@");
+        assertNull(individuals.put("@NEW@", i));
+        assertSame(i, individuals.get("@NEW@"));
+        assertEquals(size + 1, individuals.size());
+
+        Individual replacement = new Individual();
+        replacement.setXref("@I4726@");
+        individuals.put("@I4726@", replacement);
+        assertSame(replacement, individuals.get("@I4726@"));
+
+        assertSame(i, individuals.remove("@NEW@"));
+        assertNull(individuals.get("@NEW@"));
+        assertEquals(size, individuals.size());
+    }
+
+    /**
+     * Test that loading each of the supported encodings lazily, and then asking for every record, gives the same results as
+     * loading fully
+     * 
+     * @throws IOException
+     *             if a file can't be read
+     * @throws GedcomParserException
+     *             if a file can't be parsed
+     */
+    @Test
+    public void testSameAsFullLoad() throws IOException, GedcomParserException {
+        for (String fileName : new String[] { "sample/willis.ged", "sample/willis-ascii.ged", "sample/willis-ansel.ged",
+                "sample/willis-unicode-littleendian.ged", "sample/willis-unicode-bigendian.ged", "sample/ANSEL.GED",
+                "sample/Harry_Potter.ged", "sample/TGC551.ged", "sample/allged.ged", "sample/customtagstorture.ged" }) {
+            assertSameAsFullLoad(fileName, false, LazyRecordLoader.DEFAULT_CHUNK_SIZE);
+            assertSameAsFullLoad(fileName, true, LazyRecordLoader.DEFAULT_CHUNK_SIZE);
+        }
+    }
+
+    /**
+     * Test that records split across the chunks the file is mapped in are read correctly
+     * 
+     * @throws IOException
+     *             if a file can't be read
+     * @throws GedcomParserException
+     *             if a file can't be parsed
+     */
+    @Test
+    public void testSmallChunks() throws IOException, GedcomParserException {
+        assertSameAsFullLoad("sample/willis.ged", false, 64);
+        assertSameAsFullLoad("sample/willis-unicode-bigendian.ged", false, 64);
+    }
+
+    /**
+     * Load a file both fully and lazily, ask for every record in the lazily loaded one, and check the results are the same
+     * 
+     * @param fileName
+     *            the name of the file
+     * @param softlyCached
+     *            whether records are only held softly once parsed
+     * @param chunkSize
+     *            the size of the chunks to map the file in
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     */
+    private void assertSameAsFullLoad(String fileName, boolean softlyCached, int chunkSize) throws IOException,
+            GedcomParserException {
+        GedcomParser fullParser = new GedcomParser();
+        fullParser.load(fileName);
+        Gedcom expected = fullParser.getGedcom();
+
+        GedcomParser lazyParser = new GedcomParser();
+        lazyParser.loadLazily(Paths.get(fileName), softlyCached, chunkSize);
+        Gedcom actual = lazyParser.getGedcom();
+        assertEquals(fileName, expected.getIndividuals().size(), actual.getIndividuals().size());
+        assertEquals(fileName, expected.getFamilies().size(), actual.getFamilies().size());
+
+        // Keep hold of everything, so nothing softly cached is collected part way through comparing
+        List<AbstractElement> all = new ArrayList<>();
+        all.addAll(actual.getFamilies().values());
+        all.addAll(actual.getIndividuals().values());
+        all.addAll(actual.getMultimedia().values());
+        all.addAll(actual.getNotes().values());
+        all.addAll(actual.getRepositories().values());
+        all.addAll(actual.getSources().values());
+        all.addAll(actual.getSubmitters().values());
+        assertTrue(all.size() > 0);
+
+        assertEquals(fileName, expected, actual);
+        assertEquals(fileName, sorted(fullParser.getErrors()), sorted(lazyParser.getErrors()));
+        assertEquals(fileName, sorted(fullParser.getWarnings()), sorted(lazyParser.getWarnings()));
+        assertEquals(fileName, fullParser.getLineNum(), lazyParser.getLineNum());
+    }
+
+    /**
+     * Get a sorted copy of a list of messages, since records are parsed in a different order when they are loaded lazily
+     * 
+     * @param messages
+     *            the messages
+     * @return a sorted copy of the messages
+     */
+    private List<String> sorted(List<String> messages) {
+        List<String> result = new ArrayList<>(messages);
+        Collections.sort(result);
+        return result;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.model.Gedcom;
+import org.junit.Test;
+
+/**
+ * Test for loading files through {@link GedcomParser#load(java.nio.file.Path)}, which memory-maps the file
+ * 
+ * @author frizbog
+ */
+public class GedcomParserMappedFileTest {
+
+    /**
+     * Test that loading each of the supported encodings through a mapped file gives the same results as loading through a stream
+     * 
+     * @throws IOException
+     *             if a file can't be read
+     * @throws GedcomParserException
+     *             if a file can't be parsed
+     */
+    @Test
+    public void testSameAsStreamLoad() throws IOException, GedcomParserException {
+        for (String fileName : new String[] { "sample/willis.ged", "sample/willis-ascii.ged", "sample/willis-ansel.ged",
+                "sample/willis-unicode-littleendian.ged", "sample/willis-unicode-bigendian.ged", "sample/ANSEL.GED",
+                "sample/Harry_Potter.ged" }) {
+            GedcomParser streamParser = new GedcomParser();
+            streamParser.load(fileName);
+            Gedcom expected = streamParser.getGedcom();
+
+            GedcomParser mappedParser = new GedcomParser();
+            mappedParser.load(Paths.get(fileName));
+            Gedcom actual = mappedParser.getGedcom();
+
+            assertTrue(fileName, expected.getIndividuals().size() > 0);
+            assertEquals(fileName, expected, actual);
+            assertEquals(fileName, streamParser.getErrors(), mappedParser.getErrors());
+            assertEquals(fileName, streamParser.getWarnings(), mappedParser.getWarnings());
+        }
+    }
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.model.Gedcom;
+import org.junit.Test;
+
+/**
+ * Test for loading files with root-level records parsed in parallel - see {@link GedcomParser#setParallelism(int)}
+ * 
+ * @author frizbog
+ */
+public class GedcomParserParallelTest {
+
+    /**
+     * Test that a large generated file, with plenty of cross-references, duplicate records, custom tags, errors and warnings, loads
+     * the same in parallel as sequentially
+     * 
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the data can't be parsed
+     */
+    @Test
+    public void testGeneratedFile() throws IOException, GedcomParserException {
+        StringBuilder sb = new StringBuilder("0 HEAD\n1 GEDC\n2 VERS 5.5\n1 CHAR ASCII\n1 SUBM @SUBM1@\n");
+        for (int i = 0; i < 3000; i++) {
+            sb.append("0 @I").append(i).append("@ INDI\n1 NAME Person").append(i).append(" /Family").append(i / 2).append("/\n");
+            sb.append("1 FAMC @F").append(i / 2).append("@\n1 FAMS @F").append(i + 1).append("@\n1 EMAIL x").append(i)
+                    .append("@example.com\n");
+            sb.append("1 NOTE @N").append(i % 50).append("@\n1 SOUR @S").append(i % 7).append("@\n2 PAGE ").append(i).append('\n');
+            sb.append("1 _CUSTOM ").append(i).append("\n2 ").append(i % 3 == 0 ? "INSIDE" : "_MORE").append(" text\n");
+            if (i % 3 == 1) {
+                sb.append("1 BOGUS ").append(i).append('\n');
+            }
+            if (i % 100 == 0) {
+                sb.append("0 @X").append(i).append("@ _ROOT Root custom ").append(i).append('\n');
+            }
+            if (i % 500 == 0) {
+                // A second record for an individual seen earlier, which must be merged in order
+                sb.append("0 @I").append(i / 2).append("@ INDI\n1 NAME Again /Family/\n");
+            }
+            if (i % 2 == 0) {
+                sb.append("0 @F").append(i / 2).append("@ FAM\n1 HUSB @I").append(i).append("@\n1 WIFE @I").append(i + 1)
+                        .append("@\n1 CHIL @I").append(i * 2).append("@\n1 MARR\n2 DATE ").append(1900 + i % 100).append('\n');
+            }
+        }
+        for (int i = 0; i < 50; i++) {
+            sb.append("0 @N").append(i).append("@ NOTE Note ").append(i).append("\n1 CONT more\n");
+        }
+        for (int i = 0; i < 7; i++) {
+            sb.append("0 @S").append(i).append("@ SOUR\n1 TITL Source ").append(i).append("\n1 REPO @R1@\n");
+        }
+        sb.append("0 @R1@ REPO\n1 NAME Repo\n0 @SUBM1@ SUBM\n1 NAME Submitter\n0 TRLR\n");
+        byte[] bytes = sb.toString().getBytes(StandardCharsets.US_ASCII);
+
+        GedcomParser sequential = new GedcomParser();
+        sequential.load(new BufferedInputStream(new ByteArrayInputStream(bytes)));
+        assertEquals(1000, sequential.getErrors().size());
+        assertEquals(3000, sequential.getWarnings().size());
+
+        for (int parallelism : new int[] { 2, 8 }) {
+            GedcomParser parallel = new GedcomParser();
+            parallel.setParallelism(parallelism);
+            parallel.load(new BufferedInputStream(new ByteArrayInputStream(bytes)));
+            assertSame(sequential, parallel);
+        }
+    }
+
+    /**
+     * Test that the sample files load the same in parallel as sequentially
+     * 
+     * @throws IOException
+     *             if a file can't be read
+     * @throws GedcomParserException
+     *             if a file can't be parsed
+     */
+    @Test
+    public void testSampleFiles() throws IOException, GedcomParserException {
+        for (String fileName : new String[] { "sample/TGC551.ged", "sample/TGC55C.ged", "sample/willis.ged",
+                "sample/Harry_Potter.ged", "sample/ANSEL.GED", "sample/Bad_custom_tag.ged" }) {
+            GedcomParser sequential = new GedcomParser();
+            sequential.load(fileName);
+            GedcomParser parallel = new GedcomParser();
+            parallel.setParallelism(4);
+            assertEquals(4, parallel.getParallelism());
+            parallel.load(fileName);
+            assertSame(sequential, parallel);
+        }
+    }
+
+    /**
+     * Test that a parallelism of less than 1 is rejected
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroParallelism() {
+        new GedcomParser().setParallelism(0);
+    }
+
+    /**
+     * Assert that two parsers loaded the same results, including the order of the records in the maps and the order of the errors
+     * and warnings
+     * 
+     * @param expected
+     *            the parser that loaded sequentially
+     * @param actual
+     *            the parser that loaded in parallel
+     */
+    private void assertSame(GedcomParser expected, GedcomParser actual) {
+        Gedcom e = expected.getGedcom();
+        Gedcom a = actual.getGedcom();
+        assertEquals(e, a);
+        assertEquals(e.getIndividuals().keySet().toString(), a.getIndividuals().keySet().toString());
+        assertEquals(e.getFamilies().keySet().toString(), a.getFamilies().keySet().toString());
+        assertEquals(e.getNotes().keySet().toString(), a.getNotes().keySet().toString());
+        assertEquals(e.getSources().keySet().toString(), a.getSources().keySet().toString());
+        assertEquals(e.getSubmitters().keySet().toString(), a.getSubmitters().keySet().toString());
+        assertEquals(e.toString(), a.toString());
+        assertEquals(expected.getErrors(), actual.getErrors());
+        assertEquals(expected.getWarnings(), actual.getWarnings());
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.model.CustomFact;
+import org.gedcom4j.model.Family;
+import org.gedcom4j.model.Gedcom;
+import org.gedcom4j.model.Header;
+import org.gedcom4j.model.Individual;
+import org.gedcom4j.model.Multimedia;
+import org.gedcom4j.model.NoteRecord;
+import org.gedcom4j.model.Repository;
+import org.gedcom4j.model.Source;
+import org.gedcom4j.model.Submission;
+import org.gedcom4j.model.Submitter;
+import org.gedcom4j.model.Trailer;
+import org.junit.Test;
+
+/**
+ * Test for streaming records to a {@link GedcomRecordHandler} while parsing
+ * 
+ * @author frizbog
+ */
+public class GedcomRecordHandlerTest {
+
+    /**
+     * Handler that keeps track of what it was handed, for test purposes
+     */
+    private static class RecordingHandler implements GedcomRecordHandler {
+        /** The records received, in order, as "TAG xref" strings */
+        private final List<String> received = new ArrayList<>();
+
+        /** The individuals received */
+        private final List<Individual> individuals = new ArrayList<>();
+
+        /** The custom facts received */
+        private final List<CustomFact> customFacts = new ArrayList<>();
+
+        @Override
+        public void onCustomFact(CustomFact customFact) {
+            customFacts.add(customFact);
+            received.add(customFact.getTag() + " " + customFact.getXref());
+        }
+
+        @Override
+        public void onFamily(Family family) {
+            received.add("FAM " + family.getXref());
+        }
+
+        @Override
+        public void onHeader(Header header) {
+            assertNotNull(header);
+            received.add("HEAD");
+        }
+
+        @Override
+        public void onIndividual(Individual individual) {
+            individuals.add(individual);
+            received.add("INDI " + individual.getXref());
+        }
+
+        @Override
+        public void onMultimedia(Multimedia multimedia) {
+            received.add("OBJE " + multimedia.getXref());
+        }
+
+        @Override
+        public void onNote(NoteRecord note) {
+            received.add("NOTE " + note.getXref());
+        }
+
+        @Override
+        public void onRepository(Repository repository) {
+            received.add("REPO " + repository.getXref());
+        }
+
+        @Override
+        public void onSource(Source source) {
+            received.add("SOUR " + source.getXref());
+        }
+
+        @Override
+        public void onSubmission(Submission submission) {
+            received.add("SUBN " + submission.getXref());
+        }
+
+        @Override
+        public void onSubmitter(Submitter submitter) {
+            received.add("SUBM " + submitter.getXref());
+        }
+
+        @Override
+        public void onTrailer(Trailer trailer) {
+            assertNotNull(trailer);
+            received.add("TRLR");
+        }
+    }
+
+    /**
+     * Test that root-level custom facts are streamed, and that only the records of interest need handling when using the adapter
+     * 
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the data can't be parsed
+     */
+    @Test
+    public void testCustomFactsAndAdapter() throws IOException, GedcomParserException {
+        String data = "0 HEAD\n1 GEDC\n2 VERS 5.5.1\n0 @I1@ INDI\n1 NAME Joe /Bloggs/\n0 @X1@ _CUSTOM Something\n"
+                + "0 @I2@ INDI\n1 NAME Jane /Bloggs/\n0 TRLR\n";
+
+        GedcomParser gp = new GedcomParser();
+        RecordingHandler recorder = new RecordingHandler();
+        gp.setRecordHandler(recorder);
+        gp.load(new BufferedInputStream(new ByteArrayInputStream(data.getBytes(StandardCharsets.US_ASCII))));
+        assertEquals("[HEAD, INDI @I1@, _CUSTOM @X1@, INDI @I2@, TRLR]", recorder.received.toString());
+        assertEquals("Something", recorder.customFacts.get(0).getDescription().getValue());
+        assertTrue(gp.getGedcom().getCustomFacts() == null || gp.getGedcom().getCustomFacts().isEmpty());
+
+        final List<String> names = new ArrayList<>();
+        gp = new GedcomParser();
+        gp.setRecordHandler(new GedcomRecordHandlerAdapter() {
+            @Override
+            public void onIndividual(Individual individual) {
+                names.add(individual.getNames().get(0).getBasic());
+            }
+        });
+        gp.load(new BufferedInputStream(new ByteArrayInputStream(data.getBytes(StandardCharsets.US_ASCII))));
+        assertEquals("[Joe /Bloggs/, Jane /Bloggs/]", names.toString());
+    }
+
+    /**
+     * Test that every record in the torture test file is handed to the handler exactly once, in file order, with the same content
+     * as a normal load, and that nothing is accumulated in the parser's {@link Gedcom}
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     */
+    @Test
+    public void testStreamsEveryRecord() throws IOException, GedcomParserException {
+        GedcomParser fullParser = new GedcomParser();
+        fullParser.load("sample/TGC551.ged");
+        Gedcom expected = fullParser.getGedcom();
+
+        GedcomParser streamingParser = new GedcomParser();
+        RecordingHandler recorder = new RecordingHandler();
+        streamingParser.setRecordHandler(recorder);
+        streamingParser.load("sample/TGC551.ged");
+
+        assertEquals("HEAD", recorder.received.get(0));
+        assertEquals("TRLR", recorder.received.get(recorder.received.size() - 1));
+        assertEquals(1 + expected.getFamilies().size() + expected.getIndividuals().size() + expected.getMultimedia().size()
+                + expected.getNotes().size() + expected.getRepositories().size() + expected.getSources().size() + expected
+                        .getSubmitters().size() + 1 + 1, recorder.received.size());
+        assertEquals(expected.getIndividuals().size(), recorder.individuals.size());
+        for (Individual i : recorder.individuals) {
+            Individual e = expected.getIndividuals().get(i.getXref());
+            assertNotNull(i.getXref(), e);
+            assertEquals(i.getXref(), e.getNames().size(), i.getNames().size());
+            for (int n = 0; n < e.getNames().size(); n++) {
+                assertEquals(i.getXref(), e.getNames().get(n).getBasic(), i.getNames().get(n).getBasic());
+            }
+            assertEquals(i.getXref(), e.getEvents(true).size(), i.getEvents(true).size());
+        }
+
+        Gedcom g = streamingParser.getGedcom();
+        assertEquals(expected.getHeader().getGedcomVersion(), g.getHeader().getGedcomVersion());
+        assertTrue(g.getIndividuals().isEmpty());
+        assertTrue(g.getFamilies().isEmpty());
+        assertTrue(g.getNotes().isEmpty());
+        assertTrue(g.getSources().isEmpty());
+        assertTrue(g.getSubmitters().isEmpty());
+        assertNull(g.getTrailer());
+        assertEquals(fullParser.getErrors(), streamingParser.getErrors());
+        assertEquals(fullParser.getWarnings(), streamingParser.getWarnings());
+    }
+
+}
@@ -29,10 +29,18 @@ package org.gedcom4j.parser;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Random;
 
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.model.Gedcom;
 import org.gedcom4j.parser.StringCanonicalizer.CanonicalizedString;
 import org.junit.Before;
 import org.junit.Test;
@@ -44,10 +52,16 @@ import org.junit.Test;
  */
 public class StringCanonicalizerTest {
 
+    /**
+     * A small GEDCOM with the same value in two records
+     */
+    private static final String GEDCOM = "0 HEAD\n1 SOUR test\n1 GEDC\n2 VERS 5.5.1\n2 FORM LINEAGE-LINKED\n1 CHAR UTF-8\n"
+            + "0 @I1@ INDI\n1 NAME Fred /Smith/\n1 SEX M\n0 @I2@ INDI\n1 NAME Barney /Rubble/\n1 SEX M\n0 TRLR\n";
+
     /**
      * The class under test
      */
-    StringCanonicalizer classUnderTest = new StringCanonicalizer();
+    StringCanonicalizer classUnderTest = new StringCanonicalizer(500, 25);
 
     /**
      * A randomizer that always uses the same seed value for repeated pseudo-random sequences
@@ -62,6 +76,35 @@ public class StringCanonicalizerTest {
         classUnderTest.reset();
     }
 
+    /**
+     * Test that when every entry in a full pool has been used at least the threshold number of times, eviction still makes room
+     * by dropping the least-used entries, and the most-used entries stay in the pool
+     */
+    @Test
+    public void testEvictionKeepsMostUsed() {
+        StringCanonicalizer c = new StringCanonicalizer(100, 2);
+        String[] popular = new String[10];
+        for (int i = 0; i < popular.length; i++) {
+            popular[i] = c.getCanonicalVersion("Popular " + i);
+            for (int uses = 0; uses < 50; uses++) {
+                assertSame(popular[i], c.getCanonicalVersion("Popular " + i));
+            }
+        }
+        for (int i = 0; i < 1000; i++) {
+            for (int uses = 0; uses < 5; uses++) {
+                c.getCanonicalVersion("Value " + i);
+            }
+            assertTrue(c.getSize() <= c.getMaxPoolSize() + 1);
+        }
+
+        assertTrue(c.getNumEvictions() > 0);
+        assertTrue(c.getNumEvictions() < 1000 / 25 + 1);
+        for (int i = 0; i < popular.length; i++) {
+            assertSame(popular[i], c.getCanonicalVersion(new String("Popular " + i)));
+        }
+        assertNotNull(c.stringPool.get("Value 999"));
+    }
+
     /**
      * Test with a larger population that should exceed the pool size, but some of the entries should be below the usage threshold,
      * which means eviction should get triggered
@@ -123,6 +166,58 @@ public class StringCanonicalizerTest {
         }
     }
 
+    /**
+     * Test that values repeated in different records of the same file are canonicalized to the same instance
+     * 
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the data can't be parsed
+     */
+    @Test
+    public void testSessionWideAcrossRecords() throws IOException, GedcomParserException {
+        GedcomParser gp = new GedcomParser();
+        gp.load(stream(GEDCOM));
+        Gedcom g = gp.getGedcom();
+        assertSame(g.getIndividuals().get("@I1@").getSex().getValue(), g.getIndividuals().get("@I2@").getSex().getValue());
+        assertEquals(1, gp.getStringCanonicalizer().getHits());
+
+        // A fresh pool for each load unless one is shared
+        StringCanonicalizer first = gp.getStringCanonicalizer();
+        gp.load(stream(GEDCOM));
+        assertNotSame(first, gp.getStringCanonicalizer());
+        assertEquals(1, gp.getStringCanonicalizer().getHits());
+    }
+
+    /**
+     * Test that a canonicalizer can be shared across parsers, so values repeated across files are canonicalized to the same
+     * instance
+     * 
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the data can't be parsed
+     */
+    @Test
+    public void testSharedAcrossParsers() throws IOException, GedcomParserException {
+        GedcomParser gp1 = new GedcomParser();
+        gp1.setStringCanonicalizer(classUnderTest);
+        gp1.load(stream(GEDCOM));
+        GedcomParser gp2 = new GedcomParser();
+        gp2.setStringCanonicalizer(classUnderTest);
+        gp2.load(stream(GEDCOM));
+
+        assertSame(classUnderTest, gp1.getStringCanonicalizer());
+        assertSame(gp1.getGedcom().getIndividuals().get("@I1@").getSex().getValue(), gp2.getGedcom().getIndividuals().get("@I2@")
+                .getSex().getValue());
+        // 7 distinct values in the file, one repeated within it, and all 8 found again in the second load
+        assertEquals(7, classUnderTest.getMisses());
+        assertEquals(9, classUnderTest.getHits());
+
+        gp1.setStringCanonicalizer(null);
+        assertNotSame(classUnderTest, gp1.getStringCanonicalizer());
+    }
+
     /**
      * Test with a small population
      */
@@ -149,6 +244,32 @@ public class StringCanonicalizerTest {
 
     }
 
+    /**
+     * Test the statistics about the pool
+     */
+    @Test
+    public void testStatistics() {
+        assertEquals(0, classUnderTest.getHitRate(), 0);
+        assertNull(classUnderTest.getCanonicalVersion(null));
+        assertEquals("", classUnderTest.getCanonicalVersion(""));
+        classUnderTest.getCanonicalVersion("A");
+        classUnderTest.getCanonicalVersion("B");
+        classUnderTest.getCanonicalVersion(new String("A"));
+        classUnderTest.getCanonicalVersion(new String("A"));
+
+        assertEquals(2, classUnderTest.getHits());
+        assertEquals(2, classUnderTest.getMisses());
+        assertEquals(0.5, classUnderTest.getHitRate(), 0.0001);
+        assertEquals(2, classUnderTest.getSize());
+        assertEquals(0, classUnderTest.getNumEvictions());
+        assertEquals(0, classUnderTest.getNumEvictedCumulative());
+
+        classUnderTest.reset();
+        assertEquals(0, classUnderTest.getHits());
+        assertEquals(0, classUnderTest.getMisses());
+        assertEquals(0, classUnderTest.getSize());
+    }
+
     /**
      * Test with a larger population that should exceed the pool size, but some of the entries should be below the usage threshold,
      * which means eviction should get triggered
@@ -165,7 +286,8 @@ public class StringCanonicalizerTest {
             }
         }
 
-        assertEquals(8, classUnderTest.numEvictions);
+        // Each eviction frees at least a quarter of the pool, so there are fewer of them than distinct values over the limit
+        assertEquals(6, classUnderTest.numEvictions);
         /*
          * Because we used a java.util.Random with a fixed seed, which items remain in the pool should be predictable, so these
          * asserts should be safe
@@ -189,4 +311,15 @@ public class StringCanonicalizerTest {
 
     }
 
+    /**
+     * Make a stream to load from a string
+     * 
+     * @param gedcom
+     *            the GEDCOM data
+     * @return a stream of the data, encoded as UTF-8
+     */
+    private BufferedInputStream stream(String gedcom) {
+        return new BufferedInputStream(new ByteArrayInputStream(gedcom.getBytes(StandardCharsets.UTF_8)));
+    }
+
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+/**
+ * Test for {@link TagTable}
+ * 
+ * @author frizbog
+ */
+public class TagTableTest {
+
+    /**
+     * Test that when the same tag text is added more than once, the first one added wins
+     */
+    @Test
+    public void testFirstAddedWins() {
+        TagTable<String> t = new TagTable<>();
+        t.add("BIRT", "event").add("BIRT", "attribute").add("DSCR", "attribute");
+        assertEquals("event", t.get("BIRT"));
+        assertEquals("attribute", t.get("DSCR"));
+    }
+
+    /**
+     * Test looking up tags in a table made from a list of tags
+     */
+    @Test
+    public void testOf() {
+        TagTable<Tag> t = TagTable.of(Tag.NAME, Tag.SEX, Tag.NOTE);
+        assertSame(Tag.NAME, t.get("NAME"));
+        assertSame(Tag.SEX, t.get("SEX"));
+        assertSame(Tag.NOTE, t.get(new String("NOTE")));
+        assertNull(t.get("name"));
+        assertNull(t.get("_CUSTOM"));
+        assertNull(t.get(null));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.validate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.gedcom4j.model.Gedcom;
+import org.gedcom4j.model.Individual;
+import org.junit.Test;
+
+/**
+ * Test for {@link AncestryComponents}
+ * 
+ * @author frizbog
+ */
+public class AncestryComponentsTest {
+
+    /**
+     * The gedcom
+     */
+    private final Gedcom gedcom = new Gedcom();
+
+    /**
+     * Test that people who are their own ancestors share a cyclic component, and that everyone else has a component of their own
+     */
+    @Test
+    public void testCyclicComponents() {
+        Individual a = ValidationTestHelper.addIndividual(gedcom, "@A@");
+        Individual b = ValidationTestHelper.addIndividual(gedcom, "@B@");
+        Individual c = ValidationTestHelper.addIndividual(gedcom, "@C@");
+        Individual d = ValidationTestHelper.addIndividual(gedcom, "@D@");
+        ValidationTestHelper.addParentChildFamily(gedcom, "@F1@", a, b);
+        ValidationTestHelper.addParentChildFamily(gedcom, "@F2@", b, a);
+        ValidationTestHelper.addParentChildFamily(gedcom, "@F3@", b, c);
+        ValidationTestHelper.addParentChildFamily(gedcom, "@F4@", d, d);
+
+        ValidationContext context = new ValidationContext(gedcom);
+        AncestryComponents ac = context.getAncestryComponents();
+        assertSame(ac, context.getAncestryComponents());
+        assertEquals(4, ac.getIndividualCount());
+        assertEquals(3, ac.getComponentCount());
+
+        int ab = ac.getComponent(ac.getNumber(a));
+        assertEquals(ab, ac.getComponent(ac.getNumber(b)));
+        assertEquals(2, ac.getMembers(ab).length);
+        assertTrue(ac.isCyclic(ab, context));
+        assertTrue(ac.isCyclic(ac.getComponent(ac.getNumber(d)), context));
+        assertFalse(ac.isCyclic(ac.getComponent(ac.getNumber(c)), context));
+        assertEquals(-1, ac.getNumber(new Individual()));
+    }
+
+    /**
+     * Test that every component comes after the components holding the ancestors of its members
+     */
+    @Test
+    public void testTopologicalOrder() {
+        Individual[] line = new Individual[1000];
+        for (int g = 0; g < line.length; g++) {
+            line[g] = ValidationTestHelper.addIndividual(gedcom, "@I" + g + "@");
+            if (g > 0) {
+                ValidationTestHelper.addParentChildFamily(gedcom, "@F" + g + "@", line[g - 1], line[g]);
+            }
+        }
+        Individual other = ValidationTestHelper.addIndividual(gedcom, "@X@");
+        ValidationTestHelper.addParentChildFamily(gedcom, "@FX@", other, line[500]);
+
+        ValidationContext context = new ValidationContext(gedcom);
+        AncestryComponents ac = context.getAncestryComponents();
+        assertEquals(line.length + 1, ac.getComponentCount());
+        for (int g = 1; g < line.length; g++) {
+            assertTrue(ac.getComponent(ac.getNumber(line[g - 1])) < ac.getComponent(ac.getNumber(line[g])));
+        }
+        assertTrue(ac.getComponent(ac.getNumber(other)) < ac.getComponent(ac.getNumber(line[500])));
+        for (int n = 0; n < ac.getIndividualCount(); n++) {
+            assertEquals(n, ac.getNumber(ac.getIndividual(n)));
+        }
+    }
+}
@@ -27,11 +27,15 @@
 package org.gedcom4j.validate;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import java.io.IOException;
+import java.util.List;
 
 import org.gedcom4j.exception.GedcomParserException;
 import org.gedcom4j.model.Individual;
+import org.gedcom4j.model.enumerations.IndividualEventType;
+import org.gedcom4j.validate.Validator.Finding;
 import org.junit.Test;
 
 /**
@@ -39,6 +43,57 @@ import org.junit.Test;
  *
  */
 public class BornBeforeAncestorsValidatorTest extends AbstractValidatorTestCase {
+
+    /**
+     * Test two people who are each other's parents - only the one born first is reported, and nobody is reported as their own
+     * ancestor
+     */
+    @Test
+    public void testCycle() {
+        Individual a = addIndividual("@A@", "1900");
+        Individual b = addIndividual("@B@", "1950");
+        ValidationTestHelper.addParentChildFamily(gedcom, "@F1@", a, b);
+        ValidationTestHelper.addParentChildFamily(gedcom, "@F2@", b, a);
+
+        new BornBeforeAncestorsValidator(validator).validate();
+
+        List<Finding> findings = validator.getResults().getByCode(ProblemCode.DESCENDANT_BORN_BEFORE_ANCESTOR);
+        assertEquals(1, findings.size());
+        assertSame(a, findings.get(0).getItemOfConcern());
+        assertEquals(1, findings.get(0).getRelatedItems().size());
+        assertSame(b, findings.get(0).getRelatedItems().get(0));
+    }
+
+    /**
+     * Test a very long line of descent, with one person in the middle born before all their ancestors. That person is reported
+     * once for each ancestor, and nobody else is reported.
+     */
+    @Test
+    public void testLongLine() {
+        int generations = 5000;
+        int middle = generations / 2;
+        Individual previous = null;
+        Individual early = null;
+        for (int g = 0; g < generations; g++) {
+            Individual next = addIndividual("@I" + g + "@", g == middle ? "900" : String.valueOf(1000 + g));
+            if (previous != null) {
+                ValidationTestHelper.addParentChildFamily(gedcom, "@F" + g + "@", previous, next);
+            }
+            if (g == middle) {
+                early = next;
+            }
+            previous = next;
+        }
+
+        new BornBeforeAncestorsValidator(validator).validate();
+
+        List<Finding> findings = validator.getResults().getByCode(ProblemCode.DESCENDANT_BORN_BEFORE_ANCESTOR);
+        assertEquals(middle, findings.size());
+        for (Finding f : findings) {
+            assertSame(early, f.getItemOfConcern());
+        }
+    }
+
     /**
      * Test for {@link BornBeforeAncestorsValidator} where there is no problem.
      *
@@ -70,4 +125,19 @@ public class BornBeforeAncestorsValidatorTest extends AbstractValidatorTestCase
 
         assertEquals(5, validator.getResults().getByCode(ProblemCode.DESCENDANT_BORN_BEFORE_ANCESTOR).size());
     }
+
+    /**
+     * Add an individual to the gedcom
+     * 
+     * @param xref
+     *            the xref of the individual
+     * @param birthDate
+     *            the date of the individual's birth
+     * @return the individual
+     */
+    private Individual addIndividual(String xref, String birthDate) {
+        Individual i = ValidationTestHelper.addIndividual(gedcom, xref);
+        ValidationTestHelper.addEvent(i, IndividualEventType.BIRTH, birthDate);
+        return i;
+    }
 }
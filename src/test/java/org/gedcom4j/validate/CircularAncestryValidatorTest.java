@@ -27,11 +27,19 @@
 package org.gedcom4j.validate;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import org.gedcom4j.exception.GedcomParserException;
 import org.gedcom4j.model.Individual;
+import org.gedcom4j.model.ModelElement;
+import org.gedcom4j.validate.Validator.Finding;
 import org.junit.Test;
 
 /**
@@ -41,6 +49,31 @@ import org.junit.Test;
  */
 public class CircularAncestryValidatorTest extends AbstractValidatorTestCase {
 
+    /**
+     * Test a cycle through a very long line of descent, which must not overflow the stack
+     */
+    @Test
+    public void testLongCycle() {
+        int generations = 50000;
+        Individual first = ValidationTestHelper.addIndividual(gedcom, "@I0@");
+        Individual previous = first;
+        for (int g = 1; g < generations; g++) {
+            Individual next = ValidationTestHelper.addIndividual(gedcom, "@I" + g + "@");
+            ValidationTestHelper.addParentChildFamily(gedcom, "@F" + g + "@", previous, next);
+            previous = next;
+        }
+
+        new CircularAncestryValidator(validator).validate();
+        assertTrue(validator.getResults().getByCode(ProblemCode.CIRCULAR_ANCESTRAL_RELATIONSHIP).isEmpty());
+
+        ValidationTestHelper.addParentChildFamily(gedcom, "@F0@", previous, first);
+        new CircularAncestryValidator(validator).validate();
+        List<Finding> findings = validator.getResults().getByCode(ProblemCode.CIRCULAR_ANCESTRAL_RELATIONSHIP);
+        assertEquals(1, findings.size());
+        assertEquals(generations, findings.get(0).getRelatedItems().size());
+        assertTrue(findings.get(0).getRelatedItems().contains(first));
+    }
+
     /**
      * Test for {@link CircularAncestryValidator} where there is no problem.
      *
@@ -57,6 +90,22 @@ public class CircularAncestryValidatorTest extends AbstractValidatorTestCase {
         assertNoIssues();
     }
 
+    /**
+     * Test someone who is their own parent
+     */
+    @Test
+    public void testOwnParent() {
+        Individual a = ValidationTestHelper.addIndividual(gedcom, "@A@");
+        ValidationTestHelper.addParentChildFamily(gedcom, "@F1@", a, a);
+
+        new CircularAncestryValidator(validator).validate();
+
+        List<Finding> findings = validator.getResults().getByCode(ProblemCode.CIRCULAR_ANCESTRAL_RELATIONSHIP);
+        assertEquals(1, findings.size());
+        assertSame(a, findings.get(0).getItemOfConcern());
+        assertEquals(1, findings.get(0).getRelatedItems().size());
+    }
+
     /**
      * Test for {@link CircularAncestryValidator} that finds the problem.
      *
@@ -73,7 +122,41 @@ public class CircularAncestryValidatorTest extends AbstractValidatorTestCase {
         assertFindingsContain(Severity.ERROR, Individual.class, ProblemCode.CIRCULAR_ANCESTRAL_RELATIONSHIP.getCode(),
                 "familiesWhereChild");
 
-        assertEquals(3, validator.getResults().getByCode(ProblemCode.CIRCULAR_ANCESTRAL_RELATIONSHIP).size());
+        // One cycle of three people, reported once
+        List<Finding> findings = validator.getResults().getByCode(ProblemCode.CIRCULAR_ANCESTRAL_RELATIONSHIP);
+        assertEquals(1, findings.size());
+        assertEquals(3, findings.get(0).getRelatedItems().size());
+        assertTrue(findings.get(0).getRelatedItems().contains(findings.get(0).getItemOfConcern()));
+    }
+
+    /**
+     * Test that two separate cycles are reported once each
+     */
+    @Test
+    public void testSeparateCycles() {
+        Individual a = ValidationTestHelper.addIndividual(gedcom, "@A@");
+        Individual b = ValidationTestHelper.addIndividual(gedcom, "@B@");
+        Individual c = ValidationTestHelper.addIndividual(gedcom, "@C@");
+        Individual d = ValidationTestHelper.addIndividual(gedcom, "@D@");
+        ValidationTestHelper.addIndividual(gedcom, "@E@");
+        ValidationTestHelper.addParentChildFamily(gedcom, "@F1@", c, d);
+        ValidationTestHelper.addParentChildFamily(gedcom, "@F2@", d, c);
+        ValidationTestHelper.addParentChildFamily(gedcom, "@F3@", a, b);
+        ValidationTestHelper.addParentChildFamily(gedcom, "@F4@", b, a);
+
+        new CircularAncestryValidator(validator).validate();
+
+        List<Finding> findings = validator.getResults().getByCode(ProblemCode.CIRCULAR_ANCESTRAL_RELATIONSHIP);
+        assertEquals(2, findings.size());
+        Set<Set<ModelElement>> cycles = new HashSet<>();
+        for (Finding f : findings) {
+            assertTrue(f.getRelatedItems().contains(f.getItemOfConcern()));
+            cycles.add(new HashSet<>(f.getRelatedItems()));
+        }
+        Set<Set<ModelElement>> expected = new HashSet<>();
+        expected.add(new HashSet<ModelElement>(Arrays.asList(a, b)));
+        expected.add(new HashSet<ModelElement>(Arrays.asList(c, d)));
+        assertEquals(expected, cycles);
     }
 
 }
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.validate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.model.Family;
+import org.gedcom4j.model.FamilyChild;
+import org.gedcom4j.model.Gedcom;
+import org.gedcom4j.model.Individual;
+import org.gedcom4j.model.IndividualEvent;
+import org.gedcom4j.model.IndividualReference;
+import org.gedcom4j.model.PersonalName;
+import org.gedcom4j.model.Repository;
+import org.gedcom4j.model.TestHelper;
+import org.gedcom4j.model.enumerations.IndividualEventType;
+import org.gedcom4j.validate.Validator.Finding;
+import org.junit.Test;
+
+/**
+ * Test for {@link IncrementalValidator}
+ * 
+ * @author frizbog
+ */
+public class IncrementalValidatorTest {
+
+    /**
+     * The sample files to validate
+     */
+    private static final String[] SAMPLE_FILES = { "sample/willis-ascii.ged", "sample/TGC551.ged", "sample/allged.ged",
+            "sample/problemFile.ged", "sample/RelationshipTest.ged" };
+
+    /**
+     * Test that a changed birth date is checked again - and that fixing it removes the finding
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     */
+    @Test
+    public void testChangedBirthDate() throws IOException, GedcomParserException {
+        Gedcom g = TestHelper.load("sample/problemFile.ged");
+        IncrementalValidator v = new IncrementalValidator(g);
+        v.validate();
+        int futureDates = v.getResults().getByCode(ProblemCode.DATE_IN_FUTURE).size();
+
+        Individual i = firstWithBirth(g);
+        IndividualEvent birth = i.getEventsOfType(IndividualEventType.BIRTH).get(0);
+        String oldDate = birth.getDate().getValue();
+        birth.setDate("1 JAN 2999");
+        v.revalidate(Collections.singletonList(i));
+        assertEquals(futureDates + 1, v.getResults().getByCode(ProblemCode.DATE_IN_FUTURE).size());
+        assertTrue(hasCode(v.getFindingsForRecord(i), ProblemCode.DATE_IN_FUTURE));
+
+        birth.setDate(oldDate);
+        v.revalidate(Collections.singletonList(i));
+        assertEquals(futureDates, v.getResults().getByCode(ProblemCode.DATE_IN_FUTURE).size());
+        assertFalse(hasCode(v.getFindingsForRecord(i), ProblemCode.DATE_IN_FUTURE));
+    }
+
+    /**
+     * Test that the findings for a record that has been removed from the gedcom are removed
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     */
+    @Test
+    public void testRemovedRecord() throws IOException, GedcomParserException {
+        Gedcom g = TestHelper.load("sample/problemFile.ged");
+        IncrementalValidator v = new IncrementalValidator(g);
+        v.validate();
+        Individual i = firstWithBirth(g);
+        i.getEventsOfType(IndividualEventType.BIRTH).get(0).setDate("1 JAN 2999");
+        v.revalidate(Collections.singletonList(i));
+        int findings = v.getResults().getAllFindings().size();
+        int forRecord = v.getFindingsForRecord(i).size();
+        assertTrue(forRecord > 0);
+
+        g.getIndividuals().remove(i.getXref());
+        v.revalidate(Collections.singletonList(i));
+        assertTrue(v.getFindingsForRecord(i).isEmpty());
+        assertEquals(findings - forRecord, v.getResults().getAllFindings().size());
+    }
+
+    /**
+     * Test that records other than individuals, families and sources are rejected
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsOtherRecords() {
+        IncrementalValidator v = new IncrementalValidator(new Gedcom());
+        v.validate();
+        v.revalidate(Collections.singletonList(new Repository()));
+    }
+
+    /**
+     * Test that validating on more than one thread is rejected
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void testRejectsParallelism() {
+        new IncrementalValidator(new Gedcom()).setParallelism(2);
+    }
+
+    /**
+     * Test that after changing some individuals and families and revalidating them, the results are the same as validating the
+     * changed gedcom from scratch
+     * 
+     * @throws IOException
+     *             if a file can't be read
+     * @throws GedcomParserException
+     *             if a file can't be parsed
+     */
+    @Test
+    public void testSameAsFullValidation() throws IOException, GedcomParserException {
+        for (String fileName : SAMPLE_FILES) {
+            Gedcom g = TestHelper.load(fileName);
+            IncrementalValidator incremental = newValidatorLimitedToImmediateFamily(g);
+            incremental.validate();
+
+            List<Object> changed = new ArrayList<>();
+            int n = 0;
+            for (Individual i : g.getIndividuals().values()) {
+                if (n++ % 3 != 0) {
+                    continue;
+                }
+                for (IndividualEvent e : i.getEventsOfType(IndividualEventType.BIRTH)) {
+                    e.setDate(n % 2 == 0 ? "1 JAN 2999" : null);
+                }
+                for (PersonalName pn : i.getNames(true)) {
+                    pn.setSurname("Changed");
+                }
+                changed.add(i);
+            }
+            for (Family f : g.getFamilies().values()) {
+                if (f.getChildren() != null && !f.getChildren().isEmpty()) {
+                    IndividualReference kid = f.getChildren().remove(0);
+                    if (kid.getIndividual().getFamiliesWhereChild() != null) {
+                        for (FamilyChild fc : new ArrayList<>(kid.getIndividual().getFamiliesWhereChild())) {
+                            if (fc.getFamily() == f) {
+                                kid.getIndividual().getFamiliesWhereChild().remove(fc);
+                            }
+                        }
+                    }
+                    changed.add(f);
+                    changed.add(kid.getIndividual());
+                    break;
+                }
+            }
+            List<Individual> changedIndividuals = new ArrayList<>();
+            List<Family> changedFamilies = new ArrayList<>();
+            for (Object o : changed) {
+                if (o instanceof Individual) {
+                    changedIndividuals.add((Individual) o);
+                } else {
+                    changedFamilies.add((Family) o);
+                }
+            }
+            incremental.revalidate(changedIndividuals);
+            incremental.revalidate(changedFamilies);
+
+            IncrementalValidator full = newValidatorLimitedToImmediateFamily(g);
+            full.validate();
+            assertEquals(fileName, ValidationTestHelper.describeUnordered(full.getResults().getAllFindings()), ValidationTestHelper
+                    .describeUnordered(incremental.getResults().getAllFindings()));
+            for (Individual i : g.getIndividuals().values()) {
+                assertEquals(fileName, ValidationTestHelper.describeUnordered(full.getFindingsForRecord(i)), ValidationTestHelper
+                        .describeUnordered(incremental.getFindingsForRecord(i)));
+            }
+        }
+    }
+
+    /**
+     * Find the first individual with a birth date
+     * 
+     * @param g
+     *            the gedcom
+     * @return the first individual with a birth date
+     */
+    private Individual firstWithBirth(Gedcom g) {
+        for (Individual i : g.getIndividuals().values()) {
+            List<IndividualEvent> births = i.getEventsOfType(IndividualEventType.BIRTH);
+            if (!births.isEmpty() && births.get(0).getDate() != null) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("No individual with a birth date");
+    }
+
+    /**
+     * Do any of the findings have a problem code?
+     * 
+     * @param findings
+     *            the findings
+     * @param code
+     *            the problem code
+     * @return true if any of the findings have the problem code
+     */
+    private boolean hasCode(List<Finding> findings, ProblemCode code) {
+        for (Finding f : findings) {
+            if (f.getProblemCode() == code.getCode()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Make an incremental validator without the supplementary validators that look beyond immediate family, whose findings are
+     * only brought up to date by a full validation
+     * 
+     * @param g
+     *            the gedcom
+     * @return the validator
+     */
+    private IncrementalValidator newValidatorLimitedToImmediateFamily(Gedcom g) {
+        IncrementalValidator result = new IncrementalValidator(g);
+        result.getSupplementaryValidators().removeAll(Arrays.asList(BornBeforeAncestorsValidator.class,
+                CircularAncestryValidator.class));
+        return result;
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.validate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.gedcom4j.model.Family;
+import org.gedcom4j.model.FamilyChild;
+import org.gedcom4j.model.Gedcom;
+import org.gedcom4j.model.Individual;
+import org.gedcom4j.model.IndividualEvent;
+import org.gedcom4j.model.IndividualReference;
+import org.gedcom4j.model.enumerations.IndividualEventType;
+import org.gedcom4j.parser.DateParser;
+import org.gedcom4j.parser.DateParser.ImpreciseDatePreference;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for {@link ValidationContext}
+ * 
+ * @author frizbog
+ */
+public class ValidationContextTest {
+
+    /**
+     * A supplementary validator that records the context it is given in {@link ValidationContextTest#seenContexts}
+     */
+    public static class FirstContextRecorder extends AbstractValidator {
+        /**
+         * Serial Version UID
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Constructor
+         * 
+         * @param validator
+         *            the root validator
+         */
+        public FirstContextRecorder(Validator validator) {
+            super(validator);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void validate() {
+            seenContexts.add(getContext());
+        }
+    }
+
+    /**
+     * Another supplementary validator that records the context it is given in {@link ValidationContextTest#seenContexts}
+     */
+    public static class SecondContextRecorder extends FirstContextRecorder {
+        /**
+         * Serial Version UID
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Constructor
+         * 
+         * @param validator
+         *            the root validator
+         */
+        public SecondContextRecorder(Validator validator) {
+            super(validator);
+        }
+    }
+
+    /**
+     * The contexts seen by the supplementary validators
+     */
+    private static final List<ValidationContext> seenContexts = new ArrayList<>();
+
+    /**
+     * A child, with two births recorded
+     */
+    private Individual child;
+
+    /**
+     * The child's earlier birth
+     */
+    private IndividualEvent earlierBirth;
+
+    /**
+     * The father
+     */
+    private Individual father;
+
+    /**
+     * The gedcom
+     */
+    private Gedcom gedcom;
+
+    /**
+     * The child's later birth
+     */
+    private IndividualEvent laterBirth;
+
+    /**
+     * The mother
+     */
+    private Individual mother;
+
+    /**
+     * Set up a family of three
+     */
+    @Before
+    public void setUp() {
+        gedcom = new Gedcom();
+        father = ValidationTestHelper.addIndividual(gedcom, "@I1@");
+        mother = ValidationTestHelper.addIndividual(gedcom, "@I2@");
+        child = ValidationTestHelper.addIndividual(gedcom, "@I3@");
+        earlierBirth = ValidationTestHelper.addEvent(child, IndividualEventType.BIRTH, "BEF 1900");
+        laterBirth = ValidationTestHelper.addEvent(child, IndividualEventType.BIRTH, "ABT 1901");
+        ValidationTestHelper.addEvent(child, IndividualEventType.CHRISTENING, "5 MAY 1901");
+
+        Family f = ValidationTestHelper.addParentChildFamily(gedcom, "@F1@", father, child);
+        f.setWife(new IndividualReference(mother));
+        f.getChildren(true).add(new IndividualReference(child));
+    }
+
+    /**
+     * Test that the dates of births are parsed once and then shared, and that dates of other events are parsed when asked for
+     */
+    @Test
+    public void testDates() {
+        ValidationContext context = new ValidationContext(gedcom);
+        DateParser dp = new DateParser();
+        for (ImpreciseDatePreference pref : ImpreciseDatePreference.values()) {
+            assertEquals(dp.parse("BEF 1900", pref), context.getDate(earlierBirth, pref));
+        }
+        assertSame(context.getDate(earlierBirth, ImpreciseDatePreference.FAVOR_LATEST), context.getDate(earlierBirth,
+                ImpreciseDatePreference.FAVOR_LATEST));
+
+        IndividualEvent christening = child.getEventsOfType(IndividualEventType.CHRISTENING).get(0);
+        assertEquals(dp.parse("5 MAY 1901"), context.getDate(christening, ImpreciseDatePreference.PRECISE));
+        assertNull(context.getDate(null, ImpreciseDatePreference.PRECISE));
+    }
+
+    /**
+     * Test finding the earliest and latest events of a type
+     */
+    @Test
+    public void testEarliestAndLatestEvents() {
+        ValidationContext context = new ValidationContext(gedcom);
+        assertSame(earlierBirth, context.getEarliestEventOfType(child, IndividualEventType.BIRTH));
+        assertSame(laterBirth, context.getLatestEventOfType(child, IndividualEventType.BIRTH));
+        assertNull(context.getEarliestEventOfType(child, IndividualEventType.DEATH));
+        assertNull(context.getLatestEventOfType(father, IndividualEventType.BIRTH));
+        assertNull(context.getEarliestEventOfType(null, IndividualEventType.BIRTH));
+        assertEquals(IndividualEventType.CHRISTENING, context.getEarliestEventOfType(child, IndividualEventType.CHRISTENING)
+                .getType());
+
+        // Individuals not in the gedcom are worked out when asked for
+        Individual stranger = new Individual();
+        IndividualEvent strangerBirth = ValidationTestHelper.addEvent(stranger, IndividualEventType.BIRTH, "1 JAN 1950");
+        assertSame(strangerBirth, context.getLatestEventOfType(stranger, IndividualEventType.BIRTH));
+    }
+
+    /**
+     * Test the parents and children of each individual, each of which is only listed once, whether the link is given by the
+     * family's children or by the individual's families where child
+     */
+    @Test
+    public void testParentsAndChildren() {
+        Individual grandfather = ValidationTestHelper.addIndividual(gedcom, "@I4@");
+        Family f = new Family();
+        f.setXref("@F2@");
+        f.setHusband(new IndividualReference(grandfather));
+        gedcom.getFamilies().put(f.getXref(), f);
+        FamilyChild fc = new FamilyChild();
+        fc.setFamily(f);
+        father.getFamiliesWhereChild(true).add(fc);
+
+        ValidationContext context = new ValidationContext(gedcom);
+        assertEquals(Arrays.asList(father, mother), context.getParents(child));
+        assertEquals(Arrays.asList(child), context.getChildren(father));
+        assertEquals(Arrays.asList(child), context.getChildren(mother));
+        assertEquals(Arrays.asList(grandfather), context.getParents(father));
+        assertEquals(Arrays.asList(father), context.getChildren(grandfather));
+        assertTrue(context.getParents(mother).isEmpty());
+        assertTrue(context.getChildren(child).isEmpty());
+    }
+
+    /**
+     * Test that the validator only shares one context while it is validating
+     */
+    @Test
+    public void testSharedOnlyWhileValidating() {
+        Validator v = new Validator(gedcom);
+        assertNotSame(v.getContext(), v.getContext());
+
+        seenContexts.clear();
+        v.getSupplementaryValidators().clear();
+        v.getSupplementaryValidators().add(FirstContextRecorder.class);
+        v.getSupplementaryValidators().add(SecondContextRecorder.class);
+        v.validate();
+        assertEquals(2, seenContexts.size());
+        assertSame(seenContexts.get(0), seenContexts.get(1));
+
+        v.validate();
+        assertEquals(4, seenContexts.size());
+        assertNotSame(seenContexts.get(0), seenContexts.get(2));
+    }
+}
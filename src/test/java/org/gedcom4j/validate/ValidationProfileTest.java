@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.validate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.model.Gedcom;
+import org.gedcom4j.model.Individual;
+import org.gedcom4j.parser.GedcomParser;
+import org.gedcom4j.validate.ValidationProfile.ValidatorProfile;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for {@link ValidationProfile}
+ * 
+ * @author frizbog
+ */
+public class ValidationProfileTest {
+
+    /**
+     * Test fixture
+     */
+    private Gedcom g;
+
+    /**
+     * Set up the test fixtures
+     *
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     */
+    @Before
+    public void setUp() throws IOException, GedcomParserException {
+        GedcomParser gp = new GedcomParser();
+        gp.load("sample/TGC551.ged");
+        g = gp.getGedcom();
+    }
+
+    /**
+     * Test that the bytes allocated are only measured when asked for
+     */
+    @Test
+    public void testAllocations() {
+        Validator v = new Validator(g);
+        v.setProfiling(true);
+        v.validate();
+        assertFalse(v.getProfile().isAllocationsMeasured());
+        assertEquals(-1, v.getProfile().getValidatorProfile(IndividualValidator.class).getAllocatedBytes());
+
+        v.setProfilingAllocations(true);
+        v.validate();
+        ValidationProfile p = v.getProfile();
+        for (ValidatorProfile vp : p.getValidatorProfiles()) {
+            assertEquals(vp.toString(), p.isAllocationsMeasured(), vp.getAllocatedBytes() >= 0);
+        }
+    }
+
+    /**
+     * Test that there is no profile unless profiling is turned on
+     */
+    @Test
+    public void testNotProfiling() {
+        Validator v = new Validator(g);
+        v.validate();
+        assertNull(v.getProfile());
+
+        v.setProfiling(true);
+        v.validate();
+        assertNotNull(v.getProfile());
+
+        v.setProfiling(false);
+        v.validate();
+        assertNull(v.getProfile());
+    }
+
+    /**
+     * Test that each kind of validator is counted once for each time it is run, with the findings it made, whether validating on
+     * one thread or several
+     */
+    @Test
+    public void testProfile() {
+        for (int parallelism = 1; parallelism <= 4; parallelism += 3) {
+            Validator v = new Validator(g);
+            v.setProfiling(true);
+            v.setParallelism(parallelism);
+            v.validate();
+            ValidationProfile p = v.getProfile();
+
+            assertEquals(g.getIndividuals().size(), p.getValidatorProfile(IndividualValidator.class).getInvocations());
+            assertEquals(g.getFamilies().size(), p.getValidatorProfile(FamilyValidator.class).getInvocations());
+            assertEquals(1, p.getValidatorProfile(HeaderValidator.class).getInvocations());
+            for (Class<? extends AbstractValidator> avc : v.getSupplementaryValidators()) {
+                assertEquals(avc.getName(), 1, p.getValidatorProfile(avc).getInvocations());
+            }
+            assertNull(p.getValidatorProfile(PersonalNameValidator.class));
+
+            List<ValidatorProfile> all = p.getValidatorProfiles();
+            int findings = 0;
+            for (int i = 0; i < all.size(); i++) {
+                findings += all.get(i).getFindings();
+                if (i > 0) {
+                    assertTrue(all.get(i - 1).getNanoseconds() >= all.get(i).getNanoseconds());
+                }
+            }
+            assertTrue(findings > 0);
+            assertTrue(findings <= v.getResults().getAllFindings().size());
+            assertTrue(p.getValidationNanoseconds() > 0);
+        }
+    }
+
+    /**
+     * Test that revalidating with an {@link IncrementalValidator} profiles just the revalidation
+     */
+    @Test
+    public void testRevalidate() {
+        IncrementalValidator v = new IncrementalValidator(g);
+        v.setProfiling(true);
+        v.validate();
+        Individual i = g.getIndividuals().values().iterator().next();
+        v.revalidate(Arrays.asList(i));
+
+        ValidationProfile p = v.getProfile();
+        assertEquals(1, p.getValidatorProfile(IndividualValidator.class).getInvocations());
+        assertNull(p.getValidatorProfile(HeaderValidator.class));
+    }
+
+}
@@ -29,9 +29,12 @@ package org.gedcom4j.validate;
 import static org.junit.Assert.assertEquals;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
 
 import org.gedcom4j.exception.GedcomParserException;
 import org.gedcom4j.model.Gedcom;
+import org.gedcom4j.model.Individual;
 import org.gedcom4j.parser.GedcomParser;
 import org.gedcom4j.validate.Validator.Finding;
 import org.junit.Before;
@@ -79,6 +82,35 @@ public class ValidationResultsTest {
         assertEquals(0, vr.getAllFindings().size());
     }
 
+    /**
+     * Test that {@link ValidationResults#getByCode(int)} and {@link ValidationResults#getBySeverity(Severity)} stay up to date as
+     * findings are added and removed after they have been called
+     */
+    @Test
+    public void testGetByCodeAndSeverityKeptUpToDate() {
+        Validator v = new Validator(g);
+        ValidationResults vr = v.getResults();
+        Finding f1 = v.newFinding(g.getIndividuals().get("@I1@"), Severity.ERROR, ProblemCode.ILLEGAL_VALUE, null);
+        assertEquals(Arrays.asList(f1), vr.getByCode(ProblemCode.ILLEGAL_VALUE));
+        assertEquals(Arrays.asList(f1), vr.getBySeverity(Severity.ERROR));
+
+        Finding f2 = v.newFinding(g.getIndividuals().get("@I2@"), Severity.WARNING, ProblemCode.ILLEGAL_VALUE, null);
+        Finding f3 = v.newFinding(g.getIndividuals().get("@I3@"), Severity.ERROR, ProblemCode.DUPLICATE_VALUE, null);
+        assertEquals(Arrays.asList(f1, f2), vr.getByCode(ProblemCode.ILLEGAL_VALUE));
+        assertEquals(Arrays.asList(f1, f3), vr.getBySeverity(Severity.ERROR));
+
+        vr.removeAll(Arrays.asList(f1));
+        assertEquals(Arrays.asList(f2), vr.getByCode(ProblemCode.ILLEGAL_VALUE));
+        assertEquals(Arrays.asList(f3), vr.getBySeverity(Severity.ERROR));
+
+        vr.getAllFindings().add(f1);
+        assertEquals(2, vr.getByCode(ProblemCode.ILLEGAL_VALUE).size());
+
+        vr.clear();
+        assertEquals(0, vr.getByCode(ProblemCode.ILLEGAL_VALUE).size());
+        assertEquals(0, vr.getBySeverity(Severity.ERROR).size());
+    }
+
     /**
      * Test method for {@link ValidationResults#getByCode(ProblemCode)}
      */
@@ -170,6 +202,43 @@ public class ValidationResultsTest {
         assertEquals(0, vr.getFindingsForObject(g.getFamilies().get("@F1@")).size());
     }
 
+    /**
+     * Test that findings are kept for the object they were made on, not for other objects equal to it, and are still found after
+     * the object is changed
+     */
+    @Test
+    public void testGetFindingsForObjectByIdentity() {
+        Validator v = new Validator(g);
+        ValidationResults vr = v.getResults();
+        Individual i = g.getIndividuals().get("@I1@");
+        v.newFinding(i, Severity.INFO, ProblemCode.DUPLICATE_VALUE, null);
+        assertEquals(0, vr.getFindingsForObject(new Individual(i)).size());
+        i.setRecIdNumber("123");
+        assertEquals(1, vr.getFindingsForObject(i).size());
+    }
+
+    /**
+     * Test method for {@link ValidationResults#removeAll(java.util.Collection)}
+     */
+    @Test
+    public void testRemoveAll() {
+        Validator v = new Validator(g);
+        ValidationResults vr = v.getResults();
+        Finding f1 = v.newFinding(g.getIndividuals().get("@I1@"), Severity.INFO, ProblemCode.DUPLICATE_VALUE, null);
+        Finding f2 = v.newFinding(g.getIndividuals().get("@I2@"), Severity.WARNING, ProblemCode.ILLEGAL_VALUE, null);
+        Finding f3 = v.newFinding(g.getIndividuals().get("@I3@"), Severity.ERROR, ProblemCode.MISSING_REQUIRED_VALUE, null);
+        Finding f4 = v.newFinding(g.getIndividuals().get("@I3@"), Severity.ERROR, ProblemCode.ILLEGAL_VALUE, null);
+
+        vr.removeAll(Arrays.asList(f1, f3));
+        assertEquals(new HashSet<>(Arrays.asList(f2, f4)), new HashSet<>(vr.getAllFindings()));
+        assertEquals(0, vr.getFindingsForObject(g.getIndividuals().get("@I1@")).size());
+        assertEquals(Arrays.asList(f4), vr.getFindingsForObject(g.getIndividuals().get("@I3@")));
+
+        Finding f5 = v.newFinding(g.getIndividuals().get("@I1@"), Severity.INFO, ProblemCode.DUPLICATE_VALUE, null);
+        vr.removeAll(Arrays.asList(f4, f2));
+        assertEquals(Arrays.asList(f5), vr.getAllFindings());
+    }
+
     /**
      * Test {@link ValidationResults#toString()}
      */
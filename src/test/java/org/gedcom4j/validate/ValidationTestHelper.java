@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.validate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.gedcom4j.model.Family;
+import org.gedcom4j.model.Gedcom;
+import org.gedcom4j.model.Individual;
+import org.gedcom4j.model.IndividualEvent;
+import org.gedcom4j.model.IndividualReference;
+import org.gedcom4j.model.enumerations.IndividualEventType;
+import org.gedcom4j.validate.Validator.Finding;
+
+/**
+ * Utility class for building small gedcoms to validate, and for comparing the findings of different validations, in tests
+ * 
+ * @author frizbog
+ */
+final class ValidationTestHelper {
+
+    /**
+     * Sample files with a good variety of findings, for comparing different ways of validating
+     */
+    static final String[] SAMPLE_FILES = { "sample/willis-ascii.ged", "sample/TGC551.ged", "sample/TGC55C.ged",
+            "sample/allged.ged", "sample/5.5.1 sample 1.ged", "sample/problemFile.ged", "sample/RelationshipTest.ged" };
+
+    /**
+     * Add an event to an individual
+     * 
+     * @param i
+     *            the individual
+     * @param type
+     *            the type of event
+     * @param date
+     *            the date of the event
+     * @return the event
+     */
+    static IndividualEvent addEvent(Individual i, IndividualEventType type, String date) {
+        IndividualEvent e = new IndividualEvent();
+        e.setType(type);
+        e.setDate(date);
+        i.getEvents(true).add(e);
+        return e;
+    }
+
+    /**
+     * Add an individual to a gedcom
+     * 
+     * @param g
+     *            the gedcom
+     * @param xref
+     *            the xref of the individual
+     * @return the individual
+     */
+    static Individual addIndividual(Gedcom g, String xref) {
+        Individual i = new Individual();
+        i.setXref(xref);
+        g.getIndividuals().put(xref, i);
+        return i;
+    }
+
+    /**
+     * Add a family with one parent and one child to a gedcom
+     * 
+     * @param g
+     *            the gedcom
+     * @param xref
+     *            the xref of the family
+     * @param father
+     *            the father
+     * @param child
+     *            the child
+     * @return the family
+     */
+    static Family addParentChildFamily(Gedcom g, String xref, Individual father, Individual child) {
+        Family f = new Family();
+        f.setXref(xref);
+        f.setHusband(new IndividualReference(father));
+        f.getChildren(true).add(new IndividualReference(child));
+        g.getFamilies().put(xref, f);
+        return f;
+    }
+
+    /**
+     * Describe a finding in a way that can be compared between two copies of the same gedcom
+     * 
+     * @param f
+     *            the finding
+     * @return a description of the finding
+     */
+    static String describe(Finding f) {
+        return f.getSeverity() + " " + f.getProblemCode() + " " + f.getFieldNameOfConcern() + " " + f.getItemOfConcern().getClass()
+                .getSimpleName() + " " + (f.getRepairs() == null ? 0 : f.getRepairs().size());
+    }
+
+    /**
+     * Describe the findings in a way that can be compared between two copies of the same gedcom
+     * 
+     * @param findings
+     *            the findings
+     * @return a description of each finding, in order
+     */
+    static List<String> describe(List<Finding> findings) {
+        List<String> result = new ArrayList<>(findings.size());
+        for (Finding f : findings) {
+            result.add(describe(f));
+        }
+        return result;
+    }
+
+    /**
+     * Describe the findings of two validations of the same gedcom in a way that can be compared regardless of order, telling
+     * the items of concern apart by identity
+     * 
+     * @param findings
+     *            the findings
+     * @return a description of each finding, sorted
+     */
+    static List<String> describeUnordered(List<Finding> findings) {
+        List<String> result = new ArrayList<>(findings.size());
+        for (Finding f : findings) {
+            result.add(describe(f) + " " + System.identityHashCode(f.getItemOfConcern()));
+        }
+        Collections.sort(result);
+        return result;
+    }
+
+    /**
+     * Private constructor to prevent instantiation and subclassing
+     */
+    private ValidationTestHelper() {
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.validate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.gedcom4j.Options;
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.model.Gedcom;
+import org.gedcom4j.model.TestHelper;
+import org.gedcom4j.validate.Validator.Finding;
+import org.junit.Test;
+
+/**
+ * Test for {@link Validator#setFindingSink(FindingSink)}, {@link Validator#setMaxErrors(int)} and
+ * {@link Validator#setSkipInfoChecks(boolean)}
+ * 
+ * @author frizbog
+ */
+public class ValidatorLimitsTest {
+
+    /**
+     * A sink that keeps the findings passed to it, with a description of each one made when it was passed
+     */
+    private static final class ListSink implements FindingSink {
+        /**
+         * The description of each finding, made when it was passed to the sink
+         */
+        private final List<String> descriptions = new ArrayList<>();
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void add(Finding finding) {
+            descriptions.add(ValidationTestHelper.describe(finding));
+        }
+    }
+
+    /**
+     * Test that findings passed to a sink are the same, in the same order and with the same repairs, as those kept in the results
+     * when there is no sink - whether validating on one thread or several
+     * 
+     * @throws IOException
+     *             if a file can't be read
+     * @throws GedcomParserException
+     *             if a file can't be parsed
+     */
+    @Test
+    public void testFindingSink() throws IOException, GedcomParserException {
+        for (String fileName : ValidationTestHelper.SAMPLE_FILES) {
+            Validator withoutSink = new Validator(TestHelper.load(fileName));
+            withoutSink.setAutoRepairResponder(Validator.AUTO_REPAIR_ALL);
+            withoutSink.validate();
+            List<String> expected = ValidationTestHelper.describe(withoutSink.getResults().getAllFindings());
+            assertFalse(fileName, expected.isEmpty());
+
+            for (int parallelism = 1; parallelism <= 4; parallelism += 3) {
+                Validator withSink = new Validator(TestHelper.load(fileName));
+                withSink.setAutoRepairResponder(Validator.AUTO_REPAIR_ALL);
+                withSink.setParallelism(parallelism);
+                ListSink sink = new ListSink();
+                withSink.setFindingSink(sink);
+                withSink.validate();
+
+                assertEquals(fileName, expected, sink.descriptions);
+                assertTrue(fileName, withSink.getResults().getAllFindings().isEmpty());
+            }
+        }
+    }
+
+    /**
+     * Test that validation stops at the same finding, whether validating on one thread or several, once the maximum number of
+     * errors has been found
+     * 
+     * @throws IOException
+     *             if a file can't be read
+     * @throws GedcomParserException
+     *             if a file can't be parsed
+     */
+    @Test
+    public void testMaxErrors() throws IOException, GedcomParserException {
+        boolean anyLimited = false;
+        for (String fileName : ValidationTestHelper.SAMPLE_FILES) {
+            Gedcom g = TestHelper.load(fileName);
+            Validator unlimited = new Validator(g);
+            unlimited.validate();
+            assertFalse(unlimited.isMaxErrorsReached());
+            List<Finding> all = unlimited.getResults().getAllFindings();
+            int errors = unlimited.getResults().getBySeverity(Severity.ERROR).size();
+            if (errors < 2) {
+                continue;
+            }
+            anyLimited = true;
+            int maxErrors = errors / 2;
+            List<String> expected = new ArrayList<>();
+            int errorsSoFar = 0;
+            for (Finding f : all) {
+                expected.add(ValidationTestHelper.describe(f));
+                if (f.getSeverity() == Severity.ERROR && ++errorsSoFar == maxErrors) {
+                    break;
+                }
+            }
+
+            for (int parallelism = 1; parallelism <= 4; parallelism += 3) {
+                Validator limited = new Validator(g);
+                limited.setMaxErrors(maxErrors);
+                limited.setParallelism(parallelism);
+                limited.validate();
+
+                assertTrue(fileName, limited.isMaxErrorsReached());
+                assertEquals(fileName, expected, ValidationTestHelper.describe(limited.getResults().getAllFindings()));
+                assertEquals(fileName, maxErrors, limited.getResults().getBySeverity(Severity.ERROR).size());
+            }
+        }
+        assertTrue(anyLimited);
+    }
+
+    /**
+     * Test that nothing is repaired once the maximum number of errors has been found - only the findings that were reported may
+     * have been repaired
+     */
+    @Test
+    public void testMaxErrorsStopsRepairs() {
+        for (int parallelism = 1; parallelism <= 4; parallelism += 3) {
+            Gedcom g = new Gedcom();
+            g.setTrailer(null);
+            g.getHeader().setCharacterSet(null);
+            g.getHeader().setSourceSystem(null);
+            final List<Finding> asked = new ArrayList<>();
+            Validator v = new Validator(g);
+            v.setAutoRepairResponder(new AutoRepairResponder() {
+                /**
+                 * Serial Version UID
+                 */
+                private static final long serialVersionUID = 1L;
+
+                /**
+                 * {@inheritDoc}
+                 */
+                @Override
+                public boolean mayRepair(Finding repairableValidationFinding) {
+                    asked.add(repairableValidationFinding);
+                    return true;
+                }
+            });
+            v.setMaxErrors(1);
+            v.setParallelism(parallelism);
+            v.validate();
+
+            assertTrue(v.isMaxErrorsReached());
+            List<Finding> reported = v.getResults().getAllFindings();
+            assertEquals(1, reported.size());
+            for (Finding f : asked) {
+                assertSame(reported.get(0), f);
+            }
+            assertNull(g.getHeader().getSourceSystem());
+            assertNull(g.getTrailer());
+        }
+    }
+
+    /**
+     * Test that a negative maximum number of errors is rejected
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeMaxErrors() {
+        new Validator(new Gedcom()).setMaxErrors(-1);
+    }
+
+    /**
+     * Test that skipping INFO checks makes all the other findings, and no INFO findings
+     * 
+     * @throws IOException
+     *             if a file can't be read
+     * @throws GedcomParserException
+     *             if a file can't be parsed
+     */
+    @Test
+    public void testSkipInfoChecks() throws IOException, GedcomParserException {
+        boolean anyInfo = false;
+        for (String fileName : ValidationTestHelper.SAMPLE_FILES) {
+            Gedcom g = TestHelper.load(fileName);
+            Options.setCollectionInitializationEnabled(true); // So that uninitialized collections are INFO findings
+            try {
+                Validator all = new Validator(g);
+                all.validate();
+                anyInfo |= !all.getResults().getBySeverity(Severity.INFO).isEmpty();
+                List<String> expected = new ArrayList<>();
+                for (Finding f : all.getResults().getAllFindings()) {
+                    if (f.getSeverity() != Severity.INFO) {
+                        expected.add(ValidationTestHelper.describe(f));
+                    }
+                }
+
+                Validator skipping = new Validator(g);
+                skipping.setSkipInfoChecks(true);
+                skipping.validate();
+
+                assertEquals(fileName, expected, ValidationTestHelper.describe(skipping.getResults().getAllFindings()));
+                assertTrue(fileName, skipping.getResults().getBySeverity(Severity.INFO).isEmpty());
+            } finally {
+                Options.resetToDefaults();
+            }
+        }
+        assertTrue(anyInfo);
+    }
+}
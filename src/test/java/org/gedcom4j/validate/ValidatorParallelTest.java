@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.validate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.model.Gedcom;
+import org.gedcom4j.model.Individual;
+import org.gedcom4j.model.TestHelper;
+import org.gedcom4j.validate.Validator.Finding;
+import org.junit.Test;
+
+/**
+ * Test for validating with {@link Validator#setParallelism(int)} set to more than 1
+ * 
+ * @author frizbog
+ */
+public class ValidatorParallelTest {
+
+    /**
+     * Test that a negative parallelism is rejected
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeParallelism() {
+        new Validator(new Gedcom()).setParallelism(-1);
+    }
+
+    /**
+     * Test that repairs of null entries in the maps of records are still made when validating in parallel
+     */
+    @Test
+    public void testRepairsNullEntries() {
+        Gedcom g = new Gedcom();
+        for (int i = 0; i < 200; i++) {
+            Individual individual = new Individual();
+            individual.setXref("@I" + i + "@");
+            g.getIndividuals().put(individual.getXref(), individual);
+        }
+        g.getIndividuals().put("@NULL@", null);
+        Validator v = new Validator(g);
+        v.setAutoRepairResponder(Validator.AUTO_REPAIR_ALL);
+        v.setParallelism(3);
+        v.validate();
+
+        assertFalse(g.getIndividuals().containsKey("@NULL@"));
+        assertEquals(200, g.getIndividuals().size());
+        assertFalse(v.getResults().getByCode(ProblemCode.LIST_WITH_NULL_VALUE).isEmpty());
+    }
+
+    /**
+     * Test that validating in parallel with auto-repair allowed makes the same findings and the same repairs as validating on one
+     * thread
+     * 
+     * @throws IOException
+     *             if a file can't be read
+     * @throws GedcomParserException
+     *             if a file can't be parsed
+     */
+    @Test
+    public void testRepairsSameAsSequential() throws IOException, GedcomParserException {
+        for (String fileName : ValidationTestHelper.SAMPLE_FILES) {
+            Gedcom sequentialGedcom = TestHelper.load(fileName);
+            Validator sequential = new Validator(sequentialGedcom);
+            sequential.setAutoRepairResponder(Validator.AUTO_REPAIR_ALL);
+            sequential.validate();
+
+            Gedcom parallelGedcom = TestHelper.load(fileName);
+            Validator parallel = new Validator(parallelGedcom);
+            parallel.setAutoRepairResponder(Validator.AUTO_REPAIR_ALL);
+            parallel.setParallelism(4);
+            parallel.validate();
+
+            assertEquals(fileName, ValidationTestHelper.describe(sequential.getResults().getAllFindings()), ValidationTestHelper
+                    .describe(parallel.getResults().getAllFindings()));
+            assertEquals(fileName, sequentialGedcom, parallelGedcom);
+        }
+    }
+
+    /**
+     * Test that validating in parallel makes the same findings, in the same order, as validating on one thread
+     * 
+     * @throws IOException
+     *             if a file can't be read
+     * @throws GedcomParserException
+     *             if a file can't be parsed
+     */
+    @Test
+    public void testSameAsSequential() throws IOException, GedcomParserException {
+        for (String fileName : ValidationTestHelper.SAMPLE_FILES) {
+            Gedcom g = TestHelper.load(fileName);
+            Validator sequential = new Validator(g);
+            sequential.validate();
+            List<Finding> expected = sequential.getResults().getAllFindings();
+            assertTrue(fileName, expected.size() > 0);
+
+            Validator parallel = new Validator(g);
+            parallel.setParallelism(4);
+            parallel.validate();
+            List<Finding> actual = parallel.getResults().getAllFindings();
+
+            assertEquals(fileName, expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                Finding e = expected.get(i);
+                Finding a = actual.get(i);
+                assertSame(fileName, e.getItemOfConcern(), a.getItemOfConcern());
+                assertEquals(fileName, e.getProblemCode(), a.getProblemCode());
+                assertEquals(fileName, e.getSeverity(), a.getSeverity());
+                assertEquals(fileName, e.getFieldNameOfConcern(), a.getFieldNameOfConcern());
+            }
+        }
+    }
+
+    /**
+     * Test that a parallelism of zero is rejected
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroParallelism() {
+        new Validator(new Gedcom()).setParallelism(0);
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.writer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.exception.GedcomWriterException;
+import org.gedcom4j.io.writer.LineTerminator;
+import org.gedcom4j.model.Family;
+import org.gedcom4j.model.Gedcom;
+import org.gedcom4j.model.Individual;
+import org.gedcom4j.model.PersonalName;
+import org.gedcom4j.model.TestHelper;
+import org.junit.Test;
+
+/**
+ * Test for {@link EmittedRecordCache}
+ * 
+ * @author frizbog
+ */
+public class EmittedRecordCacheTest {
+
+    /**
+     * The cache being tested
+     */
+    private final EmittedRecordCache classUnderTest = new EmittedRecordCache();
+
+    /**
+     * Test that a change to a record that is marked as changed is written
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     * @throws GedcomWriterException
+     *             if the data can't be written
+     */
+    @Test
+    public void testChangedRecord() throws IOException, GedcomParserException, GedcomWriterException {
+        Gedcom g = TestHelper.load("sample/willis-ascii.ged");
+        writeWithCache(g);
+
+        Individual changed = g.getIndividuals().values().iterator().next();
+        PersonalName name = new PersonalName();
+        name.setBasic("Changed /Name/");
+        changed.getNames(true).add(0, name);
+        assertTrue(classUnderTest.isCached(changed));
+        classUnderTest.markChanged(changed);
+        assertFalse(classUnderTest.isCached(changed));
+
+        byte[] actual = writeWithCache(g);
+        assertArrayEquals(writeWithoutCache(g), actual);
+        assertTrue(new String(actual, "ASCII").contains("1 NAME Changed /Name/"));
+        assertTrue(classUnderTest.isCached(changed));
+    }
+
+    /**
+     * Test that changing the line terminator clears the cache
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     * @throws GedcomWriterException
+     *             if the data can't be written
+     */
+    @Test
+    public void testFormatChanged() throws IOException, GedcomParserException, GedcomWriterException {
+        Gedcom g = TestHelper.load("sample/willis-ascii.ged");
+        writeWithCache(g);
+
+        GedcomWriter expectedWriter = new GedcomWriter(g);
+        expectedWriter.setValidationSuppressed(true);
+        expectedWriter.setLineTerminator(LineTerminator.LFCR);
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        expectedWriter.write(expected);
+
+        GedcomWriter gw = new GedcomWriter(g);
+        gw.setValidationSuppressed(true);
+        gw.setLineTerminator(LineTerminator.LFCR);
+        gw.setRecordCache(classUnderTest);
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        gw.write(actual);
+
+        assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+    }
+
+    /**
+     * Test that records added to and removed from the {@link Gedcom} are written, or not, and that removed records are dropped
+     * from the cache
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     * @throws GedcomWriterException
+     *             if the data can't be written
+     */
+    @Test
+    public void testRecordsAddedAndRemoved() throws IOException, GedcomParserException, GedcomWriterException {
+        Gedcom g = TestHelper.load("sample/willis-ascii.ged");
+        writeWithCache(g);
+        int cachedBefore = classUnderTest.size();
+
+        String removedXref = g.getIndividuals().keySet().iterator().next();
+        Individual removed = g.getIndividuals().remove(removedXref);
+        Individual added = new Individual();
+        added.setXref("@NEW@");
+        g.getIndividuals().put(added.getXref(), added);
+
+        assertArrayEquals(writeWithoutCache(g), writeWithCache(g));
+        assertFalse(classUnderTest.isCached(removed));
+        assertTrue(classUnderTest.isCached(added));
+        assertEquals(cachedBefore, classUnderTest.size());
+    }
+
+    /**
+     * Test that writing with a cache, both when it is empty and when it is full, gives exactly the same bytes as writing without
+     * one, in each of the supported encodings
+     * 
+     * @throws IOException
+     *             if a file can't be read
+     * @throws GedcomParserException
+     *             if a file can't be parsed
+     * @throws GedcomWriterException
+     *             if the data can't be written
+     */
+    @Test
+    public void testSameAsWithoutCache() throws IOException, GedcomParserException, GedcomWriterException {
+        for (String fileName : new String[] { "sample/willis-ascii.ged", "sample/willis-ansel.ged",
+                "sample/willis-unicode-littleendian.ged", "sample/utf8.ged" }) {
+            Gedcom g = TestHelper.load(fileName);
+            byte[] expected = writeWithoutCache(g);
+            classUnderTest.clear();
+            assertArrayEquals(fileName, expected, writeWithCache(g));
+            int records = g.getIndividuals().size() + g.getFamilies().size() + g.getMultimedia().size() + g.getNotes().size() + g
+                    .getRepositories().size() + g.getSources().size() + g.getSubmitters().size();
+            assertEquals(fileName, records, classUnderTest.size());
+            assertArrayEquals(fileName, expected, writeWithCache(g));
+        }
+    }
+
+    /**
+     * Test that changing the xref of a record, which changes the records that refer to it, clears the cache even without
+     * {@link EmittedRecordCache#markChanged(org.gedcom4j.model.HasXref)} being called
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     * @throws GedcomWriterException
+     *             if the data can't be written
+     */
+    @Test
+    public void testXrefChanged() throws IOException, GedcomParserException, GedcomWriterException {
+        Gedcom g = TestHelper.load("sample/willis-ascii.ged");
+        writeWithCache(g);
+
+        Family f = g.getFamilies().values().iterator().next();
+        f.setXref("@RENAMED@");
+
+        byte[] actual = writeWithCache(g);
+        assertArrayEquals(writeWithoutCache(g), actual);
+        assertTrue(new String(actual, "ASCII").contains("1 FAMS @RENAMED@"));
+    }
+
+    /**
+     * Test that changing the xref of a record that is also marked as changed changes the references to it in the other records
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     * @throws GedcomWriterException
+     *             if the data can't be written
+     */
+    @Test
+    public void testXrefChangedAndMarkedChanged() throws IOException, GedcomParserException, GedcomWriterException {
+        Gedcom g = TestHelper.load("sample/willis-ascii.ged");
+        writeWithCache(g);
+
+        Family f = g.getFamilies().values().iterator().next();
+        String oldXref = f.getXref();
+        f.setXref("@RENAMED@");
+        classUnderTest.markChanged(f);
+
+        byte[] actual = writeWithCache(g);
+        assertArrayEquals(writeWithoutCache(g), actual);
+        assertTrue(new String(actual, "ASCII").contains("1 FAMS @RENAMED@"));
+        assertFalse(new String(actual, "ASCII").contains(oldXref));
+    }
+
+    /**
+     * Write the data using the cache being tested
+     * 
+     * @param g
+     *            the data
+     * @return the bytes written
+     * @throws GedcomWriterException
+     *             if the data can't be written
+     */
+    private byte[] writeWithCache(Gedcom g) throws GedcomWriterException {
+        GedcomWriter gw = new GedcomWriter(g);
+        gw.setValidationSuppressed(true);
+        gw.setRecordCache(classUnderTest);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        gw.write(out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Write the data without a cache
+     * 
+     * @param g
+     *            the data
+     * @return the bytes written
+     * @throws GedcomWriterException
+     *             if the data can't be written
+     */
+    private byte[] writeWithoutCache(Gedcom g) throws GedcomWriterException {
+        GedcomWriter gw = new GedcomWriter(g);
+        gw.setValidationSuppressed(true);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        gw.write(out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.writer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.exception.GedcomWriterException;
+import org.gedcom4j.io.encoding.Compression;
+import org.gedcom4j.model.FileReference;
+import org.gedcom4j.model.Gedcom;
+import org.gedcom4j.model.Multimedia;
+import org.gedcom4j.model.TestHelper;
+import org.gedcom4j.model.enumerations.SupportedVersion;
+import org.gedcom4j.parser.GedcomParser;
+import org.junit.Test;
+
+/**
+ * Test for writing compressed files with {@link GedcomWriter#setCompression(Compression)}
+ * 
+ * @author frizbog
+ */
+public class GedcomWriterCompressionTest {
+
+    /**
+     * Test that a gzipped file holds the same bytes as the uncompressed file, whether or not the writer is streaming
+     * 
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the sample file can't be parsed
+     * @throws GedcomWriterException
+     *             if the data can't be written
+     */
+    @Test
+    public void testGzip() throws IOException, GedcomParserException, GedcomWriterException {
+        Gedcom g = TestHelper.load("sample/willis-ascii.ged");
+        byte[] expected = write(g, Compression.NONE, false, null);
+        for (boolean streaming : new boolean[] { false, true }) {
+            byte[] compressed = write(g, Compression.GZIP, streaming, null);
+            assertArrayEquals(expected, readFully(new GZIPInputStream(new ByteArrayInputStream(compressed))));
+        }
+    }
+
+    /**
+     * Test that the compression can't be set to null
+     * 
+     * @throws GedcomWriterException
+     *             if the writer can't be created
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullCompression() throws GedcomWriterException {
+        new GedcomWriter(new Gedcom()).setCompression(null);
+    }
+
+    /**
+     * Test writing a zip archive with the multimedia files that multimedia records refer to by relative paths, and that it can be
+     * read back by the parser
+     * 
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the data can't be parsed
+     * @throws GedcomWriterException
+     *             if the data can't be written
+     */
+    @Test
+    public void testZip() throws IOException, GedcomParserException, GedcomWriterException {
+        Gedcom g = TestHelper.load("sample/willis-ascii.ged");
+        addMultimedia(g, "@M1@", "ImgFile.JPG");
+        addMultimedia(g, "@M2@", "ImgFile.JPG");
+        addMultimedia(g, "@M3@", "ImgFile.PNG");
+        addMultimedia(g, "@M4@", "../pom.xml");
+        addMultimedia(g, "@M5@", "http://gedcom4j.org/ImgFile.GIF");
+        addMultimedia(g, "@M6@", "NoSuchFile.JPG");
+        byte[] expected = write(g, Compression.NONE, false, null);
+
+        byte[] archive = write(g, Compression.ZIP, false, new File("sample"));
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            ZipEntry entry = zip.getNextEntry();
+            assertEquals(Compression.GEDCOM_ENTRY_NAME, entry.getName());
+            assertArrayEquals(expected, readFully(zip));
+            entry = zip.getNextEntry();
+            assertEquals("ImgFile.JPG", entry.getName());
+            assertArrayEquals(Files.readAllBytes(Paths.get("sample/ImgFile.JPG")), readFully(zip));
+            entry = zip.getNextEntry();
+            assertEquals("ImgFile.PNG", entry.getName());
+            assertArrayEquals(Files.readAllBytes(Paths.get("sample/ImgFile.PNG")), readFully(zip));
+            assertNull(zip.getNextEntry());
+        }
+
+        GedcomParser fromUncompressed = new GedcomParser();
+        fromUncompressed.load(new BufferedInputStream(new ByteArrayInputStream(expected)));
+        GedcomParser fromArchive = new GedcomParser();
+        fromArchive.load(new BufferedInputStream(new ByteArrayInputStream(archive)));
+        assertEquals(fromUncompressed.getGedcom(), fromArchive.getGedcom());
+    }
+
+    /**
+     * Test writing a zip archive, streaming, with no media directory - so the archive only holds the gedcom
+     * 
+     * @throws IOException
+     *             if the data can't be read
+     * @throws GedcomParserException
+     *             if the sample file can't be parsed
+     * @throws GedcomWriterException
+     *             if the data can't be written
+     */
+    @Test
+    public void testZipWithoutMediaDirectory() throws IOException, GedcomParserException, GedcomWriterException {
+        Gedcom g = TestHelper.load("sample/willis-ascii.ged");
+        addMultimedia(g, "@M1@", "ImgFile.JPG");
+        byte[] expected = write(g, Compression.NONE, false, null);
+
+        byte[] archive = write(g, Compression.ZIP, true, null);
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            assertEquals(Compression.GEDCOM_ENTRY_NAME, zip.getNextEntry().getName());
+            assertArrayEquals(expected, readFully(zip));
+            assertNull(zip.getNextEntry());
+        }
+    }
+
+    /**
+     * Add a multimedia record referring to a file, in the GEDCOM 5.5.1 style
+     * 
+     * @param g
+     *            the gedcom to add the record to
+     * @param xref
+     *            the xref of the record
+     * @param referenceToFile
+     *            the reference to the file
+     */
+    private void addMultimedia(Gedcom g, String xref, String referenceToFile) {
+        g.getHeader().getGedcomVersion().setVersionNumber(SupportedVersion.V5_5_1);
+        Multimedia m = new Multimedia();
+        m.setXref(xref);
+        FileReference fr = new FileReference();
+        fr.setReferenceToFile(referenceToFile);
+        fr.setFormat("jpg");
+        m.getFileReferences(true).add(fr);
+        g.getMultimedia().put(xref, m);
+    }
+
+    /**
+     * Read the rest of a stream
+     * 
+     * @param in
+     *            the stream
+     * @return the bytes read
+     * @throws IOException
+     *             if the stream can't be read
+     */
+    private byte[] readFully(InputStream in) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int r = in.read(buffer);
+        while (r >= 0) {
+            result.write(buffer, 0, r);
+            r = in.read(buffer);
+        }
+        return result.toByteArray();
+    }
+
+    /**
+     * Write a gedcom to bytes
+     * 
+     * @param g
+     *            the gedcom
+     * @param compression
+     *            how to compress the data
+     * @param streaming
+     *            whether the writer should stream
+     * @param mediaDirectory
+     *            the media directory for the writer
+     * @return the bytes written
+     * @throws GedcomWriterException
+     *             if the data can't be written
+     */
+    private byte[] write(Gedcom g, Compression compression, boolean streaming, File mediaDirectory) throws GedcomWriterException {
+        GedcomWriter gw = new GedcomWriter(g);
+        gw.setValidationSuppressed(true);
+        gw.setCompression(compression);
+        gw.setStreaming(streaming);
+        gw.setMediaDirectory(mediaDirectory);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        gw.write(out);
+        return out.toByteArray();
+    }
+
+}
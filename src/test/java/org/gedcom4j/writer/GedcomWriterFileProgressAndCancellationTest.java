@@ -81,12 +81,12 @@ public class GedcomWriterFileProgressAndCancellationTest implements ConstructPro
     /**
      * How many lines were constructed
      */
-    private int linesConstructed = 0;
+    private long linesConstructed = 0;
 
     /**
      * How many bytes were written
      */
-    private int bytesWritten = 0;
+    private long bytesWritten = 0;
 
     /**
      * The GedcomWriter we're testing with
@@ -527,7 +527,7 @@ public class GedcomWriterFileProgressAndCancellationTest implements ConstructPro
         assertTrue(constructNotificationCount > TEST_CANCELLATION_COUNT);
         assertTrue(fileNotificationCount > TEST_CANCELLATION_COUNT);
         assertEquals(20945, linesConstructed);
-        assertEquals(581632, bytesWritten);
+        assertEquals(607928, bytesWritten);
     }
 
     /**
@@ -568,7 +568,7 @@ public class GedcomWriterFileProgressAndCancellationTest implements ConstructPro
         assertTrue(constructNotificationCount > TEST_CANCELLATION_COUNT);
         assertTrue(fileNotificationCount > TEST_CANCELLATION_COUNT);
         assertEquals(20945, linesConstructed);
-        assertEquals(557056, bytesWritten);
+        assertEquals(586983, bytesWritten);
     }
 
     /**
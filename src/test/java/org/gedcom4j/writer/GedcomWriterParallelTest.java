@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.writer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.exception.GedcomWriterException;
+import org.gedcom4j.exception.WriterCancelledException;
+import org.gedcom4j.model.Gedcom;
+import org.gedcom4j.model.NoteRecord;
+import org.gedcom4j.parser.GedcomParser;
+import org.gedcom4j.writer.event.ConstructProgressEvent;
+import org.gedcom4j.writer.event.ConstructProgressListener;
+import org.junit.Test;
+
+/**
+ * Test for {@link GedcomWriter} when constructing the lines for root-level records on several threads (see
+ * {@link GedcomWriter#setParallelism(int)})
+ * 
+ * @author frizbog
+ */
+public class GedcomWriterParallelTest implements ConstructProgressListener {
+
+    /**
+     * Cancel the writer after this many construction progress notifications
+     */
+    private int cancelAfter = Integer.MAX_VALUE;
+
+    /**
+     * The line counts in the construction progress notifications received
+     */
+    private final List<Long> notifications = new ArrayList<>();
+
+    /**
+     * The writer being tested
+     */
+    private GedcomWriter gw;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void progressNotification(ConstructProgressEvent e) {
+        notifications.add(e.getLinesProcessed());
+        if (notifications.size() == cancelAfter) {
+            gw.cancel();
+        }
+    }
+
+    /**
+     * Test that cancelling a parallel write stops it
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     * @throws GedcomWriterException
+     *             if the data can't be written
+     */
+    @Test
+    public void testCancellation() throws IOException, GedcomParserException, GedcomWriterException {
+        GedcomParser gp = new GedcomParser();
+        gp.load("sample/willis-ascii.ged");
+        gw = new GedcomWriter(gp.getGedcom());
+        gw.setValidationSuppressed(true);
+        gw.setParallelism(4);
+        gw.setConstructionNotificationRate(100);
+        cancelAfter = 5;
+        gw.registerConstructObserver(this);
+        try {
+            gw.write(new ByteArrayOutputStream());
+            fail("Expected a WriterCancelledException");
+        } catch (WriterCancelledException expected) {
+            assertTrue(notifications.size() >= 5);
+            assertTrue(gw.lines.size() < 20000);
+        }
+    }
+
+    /**
+     * Test that a record that can't be written stops a parallel write with the same error as a sequential one
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     * @throws GedcomWriterException
+     *             if the data can't be written
+     */
+    @Test
+    public void testMalformedRecord() throws IOException, GedcomParserException, GedcomWriterException {
+        GedcomParser gp = new GedcomParser();
+        gp.load("sample/willis-ascii.ged");
+        Gedcom g = gp.getGedcom();
+        g.getNotes().put("@NOXREF@", new NoteRecord((String) null));
+
+        String expected = null;
+        List<String> expectedLines = null;
+        for (int parallelism : new int[] { 1, 4 }) {
+            gw = new GedcomWriter(g);
+            gw.setValidationSuppressed(true);
+            gw.setParallelism(parallelism);
+            try {
+                gw.write(new ByteArrayOutputStream());
+                fail("Expected a GedcomWriterException");
+            } catch (GedcomWriterException e) {
+                if (expected == null) {
+                    expected = e.getMessage();
+                    expectedLines = gw.lines;
+                } else {
+                    assertEquals(expected, e.getMessage());
+                    assertEquals(expectedLines, gw.lines);
+                }
+            }
+        }
+    }
+
+    /**
+     * Test that a parallelism of less than 1 is rejected
+     * 
+     * @throws WriterCancelledException
+     *             if cancellation was requested during the operation
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoThreads() throws WriterCancelledException {
+        new GedcomWriter(new Gedcom()).setParallelism(0);
+    }
+
+    /**
+     * Test that a parallel write sends the same construction progress notifications as a sequential one
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     * @throws GedcomWriterException
+     *             if the data can't be written
+     */
+    @Test
+    public void testSameNotificationsAsSequential() throws IOException, GedcomParserException, GedcomWriterException {
+        GedcomParser gp = new GedcomParser();
+        gp.load("sample/willis-ascii.ged");
+        List<Long> expected = null;
+        for (int parallelism : new int[] { 1, 3 }) {
+            gw = new GedcomWriter(gp.getGedcom());
+            gw.setValidationSuppressed(true);
+            gw.setParallelism(parallelism);
+            gw.setConstructionNotificationRate(50);
+            notifications.clear();
+            gw.registerConstructObserver(this);
+            gw.write(new ByteArrayOutputStream());
+            if (expected == null) {
+                expected = new ArrayList<>(notifications);
+            }
+        }
+        assertTrue(expected.size() > 100);
+        assertEquals(expected, notifications);
+    }
+
+    /**
+     * Test that a parallel write produces exactly the same bytes as a sequential one, whether buffered or streaming, in each of
+     * the supported encodings
+     * 
+     * @throws IOException
+     *             if a file can't be read
+     * @throws GedcomParserException
+     *             if a file can't be parsed
+     * @throws GedcomWriterException
+     *             if the data can't be written
+     */
+    @Test
+    public void testSameOutputAsSequential() throws IOException, GedcomParserException, GedcomWriterException {
+        for (String fileName : new String[] { "sample/willis-ascii.ged", "sample/willis-ansel.ged",
+                "sample/willis-unicode-littleendian.ged", "sample/willis-unicode-bigendian.ged", "sample/utf8.ged" }) {
+            GedcomParser gp = new GedcomParser();
+            gp.load(fileName);
+            Gedcom g = gp.getGedcom();
+
+            GedcomWriter sequential = new GedcomWriter(g);
+            sequential.setValidationSuppressed(true);
+            ByteArrayOutputStream expected = new ByteArrayOutputStream();
+            sequential.write(expected);
+
+            for (boolean streaming : new boolean[] { false, true }) {
+                gw = new GedcomWriter(g);
+                gw.setValidationSuppressed(true);
+                gw.setParallelism(4);
+                gw.setStreaming(streaming);
+                ByteArrayOutputStream actual = new ByteArrayOutputStream();
+                gw.write(actual);
+                assertArrayEquals(fileName, expected.toByteArray(), actual.toByteArray());
+            }
+        }
+    }
+
+}
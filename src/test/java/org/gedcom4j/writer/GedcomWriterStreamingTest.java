@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.writer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.gedcom4j.exception.GedcomParserException;
+import org.gedcom4j.exception.GedcomWriterException;
+import org.gedcom4j.exception.WriterCancelledException;
+import org.gedcom4j.io.event.FileProgressEvent;
+import org.gedcom4j.io.event.FileProgressListener;
+import org.gedcom4j.model.Gedcom;
+import org.gedcom4j.parser.GedcomParser;
+import org.junit.Test;
+
+/**
+ * Test for {@link GedcomWriter} when streaming lines straight to the output (see {@link GedcomWriter#setStreaming(boolean)})
+ * 
+ * @author frizbog
+ */
+public class GedcomWriterStreamingTest implements FileProgressListener {
+
+    /**
+     * Cancel the writer after this many file progress notifications
+     */
+    private int cancelAfter = Integer.MAX_VALUE;
+
+    /**
+     * The number of file progress notifications received
+     */
+    private int fileNotificationCount;
+
+    /**
+     * The number of bytes written, as of the last notification
+     */
+    private long bytesWritten;
+
+    /**
+     * Was the completion notification received?
+     */
+    private boolean complete;
+
+    /**
+     * The writer being tested
+     */
+    private GedcomWriter gw;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void progressNotification(FileProgressEvent e) {
+        fileNotificationCount++;
+        bytesWritten = e.getBytesProcessed();
+        complete = e.isComplete();
+        if (fileNotificationCount == cancelAfter) {
+            gw.cancel();
+        }
+    }
+
+    /**
+     * Test that cancelling while streaming stops the write
+     * 
+     * @throws IOException
+     *             if the file can't be read
+     * @throws GedcomParserException
+     *             if the file can't be parsed
+     * @throws GedcomWriterException
+     *             if the data can't be written
+     */
+    @Test
+    public void testCancellation() throws IOException, GedcomParserException, GedcomWriterException {
+        GedcomParser gp = new GedcomParser();
+        gp.load("sample/willis-ascii.ged");
+        gw = new GedcomWriter(gp.getGedcom());
+        gw.setValidationSuppressed(true);
+        gw.setStreaming(true);
+        gw.setFileNotificationRate(100);
+        cancelAfter = 5;
+        gw.registerFileObserver(this);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            gw.write(out);
+            fail("Expected a WriterCancelledException");
+        } catch (WriterCancelledException expected) {
+            assertEquals(5, fileNotificationCount);
+            assertTrue(out.size() > 0);
+            assertTrue(out.size() < 100000);
+        }
+    }
+
+    /**
+     * Test that streaming writes exactly the same bytes as building the whole file first, in each of the supported encodings
+     * 
+     * @throws IOException
+     *             if a file can't be read
+     * @throws GedcomParserException
+     *             if a file can't be parsed
+     * @throws GedcomWriterException
+     *             if the data can't be written
+     */
+    @Test
+    public void testSameAsBuffered() throws IOException, GedcomParserException, GedcomWriterException {
+        for (String fileName : new String[] { "sample/willis-ascii.ged", "sample/willis-ansel.ged",
+                "sample/willis-unicode-littleendian.ged", "sample/willis-unicode-bigendian.ged", "sample/utf8.ged" }) {
+            GedcomParser gp = new GedcomParser();
+            gp.load(fileName);
+            Gedcom g = gp.getGedcom();
+            boolean littleEndian = !fileName.contains("bigendian");
+
+            GedcomWriter buffered = new GedcomWriter(g);
+            buffered.setValidationSuppressed(true);
+            buffered.setUseLittleEndianForUnicode(littleEndian);
+            ByteArrayOutputStream expected = new ByteArrayOutputStream();
+            buffered.write(expected);
+
+            gw = new GedcomWriter(g);
+            gw.setValidationSuppressed(true);
+            gw.setUseLittleEndianForUnicode(littleEndian);
+            gw.setStreaming(true);
+            complete = false;
+            gw.registerFileObserver(this);
+            ByteArrayOutputStream actual = new ByteArrayOutputStream();
+            gw.write(actual);
+
+            assertArrayEquals(fileName, expected.toByteArray(), actual.toByteArray());
+            assertTrue(fileName, gw.lines.isEmpty());
+            assertTrue(fileName, complete);
+            assertEquals(fileName, actual.size(), bytesWritten);
+        }
+    }
+
+}
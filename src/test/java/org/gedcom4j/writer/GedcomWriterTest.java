@@ -36,6 +36,8 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -334,6 +336,55 @@ public class GedcomWriterTest {
         assertEquals("the place", result.get(8));
     }
 
+    /**
+     * Test that {@link GedcomWriter#splitLinesOnBreakingCharacters(List)} splits lines in the same places as splitting on a regular
+     * expression for the line breaks would, including leading, repeated and trailing line breaks
+     * 
+     * @throws WriterCancelledException
+     *             if the writer operation is cancelled
+     */
+    @Test
+    public void testSplitLinesSameAsRegex() throws WriterCancelledException {
+        AbstractEmitter<Gedcom> gw = new GedcomWriter(new Gedcom());
+        char[] alphabet = { 'a', 'b', '\r', '\n' };
+        // Every string of up to 6 characters from the alphabet
+        for (int length = 0; length <= 6; length++) {
+            int combinations = 1 << 2 * length;
+            for (int c = 0; c < combinations; c++) {
+                StringBuilder sb = new StringBuilder();
+                for (int i = 0; i < length; i++) {
+                    sb.append(alphabet[c >> 2 * i & 3]);
+                }
+                String s = sb.toString();
+                assertEquals(s.replace("\r", "CR").replace("\n", "LF"), Arrays.asList(s.split("(\r\n|\n\r|\r|\n)")), gw
+                        .splitLinesOnBreakingCharacters(Collections.singletonList(s)));
+            }
+        }
+    }
+
+    /**
+     * Test that values that are too long are split into CONC lines, and values with line breaks into CONT lines, when emitted
+     * 
+     * @throws GedcomWriterException
+     *             if the data can't be written
+     */
+    @Test
+    public void testSplitLongValues() throws GedcomWriterException {
+        GedcomWriter gw = new GedcomWriter(new Gedcom());
+        StringBuilder a = new StringBuilder();
+        StringBuilder b = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            a.append('A');
+            b.append('B');
+        }
+        gw.emitTagWithRequiredValue(1, "NOTE", a.substring(0, 130) + "\r\n" + b + "\n\n");
+        assertEquals(4, gw.lines.size());
+        assertEquals("1 NOTE " + a.substring(0, 121), gw.lines.get(0));
+        assertEquals("2 CONC " + a.substring(0, 9), gw.lines.get(1));
+        assertEquals("2 CONT " + b.substring(0, 121), gw.lines.get(2));
+        assertEquals("3 CONC " + b.substring(0, 79), gw.lines.get(3));
+    }
+
     /**
      * Test if the gedcom files have the right submitter/submission records.
      */
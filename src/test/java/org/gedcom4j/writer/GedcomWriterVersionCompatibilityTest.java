@@ -26,8 +26,14 @@
  */
 package org.gedcom4j.writer;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
 import java.util.Date;
 
+import org.gedcom4j.exception.GedcomWriterException;
 import org.gedcom4j.exception.GedcomWriterVersionDataMismatchException;
 import org.gedcom4j.exception.WriterCancelledException;
 import org.gedcom4j.factory.FamilyFactory;
@@ -46,6 +52,7 @@ import org.gedcom4j.model.SourceSystem;
 import org.gedcom4j.model.StringWithCustomFacts;
 import org.gedcom4j.model.Submitter;
 import org.gedcom4j.model.enumerations.IndividualAttributeType;
+import org.gedcom4j.model.enumerations.IndividualEventType;
 import org.gedcom4j.model.enumerations.SupportedVersion;
 import org.junit.Before;
 import org.junit.Rule;
@@ -92,11 +99,11 @@ public class GedcomWriterVersionCompatibilityTest {
     /**
      * Test combining GEDCOM 5.5 and Email on the corporation
      * 
-     * @throws GedcomWriterVersionDataMismatchException
-     *             if there's a version compatibility problem
+     * @throws GedcomWriterException
+     *             if the data can't be written, including because of a version compatibility problem
      */
     @Test
-    public void testGedcom55CorpEmails() throws GedcomWriterVersionDataMismatchException {
+    public void testGedcom55CorpEmails() throws GedcomWriterException {
         GedcomVersion gv = new GedcomVersion();
         gv.setVersionNumber(SupportedVersion.V5_5);
         g.getHeader().setGedcomVersion(gv);
@@ -110,17 +117,17 @@ public class GedcomWriterVersionCompatibilityTest {
 
         thrown.expect(GedcomWriterVersionDataMismatchException.class);
         thrown.expectMessage("email");
-        classUnderTest.checkVersionCompatibility55();
+        classUnderTest.emit();
     }
 
     /**
      * Test combining GEDCOM 5.5 and Fax Numbers on the corporation
      * 
-     * @throws GedcomWriterVersionDataMismatchException
-     *             if there's a version compatibility problem
+     * @throws GedcomWriterException
+     *             if the data can't be written, including because of a version compatibility problem
      */
     @Test
-    public void testGedcom55CorpFaxNumbers() throws GedcomWriterVersionDataMismatchException {
+    public void testGedcom55CorpFaxNumbers() throws GedcomWriterException {
         GedcomVersion gv = new GedcomVersion();
         gv.setVersionNumber(SupportedVersion.V5_5);
         g.getHeader().setGedcomVersion(gv);
@@ -134,17 +141,17 @@ public class GedcomWriterVersionCompatibilityTest {
 
         thrown.expect(GedcomWriterVersionDataMismatchException.class);
         thrown.expectMessage("fax numbers");
-        classUnderTest.checkVersionCompatibility55();
+        classUnderTest.emit();
     }
 
     /**
      * Test combining GEDCOM 5.5 and WWW URLs on the corporation
      * 
-     * @throws GedcomWriterVersionDataMismatchException
-     *             if there's a version compatibility problem
+     * @throws GedcomWriterException
+     *             if the data can't be written, including because of a version compatibility problem
      */
     @Test
-    public void testGedcom55CorpWwwUrls() throws GedcomWriterVersionDataMismatchException {
+    public void testGedcom55CorpWwwUrls() throws GedcomWriterException {
         GedcomVersion gv = new GedcomVersion();
         gv.setVersionNumber(SupportedVersion.V5_5);
         g.getHeader().setGedcomVersion(gv);
@@ -158,17 +165,17 @@ public class GedcomWriterVersionCompatibilityTest {
 
         thrown.expect(GedcomWriterVersionDataMismatchException.class);
         thrown.expectMessage("www urls");
-        classUnderTest.checkVersionCompatibility55();
+        classUnderTest.emit();
     }
 
     /**
      * Test family status and GEDCOM 5.5
      * 
-     * @throws GedcomWriterVersionDataMismatchException
-     *             if there's a version compatibility problem
+     * @throws GedcomWriterException
+     *             if the data can't be written, including because of a version compatibility problem
      */
     @Test
-    public void testGedcom55FamilyStatus() throws GedcomWriterVersionDataMismatchException {
+    public void testGedcom55FamilyStatus() throws GedcomWriterException {
         GedcomVersion gv = new GedcomVersion();
         gv.setVersionNumber(SupportedVersion.V5_5);
         g.getHeader().setGedcomVersion(gv);
@@ -183,17 +190,17 @@ public class GedcomWriterVersionCompatibilityTest {
 
         thrown.expect(GedcomWriterVersionDataMismatchException.class);
         thrown.expectMessage("status");
-        classUnderTest.checkVersionCompatibility55();
+        classUnderTest.emit();
     }
 
     /**
      * Test combining GEDCOM 5.5 and FACT type individual attributes
      * 
-     * @throws GedcomWriterVersionDataMismatchException
-     *             if there's a version compatibility problem
+     * @throws GedcomWriterException
+     *             if the data can't be written, including because of a version compatibility problem
      */
     @Test
-    public void testGedcom55IndividualAttributeFacts() throws GedcomWriterVersionDataMismatchException {
+    public void testGedcom55IndividualAttributeFacts() throws GedcomWriterException {
         GedcomVersion gv = new GedcomVersion();
         gv.setVersionNumber(SupportedVersion.V5_5);
         g.getHeader().setGedcomVersion(gv);
@@ -207,17 +214,17 @@ public class GedcomWriterVersionCompatibilityTest {
 
         thrown.expect(GedcomWriterVersionDataMismatchException.class);
         thrown.expectMessage("FACT");
-        classUnderTest.checkVersionCompatibility55();
+        classUnderTest.emit();
     }
 
     /**
      * Test combining GEDCOM 5.5 and Emails on the individual
      * 
-     * @throws GedcomWriterVersionDataMismatchException
-     *             if there's a version compatibility problem
+     * @throws GedcomWriterException
+     *             if the data can't be written, including because of a version compatibility problem
      */
     @Test
-    public void testGedcom55IndividualEmails() throws GedcomWriterVersionDataMismatchException {
+    public void testGedcom55IndividualEmails() throws GedcomWriterException {
         GedcomVersion gv = new GedcomVersion();
         gv.setVersionNumber(SupportedVersion.V5_5);
         g.getHeader().setGedcomVersion(gv);
@@ -229,17 +236,17 @@ public class GedcomWriterVersionCompatibilityTest {
 
         thrown.expect(GedcomWriterVersionDataMismatchException.class);
         thrown.expectMessage("email");
-        classUnderTest.checkVersionCompatibility55();
+        classUnderTest.emit();
     }
 
     /**
      * Test combining GEDCOM 5.5 and emails on the individual event
      * 
-     * @throws GedcomWriterVersionDataMismatchException
-     *             if there's a version compatibility problem
+     * @throws GedcomWriterException
+     *             if the data can't be written, including because of a version compatibility problem
      */
     @Test
-    public void testGedcom55IndividualEventEmails() throws GedcomWriterVersionDataMismatchException {
+    public void testGedcom55IndividualEventEmails() throws GedcomWriterException {
         GedcomVersion gv = new GedcomVersion();
         gv.setVersionNumber(SupportedVersion.V5_5);
         g.getHeader().setGedcomVersion(gv);
@@ -253,17 +260,17 @@ public class GedcomWriterVersionCompatibilityTest {
 
         thrown.expect(GedcomWriterVersionDataMismatchException.class);
         thrown.expectMessage("email");
-        classUnderTest.checkVersionCompatibility55();
+        classUnderTest.emit();
     }
 
     /**
      * Test combining GEDCOM 5.5 and Fax Numbers on the individual event
      * 
-     * @throws GedcomWriterVersionDataMismatchException
-     *             if there's a version compatibility problem
+     * @throws GedcomWriterException
+     *             if the data can't be written, including because of a version compatibility problem
      */
     @Test
-    public void testGedcom55IndividualEventFaxNumbers() throws GedcomWriterVersionDataMismatchException {
+    public void testGedcom55IndividualEventFaxNumbers() throws GedcomWriterException {
         GedcomVersion gv = new GedcomVersion();
         gv.setVersionNumber(SupportedVersion.V5_5);
         g.getHeader().setGedcomVersion(gv);
@@ -277,17 +284,17 @@ public class GedcomWriterVersionCompatibilityTest {
 
         thrown.expect(GedcomWriterVersionDataMismatchException.class);
         thrown.expectMessage("fax numbers");
-        classUnderTest.checkVersionCompatibility55();
+        classUnderTest.emit();
     }
 
     /**
      * Test combining GEDCOM 5.5 and WWW URLs on the individual event
      * 
-     * @throws GedcomWriterVersionDataMismatchException
-     *             if there's a version compatibility problem
+     * @throws GedcomWriterException
+     *             if the data can't be written, including because of a version compatibility problem
      */
     @Test
-    public void testGedcom55IndividualEventWwwUrls() throws GedcomWriterVersionDataMismatchException {
+    public void testGedcom55IndividualEventWwwUrls() throws GedcomWriterException {
         GedcomVersion gv = new GedcomVersion();
         gv.setVersionNumber(SupportedVersion.V5_5);
         g.getHeader().setGedcomVersion(gv);
@@ -301,17 +308,17 @@ public class GedcomWriterVersionCompatibilityTest {
 
         thrown.expect(GedcomWriterVersionDataMismatchException.class);
         thrown.expectMessage("www urls");
-        classUnderTest.checkVersionCompatibility55();
+        classUnderTest.emit();
     }
 
     /**
      * Test combining GEDCOM 5.5 and Fax Numbers on the individual
      * 
-     * @throws GedcomWriterVersionDataMismatchException
-     *             if there's a version compatibility problem
+     * @throws GedcomWriterException
+     *             if the data can't be written, including because of a version compatibility problem
      */
     @Test
-    public void testGedcom55IndividualFaxNumbers() throws GedcomWriterVersionDataMismatchException {
+    public void testGedcom55IndividualFaxNumbers() throws GedcomWriterException {
         GedcomVersion gv = new GedcomVersion();
         gv.setVersionNumber(SupportedVersion.V5_5);
         g.getHeader().setGedcomVersion(gv);
@@ -323,17 +330,17 @@ public class GedcomWriterVersionCompatibilityTest {
 
         thrown.expect(GedcomWriterVersionDataMismatchException.class);
         thrown.expectMessage("fax numbers");
-        classUnderTest.checkVersionCompatibility55();
+        classUnderTest.emit();
     }
 
     /**
      * Test combining GEDCOM 5.5 and WWW URLs on the individual
      * 
-     * @throws GedcomWriterVersionDataMismatchException
-     *             if there's a version compatibility problem
+     * @throws GedcomWriterException
+     *             if the data can't be written, including because of a version compatibility problem
      */
     @Test
-    public void testGedcom55IndividualWwwUrls() throws GedcomWriterVersionDataMismatchException {
+    public void testGedcom55IndividualWwwUrls() throws GedcomWriterException {
         GedcomVersion gv = new GedcomVersion();
         gv.setVersionNumber(SupportedVersion.V5_5);
         g.getHeader().setGedcomVersion(gv);
@@ -345,17 +352,17 @@ public class GedcomWriterVersionCompatibilityTest {
 
         thrown.expect(GedcomWriterVersionDataMismatchException.class);
         thrown.expectMessage("www urls");
-        classUnderTest.checkVersionCompatibility55();
+        classUnderTest.emit();
     }
 
     /**
      * Test combining GEDCOM 5.5 and initialized collections/fields that should be ok as long as they are empty
      * 
-     * @throws GedcomWriterVersionDataMismatchException
-     *             if there's a version compatibility problem
+     * @throws GedcomWriterException
+     *             if the data can't be written, including because of a version compatibility problem
      */
     @Test
-    public void testGedcom55InitializedButEmptyForbiddenValues() throws GedcomWriterVersionDataMismatchException {
+    public void testGedcom55InitializedButEmptyForbiddenValues() throws GedcomWriterException {
         GedcomVersion gv = new GedcomVersion();
         gv.setVersionNumber(SupportedVersion.V5_5);
         g.getHeader().setGedcomVersion(gv);
@@ -378,6 +385,7 @@ public class GedcomWriterVersionCompatibilityTest {
         father.getEmails(true);
 
         IndividualEvent ie = new IndividualEvent();
+        ie.setType(IndividualEventType.BIRTH);
         ie.getWwwUrls(true);
         ie.getFaxNumbers(true);
         ie.getEmails(true);
@@ -398,33 +406,36 @@ public class GedcomWriterVersionCompatibilityTest {
         CharacterSet cs = new CharacterSet();
         g.getHeader().setCharacterSet(cs);
 
-        classUnderTest.checkVersionCompatibility55();
+        classUnderTest.emit();
     }
 
     /**
      * Test combining GEDCOM 5.5 and no character set
      * 
-     * @throws GedcomWriterVersionDataMismatchException
-     *             if there's a version compatibility problem
+     * @throws GedcomWriterException
+     *             if the data can't be written, including because of a version compatibility problem
      */
     @Test
-    public void testGedcom55NoCharacterSet() throws GedcomWriterVersionDataMismatchException {
+    public void testGedcom55NoCharacterSet() throws GedcomWriterException {
         g.getHeader().setCharacterSet(null);
         GedcomVersion gv = new GedcomVersion();
         gv.setVersionNumber(SupportedVersion.V5_5);
         g.getHeader().setGedcomVersion(gv);
 
-        classUnderTest.checkVersionCompatibility55();
+        // The missing character set is reported as missing data, not as a version incompatibility
+        thrown.expect(GedcomWriterException.class);
+        thrown.expectMessage("Required value for tag CHAR");
+        classUnderTest.emit();
     }
 
     /**
      * Test combining GEDCOM 5.5 and no character set
      * 
-     * @throws GedcomWriterVersionDataMismatchException
-     *             if there's a version compatibility problem
+     * @throws GedcomWriterException
+     *             if the data can't be written, including because of a version compatibility problem
      */
     @Test
-    public void testGedcom55NoCharacterSetName() throws GedcomWriterVersionDataMismatchException {
+    public void testGedcom55NoCharacterSetName() throws GedcomWriterException {
         CharacterSet cs = new CharacterSet();
         cs.setCharacterSetName((String) null);
         g.getHeader().setCharacterSet(cs);
@@ -433,17 +444,20 @@ public class GedcomWriterVersionCompatibilityTest {
         gv.setVersionNumber(SupportedVersion.V5_5);
         g.getHeader().setGedcomVersion(gv);
 
-        classUnderTest.checkVersionCompatibility55();
+        // The missing character set is reported as missing data, not as a version incompatibility
+        thrown.expect(GedcomWriterException.class);
+        thrown.expectMessage("Required value for tag CHAR");
+        classUnderTest.emit();
     }
 
     /**
      * Test combining GEDCOM 5.5 and Emails on the repository
      * 
-     * @throws GedcomWriterVersionDataMismatchException
-     *             if there's a version compatibility problem
+     * @throws GedcomWriterException
+     *             if the data can't be written, including because of a version compatibility problem
      */
     @Test
-    public void testGedcom55RepositoryEmails() throws GedcomWriterVersionDataMismatchException {
+    public void testGedcom55RepositoryEmails() throws GedcomWriterException {
         GedcomVersion gv = new GedcomVersion();
         gv.setVersionNumber(SupportedVersion.V5_5);
         g.getHeader().setGedcomVersion(gv);
@@ -455,17 +469,17 @@ public class GedcomWriterVersionCompatibilityTest {
 
         thrown.expect(GedcomWriterVersionDataMismatchException.class);
         thrown.expectMessage("email");
-        classUnderTest.checkVersionCompatibility55();
+        classUnderTest.emit();
     }
 
     /**
      * Test combining GEDCOM 5.5 and Fax Numbers on the repository
      * 
-     * @throws GedcomWriterVersionDataMismatchException
-     *             if there's a version compatibility problem
+     * @throws GedcomWriterException
+     *             if the data can't be written, including because of a version compatibility problem
      */
     @Test
-    public void testGedcom55RepositoryFaxNumbers() throws GedcomWriterVersionDataMismatchException {
+    public void testGedcom55RepositoryFaxNumbers() throws GedcomWriterException {
         GedcomVersion gv = new GedcomVersion();
         gv.setVersionNumber(SupportedVersion.V5_5);
         g.getHeader().setGedcomVersion(gv);
@@ -477,17 +491,17 @@ public class GedcomWriterVersionCompatibilityTest {
 
         thrown.expect(GedcomWriterVersionDataMismatchException.class);
         thrown.expectMessage("fax numbers");
-        classUnderTest.checkVersionCompatibility55();
+        classUnderTest.emit();
     }
 
     /**
      * Test combining GEDCOM 5.5 and WWW URLs on the repository
      * 
-     * @throws GedcomWriterVersionDataMismatchException
-     *             if there's a version compatibility problem
+     * @throws GedcomWriterException
+     *             if the data can't be written, including because of a version compatibility problem
      */
     @Test
-    public void testGedcom55RepositoryWwwUrls() throws GedcomWriterVersionDataMismatchException {
+    public void testGedcom55RepositoryWwwUrls() throws GedcomWriterException {
         GedcomVersion gv = new GedcomVersion();
         gv.setVersionNumber(SupportedVersion.V5_5);
         g.getHeader().setGedcomVersion(gv);
@@ -499,17 +513,17 @@ public class GedcomWriterVersionCompatibilityTest {
 
         thrown.expect(GedcomWriterVersionDataMismatchException.class);
         thrown.expectMessage("www urls");
-        classUnderTest.checkVersionCompatibility55();
+        classUnderTest.emit();
     }
 
     /**
      * Test combining GEDCOM 5.5 and emails on the submitter
      * 
-     * @throws GedcomWriterVersionDataMismatchException
-     *             if there's a version compatibility problem
+     * @throws GedcomWriterException
+     *             if the data can't be written, including because of a version compatibility problem
      */
     @Test
-    public void testGedcom55SubmitterEmails() throws GedcomWriterVersionDataMismatchException {
+    public void testGedcom55SubmitterEmails() throws GedcomWriterException {
         GedcomVersion gv = new GedcomVersion();
         gv.setVersionNumber(SupportedVersion.V5_5);
         g.getHeader().setGedcomVersion(gv);
@@ -521,17 +535,17 @@ public class GedcomWriterVersionCompatibilityTest {
 
         thrown.expect(GedcomWriterVersionDataMismatchException.class);
         thrown.expectMessage("email");
-        classUnderTest.checkVersionCompatibility55();
+        classUnderTest.emit();
     }
 
     /**
      * Test combining GEDCOM 5.5 and Fax Numbers on the submitter
      * 
-     * @throws GedcomWriterVersionDataMismatchException
-     *             if there's a version compatibility problem
+     * @throws GedcomWriterException
+     *             if the data can't be written, including because of a version compatibility problem
      */
     @Test
-    public void testGedcom55SubmitterFaxNumbers() throws GedcomWriterVersionDataMismatchException {
+    public void testGedcom55SubmitterFaxNumbers() throws GedcomWriterException {
         GedcomVersion gv = new GedcomVersion();
         gv.setVersionNumber(SupportedVersion.V5_5);
         g.getHeader().setGedcomVersion(gv);
@@ -543,17 +557,17 @@ public class GedcomWriterVersionCompatibilityTest {
 
         thrown.expect(GedcomWriterVersionDataMismatchException.class);
         thrown.expectMessage("fax numbers");
-        classUnderTest.checkVersionCompatibility55();
+        classUnderTest.emit();
     }
 
     /**
      * Test combining GEDCOM 5.5 and WWW URLs on the submitter
      * 
-     * @throws GedcomWriterVersionDataMismatchException
-     *             if there's a version compatibility problem
+     * @throws GedcomWriterException
+     *             if the data can't be written, including because of a version compatibility problem
      */
     @Test
-    public void testGedcom55SubmitterWwwUrls() throws GedcomWriterVersionDataMismatchException {
+    public void testGedcom55SubmitterWwwUrls() throws GedcomWriterException {
         GedcomVersion gv = new GedcomVersion();
         gv.setVersionNumber(SupportedVersion.V5_5);
         g.getHeader().setGedcomVersion(gv);
@@ -565,17 +579,17 @@ public class GedcomWriterVersionCompatibilityTest {
 
         thrown.expect(GedcomWriterVersionDataMismatchException.class);
         thrown.expectMessage("www urls");
-        classUnderTest.checkVersionCompatibility55();
+        classUnderTest.emit();
     }
 
     /**
      * Test combining GEDCOM 5.5 and UTF-8
      * 
-     * @throws GedcomWriterVersionDataMismatchException
-     *             if there's a version compatibility problem
+     * @throws GedcomWriterException
+     *             if the data can't be written, including because of a version compatibility problem
      */
     @Test
-    public void testGedcom55Utf8() throws GedcomWriterVersionDataMismatchException {
+    public void testGedcom55Utf8() throws GedcomWriterException {
         GedcomVersion gv = new GedcomVersion();
         gv.setVersionNumber(SupportedVersion.V5_5);
         g.getHeader().setGedcomVersion(gv);
@@ -587,7 +601,38 @@ public class GedcomWriterVersionCompatibilityTest {
 
         thrown.expect(GedcomWriterVersionDataMismatchException.class);
         thrown.expectMessage("UTF-8");
-        classUnderTest.checkVersionCompatibility55();
+        classUnderTest.emit();
+    }
+
+    /**
+     * Test that when incompatible data is found while the file is being constructed, nothing at all is written to the output -
+     * even though the records before the incompatible one have already been constructed
+     * 
+     * @throws GedcomWriterException
+     *             if the data can't be written for some reason other than the expected version compatibility problem
+     */
+    @Test
+    public void testMismatchWritesNothing() throws GedcomWriterException {
+        GedcomVersion gv = new GedcomVersion();
+        gv.setVersionNumber(SupportedVersion.V5_5);
+        g.getHeader().setGedcomVersion(gv);
+
+        new IndividualFactory().create(g, "Dad", "Smith", Sex.MALE, (Date) null, null, (Date) null, null);
+
+        // Submitters are written after individuals
+        Submitter s = new Submitter();
+        s.setXref("@SUBM1@");
+        s.getEmails(true).add(new StringWithCustomFacts("support@gedcom4j.org"));
+        g.getSubmitters().put(s.getXref(), s);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            classUnderTest.write(out);
+            fail("Expected exception not thrown");
+        } catch (GedcomWriterVersionDataMismatchException expected) {
+            assertTrue(expected.getMessage().contains("emails"));
+        }
+        assertEquals(0, out.size());
     }
 
 }
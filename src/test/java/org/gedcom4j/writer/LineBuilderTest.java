@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2009-2016 Matthew R. Harrah
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.gedcom4j.writer;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * Test for {@link LineBuilder}
+ * 
+ * @author frizbog
+ */
+public class LineBuilderTest {
+
+    /**
+     * The class being tested
+     */
+    private final LineBuilder classUnderTest = new LineBuilder();
+
+    /**
+     * Test that null strings are appended as "null", like {@link StringBuilder}
+     */
+    @Test
+    public void testAppendNull() {
+        assertEquals("1 null", classUnderTest.start(1).append(' ').append((String) null).toString());
+    }
+
+    /**
+     * Test that levels are appended as their decimal digits
+     */
+    @Test
+    public void testAppendNumbers() {
+        for (int n : new int[] { 0, 1, 9, 10, 99, 100, 12345, Integer.MAX_VALUE, -1, Integer.MIN_VALUE }) {
+            assertEquals(Integer.toString(n), classUnderTest.start(n).toString());
+        }
+    }
+
+    /**
+     * Test appending parts of strings and of other lines
+     */
+    @Test
+    public void testAppendParts() {
+        LineBuilder other = new LineBuilder();
+        other.start(2).append(" CONT ").append("abcdef", 1, 4);
+        assertEquals("2 CONT bcd", other.toString());
+        classUnderTest.clear().append(other, 2, 6).append('!');
+        assertEquals("CONT!", classUnderTest.toString());
+        assertEquals(5, classUnderTest.length());
+        assertEquals('!', classUnderTest.charAt(4));
+        assertEquals("ONT", classUnderTest.subSequence(1, 4).toString());
+    }
+
+    /**
+     * Test that characters past the end of the line can't be read, even though the buffer is bigger
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testCharAtPastEnd() {
+        classUnderTest.start(0).append(" HEAD");
+        classUnderTest.charAt(6);
+    }
+
+    /**
+     * Test that the buffer grows for long lines, and is reused for the next line
+     */
+    @Test
+    public void testLongLines() {
+        StringBuilder expected = new StringBuilder("1 NOTE ");
+        classUnderTest.start(1).append(" NOTE ");
+        for (int i = 0; i < 1000; i++) {
+            expected.append(i);
+            classUnderTest.append(Integer.toString(i));
+        }
+        assertEquals(expected.toString(), classUnderTest.toString());
+        assertEquals("0 TRLR", classUnderTest.start(0).append(" TRLR").toString());
+    }
+}